@@ -0,0 +1,86 @@
+package benchmarkUtils;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.DrawComponent;
+import engine.components.PositionComponent;
+import engine.components.VelocityComponent;
+import engine.level.elements.ILevel;
+import engine.systems.LevelSystem;
+import engine.utils.Point;
+import engine.utils.components.draw.animation.Animation;
+import engine.utils.components.path.SimpleIPath;
+import feature.components.CollideComponent;
+import feature.components.HealthComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** Creates reproducible ECS worlds for benchmarks. */
+public final class BenchmarkEntities {
+
+  /** Maximum speed of the moving entities in tiles per second. */
+  public static final float MAX_SPEED = 5f;
+
+  private static final SimpleIPath TEXTURE = new SimpleIPath("missing_texture.png");
+
+  private BenchmarkEntities() {}
+
+  /**
+   * Removes all entities and systems and loads the given level.
+   *
+   * <p>Only the {@link LevelSystem} is registered afterward; benchmarks add the systems they
+   * measure.
+   *
+   * @param level the level to load
+   */
+  public static void resetGame(ILevel level) {
+    HeadlessGdx.init();
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    Game.add(new LevelSystem());
+    Game.currentLevel(level);
+  }
+
+  /** Removes all entities and systems. */
+  public static void clearGame() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /**
+   * Adds a moving entity like a monster: position, velocity, animation, health and hitbox.
+   *
+   * @param position start position
+   * @return the added entity
+   */
+  public static Entity addMovingEntity(Point position) {
+    Entity entity = new Entity("benchmark-monster");
+    entity.add(new PositionComponent(position));
+    entity.add(new VelocityComponent(MAX_SPEED));
+    entity.add(new DrawComponent(new Animation(List.of(TEXTURE))));
+    entity.add(new HealthComponent(100));
+    entity.add(new CollideComponent());
+    Game.add(entity);
+    return entity;
+  }
+
+  /**
+   * Adds moving entities at random floor positions of a square room.
+   *
+   * @param count number of entities
+   * @param roomSize edge length of the room in tiles, including the walls
+   * @param seed seed of the positions
+   * @return the added entities
+   */
+  public static List<Entity> addMovingEntities(int count, int roomSize, long seed) {
+    Random random = new Random(seed);
+    float floor = roomSize - 2;
+    List<Entity> entities = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Point position = new Point(1 + random.nextFloat() * floor, 1 + random.nextFloat() * floor);
+      entities.add(addMovingEntity(position));
+    }
+    return entities;
+  }
+}
@@ -0,0 +1,112 @@
+package benchmarkUtils;
+
+import engine.level.DungeonLevel;
+import engine.level.utils.DesignLabel;
+import engine.level.utils.LevelElement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/** Generates reproducible level layouts for benchmarks. */
+public final class BenchmarkLevels {
+
+  /** Distance between two maze cells: three floor tiles and one wall tile. */
+  public static final int CELL_PITCH = 4;
+
+  /** Chance to open an additional door between two cells, which adds alternative routes. */
+  private static final float LOOP_CHANCE = 0.15f;
+
+  private BenchmarkLevels() {}
+
+  /**
+   * Creates a level with a single room, surrounded by walls.
+   *
+   * @param size edge length of the level in tiles, including the walls
+   * @return the level
+   */
+  public static DungeonLevel room(int size) {
+    LevelElement[][] layout = new LevelElement[size][size];
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+        layout[y][x] = border ? LevelElement.WALL : LevelElement.FLOOR;
+      }
+    }
+    return new DungeonLevel(layout, DesignLabel.DEFAULT);
+  }
+
+  /**
+   * Creates a maze of 3x3 tile cells, generated by a seeded depth-first search.
+   *
+   * <p>Every cell is reachable. Some additional doors create loops, so A* has to choose between
+   * several routes.
+   *
+   * @param cells number of cells per edge
+   * @param seed seed of the generator; the same seed always creates the same layout
+   * @return the level, with {@code cells * CELL_PITCH + 1} tiles per edge
+   */
+  public static DungeonLevel maze(int cells, long seed) {
+    int size = cells * CELL_PITCH + 1;
+    LevelElement[][] layout = new LevelElement[size][size];
+    for (LevelElement[] row : layout) {
+      Arrays.fill(row, LevelElement.WALL);
+    }
+
+    Random random = new Random(seed);
+    boolean[][] visited = new boolean[cells][cells];
+    Deque<int[]> stack = new ArrayDeque<>();
+    carveCell(layout, 0, 0);
+    visited[0][0] = true;
+    stack.push(new int[] {0, 0});
+    while (!stack.isEmpty()) {
+      int[] cell = stack.peek();
+      List<int[]> next = new ArrayList<>(4);
+      for (int[] step : new int[][] {{1, 0}, {-1, 0}, {0, 1}, {0, -1}}) {
+        int nx = cell[0] + step[0];
+        int ny = cell[1] + step[1];
+        if (nx >= 0 && ny >= 0 && nx < cells && ny < cells && !visited[ny][nx]) {
+          next.add(new int[] {nx, ny});
+        }
+      }
+      if (next.isEmpty()) {
+        stack.pop();
+        continue;
+      }
+      int[] chosen = next.get(random.nextInt(next.size()));
+      carveDoor(layout, cell[0], cell[1], chosen[0], chosen[1]);
+      carveCell(layout, chosen[0], chosen[1]);
+      visited[chosen[1]][chosen[0]] = true;
+      stack.push(chosen);
+    }
+
+    for (int cy = 0; cy < cells; cy++) {
+      for (int cx = 0; cx < cells; cx++) {
+        if (cx + 1 < cells && random.nextFloat() < LOOP_CHANCE) {
+          carveDoor(layout, cx, cy, cx + 1, cy);
+        }
+        if (cy + 1 < cells && random.nextFloat() < LOOP_CHANCE) {
+          carveDoor(layout, cx, cy, cx, cy + 1);
+        }
+      }
+    }
+    return new DungeonLevel(layout, DesignLabel.DEFAULT);
+  }
+
+  private static void carveCell(LevelElement[][] layout, int cx, int cy) {
+    for (int y = 1; y < CELL_PITCH; y++) {
+      for (int x = 1; x < CELL_PITCH; x++) {
+        layout[cy * CELL_PITCH + y][cx * CELL_PITCH + x] = LevelElement.FLOOR;
+      }
+    }
+  }
+
+  private static void carveDoor(LevelElement[][] layout, int ax, int ay, int bx, int by) {
+    int centerOffset = CELL_PITCH / 2;
+    int x = (ax + bx) * CELL_PITCH / 2 + centerOffset;
+    int y = (ay + by) * CELL_PITCH / 2 + centerOffset;
+    layout[y][x] = LevelElement.FLOOR;
+  }
+}
@@ -0,0 +1,96 @@
+package benchmarkUtils;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}.
+ *
+ * <p>Benchmarks are matched by name and parameters. For each benchmark, the scores of both files
+ * and the relative change are printed. Changes within the combined score error are marked as
+ * noise.
+ *
+ * <p>Used by the {@code jmhCompare} Gradle task.
+ */
+public final class CompareBenchmarkResults {
+
+  private CompareBenchmarkResults() {}
+
+  /**
+   * Prints the comparison of two result files.
+   *
+   * @param args path of the baseline result file and path of the current result file
+   * @throws IOException if a result file can not be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2 || args[0].isBlank()) {
+      System.err.println("Usage: CompareBenchmarkResults <baseline.json> <current.json>");
+      System.exit(1);
+      return;
+    }
+    Map<String, Score> baseline = read(Path.of(args[0]));
+    Map<String, Score> current = read(Path.of(args[1]));
+
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      Score before = baseline.get(entry.getKey());
+      Score after = entry.getValue();
+      if (before == null) {
+        System.out.printf(
+            Locale.ROOT,
+            "%-80s %14s %14.3f %s  (new)%n",
+            entry.getKey(),
+            "-",
+            after.score,
+            after.unit);
+        continue;
+      }
+      double change = before.score == 0 ? 0 : (after.score - before.score) / before.score * 100;
+      boolean noise = Math.abs(after.score - before.score) <= before.error + after.error;
+      System.out.printf(
+          Locale.ROOT,
+          "%-80s %14.3f %14.3f %s  %+7.1f%%%s%n",
+          entry.getKey(),
+          before.score,
+          after.score,
+          after.unit,
+          change,
+          noise ? " (noise)" : "");
+    }
+    for (String key : baseline.keySet()) {
+      if (!current.containsKey(key)) {
+        System.out.printf(Locale.ROOT, "%-80s  (removed)%n", key);
+      }
+    }
+  }
+
+  private static Map<String, Score> read(Path file) throws IOException {
+    JsonValue root = new JsonReader().parse(Files.readString(file));
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (JsonValue result = root.child; result != null; result = result.next) {
+      StringBuilder key = new StringBuilder(result.getString("benchmark"));
+      JsonValue params = result.get("params");
+      if (params != null) {
+        for (JsonValue param = params.child; param != null; param = param.next) {
+          key.append(' ').append(param.name).append('=').append(param.asString());
+        }
+      }
+      JsonValue metric = result.get("primaryMetric");
+      double error = metric.getDouble("scoreError", 0);
+      scores.put(
+          key.toString(),
+          new Score(
+              metric.getDouble("score"),
+              Double.isNaN(error) ? 0 : error,
+              metric.getString("scoreUnit")));
+    }
+    return scores;
+  }
+
+  private record Score(double score, double error, String unit) {}
+}
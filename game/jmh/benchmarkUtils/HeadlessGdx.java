@@ -0,0 +1,31 @@
+package benchmarkUtils;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Initializes a headless libgdx environment for benchmarks.
+ *
+ * <p>Same setup as the test startup listener: no OpenGL context, so {@code Game.isHeadless()} is
+ * true and no textures are loaded.
+ */
+public final class HeadlessGdx {
+
+  private static boolean initialized = false;
+
+  private HeadlessGdx() {}
+
+  /** Initializes libgdx once per JVM. Later calls do nothing. */
+  public static synchronized void init() {
+    if (initialized) {
+      return;
+    }
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // Never call render, the benchmarks drive the ECS themselves.
+    config.updatesPerSecond = -1;
+    Gdx.app = new HeadlessApplication(new ApplicationAdapter() {}, config);
+    initialized = true;
+  }
+}
@@ -0,0 +1,112 @@
+package engine.game;
+
+import benchmarkUtils.BenchmarkEntities;
+import benchmarkUtils.BenchmarkLevels;
+import engine.Game;
+import engine.System;
+import engine.components.VelocityComponent;
+import engine.systems.FrictionSystem;
+import engine.systems.MoveSystem;
+import engine.systems.PositionSystem;
+import engine.systems.VelocitySystem;
+import engine.utils.Vector2;
+import feature.systems.CollisionSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one server-side ECS tick with the standard movement and collision systems.
+ *
+ * <p>The world is a square room with moving entities. A small wander system applies a force to
+ * every entity each tick, like AI or input would, so the movement systems always have work. The
+ * world is rebuilt for every iteration, so entities piling up at walls do not skew later results.
+ *
+ * <p>Each size runs with the entity system mappers and with the archetype storage (see {@link
+ * ECSManagement#useArchetypeStorage(boolean)}), to compare how systems find their entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EcsTickBenchmark {
+
+  private static final long SEED = 42L;
+
+  /** Number of moving entities. */
+  @Param({"1000", "10000", "50000"})
+  public int entities;
+
+  /** How systems find their entities: {@code mapper} or {@code archetype}. */
+  @Param({"mapper", "archetype"})
+  public String storage;
+
+  /** Whether the parallel system scheduler is enabled. */
+  @Param({"false", "true"})
+  public boolean parallel;
+
+  /** Builds the world with the standard systems. */
+  @Setup(Level.Iteration)
+  public void setup() {
+    int roomSize = Math.max(16, (int) Math.ceil(Math.sqrt(entities * 4.0)));
+    BenchmarkEntities.resetGame(BenchmarkLevels.room(roomSize));
+    ECSManagement.useParallelSystems(parallel);
+    ECSManagement.useArchetypeStorage("archetype".equals(storage));
+    Game.add(new WanderSystem());
+    Game.add(new PositionSystem());
+    Game.add(new VelocitySystem());
+    Game.add(new FrictionSystem());
+    Game.add(new MoveSystem());
+    Game.add(new CollisionSystem());
+    BenchmarkEntities.addMovingEntities(entities, roomSize, SEED);
+    // The first tick after a level load is interrupted, do not measure it.
+    ECSManagement.executeOneTick(System.AuthoritativeSide.SERVER);
+  }
+
+  /** Removes the world. */
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    ECSManagement.useParallelSystems(false);
+    ECSManagement.useArchetypeStorage(false);
+    BenchmarkEntities.clearGame();
+  }
+
+  /** Executes one tick of all server-side systems. */
+  @Benchmark
+  public void tick() {
+    ECSManagement.executeOneTick(System.AuthoritativeSide.SERVER);
+  }
+
+  /** Applies a force that slowly rotates with the tick and differs per entity. */
+  private static final class WanderSystem extends System {
+
+    WanderSystem() {
+      super(VelocityComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      int tick = ECSManagement.currentTick();
+      forEachEntity(
+          entity -> {
+            double angle = (entity.id() * 0.7 + tick * 0.05) % (2 * Math.PI);
+            Vector2 force =
+                Vector2.of(Math.cos(angle), Math.sin(angle)).scale(BenchmarkEntities.MAX_SPEED);
+            entity.fetch(VelocityComponent.class).orElseThrow().applyForce("wander", force);
+          });
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package engine.level;
+
+import benchmarkUtils.BenchmarkLevels;
+import benchmarkUtils.HeadlessGdx;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import engine.level.elements.tile.FloorTile;
+import engine.level.utils.Coordinate;
+import engine.level.utils.FlowField;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures A* and flow field computation on generated maze levels.
+ *
+ * <p>The mazes are generated with a fixed seed by {@link BenchmarkLevels#maze(int, long)}, so every
+ * run searches the same layouts.
+ *
+ * <p>The path cache of the level is cleared before each invocation, so the A* benchmarks measure
+ * the search with the reused search context and not a cache lookup. {@link #findPathCached()}
+ * adds a cache hit to the search, the difference to {@link #findPathCornerToCorner()} is the cost
+ * of the lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfindingBenchmark {
+
+  private static final long SEED = 42L;
+  private static final int RANDOM_PAIRS = 64;
+
+  /** Number of maze cells per edge; the level has four tiles per cell. */
+  @Param({"8", "16", "32"})
+  public int cells;
+
+  private DungeonLevel level;
+  private Tile start;
+  private Tile end;
+  private Tile[][] pairs;
+  private int nextPair;
+
+  /** Generates the maze and the start and end tiles. */
+  @Setup
+  public void setup() {
+    HeadlessGdx.init();
+    level = BenchmarkLevels.maze(cells, SEED);
+    int last = cells * BenchmarkLevels.CELL_PITCH - 1;
+    start = level.tileAt(new Coordinate(1, 1)).orElseThrow();
+    end = level.tileAt(new Coordinate(last, last)).orElseThrow();
+
+    List<FloorTile> floor = level.floorTiles();
+    Random random = new Random(SEED);
+    pairs = new Tile[RANDOM_PAIRS][];
+    for (int i = 0; i < RANDOM_PAIRS; i++) {
+      Tile from = floor.get(random.nextInt(floor.size()));
+      Tile to = floor.get(random.nextInt(floor.size()));
+      pairs[i] = new Tile[] {from, to};
+    }
+  }
+
+  /** Clears the path cache, so every search misses. */
+  @Setup(Level.Invocation)
+  public void clearPathCache() {
+    level.pathCache().clear();
+  }
+
+  /**
+   * Searches the path between two opposite corners of the maze.
+   *
+   * @return the path, so it is not optimized away
+   */
+  @Benchmark
+  public GraphPath<Tile> findPathCornerToCorner() {
+    return level.findPath(start, end);
+  }
+
+  /**
+   * Searches paths between random floor tiles, cycling through a fixed set of pairs.
+   *
+   * @return the path, so it is not optimized away
+   */
+  @Benchmark
+  public GraphPath<Tile> findPathRandomPairs() {
+    Tile[] pair = pairs[nextPair];
+    nextPair = (nextPair + 1) % RANDOM_PAIRS;
+    return level.findPath(pair[0], pair[1]);
+  }
+
+  /**
+   * Searches the path between two opposite corners of the maze twice, so the second search is
+   * served from the path cache.
+   *
+   * @return the cached path, so it is not optimized away
+   */
+  @Benchmark
+  public GraphPath<Tile> findPathCached() {
+    level.findPath(start, end);
+    return level.findPath(start, end);
+  }
+
+  /**
+   * Computes a flow field towards the corner of the maze.
+   *
+   * @return the flow field, so it is not optimized away
+   */
+  @Benchmark
+  public FlowField flowField() {
+    return FlowField.of(level, end);
+  }
+}
@@ -0,0 +1,190 @@
+package engine.network.codec;
+
+import benchmarkUtils.BenchmarkEntities;
+import benchmarkUtils.BenchmarkLevels;
+import engine.Entity;
+import engine.components.PositionComponent;
+import engine.network.DefaultSnapshotTranslator;
+import engine.network.delta.SnapshotDeltaCompressor;
+import engine.network.messages.NetworkMessage;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.SnapshotMessage;
+import feature.components.HealthComponent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the server snapshot pipeline: building a snapshot from the ECS, delta compression and
+ * encoding, plus decoding on the client.
+ *
+ * <p>Between the baseline and the current snapshot, every fourth entity moves and loses health,
+ * which is a typical share of changed entities per snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkCodecBenchmark {
+
+  private static final long SEED = 42L;
+  private static final int CHANGED_ENTITY_STRIDE = 4;
+  private static final ByteBufAllocator ALLOC = PooledByteBufAllocator.DEFAULT;
+
+  /** Number of entities in the snapshot. */
+  @Param({"50", "500", "2000"})
+  public int entities;
+
+  private DefaultSnapshotTranslator translator;
+  private int serverTick;
+  private SnapshotMessage baseline;
+  private SnapshotMessage current;
+  private DeltaSnapshotMessage delta;
+  private CompactSnapshotEncoder compactEncoder;
+  private ByteBuf encodedSnapshot;
+  private ByteBuf encodedDelta;
+
+  /**
+   * Builds the world, the baseline and the current snapshot.
+   *
+   * @throws IOException if encoding fails
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    int roomSize = Math.max(16, (int) Math.ceil(Math.sqrt(entities * 4.0)));
+    BenchmarkEntities.resetGame(BenchmarkLevels.room(roomSize));
+    List<Entity> world = BenchmarkEntities.addMovingEntities(entities, roomSize, SEED);
+
+    translator = new DefaultSnapshotTranslator();
+    baseline = translator.translateToSnapshot(1).orElseThrow();
+    for (int i = 0; i < world.size(); i += CHANGED_ENTITY_STRIDE) {
+      Entity entity = world.get(i);
+      PositionComponent pc = entity.fetch(PositionComponent.class).orElseThrow();
+      pc.position(pc.position().translate(0.25f, 0.125f));
+      entity.fetch(HealthComponent.class).orElseThrow().currentHealthpoints(50);
+    }
+    current = translator.translateToSnapshot(2).orElseThrow();
+    serverTick = 2;
+    delta = SnapshotDeltaCompressor.compress(baseline, current).orElseThrow();
+
+    compactEncoder = new CompactSnapshotEncoder(() -> baseline.serverTick());
+    compactEncoder.compact(ConverterRegistry.global().toProto(baseline));
+    encodedSnapshot = NetworkCodec.encode(current, ALLOC);
+    encodedDelta = NetworkCodec.encode(delta, ALLOC);
+  }
+
+  /** Releases the buffers and removes the world. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    encodedSnapshot.release();
+    encodedDelta.release();
+    BenchmarkEntities.clearGame();
+  }
+
+  /**
+   * Builds a full snapshot of all entities from the ECS.
+   *
+   * @return the snapshot, so it is not optimized away
+   */
+  @Benchmark
+  public Optional<SnapshotMessage> buildSnapshot() {
+    return translator.translateToSnapshot(++serverTick);
+  }
+
+  /**
+   * Computes the delta between the baseline and the current snapshot.
+   *
+   * @return the delta, so it is not optimized away
+   */
+  @Benchmark
+  public Optional<DeltaSnapshotMessage> compressDelta() {
+    return SnapshotDeltaCompressor.compress(baseline, current);
+  }
+
+  /**
+   * Encodes the full current snapshot.
+   *
+   * @return the encoded size
+   * @throws IOException if encoding fails
+   */
+  @Benchmark
+  public int encodeSnapshot() throws IOException {
+    return encodeAndRelease(current, null);
+  }
+
+  /**
+   * Encodes the delta.
+   *
+   * @return the encoded size
+   * @throws IOException if encoding fails
+   */
+  @Benchmark
+  public int encodeDelta() throws IOException {
+    return encodeAndRelease(delta, null);
+  }
+
+  /**
+   * Encodes the delta with the compact snapshot encoding.
+   *
+   * @return the encoded size
+   * @throws IOException if encoding fails
+   */
+  @Benchmark
+  public int encodeCompactDelta() throws IOException {
+    return encodeAndRelease(delta, compactEncoder);
+  }
+
+  /**
+   * Decodes the full current snapshot.
+   *
+   * @return the decoded message, so it is not optimized away
+   * @throws IOException if decoding fails
+   */
+  @Benchmark
+  public NetworkMessage decodeSnapshot() throws IOException {
+    return NetworkCodec.deserialize(encodedSnapshot.duplicate());
+  }
+
+  /**
+   * Decodes the delta.
+   *
+   * @return the decoded message, so it is not optimized away
+   * @throws IOException if decoding fails
+   */
+  @Benchmark
+  public NetworkMessage decodeDelta() throws IOException {
+    return NetworkCodec.deserialize(encodedDelta.duplicate());
+  }
+
+  private static int encodeAndRelease(NetworkMessage message, CompactSnapshotEncoder compact)
+      throws IOException {
+    ByteBuf buf =
+        compact == null
+            ? NetworkCodec.encode(message, ALLOC)
+            : NetworkCodec.encode(message, ALLOC, 0, compact);
+    try {
+      return buf.readableBytes();
+    } finally {
+      buf.release();
+    }
+  }
+}
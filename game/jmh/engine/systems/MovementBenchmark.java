@@ -0,0 +1,78 @@
+package engine.systems;
+
+import benchmarkUtils.BenchmarkEntities;
+import benchmarkUtils.BenchmarkLevels;
+import engine.Entity;
+import engine.Game;
+import engine.components.VelocityComponent;
+import engine.utils.Vector2;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the movement hot path of {@link MoveSystem} per moved entity.
+ *
+ * <p>Every entity keeps a constant velocity in a random direction, so entities crossing the room,
+ * hitting walls and sliding along them are all part of the measurement. Results are normalized to
+ * one moved entity; run with {@code -prof gc} to see the allocated bytes per entity ({@code
+ * gc.alloc.rate.norm}) and the GC pauses during the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovementBenchmark {
+
+  private static final long SEED = 42L;
+  private static final int ENTITIES = 1000;
+
+  private MoveSystem system;
+
+  /** Builds the room with moving entities. */
+  @Setup(Level.Iteration)
+  public void setup() {
+    int roomSize = (int) Math.ceil(Math.sqrt(ENTITIES * 4.0));
+    BenchmarkEntities.resetGame(BenchmarkLevels.room(roomSize));
+    system = new MoveSystem();
+    Game.add(system);
+    List<Entity> entities = BenchmarkEntities.addMovingEntities(ENTITIES, roomSize, SEED);
+    Random random = new Random(SEED);
+    for (Entity entity : entities) {
+      double angle = random.nextDouble() * 2 * Math.PI;
+      entity
+          .fetch(VelocityComponent.class)
+          .orElseThrow()
+          .currentVelocity(
+              Vector2.of(Math.cos(angle), Math.sin(angle)).scale(BenchmarkEntities.MAX_SPEED));
+    }
+  }
+
+  /** Removes the world. */
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    BenchmarkEntities.clearGame();
+  }
+
+  /** Moves every entity once. */
+  @Benchmark
+  @OperationsPerInvocation(ENTITIES)
+  public void move() {
+    system.execute();
+  }
+}
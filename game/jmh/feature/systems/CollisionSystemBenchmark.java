@@ -0,0 +1,92 @@
+package feature.systems;
+
+import benchmarkUtils.BenchmarkEntities;
+import benchmarkUtils.HeadlessGdx;
+import engine.Entity;
+import engine.Game;
+import engine.components.PositionComponent;
+import engine.components.VelocityComponent;
+import engine.utils.Point;
+import feature.components.CollideComponent;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CollisionSystem#execute()} on dense fields of moving colliders.
+ *
+ * <p>The colliders are spread randomly over a square area. The density is the number of colliders
+ * per tile, so higher densities mean more overlapping hitboxes per broadphase cell.
+ *
+ * <p>Each collider has a {@link VelocityComponent} with a positive maximum speed, so it is not
+ * static and every overlapping pair is checked in the narrowphase (pairs of two static colliders
+ * are skipped by the system). There is no level, so solid colliders can't be pushed apart and the
+ * field stays the same across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionSystemBenchmark {
+
+  private static final long SEED = 42L;
+  private static final float MAX_SPEED = 5f;
+
+  /** Number of entities with a hitbox. */
+  @Param({"500", "2000", "8000"})
+  public int colliders;
+
+  /** Colliders per tile. */
+  @Param({"0.5", "2"})
+  public float density;
+
+  private CollisionSystem system;
+
+  /** Builds the collider field. */
+  @Setup(Level.Trial)
+  public void setup() {
+    HeadlessGdx.init();
+    BenchmarkEntities.clearGame();
+    system = new CollisionSystem();
+    Game.add(system);
+
+    float edge = (float) Math.sqrt(colliders / density);
+    Random random = new Random(SEED);
+    for (int i = 0; i < colliders; i++) {
+      Entity entity = new Entity("benchmark-collider");
+      Point position = new Point(random.nextFloat() * edge, random.nextFloat() * edge);
+      entity.add(new PositionComponent(position));
+      entity.add(new VelocityComponent(MAX_SPEED));
+      entity.add(new CollideComponent());
+      Game.add(entity);
+    }
+    // Settle the initial collisions, so the benchmark measures the steady state.
+    system.execute();
+  }
+
+  /** Removes the collider field. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    BenchmarkEntities.clearGame();
+  }
+
+  /** Runs the broadphase and narrowphase once for all colliders. */
+  @Benchmark
+  public void execute() {
+    system.execute();
+  }
+}
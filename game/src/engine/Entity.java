@@ -1,9 +1,11 @@
 package engine;
 
 import engine.game.ECSManagement;
+import engine.utils.ComponentTypeIdProvider;
 import engine.utils.EntityIdProvider;
 import engine.utils.logging.DungeonLogger;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -23,7 +25,9 @@ import java.util.stream.Stream;
  * <p>If you want to remove a component from an entity, use {@link #remove} and provide the Class of
  * the component you want to remove as a parameter.
  *
- * <p>Use {@link #fetch(Class)} to retrieve the component of the given class in this entity.
+ * <p>Use {@link #fetch(Class)} to retrieve the component of the given class in this entity. Hot
+ * paths that run for many entities each frame can use {@link #fetchOrNull(Class)} instead, which
+ * does not allocate an {@link Optional}.
  *
  * <p>With {@link #isPresent(Class)}, you can check if the entity has a component of the given
  * class.
@@ -36,7 +40,10 @@ public final class Entity implements Comparable<Entity> {
   private static final DungeonLogger LOGGER = DungeonLogger.getLogger(Entity.class);
 
   private final int id;
-  private final HashMap<Class<? extends Component>, Component> components;
+  private static final Component[] NO_COMPONENTS = new Component[0];
+
+  // Indexed by the id of the component class, see ComponentTypeIdProvider
+  private Component[] components = NO_COMPONENTS;
   private String name;
 
   /**
@@ -125,7 +132,6 @@ public final class Entity implements Comparable<Entity> {
       EntityIdProvider.registerOrThrow(id);
     }
     this.id = id;
-    this.components = new HashMap<>();
     this.name = name != null ? name : "_" + id;
     LOGGER.info(this + " was created.");
   }
@@ -138,19 +144,27 @@ public final class Entity implements Comparable<Entity> {
    *
    * <p>Remember that an entity can only store one component of each component class.
    *
+   * <p>If this entity is in the game and structural changes are currently recorded (see {@link
+   * ECSManagement#useCommandBuffer(boolean)}), the component is added at the next sync point.
+   *
    * @param component The component to add
    */
   public void add(final Component component) {
+    if (ECSManagement.recordComponentChange(this, () -> add(component))) return;
     Class<? extends Component> componentClass = component.getClass();
-    Component previousComponent = components.get(componentClass);
+    int typeId = ComponentTypeIdProvider.id(componentClass);
+    if (typeId >= components.length) {
+      components = Arrays.copyOf(components, Math.max(typeId + 1, components.length * 2));
+    }
+    Component previousComponent = components[typeId];
     if (previousComponent != null && previousComponent != component) {
-      components.remove(componentClass);
+      components[typeId] = null;
       // Replacing a component must run the old component's removal lifecycle first. Otherwise the
       // entity still matches the same systems and their on-remove/on-add listeners never observe
       // the new component instance.
       ECSManagement.informAboutChanges(this);
     }
-    components.put(componentClass, component);
+    components[typeId] = component;
     ECSManagement.informAboutChanges(this);
     LOGGER.debug(componentClass.getName() + " Components from " + this + " was added.");
   }
@@ -161,12 +175,20 @@ public final class Entity implements Comparable<Entity> {
    * <p>Changes to the entity's component map will trigger a call to {@link
    * ECSManagement#informAboutChanges}.
    *
+   * <p>If this entity is in the game and structural changes are currently recorded (see {@link
+   * ECSManagement#useCommandBuffer(boolean)}), the component is removed at the next sync point.
+   *
    * @param klass the class of the component to remove
-   * @return true if a component of the given class was removed; false otherwise (typically means
-   *     the entity does not have this component)
+   * @return true if a component of the given class was (or will be) removed; false otherwise
+   *     (typically means the entity does not have this component)
    */
   public boolean remove(final Class<? extends Component> klass) {
-    if (components.remove(klass) != null) {
+    if (ECSManagement.recordComponentChange(this, () -> remove(klass))) {
+      return isPresent(klass);
+    }
+    int typeId = ComponentTypeIdProvider.id(klass);
+    if (typeId < components.length && components[typeId] != null) {
+      components[typeId] = null;
       ECSManagement.informAboutChanges(this);
       LOGGER.debug(klass.getName() + " from " + name + " was removed.");
       return true;
@@ -184,7 +206,23 @@ public final class Entity implements Comparable<Entity> {
    * @see Optional
    */
   public <T extends Component> Optional<T> fetch(final Class<T> klass) {
-    return Optional.ofNullable(klass.cast(components.get(klass)));
+    return Optional.ofNullable(fetchOrNull(klass));
+  }
+
+  /**
+   * Get the component, or null if this entity does not store a component of the given class.
+   *
+   * <p>Same as {@link #fetch(Class)}, but without wrapping the result in an {@link Optional}. Use
+   * this in code that runs for many entities each frame.
+   *
+   * @param klass Class of the component.
+   * @param <T> The type of the (given and returned) component.
+   * @return the requested component, or null if this entity does not store a component of the
+   *     given class.
+   */
+  public <T extends Component> T fetchOrNull(final Class<T> klass) {
+    int typeId = ComponentTypeIdProvider.id(klass);
+    return typeId < components.length ? klass.cast(components[typeId]) : null;
   }
 
   /**
@@ -194,7 +232,8 @@ public final class Entity implements Comparable<Entity> {
    * @return true if the component is present in the entity, false if not
    */
   public boolean isPresent(final Class<? extends Component> klass) {
-    return components.containsKey(klass);
+    int typeId = ComponentTypeIdProvider.id(klass);
+    return typeId < components.length && components[typeId] != null;
   }
 
   /**
@@ -238,7 +277,7 @@ public final class Entity implements Comparable<Entity> {
    * @return Stream of components.
    */
   public Stream<Component> componentStream() {
-    return components.values().stream();
+    return Arrays.stream(components).filter(Objects::nonNull);
   }
 
   /**
@@ -243,6 +243,17 @@ public final class Game {
     PreRunConfiguration.frameRate(frameRate);
   }
 
+  /**
+   * Sets in the pre-run configuration whether the game simulates with a fixed timestep.
+   *
+   * @param fixedTimestep True to execute the systems {@link #frameRate()} times per second,
+   *     independent of the rendered frames.
+   * @see PreRunConfiguration#fixedTimestep(boolean)
+   */
+  public static void fixedTimestep(boolean fixedTimestep) {
+    PreRunConfiguration.fixedTimestep(fixedTimestep);
+  }
+
   /**
    * Checks if the game-window can be resized.
    *
@@ -726,14 +737,32 @@ public final class Game {
    */
   public static Stream<Entity> entityAtTile(final Tile check) {
     return Game.tileAt(check.position())
-        .map(
-            target ->
-                ECSManagement.entities()
-                    .filter(e -> e.isPresent(PositionComponent.class))
-                    .filter(e -> Game.tileAtEntity(e).map(target::equals).orElse(false)))
+        .map(target -> ECSManagement.entitiesAt(target.coordinate()))
         .orElseGet(Stream::empty);
   }
 
+  /**
+   * Returns the entities standing in the given rectangular area.
+   *
+   * @param from One corner of the area (inclusive).
+   * @param to The opposite corner of the area (inclusive).
+   * @return Stream of all entities in the area.
+   */
+  public static Stream<Entity> entitiesInArea(final Coordinate from, final Coordinate to) {
+    return ECSManagement.entitiesInArea(from, to);
+  }
+
+  /**
+   * Returns the entities whose tile center is within the given range around a point.
+   *
+   * @param center Center of the search area.
+   * @param range Maximum distance to the center of the tile of an entity.
+   * @return Stream of all entities in range.
+   */
+  public static Stream<Entity> entitiesInRange(final Point center, float range) {
+    return ECSManagement.entitiesInRange(center, range);
+  }
+
   /**
    * Get a random tile of the given type.
    *
@@ -1,7 +1,9 @@
 package engine;
 
+import engine.game.ECSManagement;
 import engine.utils.EntitySystemMapper;
 import engine.utils.logging.DungeonLogger;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -27,6 +29,13 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>A System can declare which Components it reads and writes with {@link #declareReads} and
+ * {@link #declareWrites}. If the parallel system scheduler is enabled (see {@link
+ * ECSManagement#useParallelSystems(boolean)}), Systems with declared access that do not write
+ * Components the other one uses are executed concurrently. Systems without declared access are
+ * always executed alone. Independent of that, a System can process its Entities concurrently by
+ * iterating with {@link #forEachEntity(Consumer)}.
  */
 public abstract class System {
   /**
@@ -41,6 +50,9 @@ public abstract class System {
   private final Set<Class<? extends Component>> filterRules;
   private final int executeEveryXFrames;
   private final AuthoritativeSide authoritativeSide;
+  private Set<Class<? extends Component>> readComponents = Set.of();
+  private Set<Class<? extends Component>> writeComponents = Set.of();
+  private boolean accessDeclared = false;
   protected boolean run;
 
   /**
@@ -176,6 +188,88 @@ public abstract class System {
     return new HashSet<>(filterRules);
   }
 
+  /**
+   * Declare the Components this System reads in addition to its filter rules.
+   *
+   * <p>See {@link #declareWrites} for the contract of declaring access.
+   *
+   * @param components Component classes this System reads.
+   */
+  @SafeVarargs
+  protected final void declareReads(final Class<? extends Component>... components) {
+    readComponents = union(readComponents, Set.of(components));
+    accessDeclared = true;
+  }
+
+  /**
+   * Declare the Components this System writes.
+   *
+   * <p>By declaring its access, a System promises that {@link #execute()} only reads its filter
+   * rules and the declared Components and only writes the declared Components. It must not add or
+   * remove Entities or Components, change the level, or change other shared state, and it should
+   * only query Entities via {@link #filteredEntityStream}. Such a System may be executed
+   * concurrently with other Systems that neither write the Components it uses nor use the
+   * Components it writes.
+   *
+   * @param components Component classes this System writes.
+   */
+  @SafeVarargs
+  protected final void declareWrites(final Class<? extends Component>... components) {
+    writeComponents = union(writeComponents, Set.of(components));
+    accessDeclared = true;
+  }
+
+  /**
+   * Check if this System declared the Components it reads and writes.
+   *
+   * @return true if {@link #declareReads} or {@link #declareWrites} was called, false if the System
+   *     may access anything and must be executed alone.
+   */
+  public final boolean declaresAccess() {
+    return accessDeclared;
+  }
+
+  /**
+   * Get the Components this System reads.
+   *
+   * @return immutable set of the filter rules and the declared read Components.
+   */
+  public final Set<Class<? extends Component>> readComponents() {
+    return union(filterRules, readComponents);
+  }
+
+  /**
+   * Get the Components this System writes.
+   *
+   * @return immutable set of the declared write Components.
+   */
+  public final Set<Class<? extends Component>> writeComponents() {
+    return writeComponents;
+  }
+
+  /**
+   * Check if this System and the given System must not be executed concurrently.
+   *
+   * <p>Two Systems conflict if one of them did not declare its access, or if one of them writes a
+   * Component the other one reads or writes.
+   *
+   * @param other the other System.
+   * @return true if the Systems conflict.
+   */
+  public final boolean conflictsWith(final System other) {
+    if (!accessDeclared || !other.accessDeclared) return true;
+    return !Collections.disjoint(writeComponents, other.readComponents())
+        || !Collections.disjoint(writeComponents, other.writeComponents)
+        || !Collections.disjoint(other.writeComponents, readComponents());
+  }
+
+  private static Set<Class<? extends Component>> union(
+      final Set<Class<? extends Component>> a, final Set<Class<? extends Component>> b) {
+    Set<Class<? extends Component>> union = new HashSet<>(a);
+    union.addAll(b);
+    return Set.copyOf(union);
+  }
+
   /**
    * Set this system to the running state.
    *
@@ -256,6 +350,22 @@ public abstract class System {
     return filteredEntityStream(Set.of(filterRules));
   }
 
+  /**
+   * Apply the given action to each entity of {@link #filteredEntityStream()}.
+   *
+   * <p>Use this instead of {@code filteredEntityStream().forEach(action)} if the action is an
+   * independent per-entity function: it only modifies the given entity and its components, and
+   * its result does not depend on the order in which the entities are processed. If the parallel
+   * system scheduler is enabled, the entities are then processed concurrently, and adding or
+   * removing entities or components is deferred until all entities were processed.
+   *
+   * @param action the action to apply to each entity
+   * @see ECSManagement#forEachEntity(Set, Consumer)
+   */
+  protected final void forEachEntity(final Consumer<Entity> action) {
+    ECSManagement.forEachEntity(filterRules, action);
+  }
+
   /**
    * @return the frame count the system should have between executes
    */
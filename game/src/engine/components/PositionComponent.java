@@ -36,10 +36,18 @@ public final class PositionComponent implements Component {
   /** The position of the entity in the level. */
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
 
+  /**
+   * Maximum distance between two ticks that is interpolated for rendering. Larger jumps (e.g.,
+   * teleports or a new level) are drawn at the new position immediately.
+   */
+  public static final float MAX_INTERPOLATION_DISTANCE = 1f;
+
   private Point position;
+  private Point previousPosition;
   private Direction viewDirection;
   private float rotation;
   private Vector2 scale = Vector2.ONE;
+  private Runnable changeListener;
 
   /**
    * Create a new PositionComponent with given position.
@@ -127,9 +135,59 @@ public final class PositionComponent implements Component {
    */
   public Point position(final Point position) {
     this.position = new Point(position);
+    markChanged();
     return position;
   }
 
+  /**
+   * Set the position.
+   *
+   * <p>Like {@link #position(Point)}, but without an intermediate point.
+   *
+   * @param x new x-position
+   * @param y new y-position
+   */
+  public void position(float x, float y) {
+    this.position = new Point(x, y);
+    markChanged();
+  }
+
+  /**
+   * Remember the current position as the position of the previous tick.
+   *
+   * <p>Called before each tick of a fixed timestep simulation, see {@link
+   * #interpolatedPosition(float)}.
+   */
+  public void storePreviousPosition() {
+    previousPosition = position;
+  }
+
+  /**
+   * Get the position interpolated between the previous and the current tick.
+   *
+   * <p>With a fixed timestep, a rendered frame usually lies between two ticks. Drawing the entity
+   * at the interpolated position instead of the position of the last tick keeps the movement
+   * smooth if more frames are rendered than ticks are simulated.
+   *
+   * <p>If no previous position was stored or the entity moved more than {@link
+   * #MAX_INTERPOLATION_DISTANCE} since the previous tick, the current position is returned.
+   *
+   * @param alpha the fraction of the next tick that has passed, between 0 (previous tick) and 1
+   *     (current tick)
+   * @return the interpolated position
+   * @see #storePreviousPosition()
+   */
+  public Point interpolatedPosition(float alpha) {
+    Point previous = previousPosition;
+    if (previous == null || previous == position || alpha >= 1f) return position();
+    float dx = position.x() - previous.x();
+    float dy = position.y() - previous.y();
+    if (dx * dx + dy * dy > MAX_INTERPOLATION_DISTANCE * MAX_INTERPOLATION_DISTANCE) {
+      return position();
+    }
+    return new Point(previous.x() + dx * alpha, previous.y() + dy * alpha);
+  }
+
   /**
    * Set the position.
    *
@@ -149,6 +207,7 @@ public final class PositionComponent implements Component {
    */
   public void toTileCorner() {
     position = position.toCoordinate().toPoint();
+    markChanged();
   }
 
   /**
@@ -212,6 +271,7 @@ public final class PositionComponent implements Component {
    */
   public void scale(final Vector2 scale) {
     this.scale = scale;
+    markChanged();
   }
 
   /**
@@ -221,6 +281,7 @@ public final class PositionComponent implements Component {
    */
   public void scale(final float scale) {
     this.scale = Vector2.of(scale, scale);
+    markChanged();
   }
 
   /**
@@ -230,6 +291,7 @@ public final class PositionComponent implements Component {
    */
   public void scaleX(final float x) {
     this.scale = Vector2.of(x, scale.y());
+    markChanged();
   }
 
   /**
@@ -239,5 +301,31 @@ public final class PositionComponent implements Component {
    */
   public void scaleY(final float y) {
     this.scale = Vector2.of(scale.x(), y);
+    markChanged();
+  }
+
+  /**
+   * Set the listener that is called every time the position or scale of this component is set.
+   *
+   * <p>{@link engine.game.ECSManagement} uses the listener to mark the entity for an update of its
+   * tile index entry, so only moved entities are checked before the next tile lookup.
+   *
+   * @param listener the listener, or null to remove it
+   */
+  public void changeListener(final Runnable listener) {
+    this.changeListener = listener;
+  }
+
+  /**
+   * Inform the change listener that the position changed.
+   *
+   * <p>Called by the setters of this component. Call this if a value that is derived from the
+   * position changed outside of this component, e.g., if a collider was moved.
+   *
+   * @see #changeListener(Runnable)
+   */
+  public void markChanged() {
+    Runnable listener = changeListener;
+    if (listener != null) listener.run();
   }
 }
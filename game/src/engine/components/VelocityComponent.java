@@ -295,6 +295,36 @@ public final class VelocityComponent implements Component {
     return appliedForces.values().stream();
   }
 
+  /**
+   * Get the x component of the sum of all currently applied forces.
+   *
+   * @return Sum of the x components of all force vectors.
+   */
+  public float appliedForcesX() {
+    float sum = 0f;
+    if (!appliedForces.isEmpty()) {
+      for (Vector2 force : appliedForces.values()) {
+        sum += force.x();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Get the y component of the sum of all currently applied forces.
+   *
+   * @return Sum of the y components of all force vectors.
+   */
+  public float appliedForcesY() {
+    float sum = 0f;
+    if (!appliedForces.isEmpty()) {
+      for (Vector2 force : appliedForces.values()) {
+        sum += force.y();
+      }
+    }
+    return sum;
+  }
+
   /**
    * Get a copy of all applied forces mapped by their IDs.
    *
@@ -38,6 +38,7 @@ public abstract class AbstractStarter {
   private final Class<?>[] keyboardConfigClasses;
   private final boolean disableAudio;
   private final int frameRate;
+  private final boolean fixedTimestep;
   private final SnapshotTranslator snapshotTranslator;
   private final EntitySpawnStrategy entitySpawnStrategy;
 
@@ -55,6 +56,7 @@ public abstract class AbstractStarter {
     this.keyboardConfigClasses = builder.keyboardConfigClasses.clone();
     this.disableAudio = builder.disableAudio;
     this.frameRate = builder.frameRate;
+    this.fixedTimestep = builder.fixedTimestep;
     this.snapshotTranslator = builder.snapshotTranslator;
     this.entitySpawnStrategy = builder.entitySpawnStrategy;
   }
@@ -88,6 +90,7 @@ public abstract class AbstractStarter {
     }
     Game.disableAudio(disableAudio);
     Game.frameRate(frameRate);
+    Game.fixedTimestep(fixedTimestep);
     if (snapshotTranslator != null) {
       NetworkConfig.SNAPSHOT_TRANSLATOR = snapshotTranslator;
     }
@@ -112,6 +115,7 @@ public abstract class AbstractStarter {
     private Class<?>[] keyboardConfigClasses = new Class<?>[0];
     private boolean disableAudio = false;
     private int frameRate = 60;
+    private boolean fixedTimestep = false;
     private SnapshotTranslator snapshotTranslator;
     private EntitySpawnStrategy entitySpawnStrategy;
 
@@ -221,6 +225,19 @@ public abstract class AbstractStarter {
       return self();
     }
 
+    /**
+     * Sets whether the systems are executed with a fixed timestep of {@code 1 / frameRate} seconds,
+     * independent of the rendered frames (default {@code false}).
+     *
+     * @param fixedTimestep {@code true} to simulate with a fixed timestep
+     * @return this builder
+     * @see PreRunConfiguration#fixedTimestep(boolean)
+     */
+    public T fixedTimestep(boolean fixedTimestep) {
+      this.fixedTimestep = fixedTimestep;
+      return self();
+    }
+
     /**
      * Sets the {@link SnapshotTranslator} used by {@link NetworkConfig}.
      *
@@ -0,0 +1,87 @@
+package engine.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records structural ECS changes (adding or removing entities and components) instead of applying
+ * them immediately.
+ *
+ * <p>A buffer is active on a thread while {@link #recordDuring(Runnable)} runs. During that time,
+ * {@link ECSManagement} hands every structural change requested on that thread to {@link
+ * #record(Runnable)}. The recorded changes are applied in recording order by {@link #playback()}.
+ *
+ * <p>If a buffer is active while another buffer plays back (e.g., the buffer of a chunk of {@link
+ * EntityPartitioner} inside the buffer of a system), the played back changes are recorded again by
+ * the active buffer, so they are applied at the sync point of the outermost buffer.
+ *
+ * <p>A buffer itself is not thread-safe. Each thread records into its own buffer, and the buffers
+ * are played back one after another on a single thread.
+ */
+final class CommandBuffer {
+
+  private static final ThreadLocal<CommandBuffer> ACTIVE = new ThreadLocal<>();
+
+  private final List<Runnable> commands = new ArrayList<>();
+
+  /**
+   * Record the given change in the buffer that is active on the calling thread.
+   *
+   * @param change the change to apply at the next sync point
+   * @return true if the change was recorded, false if no buffer is active and the change must be
+   *     applied immediately
+   */
+  static boolean record(final Runnable change) {
+    CommandBuffer buffer = ACTIVE.get();
+    if (buffer == null) return false;
+    buffer.commands.add(change);
+    return true;
+  }
+
+  /**
+   * Check if a buffer is active on the calling thread.
+   *
+   * @return true if structural changes of the calling thread are recorded
+   */
+  static boolean isRecording() {
+    return ACTIVE.get() != null;
+  }
+
+  /**
+   * Run the given action with this buffer active on the calling thread.
+   *
+   * @param action the action whose structural changes should be recorded
+   */
+  void recordDuring(final Runnable action) {
+    CommandBuffer enclosing = ACTIVE.get();
+    ACTIVE.set(this);
+    try {
+      action.run();
+    } finally {
+      if (enclosing == null) ACTIVE.remove();
+      else ACTIVE.set(enclosing);
+    }
+  }
+
+  /**
+   * Check if this buffer contains recorded changes.
+   *
+   * @return true if no change was recorded since the last playback
+   */
+  boolean isEmpty() {
+    return commands.isEmpty();
+  }
+
+  /**
+   * Apply the recorded changes in recording order and clear the buffer.
+   *
+   * <p>Changes that are requested while playing back (e.g., by {@code onEntityAdd} callbacks) are
+   * applied immediately, or recorded by the buffer active on the calling thread.
+   */
+  void playback() {
+    if (commands.isEmpty()) return;
+    List<Runnable> recorded = List.copyOf(commands);
+    commands.clear();
+    recorded.forEach(Runnable::run);
+  }
+}
@@ -5,26 +5,31 @@ import engine.Component;
 import engine.Entity;
 import engine.Game;
 import engine.System;
-import engine.components.DrawComponent;
 import engine.components.PlayerComponent;
 import engine.components.PositionComponent;
-import engine.network.messages.s2c.EntityDespawnEvent;
-import engine.network.messages.s2c.EntitySpawnEvent;
+import engine.level.utils.Coordinate;
 import engine.systems.DrawSystem;
 import engine.systems.LevelSystem;
 import engine.systems.SoundSystem;
+import engine.utils.ArchetypeStorage;
 import engine.utils.EntityIdProvider;
+import engine.utils.EntityRegistry;
 import engine.utils.EntitySystemMapper;
+import engine.utils.Point;
+import engine.utils.TileEntityIndex;
 import engine.utils.logging.DungeonLogger;
 import feature.systems.EventScheduler;
 import feature.systems.HudSystem;
 import feature.systems.LevelTickSystem;
+import feature.utils.EntityUtils;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -41,13 +46,43 @@ import java.util.stream.Stream;
  *
  * <p>Get access via: {@link #entities()}, {@link #systems()}
  *
+ * <p>By default, filtered entity streams are served by {@link EntitySystemMapper}s. With {@link
+ * #useArchetypeStorage(boolean)}, entities are additionally grouped by their component signature
+ * in an {@link ArchetypeStorage}, and filtered streams iterate over cached archetype queries
+ * instead of copying the matching entities on every call.
+ *
+ * <p>Entities with a {@link PositionComponent} are additionally stored in a {@link TileEntityIndex},
+ * so {@link #entitiesAt(Coordinate)}, {@link #entitiesInArea(Coordinate, Coordinate)} and {@link
+ * #entitiesInRange(Point, float)} only visit the affected tiles. Each indexed position component
+ * marks its entity as moved when it changes (see {@link PositionComponent#changeListener}); before
+ * a lookup, only the moved entities are checked and moved to the bucket of their new tile.
+ *
+ * <p>By default, the systems of a tick are executed one after another. With {@link
+ * #useParallelSystems(boolean)}, systems that declared their component access (see {@link
+ * System#declareWrites}) and do not conflict are executed concurrently by a {@link
+ * SystemScheduler}, and systems that iterate with {@link #forEachEntity(Set, Consumer)} split
+ * their entities across the fork-join pool (see {@link EntityPartitioner}).
+ *
+ * <p>With {@link #useCommandBuffer(boolean)}, structural changes during a tick are recorded in a
+ * {@link CommandBuffer} and applied at a sync point after each system.
+ *
  * <p>All API methods can also be accessed via the {@link engine.Game} class.
  */
 public final class ECSManagement {
   private static final DungeonLogger LOGGER = DungeonLogger.getLogger(ECSManagement.class);
   private static final Map<Class<? extends System>, System> SYSTEMS = new LinkedHashMap<>();
-  private static final Map<Integer, Entity> allEntities = new LinkedHashMap<>();
+  private static final EntityRegistry allEntities = new EntityRegistry();
   private static final Set<EntitySystemMapper> entityFilters = new HashSet<>();
+  private static final ArchetypeStorage archetypeStorage = new ArchetypeStorage();
+  private static boolean archetypeStorageEnabled = false;
+  private static final SystemScheduler scheduler = new SystemScheduler();
+  private static boolean parallelSystemsEnabled = false;
+  private static final CommandBuffer commandBuffer = new CommandBuffer();
+  private static final EntityNetworkEvents networkEvents = new EntityNetworkEvents();
+  private static boolean commandBufferEnabled = false;
+  private static final TileEntityIndex tileIndex =
+      new TileEntityIndex(ECSManagement::indexCoordinate);
+  private static final Set<Entity> movedEntities = ConcurrentHashMap.newKeySet();
 
   private static int currentTick = 0;
   private static System.AuthoritativeSide currentExecutionSide = System.AuthoritativeSide.BOTH;
@@ -85,11 +120,17 @@ public final class ECSManagement {
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} or {@link
    * System#triggerOnRemove(Entity)}.
    *
+   * <p>While structural changes are recorded (see {@link #useCommandBuffer(boolean)}), the update
+   * is deferred until the next sync point.
+   *
    * @param entity the entity that has changes in its Component Collection.
    */
   public static void informAboutChanges(Entity entity) {
+    if (CommandBuffer.record(() -> informAboutChanges(entity))) return;
     if (entities().anyMatch(entity1 -> entity1.equals(entity))) {
       entityFilters.forEach(f -> f.update(entity));
+      if (archetypeStorageEnabled) archetypeStorage.update(entity);
+      indexPosition(entity);
       LOGGER.info(entity + " informed the Game about component changes.");
     }
   }
@@ -104,34 +145,29 @@ public final class ECSManagement {
    *
    * <p>If necessary, the {@link System} will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>While structural changes are recorded (see {@link #useCommandBuffer(boolean)}), the entity
+   * is added at the next sync point.
+   *
    * @param entity the entity to add.
    * @return added entity for chaining
    * @throws IllegalArgumentException if an entity with the same id already exists in the game.
    */
   public static Entity add(Entity entity) {
+    if (CommandBuffer.record(() -> add(entity))) return entity;
     // Prevent duplicate IDs for different entity instances
-    boolean duplicateIdExists = allEntities.containsKey(entity.id());
+    boolean duplicateIdExists = allEntities.contains(entity.id());
     if (duplicateIdExists)
       throw new IllegalArgumentException(
           "An Entity with id " + entity.id() + " already exists in the game.");
 
     // Ensure the provider knows about this id (idempotent).
     EntityIdProvider.ensureRegistered(entity.id());
-    allEntities.put(entity.id(), entity);
+    allEntities.add(entity);
+    if (archetypeStorageEnabled) archetypeStorage.add(entity);
+    indexPosition(entity);
     entityFilters.forEach(f -> f.add(entity));
     LOGGER.info(entity + " will be added to the Game.");
-
-    try {
-      if (Game.network().isServer()) {
-        if (entity.isPresent(PositionComponent.class) && entity.isPresent(DrawComponent.class)) {
-          Game.network().broadcast(new EntitySpawnEvent(entity), true);
-        }
-      }
-    } catch (IllegalStateException e) {
-      LOGGER.error("Failed to broadcast entity spawn for {}: {}", entity, e.getMessage());
-      // Continue without broadcasting, for unit tests
-    }
-
+    networkEvents.spawned(entity);
     return entity;
   }
 
@@ -140,29 +176,42 @@ public final class ECSManagement {
    *
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>While structural changes are recorded (see {@link #useCommandBuffer(boolean)}), the entity
+   * is removed at the next sync point.
+   *
    * @param entity the entity to remove
    * @return removed entity for chaining
    */
   public static Entity remove(Entity entity) {
-    if (allEntities.remove(entity.id(), entity)) {
+    if (CommandBuffer.record(() -> remove(entity))) return entity;
+    if (allEntities.remove(entity)) {
+      if (archetypeStorageEnabled) archetypeStorage.remove(entity);
+      unindexPosition(entity);
       entityFilters.forEach(f -> f.remove(entity));
       EntityIdProvider.unregister(entity.id());
       LOGGER.info(entity + " will be removed from the Game.");
     }
-
-    try {
-      if (Game.network().isServer()) {
-        Game.network()
-            .broadcast(new EntityDespawnEvent(entity.id(), "Entity removed from game"), true);
-      }
-    } catch (IllegalStateException e) {
-      LOGGER.error("Failed to broadcast entity despawn for {}: {}", entity, e.getMessage());
-      // Continue without broadcasting, for unit tests
-    }
-
+    networkEvents.despawned(entity.id());
     return entity;
   }
 
+  /**
+   * Record a component change of the given entity, if structural changes are recorded on the
+   * calling thread (see {@link #useCommandBuffer(boolean)}).
+   *
+   * <p>Only changes of entities in the game are recorded. Entities that were not added yet are
+   * changed immediately, so they can be configured before they are added.
+   *
+   * @param entity the entity whose components change
+   * @param change the change to apply at the next sync point
+   * @return true if the change was recorded, false if it must be applied immediately
+   */
+  public static boolean recordComponentChange(final Entity entity, final Runnable change) {
+    return CommandBuffer.isRecording()
+        && allEntities.get(entity.id()) == entity
+        && CommandBuffer.record(change);
+  }
+
   /**
    * Create a new {@link EntitySystemMapper} with the given filter rules.
    *
@@ -275,15 +324,220 @@ public final class ECSManagement {
    * @return a stream of all entities currently in the game, that contains the given components.
    */
   public static Stream<Entity> entities(Set<Class<? extends Component>> filter) {
-    Stream<Entity> returnStream;
-    Optional<EntitySystemMapper> rf =
-        entityFilters.stream().filter(f -> f.equals(filter)).findFirst();
+    // Systems executed concurrently may query filters that have no mapper or query yet
+    synchronized (entityFilters) {
+      if (archetypeStorageEnabled) return archetypeStorage.query(filter).stream();
+      Stream<Entity> returnStream;
+      Optional<EntitySystemMapper> rf =
+          entityFilters.stream().filter(f -> f.equals(filter)).findFirst();
+
+      if (rf.isEmpty()) {
+        EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
+        returnStream = newMapper.stream();
+      } else returnStream = rf.get().stream();
+      return returnStream;
+    }
+  }
+
+  /**
+   * Apply the given action to each entity in the current level that contains the given components.
+   *
+   * <p>If the parallel system scheduler is disabled, this is the same as {@code
+   * entities(filter).forEach(action)}. If it is enabled, the entities are partitioned across the
+   * fork-join pool and processed concurrently. Adding or removing entities or components during
+   * the iteration is then deferred until all entities were processed (or until the next sync
+   * point, see {@link #useCommandBuffer(boolean)}), and applied in iteration order.
+   *
+   * <p>The action must only modify the given entity and its components, and must not depend on
+   * the order in which the entities are processed.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @param action the action to apply to each entity
+   * @see #useParallelSystems(boolean)
+   */
+  public static void forEachEntity(
+      final Set<Class<? extends Component>> filter, final Consumer<Entity> action) {
+    if (!parallelSystemsEnabled) {
+      entities(filter).forEach(action);
+      return;
+    }
+    EntityPartitioner.forEach(entities(filter).toArray(Entity[]::new), action);
+  }
+
+  /**
+   * Enable or disable the archetype storage.
+   *
+   * <p>If enabled, all entities are grouped by their component signature and {@link
+   * #entities(Set)} iterates over cached {@link engine.utils.ArchetypeQuery archetype queries}
+   * without copying the matching entities. The {@link EntitySystemMapper}s are still maintained, so
+   * {@link System#triggerOnAdd(Entity)} and {@link System#triggerOnRemove(Entity)} behave the same
+   * in both modes.
+   *
+   * <p>Enabling the storage will add all entities currently in the game to it.
+   *
+   * @param enabled true to use the archetype storage, false to use the entity system mappers
+   */
+  public static void useArchetypeStorage(boolean enabled) {
+    if (enabled == archetypeStorageEnabled) return;
+    archetypeStorage.clear();
+    if (enabled) allEntities.forEach(archetypeStorage::add);
+    archetypeStorageEnabled = enabled;
+    LOGGER.info("Archetype storage is now {}", enabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * Enable or disable the command buffer for structural changes during a tick.
+   *
+   * <p>If enabled, adding or removing entities (see {@link #add(Entity)}, {@link #remove(Entity)})
+   * and adding or removing components of entities in the game (see {@link
+   * Entity#add(engine.Component)}, {@link Entity#remove(Class)}) inside {@link System#execute()}
+   * is not applied immediately but recorded. The recorded changes are applied in recording order
+   * at a sync point after each system (or after each stage of the parallel system scheduler). A
+   * system therefore observes its own structural changes only after it was executed.
+   *
+   * <p>Spawns and despawns applied at a sync point are broadcast together: entities that were
+   * spawned and despawned between two sync points are not sent, and all spawns are sent as {@link
+   * engine.network.messages.s2c.EntitySpawnBatch}.
+   *
+   * <p>The parallel system scheduler always records structural changes, independent of this
+   * setting.
+   *
+   * @param enabled true to record structural changes during a tick, false to apply them
+   *     immediately
+   */
+  public static void useCommandBuffer(boolean enabled) {
+    if (enabled == commandBufferEnabled) return;
+    commandBufferEnabled = enabled;
+    LOGGER.info("Command buffer is now {}", enabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * Check if structural changes during a tick are recorded in a command buffer.
+   *
+   * @return true if the command buffer or the parallel system scheduler is enabled
+   * @see #useCommandBuffer(boolean)
+   */
+  public static boolean isCommandBufferEnabled() {
+    return commandBufferEnabled || parallelSystemsEnabled;
+  }
+
+  /**
+   * Enable or disable the parallel system scheduler.
+   *
+   * <p>If enabled, {@link #executeOneTick(System.AuthoritativeSide)} groups the systems into stages
+   * of systems that do not {@link System#conflictsWith(System) conflict} and executes the systems
+   * of a stage concurrently. Conflicting systems keep their registration order, so the resulting
+   * world state is the same as with serial execution, as long as the systems access only what
+   * they declared.
+   *
+   * <p>Systems that iterate with {@link #forEachEntity(Set, Consumer)} additionally process their
+   * entities concurrently. Structural changes are recorded and applied after each stage (see
+   * {@link #useCommandBuffer(boolean)}).
+   *
+   * @param enabled true to execute non-conflicting systems concurrently, false to execute all
+   *     systems one after another
+   */
+  public static void useParallelSystems(boolean enabled) {
+    if (enabled == parallelSystemsEnabled) return;
+    parallelSystemsEnabled = enabled;
+    LOGGER.info("Parallel system scheduler is now {}", enabled ? "enabled" : "disabled");
+  }
 
-    if (rf.isEmpty()) {
-      EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-      returnStream = newMapper.stream();
-    } else returnStream = rf.get().stream();
-    return returnStream;
+  /**
+   * Check if the parallel system scheduler is enabled.
+   *
+   * @return true if non-conflicting systems are executed concurrently
+   * @see #useParallelSystems(boolean)
+   */
+  public static boolean isParallelSystemsEnabled() {
+    return parallelSystemsEnabled;
+  }
+
+  /**
+   * Check if the archetype storage is enabled.
+   *
+   * @return true if filtered entity streams are served by the archetype storage
+   * @see #useArchetypeStorage(boolean)
+   */
+  public static boolean isArchetypeStorageEnabled() {
+    return archetypeStorageEnabled;
+  }
+
+  /**
+   * Get all entities whose position is on the given coordinate.
+   *
+   * <p>The position of an entity is the center of its collider or sprite, see {@link
+   * EntityUtils#getPosition(Entity)}.
+   *
+   * @param coordinate the coordinate to check
+   * @return a stream of all entities on the coordinate
+   */
+  public static Stream<Entity> entitiesAt(final Coordinate coordinate) {
+    synchronized (tileIndex) {
+      refreshTileIndex();
+      return tileIndex.at(coordinate);
+    }
+  }
+
+  /**
+   * Get all entities whose position is inside the given rectangular area.
+   *
+   * @param from one corner of the area (inclusive)
+   * @param to the opposite corner of the area (inclusive)
+   * @return a stream of all entities in the area
+   */
+  public static Stream<Entity> entitiesInArea(final Coordinate from, final Coordinate to) {
+    synchronized (tileIndex) {
+      refreshTileIndex();
+      return tileIndex.inArea(from, to);
+    }
+  }
+
+  /**
+   * Get all entities whose tile center is within the given range around a point.
+   *
+   * @param center the center of the search area
+   * @param range the maximum distance to the center of the tile of an entity
+   * @return a stream of all entities in range
+   */
+  public static Stream<Entity> entitiesInRange(final Point center, float range) {
+    synchronized (tileIndex) {
+      refreshTileIndex();
+      return tileIndex.inRadius(center, range);
+    }
+  }
+
+  // Callers hold the lock of the tile index; entities processed in parallel may query it
+  private static void refreshTileIndex() {
+    if (movedEntities.isEmpty()) return;
+    Iterator<Entity> moved = movedEntities.iterator();
+    while (moved.hasNext()) {
+      Entity entity = moved.next();
+      moved.remove();
+      if (allEntities.get(entity.id()) == entity) tileIndex.update(entity);
+    }
+  }
+
+  private static void indexPosition(final Entity entity) {
+    entity
+        .fetch(PositionComponent.class)
+        .ifPresent(pc -> pc.changeListener(() -> movedEntities.add(entity)));
+    synchronized (tileIndex) {
+      tileIndex.update(entity);
+    }
+  }
+
+  private static void unindexPosition(final Entity entity) {
+    entity.fetch(PositionComponent.class).ifPresent(pc -> pc.changeListener(null));
+    movedEntities.remove(entity);
+    synchronized (tileIndex) {
+      tileIndex.remove(entity);
+    }
+  }
+
+  private static Coordinate indexCoordinate(final Entity entity) {
+    if (!entity.isPresent(PositionComponent.class)) return null;
+    return EntityUtils.getPosition(entity).toCoordinate();
   }
 
   /**
@@ -362,7 +616,7 @@ public final class ECSManagement {
    * @return {@code true} if the entity is found, {@code false} otherwise
    */
   public static boolean exist(Entity entity) {
-    return allEntities.containsKey(entity.id());
+    return allEntities.contains(entity.id());
   }
 
   private static boolean isAuthoritative(System.AuthoritativeSide side, System system) {
@@ -383,8 +637,9 @@ public final class ECSManagement {
   }
 
   /**
-   * Returns the current tick number, incremented each time {@link
-   * #executeOneTick(System.AuthoritativeSide)} is called.
+   * Returns the current tick number, incremented each time a tick is executed (see {@link
+   * #executeOneTick(System.AuthoritativeSide)} and {@link
+   * #simulateOneTick(System.AuthoritativeSide)}).
    *
    * @return the current tick number
    */
@@ -405,39 +660,103 @@ public final class ECSManagement {
    * <p>If a new level was loaded during this tick, the execution will be interrupted to prevent
    * inconsistencies.
    *
+   * <p>If the parallel system scheduler is enabled, systems that do not conflict are executed
+   * concurrently (see {@link #useParallelSystems(boolean)}).
+   *
    * @param side the authoritative side for which to execute systems ({@link
    *     System.AuthoritativeSide#BOTH for all systems})
    */
   public static void executeOneTick(System.AuthoritativeSide side) {
+    if (!simulateOneTick(side)) return;
+    renderSystems(Gdx.graphics != null ? Gdx.graphics.getDeltaTime() : 0f);
+  }
+
+  /**
+   * Execute one tick of the ECS without rendering.
+   *
+   * <p>Like {@link #executeOneTick(System.AuthoritativeSide)}, but does not call {@link
+   * System#render(float)}. Used by the fixed timestep loop of {@link GameLoop}, which simulates a
+   * variable number of ticks per frame and renders once afterward with {@link
+   * #renderSystems(float)}.
+   *
+   * @param side the authoritative side for which to execute systems ({@link
+   *     System.AuthoritativeSide#BOTH for all systems})
+   * @return false if a new level was loaded and the remaining systems were skipped
+   */
+  public static boolean simulateOneTick(System.AuthoritativeSide side) {
     currentExecutionSide = side;
     List<System> authoritativeSystems =
         ECSManagement.systems().values().stream()
             .filter(sys -> isAuthoritative(side, sys))
             .toList();
 
-    // Execute logic for each system.
-    for (System system : authoritativeSystems) {
-      if (newLevelLoadedThisTick) {
-        currentTick++;
-        return; // Early exit if a new level was loaded this tick.
-      }
+    boolean completed =
+        parallelSystemsEnabled
+            ? scheduler.execute(
+                authoritativeSystems, () -> newLevelLoadedThisTick, ECSManagement::syncPoint)
+            : executeSerially(authoritativeSystems);
+    currentTick++;
+    if (!completed) return false; // Early exit if a new level was loaded this tick.
+    newLevelLoadedThisTick = false;
+    return true;
+  }
+
+  /**
+   * Call the {@link System#render(float)} method of each registered {@link System}, if an OpenGL
+   * context is available.
+   *
+   * @param delta the time since the last rendered frame
+   */
+  public static void renderSystems(float delta) {
+    if (!Game.isHeadless() && Game.windowHeight() > 0 && Game.windowWidth() > 0) {
+      systems().values().forEach(system -> system.render(delta));
+    }
+  }
+
+  /**
+   * Execute the given systems one after another.
+   *
+   * @param systems the systems in registration order
+   * @return false if a new level was loaded and the remaining systems were skipped
+   */
+  private static boolean executeSerially(List<System> systems) {
+    for (System system : systems) {
+      if (newLevelLoadedThisTick) return false;
 
       system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
 
       if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
-        system.execute();
+        if (commandBufferEnabled) {
+          try {
+            commandBuffer.recordDuring(system::execute);
+          } finally {
+            syncPoint(List.of(commandBuffer));
+          }
+        } else {
+          system.execute();
+        }
         system.lastExecuteInFrames(0);
       }
     }
+    return true;
+  }
 
-    if (!Game.isHeadless() && Game.windowHeight() > 0 && Game.windowWidth() > 0) {
-      // Render logic: Call the render method for each system if OpenGL context is available.
-      float delta = Gdx.graphics.getDeltaTime();
-      systems().values().forEach(system -> system.render(delta));
+  /**
+   * Apply the structural changes recorded in the given buffers.
+   *
+   * <p>The buffers are played back in the given order. Spawns and despawns are broadcast together
+   * after all buffers were played back.
+   *
+   * @param buffers the buffers to play back
+   */
+  private static void syncPoint(List<CommandBuffer> buffers) {
+    if (buffers.stream().allMatch(CommandBuffer::isEmpty)) return;
+    networkEvents.collect();
+    try {
+      buffers.forEach(CommandBuffer::playback);
+    } finally {
+      networkEvents.flush();
     }
-
-    currentTick++;
-    newLevelLoadedThisTick = false;
   }
 
   /**
@@ -450,4 +769,33 @@ public final class ECSManagement {
   public static Optional<Entity> findEntityById(int entityId) {
     return Optional.ofNullable(allEntities.get(entityId));
   }
+
+  /**
+   * Finds an entity by its unique ID, if the ID was not reused since the given generation.
+   *
+   * <p>IDs are released when an entity is removed from the game and may be registered again for
+   * another entity. Store the {@link #generation(int) generation} together with the ID to make sure
+   * a stored reference does not resolve to such a new entity.
+   *
+   * @param entityId The unique ID of the entity to find.
+   * @param generation The generation of the ID when the reference was stored.
+   * @return An {@link Optional} containing the found entity, or an empty {@code Optional} if no
+   *     entity with the given ID exists or the ID was reused.
+   */
+  public static Optional<Entity> findEntityById(int entityId, int generation) {
+    return Optional.ofNullable(allEntities.get(entityId, generation));
+  }
+
+  /**
+   * Get the generation of the given entity ID.
+   *
+   * <p>The generation is incremented each time an entity with this ID is added to the game.
+   *
+   * @param entityId The ID to get the generation for.
+   * @return The current generation of the ID, 0 if no entity with this ID was ever added.
+   * @see #findEntityById(int, int)
+   */
+  public static int generation(int entityId) {
+    return allEntities.generation(entityId);
+  }
 }
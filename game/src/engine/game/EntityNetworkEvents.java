@@ -0,0 +1,113 @@
+package engine.game;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.DrawComponent;
+import engine.components.PositionComponent;
+import engine.network.messages.s2c.EntityDespawnEvent;
+import engine.network.messages.s2c.EntitySpawnBatch;
+import engine.network.messages.s2c.EntitySpawnEvent;
+import engine.utils.logging.DungeonLogger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Broadcasts entity spawns and despawns to the clients, if the game runs as server.
+ *
+ * <p>Outside a sync point, each spawn and despawn is broadcast immediately. Between {@link
+ * #collect()} and {@link #flush()}, they are collected and coalesced: an entity that is spawned
+ * and despawned again is not sent at all, the despawns are sent first (an entity may be despawned
+ * and spawned again, e.g. when a level is reloaded), and all spawns are sent as {@link
+ * EntitySpawnBatch} messages of at most {@link #MAX_SPAWNS_PER_BATCH} entities.
+ *
+ * <p>Not thread-safe, spawns and despawns are only reported by the thread applying the changes.
+ */
+final class EntityNetworkEvents {
+
+  /** Maximum number of spawn events in one {@link EntitySpawnBatch}. */
+  static final int MAX_SPAWNS_PER_BATCH = 256;
+
+  private static final DungeonLogger LOGGER = DungeonLogger.getLogger(EntityNetworkEvents.class);
+  private static final String DESPAWN_REASON = "Entity removed from game";
+
+  private final Map<Integer, Entity> spawns = new LinkedHashMap<>();
+  private final Set<Integer> despawns = new LinkedHashSet<>();
+  private boolean collecting = false;
+
+  /** Collect the following spawns and despawns until {@link #flush()} is called. */
+  void collect() {
+    collecting = true;
+  }
+
+  /**
+   * Report that the given entity was added to the game.
+   *
+   * @param entity the added entity
+   */
+  void spawned(final Entity entity) {
+    if (collecting) spawns.put(entity.id(), entity);
+    else broadcastSpawns(List.of(entity));
+  }
+
+  /**
+   * Report that the entity with the given id was removed from the game.
+   *
+   * @param entityId the id of the removed entity
+   */
+  void despawned(final int entityId) {
+    if (!collecting) broadcastDespawn(entityId);
+    // An entity spawned since the last flush is unknown to the clients
+    else if (spawns.remove(entityId) == null) despawns.add(entityId);
+  }
+
+  /** Broadcast the collected despawns and spawns and stop collecting. */
+  void flush() {
+    collecting = false;
+    if (despawns.isEmpty() && spawns.isEmpty()) return;
+    List<Integer> despawned = List.copyOf(despawns);
+    List<Entity> spawned = List.copyOf(spawns.values());
+    despawns.clear();
+    spawns.clear();
+    despawned.forEach(this::broadcastDespawn);
+    broadcastSpawns(spawned);
+  }
+
+  private void broadcastDespawn(final int entityId) {
+    try {
+      if (Game.network().isServer()) {
+        Game.network().broadcast(new EntityDespawnEvent(entityId, DESPAWN_REASON), true);
+      }
+    } catch (IllegalStateException e) {
+      LOGGER.error("Failed to broadcast entity despawn for {}: {}", entityId, e.getMessage());
+      // Continue without broadcasting, for unit tests
+    }
+  }
+
+  private void broadcastSpawns(final List<Entity> entities) {
+    try {
+      if (!Game.network().isServer()) return;
+      List<EntitySpawnEvent> events = new ArrayList<>();
+      for (Entity entity : entities) {
+        if (entity.isPresent(PositionComponent.class) && entity.isPresent(DrawComponent.class)) {
+          events.add(new EntitySpawnEvent(entity));
+        }
+      }
+      if (events.size() == 1) {
+        Game.network().broadcast(events.getFirst(), true);
+        return;
+      }
+      for (int from = 0; from < events.size(); from += MAX_SPAWNS_PER_BATCH) {
+        List<EntitySpawnEvent> batch =
+            List.copyOf(events.subList(from, Math.min(events.size(), from + MAX_SPAWNS_PER_BATCH)));
+        Game.network().broadcast(new EntitySpawnBatch(batch), true);
+      }
+    } catch (IllegalStateException e) {
+      LOGGER.error("Failed to broadcast entity spawns for {}: {}", entities, e.getMessage());
+      // Continue without broadcasting, for unit tests
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package engine.game;
+
+import engine.Entity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Applies a per-entity action to an array of entities on the common fork-join pool.
+ *
+ * <p>The entities are split into chunks of {@link #CHUNK_SIZE} entities. The calling thread works
+ * on the first chunk, idle workers steal the others, so uneven per-entity costs (e.g., AI with
+ * pathfinding) are balanced across the cores.
+ *
+ * <p>Structural changes (adding or removing entities or components) requested while a chunk is
+ * processed are not applied immediately but recorded in a {@link CommandBuffer} of the chunk.
+ * After all chunks are done, the buffers are played back in chunk order on the calling thread, so
+ * the changes are applied in the same order as they were requested by a serial iteration. If the
+ * calling thread records into a command buffer itself, the changes end up in that buffer.
+ *
+ * @see ECSManagement#forEachEntity(java.util.Set, Consumer)
+ */
+final class EntityPartitioner {
+
+  /** Number of entities processed by one task. */
+  static final int CHUNK_SIZE = 64;
+
+  private EntityPartitioner() {}
+
+  /**
+   * Apply the given action to each of the given entities.
+   *
+   * <p>If an action throws an exception, the remaining chunks are still processed and the recorded
+   * changes are still applied before the exception is rethrown.
+   *
+   * @param entities the entities to process, must not be modified during this call
+   * @param action the per-entity action
+   */
+  static void forEach(final Entity[] entities, final Consumer<Entity> action) {
+    if (entities.length == 0) return;
+    int chunkCount = (entities.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    List<Chunk> chunks = new ArrayList<>(chunkCount);
+    for (int from = 0; from < entities.length; from += CHUNK_SIZE) {
+      chunks.add(new Chunk(entities, from, Math.min(entities.length, from + CHUNK_SIZE), action));
+    }
+
+    for (int i = 1; i < chunkCount; i++) chunks.get(i).fork();
+    chunks.getFirst().quietlyInvoke();
+    for (Chunk chunk : chunks) chunk.quietlyJoin();
+
+    for (Chunk chunk : chunks) chunk.changes.playback();
+    // Rethrows the exception of the first failed chunk, if any.
+    for (Chunk chunk : chunks) chunk.join();
+  }
+
+  private static final class Chunk extends RecursiveAction {
+    private final Entity[] entities;
+    private final int from;
+    private final int to;
+    private final Consumer<Entity> action;
+    private final CommandBuffer changes = new CommandBuffer();
+
+    private Chunk(Entity[] entities, int from, int to, Consumer<Entity> action) {
+      this.entities = entities;
+      this.from = from;
+      this.to = to;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      changes.recordDuring(
+          () -> {
+            for (int i = from; i < to; i++) action.accept(entities[i]);
+          });
+    }
+  }
+}
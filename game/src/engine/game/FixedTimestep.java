@@ -0,0 +1,80 @@
+package engine.game;
+
+/**
+ * Accumulates the real time between rendered frames and converts it into a number of simulation
+ * steps of a fixed length.
+ *
+ * <p>Each frame, {@link #advance(float)} adds the frame time to the accumulator and returns how many
+ * whole steps fit into it. The remaining fraction of a step is available as {@link #alpha()}, so
+ * the renderer can interpolate between the last two simulation states.
+ *
+ * <p>If the game falls behind (e.g., after a long frame), at most {@link #maxStepsPerFrame()} steps
+ * are run in one frame to catch up. The remaining backlog is dropped, so a slow machine runs the
+ * game slower instead of spiraling into ever longer frames.
+ */
+final class FixedTimestep {
+
+  private final float stepSeconds;
+  private final int maxStepsPerFrame;
+  private float accumulator = 0f;
+
+  /**
+   * Create a new fixed timestep.
+   *
+   * @param stepsPerSecond number of simulation steps per second, must be {@code > 0}
+   * @param maxStepsPerFrame maximum number of steps to run in one frame, must be {@code > 0}
+   */
+  FixedTimestep(final int stepsPerSecond, final int maxStepsPerFrame) {
+    if (stepsPerSecond <= 0) throw new IllegalArgumentException("stepsPerSecond must be > 0");
+    if (maxStepsPerFrame <= 0) throw new IllegalArgumentException("maxStepsPerFrame must be > 0");
+    this.stepSeconds = 1f / stepsPerSecond;
+    this.maxStepsPerFrame = maxStepsPerFrame;
+  }
+
+  /**
+   * Add the time of the last frame and get the number of steps to simulate in this frame.
+   *
+   * @param delta the time since the last frame in seconds
+   * @return the number of simulation steps to run, between 0 and {@link #maxStepsPerFrame()}
+   */
+  int advance(final float delta) {
+    if (delta > 0) accumulator += delta;
+    int steps = (int) (accumulator / stepSeconds);
+    if (steps > maxStepsPerFrame) {
+      steps = maxStepsPerFrame;
+      // Drop the backlog, but keep the fraction of the current step for a smooth interpolation
+      accumulator %= stepSeconds;
+    } else {
+      accumulator -= steps * stepSeconds;
+    }
+    return steps;
+  }
+
+  /**
+   * Get the fraction of a step that is accumulated but not simulated yet.
+   *
+   * @return a value in {@code [0, 1)}, the interpolation factor between the previous and the
+   *     current simulation state
+   */
+  float alpha() {
+    return Math.min(accumulator / stepSeconds, 1f);
+  }
+
+  /**
+   * Get the length of one simulation step.
+   *
+   * @return the length of one step in seconds
+   */
+  float stepSeconds() {
+    return stepSeconds;
+  }
+
+  /**
+   * Get the maximum number of steps simulated in one frame.
+   *
+   * @return the maximum number of catch-up steps per frame
+   */
+  int maxStepsPerFrame() {
+    return maxStepsPerFrame;
+  }
+}
@@ -42,6 +42,7 @@ import engine.network.messages.s2c.EntitySpawnEvent;
 import engine.network.messages.s2c.EntityState;
 import engine.network.messages.s2c.GameOverEvent;
 import engine.network.messages.s2c.InitialWorldComplete;
+import engine.network.messages.s2c.InputAck;
 import engine.network.messages.s2c.LevelChangeEvent;
 import engine.network.messages.s2c.LevelState;
 import engine.network.messages.s2c.SnapshotMessage;
@@ -54,6 +55,7 @@ import engine.sound.player.GdxSoundPlayer;
 import engine.sound.player.ISoundPlayer;
 import engine.sound.player.NoSoundPlayer;
 import engine.systems.CameraSystem;
+import engine.systems.ClientPredictionSystem;
 import engine.systems.DrawSystem;
 import engine.systems.FrictionSystem;
 import engine.systems.LevelSystem;
@@ -99,6 +101,10 @@ import java.util.function.Supplier;
  */
 public final class GameLoop extends ScreenAdapter {
   private static final DungeonLogger LOGGER = DungeonLogger.getLogger(GameLoop.class);
+
+  /** Maximum number of ticks executed in one frame to catch up with a fixed timestep. */
+  private static final int MAX_TICKS_PER_FRAME = 5;
+
   private static final String T_DISCONNECTED_FROM_SERVER = "disconnected_from_server";
   private static final String T_DISCONNECTED_FROM_SERVER_REASON = "disconnected_from_server_reason";
   private static final Translation trans = new Translation("game_loop");
@@ -106,6 +112,7 @@ public final class GameLoop extends ScreenAdapter {
   private static Stage stage;
   private boolean doSetup = true;
   private int displayModeTransitionFrames = 0;
+  private FixedTimestep timestep;
   private volatile boolean initialWorldCompleteReceived = false;
   private volatile boolean initialWorldReadySent = false;
   private volatile boolean initialWorldClientReady = false;
@@ -186,7 +193,9 @@ public final class GameLoop extends ScreenAdapter {
   public static void run() {
     Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
     config.setWindowSizeLimits(0, 0, 9999, 9999);
-    config.setForegroundFPS(PreRunConfiguration.frameRate());
+    // With a fixed timestep, the frame rate is only limited by vsync
+    config.setForegroundFPS(
+        PreRunConfiguration.fixedTimestep() ? 0 : PreRunConfiguration.frameRate());
     config.setResizable(PreRunConfiguration.resizeable());
     config.setTitle(Game.windowTitle());
     config.setWindowIcon(PreRunConfiguration.logoPath().pathString());
@@ -280,7 +289,9 @@ public final class GameLoop extends ScreenAdapter {
   /**
    * Get the current tick of the game.
    *
-   * <p>The tick is incremented every frame, starting from 0 at the beginning of the game.
+   * <p>The tick is incremented every frame, starting from 0 at the beginning of the game. With a
+   * fixed timestep (see {@link PreRunConfiguration#fixedTimestep(boolean)}), it is incremented
+   * {@link PreRunConfiguration#frameRate()} times per second instead.
    *
    * @return the current tick
    */
@@ -322,17 +333,53 @@ public final class GameLoop extends ScreenAdapter {
     clearScreen();
 
     // Execute ECS tick using shared runner. In MP client mode, run render/input/camera only.
-    ECSManagement.executeOneTick(
+    System.AuthoritativeSide side =
         Game.isMultiplayerClient()
             ? System.AuthoritativeSide.CLIENT
-            : System.AuthoritativeSide.BOTH);
+            : System.AuthoritativeSide.BOTH;
+    if (PreRunConfiguration.fixedTimestep()) {
+      executeFixedTicks(delta, side);
+    } else {
+      ECSManagement.executeOneTick(side);
+      InputManager.update();
+    }
 
-    InputManager.update();
     CameraSystem.camera().update();
     // stage logic
     stage().ifPresent(GameLoop::updateStage);
   }
 
+  /**
+   * Execute as many ticks as fit into the time accumulated since the last frame, then render.
+   *
+   * <p>Each tick advances the game by {@code 1 / frameRate} seconds, independent of the rendered
+   * frame rate. At most {@link #MAX_TICKS_PER_FRAME} ticks are executed to catch up after a slow
+   * frame. The {@link DrawSystem} interpolates the positions between the last two ticks, and the
+   * {@link CameraSystem} follows the interpolated position once per frame.
+   *
+   * @param delta The time since the last loop.
+   * @param side The authoritative side for which to execute systems.
+   * @see PreRunConfiguration#fixedTimestep(boolean)
+   */
+  private void executeFixedTicks(float delta, System.AuthoritativeSide side) {
+    int ticksPerSecond = PreRunConfiguration.frameRate();
+    if (timestep == null || timestep.stepSeconds() != 1f / ticksPerSecond) {
+      timestep = new FixedTimestep(ticksPerSecond, MAX_TICKS_PER_FRAME);
+    }
+    int ticks = timestep.advance(delta);
+    for (int i = 0; i < ticks; i++) {
+      ECSManagement.system(DrawSystem.class, DrawSystem::storePreviousPositions);
+      boolean completed = ECSManagement.simulateOneTick(side);
+      // Inputs of frames without a tick stay "just pressed" until the next tick has seen them
+      InputManager.update();
+      if (!completed) break;
+    }
+    float alpha = timestep.alpha();
+    ECSManagement.system(DrawSystem.class, ds -> ds.interpolationAlpha(alpha));
+    ECSManagement.system(CameraSystem.class, cs -> cs.followFrame(delta, alpha));
+    ECSManagement.renderSystems(delta);
+  }
+
   /**
    * Set up the client side of the game.
    *
@@ -573,6 +620,9 @@ public final class GameLoop extends ScreenAdapter {
                       state.clearNetworkEntities();
                     });
           }
+          if (ClientPredictionSystem.isClientPredictionEnabled()) {
+            ECSManagement.system(ClientPredictionSystem.class, ClientPredictionSystem::reset);
+          }
           try {
             Game.currentLevel(LevelParser.parseLevel(event.levelData(), event.levelName()));
             Game.player().ifPresent(GameLoop::placeOnLevelStart);
@@ -597,6 +647,13 @@ public final class GameLoop extends ScreenAdapter {
         (ctx, event) -> {
           NetworkTelemetry.recordDebugPong(event);
         });
+    dispatcher.registerHandler(
+        InputAck.class,
+        (ctx, event) -> {
+          if (ClientPredictionSystem.isClientPredictionEnabled()) {
+            ECSManagement.system(ClientPredictionSystem.class, system -> system.reconcile(event));
+          }
+        });
     dispatcher.registerHandler(
         SnapshotMessage.class,
         (ctx, event) -> {
@@ -1015,5 +1072,6 @@ public final class GameLoop extends ScreenAdapter {
     ECSManagement.add(new DebugDrawSystem());
     ECSManagement.add(new AttributeBarSystem());
     ECSManagement.add(new JoystickSystem());
+    ECSManagement.add(new ClientPredictionSystem());
   }
 }
@@ -38,6 +38,7 @@ public final class PreRunConfiguration {
   private static int WINDOW_WIDTH = 1280;
   private static int WINDOW_HEIGHT = 720;
   private static int FRAME_RATE = 30;
+  private static boolean FIXED_TIMESTEP = false;
   private static boolean FULL_SCREEN = false;
 
   private static boolean RESIZEABLE = true;
@@ -102,6 +103,32 @@ public final class PreRunConfiguration {
     FRAME_RATE = frameRate;
   }
 
+  /**
+   * Checks if the game simulates with a fixed timestep.
+   *
+   * @return True if the systems are executed {@link #frameRate()} times per second independent of
+   *     the rendered frames, false if they are executed once per rendered frame.
+   */
+  public static boolean fixedTimestep() {
+    return FIXED_TIMESTEP;
+  }
+
+  /**
+   * Sets whether the game simulates with a fixed timestep.
+   *
+   * <p>With a fixed timestep, the systems are executed {@link #frameRate()} times per second, no
+   * matter how many frames are rendered. Slow frames are caught up by executing several ticks in
+   * one frame, fast frames render without executing a tick. Entity positions are interpolated
+   * between the last two ticks for rendering. The frame rate of the window is then only limited by
+   * vsync.
+   *
+   * @param fixedTimestep True to simulate with a fixed timestep, false to execute one tick per
+   *     rendered frame.
+   */
+  public static void fixedTimestep(boolean fixedTimestep) {
+    FIXED_TIMESTEP = fixedTimestep;
+  }
+
   /**
    * Checks if the game is in full-screen mode.
    *
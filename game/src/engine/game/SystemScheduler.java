@@ -0,0 +1,127 @@
+package engine.game;
+
+import engine.System;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Executes the systems of one ECS tick in stages of non-conflicting systems.
+ *
+ * <p>The stages are built from the registration order: a system is placed in the stage after the
+ * last stage that contains a system it {@link System#conflictsWith(System) conflicts with}. Systems
+ * that conflict are therefore always executed in registration order, while systems in the same
+ * stage are executed concurrently on the {@link ForkJoinPool#commonPool() common pool}. Systems
+ * without declared access conflict with every system and get a stage of their own.
+ *
+ * <p>Each system records its structural changes in its own {@link CommandBuffer}. After a stage,
+ * the buffers are handed to the sync point in registration order, so the changes are applied in
+ * the same order as by serial execution.
+ *
+ * <p>The stages are rebuilt whenever the list of systems changes.
+ *
+ * @see ECSManagement#useParallelSystems(boolean)
+ */
+final class SystemScheduler {
+
+  private final ForkJoinPool pool = ForkJoinPool.commonPool();
+  private List<System> systems = List.of();
+  private List<List<System>> stages = List.of();
+
+  /**
+   * Get the stages for the given systems.
+   *
+   * @param systems the systems in registration order
+   * @return the stages in execution order, each with its systems in registration order
+   */
+  List<List<System>> stages(final List<System> systems) {
+    if (!systems.equals(this.systems)) {
+      this.systems = List.copyOf(systems);
+      this.stages = buildStages(this.systems);
+    }
+    return stages;
+  }
+
+  /**
+   * Execute one tick of the given systems.
+   *
+   * <p>Like the serial tick, each system counts the frame and is only executed if it is running
+   * and due. Before each stage, the tick is aborted if {@code interrupted} is true (e.g. because a
+   * new level was loaded).
+   *
+   * @param systems the systems in registration order
+   * @param interrupted checked before each stage
+   * @param syncPoint applies the command buffers of the executed systems after each stage, even
+   *     if a system failed
+   * @return false if the tick was interrupted
+   */
+  boolean execute(
+      final List<System> systems,
+      final BooleanSupplier interrupted,
+      final Consumer<List<CommandBuffer>> syncPoint) {
+    List<System> due = new ArrayList<>();
+    for (List<System> stage : stages(systems)) {
+      if (interrupted.getAsBoolean()) return false;
+
+      due.clear();
+      for (System system : stage) {
+        system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+        if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
+          due.add(system);
+        }
+      }
+      executeConcurrently(due, syncPoint);
+      due.forEach(system -> system.lastExecuteInFrames(0));
+    }
+    return true;
+  }
+
+  private void executeConcurrently(
+      final List<System> due, final Consumer<List<CommandBuffer>> syncPoint) {
+    if (due.isEmpty()) return;
+    List<CommandBuffer> buffers = new ArrayList<>(due.size());
+    for (int i = 0; i < due.size(); i++) buffers.add(new CommandBuffer());
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(due.size() - 1);
+    for (int i = 1; i < due.size(); i++) {
+      System system = due.get(i);
+      CommandBuffer buffer = buffers.get(i);
+      tasks.add(pool.submit(() -> buffer.recordDuring(system::execute)));
+    }
+    RuntimeException failure = null;
+    try {
+      // The calling thread works on the first system instead of waiting.
+      buffers.getFirst().recordDuring(due.getFirst()::execute);
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    for (ForkJoinTask<?> task : tasks) {
+      try {
+        task.join();
+      } catch (RuntimeException e) {
+        if (failure == null) failure = e;
+        else failure.addSuppressed(e);
+      }
+    }
+    syncPoint.accept(buffers);
+    if (failure != null) throw failure;
+  }
+
+  private static List<List<System>> buildStages(final List<System> systems) {
+    int[] stageOf = new int[systems.size()];
+    List<List<System>> stages = new ArrayList<>();
+    for (int i = 0; i < systems.size(); i++) {
+      System system = systems.get(i);
+      int stage = 0;
+      for (int j = 0; j < i; j++) {
+        if (stageOf[j] >= stage && system.conflictsWith(systems.get(j))) stage = stageOf[j] + 1;
+      }
+      stageOf[i] = stage;
+      if (stage == stages.size()) stages.add(new ArrayList<>());
+      stages.get(stage).add(system);
+    }
+    return stages.stream().map(List::copyOf).toList();
+  }
+}
@@ -1,6 +1,10 @@
 package engine.level;
 
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.PathFinder;
 import engine.level.elements.ILevel;
+import engine.level.elements.astar.PathCache;
+import engine.level.elements.astar.PathFinderPool;
 import engine.level.elements.astar.TileConnection;
 import engine.level.elements.astar.TileHeuristic;
 import engine.level.elements.tile.DoorTile;
@@ -16,18 +20,24 @@ import engine.level.elements.tile.TileFactory;
 import engine.level.elements.tile.WallTile;
 import engine.level.utils.Coordinate;
 import engine.level.utils.DesignLabel;
+import engine.level.utils.FieldOfView;
+import engine.level.utils.FlowField;
 import engine.level.utils.LevelElement;
+import engine.level.utils.TileAutotiler;
 import engine.level.utils.TileTextureFactory;
+import engine.level.utils.TileTimers;
 import engine.utils.Point;
 import engine.utils.Tuple;
 import engine.utils.Vector2;
 import engine.utils.components.path.IPath;
 import feature.entities.deco.Deco;
 import feature.level.ITickable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -56,6 +66,8 @@ public class DungeonLevel implements ILevel, ITickable {
   private static final Vector2[] CONNECTION_OFFSETS = {
     Vector2.of(0, 1), Vector2.of(0, -1), Vector2.of(1, 0), Vector2.of(-1, 0),
   };
+  private static final int MAX_CACHED_FLOW_FIELDS = 8;
+  private static final int MAX_LOGGED_TOPOLOGY_CHANGES = 64;
   protected final TileHeuristic tileHeuristic = new TileHeuristic();
   protected final ArrayList<Tile> startTiles = new ArrayList<>();
   protected int nodeCount = 0;
@@ -70,6 +82,21 @@ public class DungeonLevel implements ILevel, ITickable {
   protected ArrayList<PortalTile> portalTiles = new ArrayList<>();
   protected ArrayList<GitterTile> gitterTiles = new ArrayList<>();
   protected ArrayList<GlasswandTile> glassWallTiles = new ArrayList<>();
+  private final Map<Tile, FlowField> flowFields =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Tile, FlowField> eldest) {
+          return size() > MAX_CACHED_FLOW_FIELDS;
+        }
+      };
+  private final PathFinderPool pathFinder = new PathFinderPool(this, this::topologyVersion);
+  private final PathCache pathCache = new PathCache();
+  private final TileAutotiler autotiler = new TileAutotiler(this::layout);
+  private final TileTimers tileTimers = new TileTimers();
+  private final FieldOfView fieldOfView = new FieldOfView(this::layout);
+  private int topologyVersion = 0;
+  // Coordinates of the latest pathfinding changes, the last one led to the current version
+  private final ArrayDeque<Coordinate> topologyChanges = new ArrayDeque<>();
 
   /**
    * Create a new level.
@@ -183,6 +210,43 @@ public class DungeonLevel implements ILevel, ITickable {
     return nodeCount;
   }
 
+  /**
+   * Finds a path between the given tiles.
+   *
+   * <p>Paths are cached per start and end tile. The cache is dropped as soon as a tile is added to
+   * or removed from the pathfinding. On a cache miss, the search reuses an idle search context of
+   * the level's {@link PathFinderPool} instead of allocating a new one.
+   *
+   * @param start The starting tile for pathfinding.
+   * @param end The destination tile for pathfinding.
+   * @return The generated path between the start and end tiles.
+   * @throws IllegalArgumentException If the start or end tile is non-accessible.
+   */
+  @Override
+  public GraphPath<Tile> findPath(final Tile start, final Tile end) {
+    if (!start.isAccessible() || !end.isAccessible()) return ILevel.super.findPath(start, end);
+    int version = topologyVersion;
+    Optional<GraphPath<Tile>> cached = pathCache.get(start, end, version);
+    if (cached.isPresent()) return cached.get();
+    GraphPath<Tile> path = ILevel.super.findPath(start, end);
+    pathCache.put(start, end, path, version);
+    return path;
+  }
+
+  @Override
+  public PathFinder<Tile> pathFinder() {
+    return pathFinder;
+  }
+
+  /**
+   * Get the cache used by {@link #findPath(Tile, Tile)}.
+   *
+   * @return The path cache of this level.
+   */
+  public PathCache pathCache() {
+    return pathCache;
+  }
+
   @Override
   public TileHeuristic tileHeuristic() {
     return tileHeuristic;
@@ -253,6 +317,7 @@ public class DungeonLevel implements ILevel, ITickable {
       case GITTER -> gitterTiles.remove((GitterTile) tile);
       case GLASSWALL -> glassWallTiles.remove((GlasswandTile) tile);
     }
+    tileTimers.cancel(tile);
     this.removeFromPathfinding(tile);
     layout[tile.coordinate().y()][tile.coordinate().x()] = null;
   }
@@ -271,6 +336,7 @@ public class DungeonLevel implements ILevel, ITickable {
                     .connections()
                     .removeValue(new TileConnection(x.getToNode(), tile), false));
     if (tile.isAccessible()) removeIndex(tile.index());
+    topologyChanged(tile);
   }
 
   /**
@@ -291,6 +357,77 @@ public class DungeonLevel implements ILevel, ITickable {
                 x.getToNode().addConnection(tile);
             });
     tile.index(nodeCount++);
+    topologyChanged(tile);
+  }
+
+  private void topologyChanged(Tile tile) {
+    synchronized (flowFields) {
+      topologyVersion++;
+      topologyChanges.addLast(tile.coordinate());
+      if (topologyChanges.size() > MAX_LOGGED_TOPOLOGY_CHANGES) topologyChanges.removeFirst();
+    }
+  }
+
+  /**
+   * Get the coordinates of the tiles changed since the given topology version.
+   *
+   * @param version the topology version to start from
+   * @return the changed coordinates, or empty if the changes are no longer logged
+   */
+  private Optional<List<Coordinate>> topologyChangesSince(int version) {
+    int count = topologyVersion - version;
+    if (count < 0 || count > topologyChanges.size()) return Optional.empty();
+    List<Coordinate> changes = new ArrayList<>(topologyChanges);
+    return Optional.of(changes.subList(changes.size() - count, changes.size()));
+  }
+
+  /**
+   * Get the version of the pathfinding topology.
+   *
+   * <p>The version is increased each time a tile is added to or removed from the pathfinding. It
+   * can be used to detect whether cached pathfinding results are still valid.
+   *
+   * @return The current topology version.
+   */
+  public int topologyVersion() {
+    return topologyVersion;
+  }
+
+  /**
+   * Get a flow field that points every tile of the level towards the given target tile.
+   *
+   * <p>The fields of the most recently used targets are cached. If tiles were added to or removed
+   * from the pathfinding since a field was computed, the field is {@link FlowField#repair repaired}
+   * around the changed tiles. It is only computed again if the target changed or more changes
+   * happened than the level keeps track of (e.g., after a new layout was set). If the cache is
+   * full, the least recently used field is dropped.
+   *
+   * <p>This method may be called from several threads (e.g., by AI running in parallel). The cache
+   * is guarded by a lock and each field is computed under that lock, so every target is computed
+   * once. A field is never modified after it was handed out; recomputing creates a new field, so
+   * callers can keep reading a field they already got.
+   *
+   * @param target The tile the field should point to.
+   * @return The flow field for the target, or empty if the target is null.
+   */
+  @Override
+  public Optional<FlowField> flowField(Tile target) {
+    if (target == null) return Optional.empty();
+    synchronized (flowFields) {
+      FlowField field = flowFields.get(target);
+      if (field == null || !field.isValidFor(target, topologyVersion)) {
+        Optional<List<Coordinate>> changes =
+            field == null ? Optional.empty() : topologyChangesSince(field.topologyVersion());
+        if (changes.isPresent()) {
+          field = field.repair(this, changes.get(), topologyVersion);
+        } else {
+          field = new FlowField(layout[0].length, layout.length);
+          field.compute(this, target, topologyVersion);
+        }
+        flowFields.put(target, field);
+      }
+      return Optional.of(field);
+    }
   }
 
   private void removeIndex(int index) {
@@ -300,6 +437,23 @@ public class DungeonLevel implements ILevel, ITickable {
     nodeCount--;
   }
 
+  /**
+   * Open a new pit in the next tick, unless a time to open is set until then.
+   *
+   * <p>Pits are created closed with a time to open of 0, which means they should be open.
+   *
+   * @param pit the pit that was added to the level
+   */
+  private void schedulePitOpening(PitTile pit) {
+    if (pit.isOpen()) return;
+    tileTimers.schedule(
+        pit,
+        0,
+        () -> {
+          if (pit.timeToOpen() <= 0) pit.open();
+        });
+  }
+
   @Override
   public void addTile(Tile tile) {
     switch (tile.levelElement()) {
@@ -309,7 +463,11 @@ public class DungeonLevel implements ILevel, ITickable {
       case HOLE -> holeTiles.add((HoleTile) tile);
       case EXIT -> exitTiles.add((ExitTile) tile);
       case DOOR -> doorTiles.add((DoorTile) tile);
-      case PIT -> pitTiles.add((PitTile) tile);
+      case PIT -> {
+        PitTile pit = (PitTile) tile;
+        pitTiles.add(pit);
+        schedulePitOpening(pit);
+      }
       case PORTAL -> portalTiles.add((PortalTile) tile);
       case GITTER -> gitterTiles.add((GitterTile) tile);
       case GLASSWALL -> glassWallTiles.add((GlasswandTile) tile);
@@ -324,6 +482,21 @@ public class DungeonLevel implements ILevel, ITickable {
     return layout;
   }
 
+  @Override
+  public TileAutotiler autotiler() {
+    return autotiler;
+  }
+
+  @Override
+  public TileTimers tileTimers() {
+    return tileTimers;
+  }
+
+  @Override
+  public FieldOfView fieldOfView() {
+    return fieldOfView;
+  }
+
   @Override
   public Optional<Tile> startTile() {
     if (startTiles.isEmpty()) return Optional.empty();
@@ -340,6 +513,10 @@ public class DungeonLevel implements ILevel, ITickable {
     DesignLabel design = designLabel().orElseThrow();
     this.layout = convertLevelElementToTile(layout, design);
     nodeCount = 0;
+    topologyVersion++;
+    synchronized (flowFields) {
+      flowFields.clear();
+    }
     floorTiles.clear();
     wallTiles.clear();
     holeTiles.clear();
@@ -350,7 +527,12 @@ public class DungeonLevel implements ILevel, ITickable {
     portalTiles.clear();
     gitterTiles.clear();
     glassWallTiles.clear();
+    tileTimers.clear();
     putTilesInLists();
+    synchronized (flowFields) {
+      // Coordinates of the old layout can't be used to repair fields of the new one
+      topologyChanges.clear();
+    }
   }
 
   @Override
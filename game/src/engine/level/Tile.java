@@ -7,7 +7,6 @@ import engine.level.elements.astar.TileConnection;
 import engine.level.utils.Coordinate;
 import engine.level.utils.DesignLabel;
 import engine.level.utils.LevelElement;
-import engine.level.utils.TileTextureFactory;
 import engine.utils.Direction;
 import engine.utils.Point;
 import engine.utils.components.path.IPath;
@@ -278,9 +277,13 @@ public abstract class Tile {
     return this.tintColor;
   }
 
-  /** Refreshes the texture of this tile. */
+  /**
+   * Refreshes the texture of this tile (and of open pits below it).
+   *
+   * @see ILevel#autotiler()
+   */
   public void refreshTexture() {
-    this.texturePath(TileTextureFactory.findTexturePath(this, level.layout(), levelElement));
+    level.autotiler().refresh(this);
   }
 
   @Override
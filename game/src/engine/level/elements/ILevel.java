@@ -3,6 +3,7 @@ package engine.level.elements;
 import com.badlogic.gdx.ai.pfa.Connection;
 import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.PathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
@@ -21,10 +22,13 @@ import engine.level.elements.tile.TileFactory;
 import engine.level.elements.tile.WallTile;
 import engine.level.utils.Coordinate;
 import engine.level.utils.DesignLabel;
+import engine.level.utils.FieldOfView;
+import engine.level.utils.FlowField;
 import engine.level.utils.LevelElement;
+import engine.level.utils.TileAutotiler;
+import engine.level.utils.TileTimers;
 import engine.utils.Point;
 import engine.utils.Tuple;
-import engine.utils.Vector2;
 import feature.entities.deco.Deco;
 import feature.utils.EntityUtils;
 import java.util.List;
@@ -176,10 +180,40 @@ public interface ILevel extends IndexedGraph<Tile> {
           "Cannot calculate path because the end point is non-accessible.");
 
     GraphPath<Tile> path = new DefaultGraphPath<>();
-    new IndexedAStarPathFinder<>(this).searchNodePath(start, end, tileHeuristic(), path);
+    pathFinder().searchNodePath(start, end, tileHeuristic(), path);
     return path;
   }
 
+  /**
+   * Get the path finder used by {@link #findPath(Tile, Tile)}.
+   *
+   * <p>The default implementation creates a new {@link IndexedAStarPathFinder} on every call, which
+   * allocates node records for the whole level. Levels should reuse their path finder.
+   *
+   * @return The path finder to search paths in this level.
+   */
+  default PathFinder<Tile> pathFinder() {
+    return new IndexedAStarPathFinder<>(this);
+  }
+
+  /**
+   * Get a flow field that points every tile of the level towards the given target tile.
+   *
+   * <p>Use this instead of {@link #findPath(Tile, Tile)} if many entities move to the same target,
+   * for example monsters chasing a player. The field is computed once and each entity can look up
+   * its next step in constant time.
+   *
+   * <p>The default implementation computes a new field on every call. Levels should cache the
+   * fields and only recompute them if the pathfinding topology changed.
+   *
+   * @param target The tile the field should point to.
+   * @return The flow field for the target, or empty if no field can be computed.
+   */
+  default Optional<FlowField> flowField(final Tile target) {
+    if (target == null) return Optional.empty();
+    return Optional.of(FlowField.of(this, target));
+  }
+
   @Override
   default int getIndex(final Tile tile) {
     return tile.index();
@@ -207,6 +241,27 @@ public interface ILevel extends IndexedGraph<Tile> {
    */
   Tile[][] layout();
 
+  /**
+   * Get the autotiler that keeps the tile textures of this level up to date.
+   *
+   * @return The autotiler of the level
+   */
+  TileAutotiler autotiler();
+
+  /**
+   * Get the timers for time-based state changes of the tiles of this level.
+   *
+   * @return The tile timers of the level
+   */
+  TileTimers tileTimers();
+
+  /**
+   * Get the field of view of the viewers in this level.
+   *
+   * @return The field of view of the level
+   */
+  FieldOfView fieldOfView();
+
   /**
    * Sets the layout of the level.
    *
@@ -368,6 +423,10 @@ public interface ILevel extends IndexedGraph<Tile> {
    * and design label. The new tile is then added back to the level at the same coordinates as the
    * original tile.
    *
+   * <p>The textures of the new tile and its neighbours are resolved by the {@link #autotiler()
+   * autotiler} of the level. To change several tiles at once, wrap the calls in {@link
+   * TileAutotiler#beginEdit()} and {@link TileAutotiler#commit()}.
+   *
    * @param tile The tile to be changed.
    * @param changeInto The LevelElement to change the tile into.
    */
@@ -383,20 +442,8 @@ public interface ILevel extends IndexedGraph<Tile> {
     newTile.tintColor(tile.tintColor());
     newTile.visible(tile.visible());
     level.addTile(newTile);
-    newTile.refreshTexture();
-    refreshNeighbourTexture(newTile.coordinate());
-  }
-
-  private void refreshNeighbourTexture(Coordinate coordinate) {
-
-    int[][] offsets = {
-      {0, -1}, {0, 1}, {-1, 0}, {1, 0},
-      {1, 1}, {-1, 1}, {-1, -1}, {1, -1}
-    };
-
-    for (int[] o : offsets) {
-      tileAt(coordinate.translate(Vector2.of(o[0], o[1]))).ifPresent(Tile::refreshTexture);
-    }
+    level.autotiler().elementChanged(newTile.coordinate());
+    level.fieldOfView().opacityChanged(newTile.coordinate());
   }
 
   /**
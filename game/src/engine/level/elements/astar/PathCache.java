@@ -0,0 +1,128 @@
+package engine.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import engine.level.Tile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Least recently used cache for paths between two tiles.
+ *
+ * <p>The cache is bound to a topology version of the level. If a lookup or insert happens with a
+ * different version, all cached paths are dropped, because tiles were added to or removed from the
+ * pathfinding and the paths may no longer be valid.
+ *
+ * <p>Paths are stored as immutable arrays. Each lookup returns a new {@link GraphPath}, so callers
+ * may modify the returned path without affecting the cache.
+ *
+ * <p>All methods are synchronized, so a cache can be shared between threads.
+ */
+public final class PathCache {
+
+  /** Default number of paths kept in the cache. */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final Map<Key, Tile[]> paths;
+  private int topologyVersion = 0;
+  private long hits = 0;
+  private long misses = 0;
+
+  /**
+   * Create a new cache with the given capacity.
+   *
+   * @param capacity Maximum number of paths kept in the cache.
+   */
+  public PathCache(int capacity) {
+    this.paths =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Tile[]> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /** Create a new cache with the {@link #DEFAULT_CAPACITY default capacity}. */
+  public PathCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Get the cached path between the given tiles.
+   *
+   * @param start The start tile of the path.
+   * @param end The end tile of the path.
+   * @param topologyVersion The current topology version of the level.
+   * @return A copy of the cached path, or empty if no path is cached.
+   */
+  public synchronized Optional<GraphPath<Tile>> get(Tile start, Tile end, int topologyVersion) {
+    invalidateIfOutdated(topologyVersion);
+    Tile[] tiles = paths.get(new Key(start, end));
+    if (tiles == null) {
+      misses++;
+      return Optional.empty();
+    }
+    hits++;
+    DefaultGraphPath<Tile> path = new DefaultGraphPath<>(tiles.length);
+    for (Tile tile : tiles) path.add(tile);
+    return Optional.of(path);
+  }
+
+  /**
+   * Store the path between the given tiles.
+   *
+   * @param start The start tile of the path.
+   * @param end The end tile of the path.
+   * @param path The path to store, may be empty if there is no path.
+   * @param topologyVersion The topology version the path was calculated on.
+   */
+  public synchronized void put(Tile start, Tile end, GraphPath<Tile> path, int topologyVersion) {
+    invalidateIfOutdated(topologyVersion);
+    Tile[] tiles = new Tile[path.getCount()];
+    for (int i = 0; i < tiles.length; i++) tiles[i] = path.get(i);
+    paths.put(new Key(start, end), tiles);
+  }
+
+  /** Remove all cached paths. */
+  public synchronized void clear() {
+    paths.clear();
+  }
+
+  /**
+   * Get the number of cached paths.
+   *
+   * @return The number of cached paths.
+   */
+  public synchronized int size() {
+    return paths.size();
+  }
+
+  /**
+   * Get the number of lookups that returned a cached path.
+   *
+   * @return The number of cache hits.
+   */
+  public synchronized long hits() {
+    return hits;
+  }
+
+  /**
+   * Get the number of lookups that did not find a cached path.
+   *
+   * @return The number of cache misses.
+   */
+  public synchronized long misses() {
+    return misses;
+  }
+
+  private void invalidateIfOutdated(int topologyVersion) {
+    if (this.topologyVersion != topologyVersion) {
+      paths.clear();
+      this.topologyVersion = topologyVersion;
+    }
+  }
+
+  private record Key(Tile start, Tile end) {}
+}
@@ -0,0 +1,88 @@
+package engine.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import engine.level.Tile;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntSupplier;
+
+/**
+ * Thread-safe path finder that hands each search to a pooled {@link ReusablePathFinder}.
+ *
+ * <p>Each search takes an idle finder from the pool (or creates one if all are busy) and returns it
+ * afterwards, so the pool never holds more finders than searches ran at the same time. The pool
+ * belongs to one graph and is dropped together with it; unlike a {@link ThreadLocal}, it does not
+ * keep the graph reachable from long-lived worker threads.
+ */
+public final class PathFinderPool implements PathFinder<Tile> {
+
+  private final IndexedGraph<Tile> graph;
+  private final IntSupplier topologyVersion;
+  private final Queue<ReusablePathFinder> idle = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Create a new pool for the given graph.
+   *
+   * @param graph The graph to search on.
+   * @param topologyVersion Supplies a version that changes whenever node indices change.
+   * @see ReusablePathFinder
+   */
+  public PathFinderPool(final IndexedGraph<Tile> graph, final IntSupplier topologyVersion) {
+    this.graph = graph;
+    this.topologyVersion = topologyVersion;
+  }
+
+  @Override
+  public boolean searchConnectionPath(
+      Tile startNode,
+      Tile endNode,
+      Heuristic<Tile> heuristic,
+      GraphPath<Connection<Tile>> outPath) {
+    ReusablePathFinder finder = acquire();
+    try {
+      return finder.searchConnectionPath(startNode, endNode, heuristic, outPath);
+    } finally {
+      idle.offer(finder);
+    }
+  }
+
+  @Override
+  public boolean searchNodePath(
+      Tile startNode, Tile endNode, Heuristic<Tile> heuristic, GraphPath<Tile> outPath) {
+    ReusablePathFinder finder = acquire();
+    try {
+      return finder.searchNodePath(startNode, endNode, heuristic, outPath);
+    } finally {
+      idle.offer(finder);
+    }
+  }
+
+  @Override
+  public boolean search(PathFinderRequest<Tile> request, long timeToRun) {
+    ReusablePathFinder finder = acquire();
+    try {
+      return finder.search(request, timeToRun);
+    } finally {
+      idle.offer(finder);
+    }
+  }
+
+  /**
+   * Get the number of idle finders.
+   *
+   * @return The number of finders waiting in the pool.
+   */
+  public int idleCount() {
+    return idle.size();
+  }
+
+  private ReusablePathFinder acquire() {
+    ReusablePathFinder finder = idle.poll();
+    return finder != null ? finder : new ReusablePathFinder(graph, topologyVersion);
+  }
+}
@@ -0,0 +1,74 @@
+package engine.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import engine.level.Tile;
+import java.util.function.IntSupplier;
+
+/**
+ * A* path finder that keeps its search context between searches.
+ *
+ * <p>An {@link IndexedAStarPathFinder} allocates node records for every node of the graph when it
+ * is created. Creating one per search therefore costs an allocation the size of the whole level.
+ * This path finder creates the underlying finder once and reuses it for every search.
+ *
+ * <p>The node records of the underlying finder are bound to the node that had their index when the
+ * record was created. Adding or removing a tile renumbers the indices, even if the number of nodes
+ * stays the same (e.g., a floor changed into an exit). The finder is therefore recreated whenever
+ * the topology version of the graph changed.
+ *
+ * <p>This class is not thread-safe. Use a {@link PathFinderPool} to share reusable finders between
+ * threads.
+ */
+public final class ReusablePathFinder implements PathFinder<Tile> {
+
+  private final IndexedGraph<Tile> graph;
+  private final IntSupplier topologyVersion;
+  private IndexedAStarPathFinder<Tile> finder;
+  private int version;
+
+  /**
+   * Create a new reusable path finder for the given graph.
+   *
+   * @param graph The graph to search on.
+   * @param topologyVersion Supplies a version that changes whenever node indices change.
+   */
+  public ReusablePathFinder(final IndexedGraph<Tile> graph, final IntSupplier topologyVersion) {
+    this.graph = graph;
+    this.topologyVersion = topologyVersion;
+  }
+
+  @Override
+  public boolean searchConnectionPath(
+      Tile startNode,
+      Tile endNode,
+      Heuristic<Tile> heuristic,
+      GraphPath<Connection<Tile>> outPath) {
+    return finder().searchConnectionPath(startNode, endNode, heuristic, outPath);
+  }
+
+  @Override
+  public boolean searchNodePath(
+      Tile startNode, Tile endNode, Heuristic<Tile> heuristic, GraphPath<Tile> outPath) {
+    return finder().searchNodePath(startNode, endNode, heuristic, outPath);
+  }
+
+  @Override
+  public boolean search(PathFinderRequest<Tile> request, long timeToRun) {
+    return finder().search(request, timeToRun);
+  }
+
+  private IndexedAStarPathFinder<Tile> finder() {
+    int current = topologyVersion.getAsInt();
+    if (finder == null || current != version) {
+      finder = new IndexedAStarPathFinder<>(graph);
+      version = current;
+    }
+    return finder;
+  }
+}
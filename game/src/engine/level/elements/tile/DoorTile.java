@@ -48,7 +48,9 @@ public class DoorTile extends Tile {
    * <p>The player can use the door to enter the next room.
    */
   public void open() {
+    if (open) return;
     open = true;
+    opacityChanged();
   }
 
   /**
@@ -57,7 +59,9 @@ public class DoorTile extends Tile {
    * <p>The player can't use the door to enter the next room.
    */
   public void close() {
+    if (!open) return;
     open = false;
+    opacityChanged();
   }
 
   /**
@@ -69,6 +73,10 @@ public class DoorTile extends Tile {
     return open;
   }
 
+  private void opacityChanged() {
+    if (level != null) level.fieldOfView().opacityChanged(coordinate());
+  }
+
   @Override
   public IPath texturePath() {
     if (open) return texturePath;
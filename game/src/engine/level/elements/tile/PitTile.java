@@ -115,14 +115,4 @@ public class PitTile extends Tile {
     tileStr = tileStr.replace("Tile", "PitTile").replace("}", "");
     return tileStr + ", open: " + this.open + ", timeToOpen: " + this.timeToOpen + "}";
   }
-
-  /** Refreshes the texture of this pit and the pit below (if there is one). */
-  @Override
-  public void refreshTexture() {
-    this.texturePath(TileTextureFactory.findTexturePath(this, level.layout(), levelElement));
-    if (coordinate().y() == 0) return;
-    if (level.layout()[coordinate().y() - 1][coordinate().x()] instanceof PitTile pitTile) {
-      pitTile.refreshTexture();
-    }
-  }
 }
@@ -0,0 +1,300 @@
+package engine.level.utils;
+
+import engine.level.Tile;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Field of view of several viewers in a level.
+ *
+ * <p>Each viewer (e.g., a hero) has a position and a view radius. The tiles it can see are computed
+ * with recursive shadowcasting over eight octants; tiles that can't be seen through (see {@link
+ * Tile#canSeeThrough()}) block the view but are visible themselves. The visibility of a viewer is
+ * stored as a {@link BitSet} over the level grid, indexed by {@link #index(Coordinate)}.
+ *
+ * <p>The visibility of a viewer is only computed again if the viewer moved to another tile, its
+ * radius changed, or the opacity of a tile in its range changed (see {@link
+ * #opacityChanged(Coordinate)}). Updating a viewer that stands still is therefore cheap and can be
+ * done every frame.
+ *
+ * <p>The union of all viewers (see {@link #visibility(BitSet)}) is the area seen by a party of
+ * heroes. {@link Diff#between(BitSet, BitSet)} gives the tiles that became visible or invisible
+ * between two snapshots of the visibility, so consumers only have to touch the changed tiles.
+ *
+ * <p>The field of view does not depend on rendering and can be used on the server as well, e.g.,
+ * to check which entities a client can see with {@link #isVisible(Object, Coordinate)}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class FieldOfView {
+
+  // Transformations of the coordinates for each of the eight octants
+  private static final int[][] OCTANTS = {
+    {1, 0, 0, -1}, {0, 1, -1, 0}, {0, -1, -1, 0}, {-1, 0, 0, -1},
+    {-1, 0, 0, 1}, {0, -1, 1, 0}, {0, 1, 1, 0}, {1, 0, 0, 1}
+  };
+
+  private final Supplier<Tile[][]> layoutSource;
+  private final Map<Object, Viewer> viewers = new HashMap<>();
+  private Tile[][] layout;
+  private int width;
+
+  /**
+   * Create a new field of view.
+   *
+   * @param layoutSource supplies the current tile layout of the level
+   */
+  public FieldOfView(final Supplier<Tile[][]> layoutSource) {
+    this.layoutSource = layoutSource;
+  }
+
+  /**
+   * Update the position and view radius of a viewer.
+   *
+   * <p>Adds the viewer if it is not known yet. The visibility is only computed again if something
+   * relevant changed.
+   *
+   * @param viewer the key of the viewer, e.g., the hero entity
+   * @param origin the tile the viewer stands on
+   * @param radius the view radius in tiles, must be {@code >= 0}
+   * @return true if the set of tiles visible to the viewer changed
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public boolean updateViewer(final Object viewer, final Coordinate origin, final int radius) {
+    if (radius < 0) throw new IllegalArgumentException("radius must be >= 0");
+    ensureLayout();
+    Viewer state = viewers.computeIfAbsent(viewer, key -> new Viewer());
+    if (!state.dirty && origin.equals(state.origin) && radius == state.radius) return false;
+    state.origin = origin;
+    state.radius = radius;
+    state.dirty = false;
+
+    BitSet previous = state.visible;
+    state.visible = state.scratch;
+    state.scratch = previous;
+    compute(state);
+    return !state.visible.equals(previous);
+  }
+
+  /**
+   * Remove a viewer.
+   *
+   * @param viewer the key of the viewer
+   * @return true if the viewer was known
+   */
+  public boolean removeViewer(final Object viewer) {
+    return viewers.remove(viewer) != null;
+  }
+
+  /**
+   * Remove all viewers that are not in the given collection.
+   *
+   * @param keep the keys of the viewers to keep
+   * @return true if at least one viewer was removed
+   */
+  public boolean retainViewers(final Collection<?> keep) {
+    return viewers.keySet().retainAll(keep);
+  }
+
+  /**
+   * Get the number of viewers.
+   *
+   * @return the number of known viewers
+   */
+  public int viewerCount() {
+    return viewers.size();
+  }
+
+  /**
+   * Notify the field of view that a tile changed whether it can be seen through (e.g., a door was
+   * opened or a wall was built).
+   *
+   * <p>All viewers that have the tile in their range are computed again on their next update.
+   *
+   * @param coordinate the coordinate of the changed tile
+   */
+  public void opacityChanged(final Coordinate coordinate) {
+    for (Viewer viewer : viewers.values()) {
+      if (viewer.origin == null) continue;
+      int dx = Math.abs(coordinate.x() - viewer.origin.x());
+      int dy = Math.abs(coordinate.y() - viewer.origin.y());
+      if (dx <= viewer.radius && dy <= viewer.radius) viewer.dirty = true;
+    }
+  }
+
+  /**
+   * Check if a viewer can see a tile.
+   *
+   * @param viewer the key of the viewer
+   * @param coordinate the coordinate of the tile
+   * @return true if the viewer is known and sees the tile
+   */
+  public boolean isVisible(final Object viewer, final Coordinate coordinate) {
+    Viewer state = viewers.get(viewer);
+    int index = index(coordinate);
+    return state != null && index >= 0 && state.visible.get(index);
+  }
+
+  /**
+   * Check if any viewer can see a tile.
+   *
+   * @param coordinate the coordinate of the tile
+   * @return true if at least one viewer sees the tile
+   */
+  public boolean isVisible(final Coordinate coordinate) {
+    int index = index(coordinate);
+    if (index < 0) return false;
+    for (Viewer viewer : viewers.values()) {
+      if (viewer.visible.get(index)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Write the union of the visibility of all viewers into the given set.
+   *
+   * @param into the set to overwrite, indexed by {@link #index(Coordinate)}
+   */
+  public void visibility(final BitSet into) {
+    into.clear();
+    for (Viewer viewer : viewers.values()) {
+      into.or(viewer.visible);
+    }
+  }
+
+  /**
+   * Get the index of a coordinate in the visibility sets.
+   *
+   * @param coordinate the coordinate of a tile
+   * @return the index, or {@code -1} if the coordinate is outside the level
+   */
+  public int index(final Coordinate coordinate) {
+    ensureLayout();
+    if (!isInside(coordinate.x(), coordinate.y())) return -1;
+    return coordinate.y() * width + coordinate.x();
+  }
+
+  /**
+   * Get the coordinate of an index in the visibility sets.
+   *
+   * @param index an index returned by {@link #index(Coordinate)}
+   * @return the coordinate of the tile
+   */
+  public Coordinate coordinate(final int index) {
+    ensureLayout();
+    return new Coordinate(index % width, index / width);
+  }
+
+  private void ensureLayout() {
+    Tile[][] current = layoutSource.get();
+    if (current == layout) return;
+    layout = current;
+    width = current.length == 0 ? 0 : current[0].length;
+    viewers.values().forEach(viewer -> viewer.dirty = true);
+  }
+
+  private boolean isInside(final int x, final int y) {
+    return y >= 0 && y < layout.length && x >= 0 && x < width;
+  }
+
+  private void compute(final Viewer viewer) {
+    BitSet visible = viewer.visible;
+    visible.clear();
+    Coordinate origin = viewer.origin;
+    if (!isInside(origin.x(), origin.y())) return;
+    visible.set(origin.y() * width + origin.x());
+    for (int[] octant : OCTANTS) {
+      castLight(visible, origin, 1, 1.0f, 0.0f, viewer.radius, octant);
+    }
+  }
+
+  private void castLight(
+      final BitSet visible,
+      final Coordinate origin,
+      final int row,
+      float start,
+      final float end,
+      final int radius,
+      final int[] octant) {
+    if (start < end) return;
+    float newStart = 0.0f;
+    for (int i = row; i <= radius; i++) {
+      int dx = -i - 1;
+      int dy = -i;
+      boolean blocked = false;
+      while (dx <= 0) {
+        dx += 1;
+        int x = origin.x() + dx * octant[0] + dy * octant[1];
+        int y = origin.y() + dx * octant[2] + dy * octant[3];
+        // Slopes of the left and right extremities of the square
+        float lSlope = (dx - 0.5f) / (dy + 0.5f);
+        float rSlope = (dx + 0.5f) / (dy - 0.5f);
+        if (start < rSlope) {
+          continue;
+        } else if (end > lSlope) {
+          break;
+        }
+        Tile tile = isInside(x, y) ? layout[y][x] : null;
+        if (tile == null) continue;
+        if (dx * dx + dy * dy < radius * radius) visible.set(y * width + x);
+        if (blocked) {
+          if (!tile.canSeeThrough()) {
+            newStart = rSlope;
+            continue;
+          }
+          blocked = false;
+          start = newStart;
+        } else if (!tile.canSeeThrough() && i < radius) {
+          blocked = true;
+          castLight(visible, origin, i + 1, start, lSlope, radius, octant);
+          newStart = rSlope;
+        }
+      }
+      if (blocked) break;
+    }
+  }
+
+  /**
+   * The tiles that became visible or invisible between two snapshots of the visibility.
+   *
+   * @param lit indices of the tiles that became visible
+   * @param darkened indices of the tiles that became invisible
+   */
+  public record Diff(BitSet lit, BitSet darkened) {
+
+    /**
+     * Compare two snapshots of the visibility.
+     *
+     * @param before the previous visibility
+     * @param after the current visibility
+     * @return the changed tiles
+     */
+    public static Diff between(final BitSet before, final BitSet after) {
+      BitSet lit = (BitSet) after.clone();
+      lit.andNot(before);
+      BitSet darkened = (BitSet) before.clone();
+      darkened.andNot(after);
+      return new Diff(lit, darkened);
+    }
+
+    /**
+     * Check if nothing changed.
+     *
+     * @return true if no tile became visible or invisible
+     */
+    public boolean isEmpty() {
+      return lit.isEmpty() && darkened.isEmpty();
+    }
+  }
+
+  private static final class Viewer {
+    private Coordinate origin;
+    private int radius;
+    private boolean dirty = true;
+    private BitSet visible = new BitSet();
+    private BitSet scratch = new BitSet();
+  }
+}
@@ -0,0 +1,289 @@
+package engine.level.utils;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+import engine.level.Tile;
+import engine.level.elements.ILevel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * A distance field over the pathfinding graph of a level, pointing every tile towards one target
+ * tile.
+ *
+ * <p>The field is built with a single breadth-first search starting at the target tile and
+ * following the {@link Tile#connections() tile connections} used by the A* pathfinding. Afterward,
+ * every entity that wants to reach the target can look up its next step with {@link
+ * #nextTile(Tile)} in constant time, instead of running its own A* search.
+ *
+ * <p>The connections of a level are uniform four-neighbor steps, so the hop count of the search is
+ * equal to the path length found by A*.
+ *
+ * <p>A field is only valid for the pathfinding topology it was computed on. Levels hand out cached
+ * fields via {@link ILevel#flowField(Tile)}. After tiles were added to or removed from the
+ * pathfinding, a level can {@link #repair(ILevel, Collection, int) repair} a field around the
+ * changed tiles instead of computing it again.
+ */
+public final class FlowField {
+
+  /** Distance value for tiles that can not reach the target. */
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  private static final int[][] GRID_OFFSETS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+
+  private final int width;
+  private final int height;
+  private final int[] distances;
+  private final int[] queue;
+  private Tile target;
+  private int topologyVersion;
+
+  /**
+   * Create a new, empty flow field for a level of the given size.
+   *
+   * <p>Use {@link #compute(ILevel, Tile, int)} to fill the field.
+   *
+   * @param width width of the level in tiles
+   * @param height height of the level in tiles
+   */
+  public FlowField(int width, int height) {
+    this.width = width;
+    this.height = height;
+    this.distances = new int[width * height];
+    this.queue = new int[width * height];
+    Arrays.fill(distances, UNREACHABLE);
+  }
+
+  /**
+   * Create a new flow field for the given level and compute it for the given target.
+   *
+   * @param level the level to compute the field on
+   * @param target the tile every entity should move to
+   * @return the computed flow field
+   */
+  public static FlowField of(final ILevel level, final Tile target) {
+    Tile[][] layout = level.layout();
+    FlowField field = new FlowField(layout[0].length, layout.length);
+    field.compute(level, target, 0);
+    return field;
+  }
+
+  /**
+   * Recompute the distances of every tile to the given target.
+   *
+   * <p>The internal arrays are reused, so recomputing a field does not allocate.
+   *
+   * @param level the level to compute the field on, must have the size of this field
+   * @param target the tile every entity should move to
+   * @param topologyVersion the pathfinding topology version of the level the field is computed on
+   */
+  public void compute(final ILevel level, final Tile target, int topologyVersion) {
+    Arrays.fill(distances, UNREACHABLE);
+    this.target = target;
+    this.topologyVersion = topologyVersion;
+
+    Tile[][] layout = level.layout();
+    int start = indexOf(target);
+    if (start < 0 || !target.isAccessible()) return;
+
+    int head = 0;
+    int tail = 0;
+    distances[start] = 0;
+    queue[tail++] = start;
+    while (head < tail) {
+      int current = queue[head++];
+      Tile tile = layout[current / width][current % width];
+      if (tile == null) continue;
+      int next = distances[current] + 1;
+      Array<Connection<Tile>> connections = tile.connections();
+      for (int i = 0; i < connections.size; i++) {
+        int neighbour = indexOf(connections.get(i).getToNode());
+        if (neighbour >= 0 && distances[neighbour] == UNREACHABLE) {
+          distances[neighbour] = next;
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+  }
+
+  /**
+   * Create a copy of this field that is valid again after the given tiles were changed.
+   *
+   * <p>Only the tiles whose distance depends on a changed tile are visited. First, every tile that
+   * lost its step towards the target (because the step was removed, or itself lost its step) is
+   * marked unreachable. Then the distances are propagated again from the reachable tiles around
+   * the marked and changed tiles, which also picks up shortcuts through new tiles. The cost is
+   * proportional to the number of tiles whose distance changed, not to the size of the level. If
+   * the target itself changed, the field is computed again.
+   *
+   * <p>This field is not modified, so callers can keep reading it.
+   *
+   * @param level the level to repair the field on, must have the size of this field
+   * @param changed the coordinates of all tiles added to or removed from the pathfinding since
+   *     this field was computed
+   * @param topologyVersion the current pathfinding topology version of the level
+   * @return the repaired field
+   */
+  public FlowField repair(
+      final ILevel level, final Collection<Coordinate> changed, int topologyVersion) {
+    FlowField field = new FlowField(width, height);
+    Tile[][] layout = level.layout();
+    Coordinate targetCoordinate = target.coordinate();
+    if (tileAt(layout, indexOf(target)) != target || changed.contains(targetCoordinate)) {
+      field.compute(level, target, topologyVersion);
+      return field;
+    }
+    System.arraycopy(distances, 0, field.distances, 0, distances.length);
+    field.target = target;
+    field.topologyVersion = topologyVersion;
+    field.repairAround(layout, changed);
+    return field;
+  }
+
+  private void repairAround(final Tile[][] layout, final Collection<Coordinate> changed) {
+    // Mark every tile that can no longer step to a tile one closer to the target
+    ArrayDeque<Integer> check = new ArrayDeque<>();
+    for (Coordinate coordinate : changed) {
+      int index = indexOf(coordinate.x(), coordinate.y());
+      if (index >= 0) check.add(index);
+    }
+    int raised = 0;
+    while (!check.isEmpty()) {
+      int index = check.poll();
+      int distance = distances[index];
+      if (distance == UNREACHABLE || distance == 0) continue;
+      Tile tile = tileAt(layout, index);
+      if (tile != null && tile.isAccessible() && hasStepTowardsTarget(tile, distance)) continue;
+      distances[index] = UNREACHABLE;
+      queue[raised++] = index;
+      for (int[] offset : GRID_OFFSETS) {
+        int neighbour = neighbourOf(index, offset);
+        if (neighbour >= 0 && distances[neighbour] == distance + 1) check.add(neighbour);
+      }
+    }
+
+    // Propagate the distances again, starting at the reachable tiles around the affected ones
+    PriorityQueue<Long> open = new PriorityQueue<>();
+    for (Coordinate coordinate : changed) {
+      openAround(open, indexOf(coordinate.x(), coordinate.y()));
+    }
+    for (int i = 0; i < raised; i++) openAround(open, queue[i]);
+    while (!open.isEmpty()) {
+      long entry = open.poll();
+      int index = (int) entry;
+      int distance = (int) (entry >>> 32);
+      if (distance != distances[index]) continue;
+      Tile tile = tileAt(layout, index);
+      if (tile == null || !tile.isAccessible()) continue;
+      Array<Connection<Tile>> connections = tile.connections();
+      for (int i = 0; i < connections.size; i++) {
+        int neighbour = indexOf(connections.get(i).getToNode());
+        if (neighbour >= 0 && distance + 1 < distances[neighbour]) {
+          distances[neighbour] = distance + 1;
+          open.add(entry(neighbour));
+        }
+      }
+    }
+  }
+
+  private boolean hasStepTowardsTarget(final Tile tile, int distance) {
+    Array<Connection<Tile>> connections = tile.connections();
+    for (int i = 0; i < connections.size; i++) {
+      if (distance(connections.get(i).getToNode()) == distance - 1) return true;
+    }
+    return false;
+  }
+
+  private void openAround(final PriorityQueue<Long> open, int index) {
+    if (index < 0) return;
+    if (distances[index] != UNREACHABLE) open.add(entry(index));
+    for (int[] offset : GRID_OFFSETS) {
+      int neighbour = neighbourOf(index, offset);
+      if (neighbour >= 0 && distances[neighbour] != UNREACHABLE) open.add(entry(neighbour));
+    }
+  }
+
+  private long entry(int index) {
+    return ((long) distances[index] << 32) | index;
+  }
+
+  private int neighbourOf(int index, final int[] offset) {
+    return indexOf(index % width + offset[0], index / width + offset[1]);
+  }
+
+  private Tile tileAt(final Tile[][] layout, int index) {
+    return index < 0 ? null : layout[index / width][index % width];
+  }
+
+  /**
+   * Get the pathfinding topology version this field was computed on.
+   *
+   * @return the topology version
+   */
+  public int topologyVersion() {
+    return topologyVersion;
+  }
+
+  /**
+   * Check if this field was computed for the given target and topology.
+   *
+   * @param target the target tile
+   * @param topologyVersion the current pathfinding topology version of the level
+   * @return true if the field can be used without recomputing it
+   */
+  public boolean isValidFor(final Tile target, int topologyVersion) {
+    return this.target == target && this.topologyVersion == topologyVersion;
+  }
+
+  /**
+   * Get the tile this field points to.
+   *
+   * @return the target tile
+   */
+  public Tile target() {
+    return target;
+  }
+
+  /**
+   * Get the number of steps from the given tile to the target.
+   *
+   * @param tile the tile to check
+   * @return the number of steps, or {@link #UNREACHABLE} if the target can not be reached
+   */
+  public int distance(final Tile tile) {
+    int index = indexOf(tile);
+    return index < 0 ? UNREACHABLE : distances[index];
+  }
+
+  /**
+   * Get the next tile on a shortest path from the given tile to the target.
+   *
+   * @param from the tile the entity is currently standing on
+   * @return the next tile to move to, or empty if the tile is the target or can not reach it
+   */
+  public Optional<Tile> nextTile(final Tile from) {
+    int distance = distance(from);
+    if (distance == UNREACHABLE || distance == 0) return Optional.empty();
+    Array<Connection<Tile>> connections = from.connections();
+    for (int i = 0; i < connections.size; i++) {
+      Tile neighbour = connections.get(i).getToNode();
+      if (distance(neighbour) < distance) return Optional.of(neighbour);
+    }
+    return Optional.empty();
+  }
+
+  private int indexOf(final Tile tile) {
+    if (tile == null) return -1;
+    Coordinate coordinate = tile.coordinate();
+    return indexOf(coordinate.x(), coordinate.y());
+  }
+
+  private int indexOf(int x, int y) {
+    if (x < 0 || x >= width) return -1;
+    if (y < 0 || y >= height) return -1;
+    return y * width + x;
+  }
+}
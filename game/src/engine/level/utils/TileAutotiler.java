@@ -0,0 +1,163 @@
+package engine.level.utils;
+
+import engine.level.Tile;
+import engine.level.elements.tile.PitTile;
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the textures of the tiles of a level up to date while the level is edited.
+ *
+ * <p>The texture of a tile depends on the {@link LevelElement elements} of the surrounding tiles
+ * (see {@link TileTextureFactory}). The autotiler keeps a live element grid of the level, so
+ * resolving a texture does not copy the level. When a tile changes, only the tiles within {@link
+ * #NEIGHBOURHOOD_RADIUS} around it are marked dirty and resolved again. Open pits below a resolved
+ * tile are resolved as well, because their texture depends on the tile above.
+ *
+ * <p>Changes of several tiles can be batched between {@link #beginEdit()} and {@link #commit()}.
+ * Inside a batch, dirty tiles are only collected; the commit resolves each affected tile exactly
+ * once, no matter how many of its neighbours changed. Outside a batch, each change is resolved
+ * immediately.
+ *
+ * <pre>
+ *   TileAutotiler autotiler = level.autotiler();
+ *   autotiler.beginEdit();
+ *   try {
+ *     brushTiles.forEach(tile -&gt; level.changeTileElementType(tile, LevelElement.WALL));
+ *   } finally {
+ *     autotiler.commit();
+ *   }
+ * </pre>
+ *
+ * <p>If the level gets a new layout, the element grid is rebuilt on the next change. Tiles that are
+ * written directly into the layout array must be reported with {@link #elementChanged(Coordinate)}.
+ *
+ * <p>This class is not thread-safe. It is meant to be used from the game loop only.
+ */
+public final class TileAutotiler {
+
+  /** Distance (in tiles) around a changed tile in which the textures are resolved again. */
+  public static final int NEIGHBOURHOOD_RADIUS = 2;
+
+  private final Supplier<Tile[][]> layoutSource;
+  private final ArrayDeque<Coordinate> dirty = new ArrayDeque<>();
+  private Tile[][] layout;
+  private LevelElement[][] elements;
+  // Stores the batch in which a cell was last marked, so each cell is resolved once per batch
+  private int[][] marks;
+  private int batch = 1;
+  private int editDepth = 0;
+
+  /**
+   * Create a new autotiler.
+   *
+   * @param layoutSource supplies the current tile layout of the level
+   */
+  public TileAutotiler(final Supplier<Tile[][]> layoutSource) {
+    this.layoutSource = layoutSource;
+  }
+
+  /**
+   * Start a batch of changes.
+   *
+   * <p>Batches can be nested; the textures are resolved when the outermost batch is committed.
+   */
+  public void beginEdit() {
+    editDepth++;
+  }
+
+  /**
+   * Finish a batch of changes and resolve the textures of all dirty tiles.
+   *
+   * @throws IllegalStateException if no batch was started
+   */
+  public void commit() {
+    if (editDepth == 0) throw new IllegalStateException("commit() without beginEdit()");
+    editDepth--;
+    if (editDepth == 0) resolveDirty();
+  }
+
+  /**
+   * Check if a batch of changes is in progress.
+   *
+   * @return true if {@link #beginEdit()} was called more often than {@link #commit()}
+   */
+  public boolean isEditing() {
+    return editDepth > 0;
+  }
+
+  /**
+   * Notify the autotiler that the element of the tile at the given coordinate changed.
+   *
+   * <p>The tile and its neighbourhood are resolved immediately, or on {@link #commit()} if a batch
+   * is in progress.
+   *
+   * @param coordinate the coordinate of the changed tile
+   */
+  public void elementChanged(final Coordinate coordinate) {
+    if (!isInsideView(coordinate)) return;
+    for (int dy = -NEIGHBOURHOOD_RADIUS; dy <= NEIGHBOURHOOD_RADIUS; dy++) {
+      for (int dx = -NEIGHBOURHOOD_RADIUS; dx <= NEIGHBOURHOOD_RADIUS; dx++) {
+        markDirty(coordinate.x() + dx, coordinate.y() + dy);
+      }
+    }
+    if (editDepth == 0) resolveDirty();
+  }
+
+  /**
+   * Resolve the texture of the given tile again, e.g., because a pit was opened.
+   *
+   * <p>The neighbours are not resolved, except open pits below the tile.
+   *
+   * @param tile the tile to refresh
+   */
+  public void refresh(final Tile tile) {
+    Coordinate coordinate = tile.coordinate();
+    if (!isInsideView(coordinate)) return;
+    markDirty(coordinate.x(), coordinate.y());
+    if (editDepth == 0) resolveDirty();
+  }
+
+  private void ensureView() {
+    Tile[][] current = layoutSource.get();
+    if (current == layout) return;
+    layout = current;
+    elements = TileTextureFactory.elementLayout(current);
+    marks = new int[current.length][current.length == 0 ? 0 : current[0].length];
+    // Coordinates of the old layout are meaningless for the new one
+    dirty.clear();
+  }
+
+  private boolean isInsideView(final Coordinate coordinate) {
+    ensureView();
+    return isInside(coordinate.x(), coordinate.y());
+  }
+
+  private void markDirty(final int x, final int y) {
+    if (!isInside(x, y)) return;
+    // Pick up the current element, the tile may have been replaced since the grid was built or
+    // since it was marked as the neighbour of an earlier change in this batch
+    Tile tile = layout[y][x];
+    if (tile != null) elements[y][x] = tile.levelElement();
+    if (marks[y][x] == batch) return;
+    marks[y][x] = batch;
+    dirty.add(new Coordinate(x, y));
+  }
+
+  private void resolveDirty() {
+    while (!dirty.isEmpty()) {
+      Coordinate coordinate = dirty.poll();
+      int x = coordinate.x();
+      int y = coordinate.y();
+      Tile tile = layout[y][x];
+      if (tile == null) continue;
+      tile.texturePath(TileTextureFactory.findTexturePath(tile, layout, elements));
+      if (y > 0 && layout[y - 1][x] instanceof PitTile) markDirty(x, y - 1);
+    }
+    batch++;
+  }
+
+  private boolean isInside(final int x, final int y) {
+    return y >= 0 && y < layout.length && x >= 0 && x < layout[y].length;
+  }
+}
@@ -321,27 +321,61 @@ public class TileTextureFactory {
   /**
    * Checks which texture must be used for the passed tile based on the surrounding tiles.
    *
+   * <p>This copies the whole level into a new element grid. To resolve many tiles, create the grid
+   * once with {@link #elementLayout(Tile[][])} and use {@link #findTexturePath(Tile, Tile[][],
+   * LevelElement[][])}, or let a {@link TileAutotiler} keep the textures up to date.
+   *
    * @param element Tile to check for
    * @param layout The level
    * @param elementType The type ot the tile if different than the attribute
    * @return Path to texture
    */
   public static IPath findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-    LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-    for (int x = 0; x < layout[0].length; x++) {
-      for (int y = 0; y < layout.length; y++) {
-        elementLayout[y][x] = layout[y][x].levelElement();
-      }
-    }
+    LevelElement[][] elementLayout = elementLayout(layout);
     elementLayout[element.coordinate().y()][element.coordinate().x()] = elementType;
+    return findTexturePath(element, layout, elementLayout);
+  }
 
-    IPath pitPath = findTexturePathPit(element, layout);
+  /**
+   * Checks which texture must be used for the passed tile based on the surrounding tiles, using an
+   * existing element grid of the level.
+   *
+   * <p>The element of the tile is taken from the grid, not from the tile itself. The grid is not
+   * copied or modified.
+   *
+   * @param element Tile to check for
+   * @param layout The level
+   * @param elementLayout The elements of the level, indexed like {@code layout}
+   * @return Path to texture
+   */
+  public static IPath findTexturePath(
+      Tile element, Tile[][] layout, LevelElement[][] elementLayout) {
+    IPath pitPath = findTexturePathPit(element, layout, elementLayout);
     if (pitPath != null) {
       return pitPath;
     }
 
+    Coordinate pos = element.coordinate();
     return findTexturePath(
-        new LevelPart(elementType, element.designLabel(), elementLayout, element.coordinate()));
+        new LevelPart(elementLayout[pos.y()][pos.x()], element.designLabel(), elementLayout, pos));
+  }
+
+  /**
+   * Creates the element grid of the given level.
+   *
+   * @param layout The level
+   * @return a new grid containing the {@link LevelElement} of each tile
+   */
+  public static LevelElement[][] elementLayout(Tile[][] layout) {
+    LevelElement[][] elementLayout = new LevelElement[layout.length][];
+    for (int y = 0; y < layout.length; y++) {
+      elementLayout[y] = new LevelElement[layout[y].length];
+      for (int x = 0; x < layout[y].length; x++) {
+        Tile tile = layout[y][x];
+        elementLayout[y][x] = tile != null ? tile.levelElement() : null;
+      }
+    }
+    return elementLayout;
   }
 
   /**
@@ -353,9 +387,11 @@ public class TileTextureFactory {
    *
    * @param element Tile to check for
    * @param layout The level
+   * @param elementLayout The elements of the level, indexed like {@code layout}
    * @return a texture path for open pits, or {@code null} if no pit-specific rule applies
    */
-  private static IPath findTexturePathPit(Tile element, Tile[][] layout) {
+  private static IPath findTexturePathPit(
+      Tile element, Tile[][] layout, LevelElement[][] elementLayout) {
     if (!(element instanceof PitTile pit) || !pit.isOpen()) {
       return null;
     }
@@ -377,7 +413,7 @@ public class TileTextureFactory {
       return new SimpleIPath(wallEmptyPath);
     }
 
-    IPath abovePath = findTexturePath(aboveTile, layout, aboveTile.levelElement());
+    IPath abovePath = findTexturePath(aboveTile, layout, elementLayout);
     String abovePathString = abovePath != null ? abovePath.pathString() : null;
 
     if (abovePathString != null && abovePathString.endsWith("/wall/empty.png")) {
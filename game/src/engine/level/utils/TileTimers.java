@@ -0,0 +1,194 @@
+package engine.level.utils;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import engine.level.Tile;
+import engine.utils.IVoidFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-based state changes of the tiles of a level, e.g., a pit that opens some time after it was
+ * stepped on.
+ *
+ * <p>Tiles register a {@link Timer} with an action and a delay. The timers are kept in a queue
+ * ordered by their deadline; {@link #runDue()} only looks at the timers that are due and runs their
+ * actions. A level without pending timers costs nothing per tick, no matter how large it is.
+ *
+ * <p>Timers with the same deadline run in the order they were scheduled. Timers scheduled by an
+ * action are not run in the same {@link #runDue()} call, even if they are already due, so an action
+ * can reschedule itself (e.g., for a repeating cycle) without blocking the tick.
+ *
+ * <p>Each level has its own timers (see {@link engine.level.elements.ILevel#tileTimers()}); the
+ * timers of a level only run while it is the current level.
+ *
+ * <p>This class is not thread-safe. It is meant to be used from the game loop only.
+ */
+public final class TileTimers {
+
+  private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+  private final List<Timer> deferred = new ArrayList<>();
+  private final LongSupplier clock;
+  private long nextSequence = 0;
+
+  /** Create new tile timers using the system time in milliseconds. */
+  public TileTimers() {
+    this(TimeUtils::millis);
+  }
+
+  /**
+   * Create new tile timers.
+   *
+   * @param clock supplies the current time in milliseconds
+   */
+  public TileTimers(final LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Schedule an action for a tile.
+   *
+   * @param tile the tile the action belongs to
+   * @param delayMillis the delay in milliseconds after which the action is run, {@code 0} to run it
+   *     in the next tick
+   * @param action the action to run
+   * @return the scheduled timer
+   * @throws IllegalArgumentException if the delay is negative
+   */
+  public Timer schedule(final Tile tile, final long delayMillis, final IVoidFunction action) {
+    if (delayMillis < 0) throw new IllegalArgumentException("delayMillis must be >= 0");
+    Timer timer = new Timer(tile, clock.getAsLong() + delayMillis, nextSequence++, action);
+    timers.add(timer);
+    return timer;
+  }
+
+  /**
+   * Cancel a scheduled timer.
+   *
+   * @param timer the timer to cancel
+   * @return true if the timer was pending, false if it already ran or was cancelled
+   */
+  public boolean cancel(final Timer timer) {
+    if (!timer.pending) return false;
+    timer.pending = false;
+    timers.remove(timer);
+    return true;
+  }
+
+  /**
+   * Cancel all timers of a tile, e.g., because the tile was removed from the level.
+   *
+   * @param tile the tile whose timers should be cancelled
+   * @return the number of cancelled timers
+   */
+  public int cancel(final Tile tile) {
+    int before = timers.size();
+    timers.removeIf(
+        timer -> {
+          if (timer.tile != tile) return false;
+          timer.pending = false;
+          return true;
+        });
+    return before - timers.size();
+  }
+
+  /**
+   * Run the actions of all timers that are due.
+   *
+   * @return the number of actions that were run
+   */
+  public int runDue() {
+    long now = clock.getAsLong();
+    long lastSequence = nextSequence;
+    int ran = 0;
+    while (!timers.isEmpty() && timers.peek().dueAt <= now) {
+      Timer timer = timers.poll();
+      if (timer.sequence >= lastSequence) {
+        // Scheduled by an action of this call, run it in the next one
+        deferred.add(timer);
+        continue;
+      }
+      timer.pending = false;
+      timer.action.execute();
+      ran++;
+    }
+    timers.addAll(deferred);
+    deferred.clear();
+    return ran;
+  }
+
+  /**
+   * Get the number of pending timers.
+   *
+   * @return the number of timers that did not run yet
+   */
+  public int size() {
+    return timers.size();
+  }
+
+  /**
+   * Check if there are pending timers.
+   *
+   * @return true if no timer is pending
+   */
+  public boolean isEmpty() {
+    return timers.isEmpty();
+  }
+
+  /** Cancel all timers. */
+  public void clear() {
+    timers.forEach(timer -> timer.pending = false);
+    timers.clear();
+  }
+
+  /** A scheduled action of a tile. */
+  public static final class Timer implements Comparable<Timer> {
+    private final Tile tile;
+    private final long dueAt;
+    private final long sequence;
+    private final IVoidFunction action;
+    private boolean pending = true;
+
+    private Timer(
+        final Tile tile, final long dueAt, final long sequence, final IVoidFunction action) {
+      this.tile = tile;
+      this.dueAt = dueAt;
+      this.sequence = sequence;
+      this.action = action;
+    }
+
+    /**
+     * Get the tile the timer belongs to.
+     *
+     * @return the tile of the timer
+     */
+    public Tile tile() {
+      return tile;
+    }
+
+    /**
+     * Get the time at which the action is run.
+     *
+     * @return the deadline in milliseconds
+     */
+    public long dueAt() {
+      return dueAt;
+    }
+
+    /**
+     * Check if the action of the timer is still to be run.
+     *
+     * @return false if the timer already ran or was cancelled
+     */
+    public boolean isPending() {
+      return pending;
+    }
+
+    @Override
+    public int compareTo(final Timer other) {
+      int byDeadline = Long.compare(dueAt, other.dueAt);
+      return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+    }
+  }
+}
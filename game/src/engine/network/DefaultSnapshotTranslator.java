@@ -12,6 +12,7 @@ import engine.network.messages.s2c.EntityState;
 import engine.network.messages.s2c.InventorySlotState;
 import engine.network.messages.s2c.LevelState;
 import engine.network.messages.s2c.SnapshotMessage;
+import engine.systems.ClientPredictionSystem;
 import engine.utils.Direction;
 import engine.utils.Point;
 import engine.utils.logging.DungeonLogger;
@@ -180,13 +181,17 @@ public final class DefaultSnapshotTranslator implements SnapshotTranslator {
                 Entity entity = targetEntity.get();
                 snap.entityName().ifPresent(entity::name);
 
+                // The predicted local hero is moved by the input acks, not by snapshots
+                boolean predicted = ClientPredictionSystem.predicts(entity);
                 entity
                     .fetch(PositionComponent.class)
                     .ifPresent(
                         pc -> {
                           snap.position()
+                              .filter(position -> !predicted)
                               .ifPresent(position -> applySnapshotPosition(entity, pc, position));
                           snap.viewDirection()
+                              .filter(viewDir -> !predicted)
                               .ifPresent(
                                   viewDir -> {
                                     try {
@@ -19,6 +19,7 @@ import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -67,6 +68,9 @@ public final class NetworkTelemetry {
   private static final LongAdder udpOversizedPackets = new LongAdder();
   private static final LongAdder udpSendFailures = new LongAdder();
   private static final LongAdder udpDroppedPackets = new LongAdder();
+  private static final LongAdder udpFragmentsSent = new LongAdder();
+  private static final LongAdder udpMessagesReassembled = new LongAdder();
+  private static final LongAdder udpFragmentsDropped = new LongAdder();
 
   private static final LongAdder fullSnapshotsSent = new LongAdder();
   private static final LongAdder deltaSnapshotsSent = new LongAdder();
@@ -84,6 +88,9 @@ public final class NetworkTelemetry {
   private static final LongAdder periodicFullSnapshotsSent = new LongAdder();
   private static final LongAdder fallbackFullSnapshotsSent = new LongAdder();
   private static final LongAdder missingBaselineFullFallbacks = new LongAdder();
+  private static final LongAdder compactSnapshotsSent = new LongAdder();
+  private static final LongAdder compactSnapshotBytesSaved = new LongAdder();
+  private static final LongAdder predictionReconciliations = new LongAdder();
 
   private static final RollingCounter transportOutBytesLastSecond = new RollingCounter(1_000L);
   private static final RollingCounter transportOutBytesLastFiveSeconds = new RollingCounter(5_000L);
@@ -108,6 +115,8 @@ public final class NetworkTelemetry {
   private static final RollingMax networkDispatchMicrosLastTenSeconds = new RollingMax(10_000L);
   private static final RollingMax frameMicrosLastTenSeconds = new RollingMax(10_000L);
   private static final RollingMax gcPauseMsLastTenSeconds = new RollingMax(10_000L);
+  private static final RollingMax predictionCorrectionMilliTilesLastTenSeconds =
+      new RollingMax(10_000L);
 
   private static final Map<Short, ClientTelemetry> serverClientTelemetry =
       new ConcurrentHashMap<>();
@@ -147,6 +156,8 @@ public final class NetworkTelemetry {
   private static volatile int lastStaleSnapshotDropTick = -1;
   private static volatile int lastMissingLocalBaseTick = -1;
   private static volatile int lastMissingLocalDeltaTick = -1;
+  private static volatile double lastPredictionCorrection = -1.0;
+  private static volatile int lastPredictionReplayTicks = -1;
 
   private static volatile String lastUdpFallbackReason = "n/a";
   private static volatile String lastUdpDropReason = "n/a";
@@ -213,6 +224,9 @@ public final class NetworkTelemetry {
     reset(udpOversizedPackets);
     reset(udpSendFailures);
     reset(udpDroppedPackets);
+    reset(udpFragmentsSent);
+    reset(udpMessagesReassembled);
+    reset(udpFragmentsDropped);
     reset(fullSnapshotsSent);
     reset(deltaSnapshotsSent);
     reset(fullSnapshotsApplied);
@@ -229,6 +243,9 @@ public final class NetworkTelemetry {
     reset(periodicFullSnapshotsSent);
     reset(fallbackFullSnapshotsSent);
     reset(missingBaselineFullFallbacks);
+    reset(compactSnapshotsSent);
+    reset(compactSnapshotBytesSaved);
+    reset(predictionReconciliations);
     transportOutBytesLastSecond.reset();
     transportOutBytesLastFiveSeconds.reset();
     transportOutBytesLastThirtySeconds.reset();
@@ -248,6 +265,7 @@ public final class NetworkTelemetry {
     networkDispatchMicrosLastTenSeconds.reset();
     frameMicrosLastTenSeconds.reset();
     gcPauseMsLastTenSeconds.reset();
+    predictionCorrectionMilliTilesLastTenSeconds.reset();
     serverClientTelemetry.clear();
     pendingFullSnapshots.clear();
     inboundFullSnapshotBytesByTick.clear();
@@ -281,6 +299,8 @@ public final class NetworkTelemetry {
     lastStaleSnapshotDropTick = -1;
     lastMissingLocalBaseTick = -1;
     lastMissingLocalDeltaTick = -1;
+    lastPredictionCorrection = -1.0;
+    lastPredictionReplayTicks = -1;
     lastUdpFallbackReason = "n/a";
     lastUdpDropReason = "n/a";
     lastUdpFailureReason = "n/a";
@@ -448,6 +468,42 @@ public final class NetworkTelemetry {
     lastUdpDropReason = cleanReason(reason);
   }
 
+  /**
+   * Records a message that was split into several UDP fragments.
+   *
+   * @param fragments number of fragments sent for the message
+   */
+  public static void recordUdpFragmentsSent(int fragments) {
+    udpFragmentsSent.add(nonNegative(fragments));
+  }
+
+  /** Records a fragmented UDP message that was reassembled completely. */
+  public static void recordUdpMessageReassembled() {
+    udpMessagesReassembled.increment();
+  }
+
+  /**
+   * Records UDP fragments dropped before their message was complete.
+   *
+   * @param reason short drop reason
+   * @param fragments number of dropped fragments
+   */
+  public static void recordUdpFragmentsDropped(String reason, int fragments) {
+    udpFragmentsDropped.add(nonNegative(fragments));
+    lastUdpDropReason = cleanReason(reason);
+  }
+
+  /**
+   * Records a snapshot encoded with the compact encoding.
+   *
+   * @param regularBytes serialized size of the snapshot in the regular encoding
+   * @param compactBytes serialized size of the snapshot in the compact encoding
+   */
+  public static void recordCompactSnapshot(int regularBytes, int compactBytes) {
+    compactSnapshotsSent.increment();
+    compactSnapshotBytesSaved.add(Math.max(0, regularBytes - compactBytes));
+  }
+
   /**
    * Records authoritative snapshot build duration.
    *
@@ -733,6 +789,21 @@ public final class NetworkTelemetry {
     lastMissingLocalDeltaTick = deltaTick;
   }
 
+  /**
+   * Records the reconciliation of the locally predicted hero with an authoritative input ack.
+   *
+   * @param correction distance in tiles between the predicted position and the position after
+   *     replaying the pending inputs on top of the authoritative state
+   * @param replayedTicks number of predicted ticks replayed on top of the authoritative state
+   */
+  public static void recordPredictionCorrection(double correction, int replayedTicks) {
+    predictionReconciliations.increment();
+    lastPredictionCorrection = correction;
+    lastPredictionReplayTicks = replayedTicks;
+    predictionCorrectionMilliTilesLastTenSeconds.add(
+        Math.round(correction * 1000.0), "t" + replayedTicks);
+  }
+
   private static void recordStaleSnapshot(boolean delta, int serverTick, boolean early) {
     if (delta) {
       staleDeltaSnapshots.increment();
@@ -893,6 +964,9 @@ public final class NetworkTelemetry {
             udpOversizedPackets.sum(),
             udpSendFailures.sum(),
             udpDroppedPackets.sum(),
+            udpFragmentsSent.sum(),
+            udpMessagesReassembled.sum(),
+            udpFragmentsDropped.sum(),
             lastUdpFallbackReason,
             lastUdpDropReason,
             lastUdpFailureReason),
@@ -915,7 +989,9 @@ public final class NetworkTelemetry {
             lastSnapshotHistoryServerTick,
             lastSnapshotHistorySize,
             lastSnapshotHistoryCapacityTicks,
-            lastSnapshotHistoryCapacitySeconds),
+            lastSnapshotHistoryCapacitySeconds,
+            compactSnapshotsSent.sum(),
+            compactSnapshotBytesSaved.sum()),
         new DebugTelemetrySnapshot.Windows(
             transportOutBytesLastSecond.sum(),
             transportOutBytesLastFiveSeconds.sum(),
@@ -948,7 +1024,10 @@ public final class NetworkTelemetry {
             gcPauseMsLastTenSeconds.max().value(),
             lastQueueDepth,
             (int) queueDepthLastTenSeconds.max().value(),
-            lastQueueDrainCount),
+            lastQueueDrainCount,
+            frameMicrosLastTenSeconds.percentile(0.50),
+            frameMicrosLastTenSeconds.percentile(0.95),
+            frameMicrosLastTenSeconds.percentile(0.99)),
         clients);
   }
 
@@ -978,6 +1057,7 @@ public final class NetworkTelemetry {
     lines.add(clientRttLine());
     lines.add(clientSnapshotsLine());
     lines.add(clientRecoveryLine());
+    lines.add(clientPredictionLine());
     lines.add(clientApplyTimingsLine());
     lines.add(clientRuntimeTimingsLine());
     lines.add(clientRuntimeMaxTimingsLine());
@@ -1058,6 +1138,27 @@ public final class NetworkTelemetry {
         valueExpectedZero(formatBytes(staleFullSnapshotBytes.sum()), staleFullSnapshotBytes.sum()));
   }
 
+  private static TelemetryLine clientPredictionLine() {
+    RollingMax.Sample correctionMax = predictionCorrectionMilliTilesLastTenSeconds.max();
+    double maxCorrection = correctionMax.value() < 0L ? -1.0 : correctionMax.value() / 1000.0;
+    double allowed = NetworkTelemetryThresholds.PREDICTION_CORRECTION_MAX_TILES;
+    boolean meaningful = predictionReconciliations.sum() > 0L;
+    return line(
+        "Prediction",
+        text("reconciled=" + predictionReconciliations.sum()),
+        text(" replay=" + formatCount(lastPredictionReplayTicks)),
+        text(" corr="),
+        valueAtMost(
+            formatTiles(lastPredictionCorrection),
+            lastPredictionCorrection,
+            allowed,
+            formatTiles(allowed),
+            meaningful),
+        text(" max10="),
+        valueAtMost(
+            formatTiles(maxCorrection), maxCorrection, allowed, formatTiles(allowed), meaningful));
+  }
+
   private static TelemetryLine clientApplyTimingsLine() {
     long substepMicros = NetworkTelemetryThresholds.substepMicros();
     long fullApplyMicros = NetworkTelemetryThresholds.fullSnapshotApplyMicros();
@@ -1324,7 +1425,12 @@ public final class NetworkTelemetry {
         text("tick=" + formatTick(snapshots.historyServerTick())),
         text(" retained=" + formatCount(snapshots.historySize())),
         text("/" + formatCount(snapshots.historyCapacityTicks())),
-        text(" cap=" + formatSeconds(snapshots.historyCapacitySeconds())));
+        text(" cap=" + formatSeconds(snapshots.historyCapacitySeconds())),
+        text(
+            " compact="
+                + snapshots.compactSent()
+                + " saved="
+                + formatBytes(snapshots.compactBytesSaved())));
   }
 
   private static TelemetryLine serverTransportLine(DebugTelemetrySnapshot snapshot) {
@@ -1370,6 +1476,13 @@ public final class NetworkTelemetry {
         valueExpectedZero(snapshot.udp().sendFailures()),
         text(" dropped="),
         valueExpectedZero(snapshot.udp().droppedPackets()),
+        text(
+            " fragments="
+                + snapshot.udp().fragmentsSent()
+                + "/"
+                + snapshot.udp().messagesReassembled()
+                + " fragDropped="),
+        valueExpectedZero(snapshot.udp().fragmentsDropped()),
         text(
             " last="
                 + snapshot.udp().lastFallbackReason()
@@ -1445,6 +1558,18 @@ public final class NetworkTelemetry {
             tickMicros,
             formatMicros(tickMicros),
             true),
+        text(" p50/p95="),
+        text(
+            formatMicros(timings.frameMicrosP50LastTenSeconds())
+                + "/"
+                + formatMicros(timings.frameMicrosP95LastTenSeconds())
+                + " p99="),
+        valueAtMost(
+            formatMicros(timings.frameMicrosP99LastTenSeconds()),
+            timings.frameMicrosP99LastTenSeconds(),
+            tickMicros,
+            formatMicros(tickMicros),
+            true),
         text(" net="),
         valueAtMost(
             formatMicros(timings.maxNetworkDispatchMicrosLastTenSeconds()),
@@ -1794,6 +1919,13 @@ public final class NetworkTelemetry {
     return String.format(Locale.ROOT, "%.1f ms", rttMs);
   }
 
+  private static String formatTiles(double tiles) {
+    if (tiles < 0.0) {
+      return "n/a";
+    }
+    return String.format(Locale.ROOT, "%.3f tiles", tiles);
+  }
+
   private static String formatTick(int tick) {
     return tick < 0 ? "n/a" : Integer.toString(tick);
   }
@@ -1864,6 +1996,22 @@ public final class NetworkTelemetry {
       return max;
     }
 
+    private synchronized long percentile(double fraction) {
+      long now = java.lang.System.currentTimeMillis();
+      prune(now);
+      if (samples.isEmpty()) {
+        return -1L;
+      }
+      long[] values = new long[samples.size()];
+      int i = 0;
+      for (Sample sample : samples) {
+        values[i++] = sample.value();
+      }
+      Arrays.sort(values);
+      int rank = (int) Math.ceil(fraction * values.length);
+      return values[Math.clamp(rank - 1, 0, values.length - 1)];
+    }
+
     private synchronized void reset() {
       samples.clear();
     }
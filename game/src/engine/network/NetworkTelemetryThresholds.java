@@ -8,6 +8,7 @@ final class NetworkTelemetryThresholds {
   static final long SERVER_SNAPSHOT_STALE_AFTER_MS = 2_000L;
   static final float DEBUG_RTT_MAX_MS = 100f;
   static final int FULL_SNAPSHOT_SOFT_MAX_BYTES = 256 * 1024;
+  static final double PREDICTION_CORRECTION_MAX_TILES = 0.25;
 
   private static final Set<String> BAD_FULL_SNAPSHOT_REASONS =
       Set.of(
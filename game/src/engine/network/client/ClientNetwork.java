@@ -1,7 +1,8 @@
 package engine.network.client;
 
 import static engine.network.codec.NetworkCodec.deserialize;
-import static engine.network.codec.NetworkCodec.serialize;
+import static engine.network.codec.NetworkCodec.encode;
+import static engine.network.codec.NetworkCodec.encodedSize;
 import static engine.network.config.NetworkConfig.MAX_TCP_OBJECT_SIZE;
 import static engine.network.config.NetworkConfig.PROTOCOL_VERSION;
 import static engine.network.config.NetworkConfig.SAFE_UDP_MTU;
@@ -11,10 +12,15 @@ import static engine.network.config.NetworkConfig.TCP_INITIAL_BYTES_TO_STRIP;
 import static engine.network.config.NetworkConfig.TCP_LENGTH_ADJUSTMENT;
 import static engine.network.config.NetworkConfig.TCP_LENGTH_FIELD_LENGTH;
 import static engine.network.config.NetworkConfig.TCP_LENGTH_FIELD_OFFSET;
+import static engine.network.config.NetworkConfig.UDP_FRAGMENT_TIMEOUT_MS;
 
 import engine.network.ConnectionListener;
 import engine.network.MessageDispatcher;
 import engine.network.NetworkTelemetry;
+import engine.network.codec.CompactSnapshotDecoder;
+import engine.network.codec.UdpFragmenter;
+import engine.network.codec.UdpReassembler;
+import engine.network.config.NetworkConfig;
 import engine.network.messages.NetworkMessage;
 import engine.network.messages.c2s.ConnectRequest;
 import engine.network.messages.c2s.InputMessage;
@@ -32,6 +38,7 @@ import engine.utils.logging.DungeonLogger;
 import feature.entities.CharacterClass;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -98,6 +105,7 @@ public final class ClientNetwork {
   private final AtomicBoolean initialWorldReady = new AtomicBoolean(false);
 
   private volatile Session session;
+  private volatile CompactSnapshotDecoder compactSnapshots;
 
   private String remoteHost;
   private int port;
@@ -113,6 +121,7 @@ public final class ClientNetwork {
   private volatile Short clientId;
 
   private final UdpRecoveryState udpRecoveryState = new UdpRecoveryState();
+  private final UdpReassembler udpReassembler = new UdpReassembler(UDP_FRAGMENT_TIMEOUT_MS);
   private volatile ScheduledFuture<?> udpMaintenanceFuture;
   private int pendingSnapshotAckTick = -1;
   private long pendingSnapshotAckDeadlineNanos = 0L;
@@ -322,16 +331,14 @@ public final class ClientNetwork {
 
     InputMessage message = inputWithCurrentSession(input, currentSession);
     try {
-      byte[] data = serialize(message);
-      if (data.length <= SAFE_UDP_MTU) {
+      int size = encodedSize(message);
+      if (size <= SAFE_UDP_MTU) {
         send(message, false)
             .thenAccept(
-                success ->
-                    LOGGER.debug("InputMessage sent using active transport size={}B", data.length));
+                success -> LOGGER.debug("InputMessage sent using active transport size={}B", size));
       } else {
-        LOGGER.warn(
-            "InputMessage too large ({} bytes); sending via TCP instead of UDP", data.length);
-        NetworkTelemetry.recordUdpOversized(message, data.length);
+        LOGGER.warn("InputMessage too large ({} bytes); sending via TCP instead of UDP", size);
+        NetworkTelemetry.recordUdpOversized(message, size);
         NetworkTelemetry.recordUdpFallback("client input oversized");
         sendReliable(message);
       }
@@ -696,12 +703,14 @@ public final class ClientNetwork {
                           throws Exception {
                         int size = frame.readableBytes();
                         long receiveNanos = java.lang.System.nanoTime();
-                        NetworkMessage msg = deserialize(frame);
+                        NetworkMessage msg = deserialize(frame, compactSnapshots);
                         NetworkTelemetry.recordInboundTcp(
                             msg, size, java.lang.System.nanoTime() - receiveNanos);
                         if (msg
-                            instanceof ConnectAck(short id, int sessionId, byte[] sessionToken)) {
-                          onConnectAck(id, sessionId, sessionToken);
+                            instanceof
+                            ConnectAck(
+                                short id, int sessionId, byte[] sessionToken, boolean compact)) {
+                          onConnectAck(id, sessionId, sessionToken, compact);
                         } else if (msg instanceof ConnectReject(byte reason)) {
                           onConnectReject(session, ConnectReject.Reason.fromCode(reason));
                         } else if (msg instanceof RegisterAck(boolean ok)) {
@@ -739,24 +748,24 @@ public final class ClientNetwork {
                             LOGGER.info("No valid last session file found; starting new session.");
                             request = connectRequest();
                           }
-                          byte[] data = serialize(request);
-                          if (data.length <= MAX_TCP_OBJECT_SIZE) {
-                            ByteBuf buf = ctx.alloc().buffer(4 + data.length);
-                            buf.writeInt(data.length);
-                            buf.writeBytes(data);
+                          ByteBuf buf = encode(request, ctx.alloc(), TCP_LENGTH_FIELD_LENGTH);
+                          int size = buf.readableBytes() - TCP_LENGTH_FIELD_LENGTH;
+                          if (size <= MAX_TCP_OBJECT_SIZE) {
+                            buf.setInt(0, size);
                             ctx.writeAndFlush(buf)
                                 .addListener(
                                     future -> {
                                       if (future.isSuccess()) {
-                                        NetworkTelemetry.recordOutboundTcp(request, data.length);
+                                        NetworkTelemetry.recordOutboundTcp(request, size);
                                         return;
                                       }
                                       LOGGER.warn("Failed to write ConnectRequest", future.cause());
                                       ctx.close();
                                     });
                           } else {
+                            buf.release();
                             LOGGER.error(
-                                "ConnectRequest too large ({} bytes); cannot connect", data.length);
+                                "ConnectRequest too large ({} bytes); cannot connect", size);
                             ctx.close();
                           }
                         } catch (IOException e) {
@@ -926,7 +935,17 @@ public final class ClientNetwork {
                     NetworkTelemetry.recordUdpDrop("client invalid UDP size");
                     return;
                   }
-                  NetworkMessage msg = deserialize(pkt.content());
+                  ByteBuf content = pkt.content();
+                  if (UdpFragmenter.isFragment(content)) {
+                    Optional<byte[]> message =
+                        udpReassembler.accept(content, java.lang.System.currentTimeMillis());
+                    if (message.isEmpty()) {
+                      return;
+                    }
+                    content = Unpooled.wrappedBuffer(message.get());
+                    size = message.get().length;
+                  }
+                  NetworkMessage msg = deserialize(content, compactSnapshots);
                   NetworkTelemetry.recordInboundUdp(msg, size);
                   Session currentSession = session;
                   if (currentSession != null) {
@@ -951,6 +970,7 @@ public final class ClientNetwork {
                 onUdpUnavailable("UDP unavailable, using TCP fallback");
               }
             });
+    udpReassembler.clear();
     try {
       udp = ub.bind(0).syncUninterruptibly().channel();
       udp.closeFuture()
@@ -970,11 +990,17 @@ public final class ClientNetwork {
     LOGGER.info("Client opened UDP channel for {}:{}", remoteHost, port);
   }
 
-  private void onConnectAck(short newClientId, int sessionId, byte[] sessionToken) {
+  private void onConnectAck(
+      short newClientId, int sessionId, byte[] sessionToken, boolean compact) {
     this.clientId = newClientId;
+    this.compactSnapshots = compact ? new CompactSnapshotDecoder() : null;
     connected.set(true);
     initialWorldReady.set(false);
-    LOGGER.info("Received ConnectAck clientId={}, sessionId={}", newClientId, sessionId);
+    LOGGER.info(
+        "Received ConnectAck clientId={}, sessionId={}, compactSnapshots={}",
+        newClientId,
+        sessionId,
+        compact);
     session.attachClientState(
         new ClientState(
             newClientId,
@@ -1157,28 +1183,28 @@ public final class ClientNetwork {
 
     RegisterUdp registerUdp =
         new RegisterUdp(session.sessionId(), session.sessionToken(), clientId);
-    final byte[] payload;
+    final ByteBuf payload;
     try {
-      payload = serialize(registerUdp);
+      payload = encode(registerUdp, udp.alloc());
     } catch (IOException e) {
       LOGGER.warn("Failed to serialize RegisterUdp for clientId={}", clientId, e);
       return false;
     }
 
-    if (payload.length > SAFE_UDP_MTU) {
-      LOGGER.warn(
-          "RegisterUdp too large ({} bytes); skipping clientId={}", payload.length, clientId);
-      NetworkTelemetry.recordUdpOversized(registerUdp, payload.length);
+    int size = payload.readableBytes();
+    if (size > SAFE_UDP_MTU) {
+      payload.release();
+      LOGGER.warn("RegisterUdp too large ({} bytes); skipping clientId={}", size, clientId);
+      NetworkTelemetry.recordUdpOversized(registerUdp, size);
       return false;
     }
 
     try {
-      udp.writeAndFlush(
-              new DatagramPacket(udp.alloc().buffer(payload.length).writeBytes(payload), udpRemote))
+      udp.writeAndFlush(new DatagramPacket(payload, udpRemote))
           .addListener(
               future -> {
                 if (future.isSuccess()) {
-                  NetworkTelemetry.recordOutboundUdp(registerUdp, payload.length);
+                  NetworkTelemetry.recordOutboundUdp(registerUdp, size);
                   return;
                 }
                 NetworkTelemetry.recordUdpSendFailure(
@@ -1273,7 +1299,12 @@ public final class ClientNetwork {
 
   private ConnectRequest connectRequest(int sessionId, byte[] sessionToken) {
     return new ConnectRequest(
-        PROTOCOL_VERSION, username, sessionId, sessionToken, requestedCharacterClass);
+        PROTOCOL_VERSION,
+        username,
+        sessionId,
+        sessionToken,
+        requestedCharacterClass,
+        NetworkConfig.COMPACT_SNAPSHOTS);
   }
 
   private void notifyConnected() {
@@ -1354,20 +1385,20 @@ public final class ClientNetwork {
       return CompletableFuture.completedFuture(false);
     }
     try {
-      byte[] data = serialize(msg);
-      if (data.length > SAFE_UDP_MTU) {
-        LOGGER.warn("Skip UDP send; payload too large ({} B) to {}", data.length, target);
-        NetworkTelemetry.recordUdpOversized(msg, data.length);
+      ByteBuf data = encode(msg, udp.alloc());
+      int size = data.readableBytes();
+      if (size > SAFE_UDP_MTU) {
+        data.release();
+        LOGGER.warn("Skip UDP send; payload too large ({} B) to {}", size, target);
+        NetworkTelemetry.recordUdpOversized(msg, size);
         return CompletableFuture.completedFuture(false);
       }
       CompletableFuture<Boolean> result = new CompletableFuture<>();
-      ChannelFuture writeFuture =
-          udp.writeAndFlush(
-              new DatagramPacket(udp.alloc().buffer(data.length).writeBytes(data), target));
+      ChannelFuture writeFuture = udp.writeAndFlush(new DatagramPacket(data, target));
       writeFuture.addListener(
           future -> {
             if (future.isSuccess()) {
-              NetworkTelemetry.recordOutboundUdp(msg, data.length);
+              NetworkTelemetry.recordOutboundUdp(msg, size);
               result.complete(true);
               return;
             }
@@ -1395,20 +1426,20 @@ public final class ClientNetwork {
       return CompletableFuture.completedFuture(false);
     }
     try {
-      byte[] data = serialize(msg);
-      if (data.length > MAX_TCP_OBJECT_SIZE) {
-        LOGGER.warn("Skip TCP send; payload too large ({} B) to {}", data.length, ctx.channel());
+      ByteBuf buf = encode(msg, ctx.alloc(), TCP_LENGTH_FIELD_LENGTH);
+      int size = buf.readableBytes() - TCP_LENGTH_FIELD_LENGTH;
+      if (size > MAX_TCP_OBJECT_SIZE) {
+        buf.release();
+        LOGGER.warn("Skip TCP send; payload too large ({} B) to {}", size, ctx.channel());
         return CompletableFuture.completedFuture(false);
       }
-      ByteBuf buf = ctx.alloc().buffer(TCP_LENGTH_FIELD_LENGTH + data.length);
-      buf.writeInt(data.length);
-      buf.writeBytes(data);
+      buf.setInt(0, size);
       CompletableFuture<Boolean> result = new CompletableFuture<>();
       ctx.writeAndFlush(buf)
           .addListener(
               future -> {
                 if (future.isSuccess()) {
-                  NetworkTelemetry.recordOutboundTcp(msg, data.length);
+                  NetworkTelemetry.recordOutboundTcp(msg, size);
                   result.complete(true);
                   return;
                 }
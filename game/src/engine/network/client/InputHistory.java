@@ -0,0 +1,114 @@
+package engine.network.client;
+
+import engine.utils.Vector2;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * History of the locally predicted ticks of the client's hero.
+ *
+ * <p>Each entry stores the movement inputs applied in one predicted tick and the sequence number of
+ * the last input sent until then. When the server acknowledges an input sequence, all entries up to
+ * that sequence are dropped; the remaining entries are the inputs the server has not applied yet
+ * and are replayed on top of the authoritative state.
+ *
+ * <p>Sequence numbers are 16 bit and wrap around, so they are compared with serial number
+ * arithmetic (see {@link #isAtOrBefore(short, short)}).
+ *
+ * <p>The history is bounded. If the server does not acknowledge inputs for a long time, the oldest
+ * entries are dropped.
+ */
+public final class InputHistory {
+
+  /** Default number of stored ticks, a few seconds at the default frame rate. */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final int capacity;
+  private final ArrayDeque<Entry> entries;
+
+  /** Create a new input history with the {@link #DEFAULT_CAPACITY default capacity}. */
+  public InputHistory() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a new input history.
+   *
+   * @param capacity maximum number of stored ticks, must be {@code > 0}
+   */
+  public InputHistory(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+    this.capacity = capacity;
+    this.entries = new ArrayDeque<>(capacity);
+  }
+
+  /**
+   * Store a predicted tick.
+   *
+   * @param sequence sequence number of the last input sent until this tick
+   * @param moves movement directions applied in this tick, may be empty
+   */
+  public void add(short sequence, List<Vector2> moves) {
+    if (entries.size() == capacity) entries.removeFirst();
+    entries.addLast(new Entry(sequence, List.copyOf(moves)));
+  }
+
+  /**
+   * Drop all ticks whose inputs were applied by the server.
+   *
+   * @param sequence sequence number of the last input applied by the server
+   * @return number of dropped ticks
+   */
+  public int acknowledge(short sequence) {
+    int dropped = 0;
+    while (!entries.isEmpty() && isAtOrBefore(entries.peekFirst().sequence(), sequence)) {
+      entries.removeFirst();
+      dropped++;
+    }
+    return dropped;
+  }
+
+  /**
+   * Get the ticks that were not acknowledged yet.
+   *
+   * @return unmodifiable view of the pending ticks, oldest first
+   */
+  public Collection<Entry> pending() {
+    return Collections.unmodifiableCollection(entries);
+  }
+
+  /**
+   * Get the number of ticks that were not acknowledged yet.
+   *
+   * @return number of pending ticks
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Remove all ticks, e.g., after a level change or reconnect. */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Check if a sequence number was sent at or before another one, taking wrap-around into account.
+   *
+   * @param sequence the sequence number to check
+   * @param reference the sequence number to compare with
+   * @return true if {@code sequence} is not newer than {@code reference}
+   */
+  public static boolean isAtOrBefore(short sequence, short reference) {
+    return (short) (sequence - reference) <= 0;
+  }
+
+  /**
+   * One predicted tick.
+   *
+   * @param sequence sequence number of the last input sent until this tick
+   * @param moves movement directions applied in this tick
+   */
+  public record Entry(short sequence, List<Vector2> moves) {}
+}
@@ -0,0 +1,162 @@
+package engine.network.codec;
+
+import static engine.network.config.NetworkConfig.CLIENT_DELTA_HISTORY_SIZE;
+
+import com.google.protobuf.Message;
+import engine.network.proto.common.PositionInfo;
+import engine.network.proto.s2c.DeltaSnapshotMessage;
+import engine.network.proto.s2c.EntityDelta;
+import engine.network.proto.s2c.EntityState;
+import engine.network.proto.s2c.EntityStateField;
+import engine.network.proto.s2c.InternedString;
+import engine.network.proto.s2c.SnapshotMessage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side state of the compact snapshot encoding for one session.
+ *
+ * <p>Restores compact snapshot protos written by {@link CompactSnapshotEncoder} to the regular
+ * format.
+ *
+ * @see CompactSnapshotFormat
+ */
+public final class CompactSnapshotDecoder {
+
+  private final CompactSnapshotFormat.PositionHistory history =
+      new CompactSnapshotFormat.PositionHistory(CLIENT_DELTA_HISTORY_SIZE);
+  private final Map<Integer, String> strings = new HashMap<>();
+
+  /**
+   * Restores a compact snapshot proto to the regular format.
+   *
+   * <p>Other messages are returned unchanged.
+   *
+   * @param proto the received proto
+   * @return the regular proto
+   * @throws IOException if the proto references unknown interned strings or a missing baseline
+   */
+  public synchronized Message expand(Message proto) throws IOException {
+    if (proto instanceof SnapshotMessage snapshot) {
+      return expandSnapshot(snapshot);
+    }
+    if (proto instanceof DeltaSnapshotMessage delta) {
+      return expandDelta(delta);
+    }
+    return proto;
+  }
+
+  /**
+   * Returns the number of known interned strings.
+   *
+   * @return number of interned strings
+   */
+  public synchronized int internedStrings() {
+    return strings.size();
+  }
+
+  private SnapshotMessage expandSnapshot(SnapshotMessage snapshot) throws IOException {
+    define(snapshot.getInternedStringsList());
+    Map<Integer, Long> positions = new HashMap<>();
+    SnapshotMessage.Builder builder = snapshot.toBuilder().clearEntities().clearInternedStrings();
+    for (EntityState state : snapshot.getEntitiesList()) {
+      builder.addEntities(expandState(state, null, positions));
+    }
+    history.put(snapshot.getServerTick(), positions);
+    return builder.build();
+  }
+
+  private DeltaSnapshotMessage expandDelta(DeltaSnapshotMessage delta) throws IOException {
+    define(delta.getInternedStringsList());
+    Map<Integer, Long> base = history.positions(delta.getBaseTick());
+    Map<Integer, Long> positions = base == null ? new HashMap<>() : new HashMap<>(base);
+    delta.getRemovedEntityIdsList().forEach(positions::remove);
+
+    DeltaSnapshotMessage.Builder builder =
+        delta.toBuilder().clearEntityDeltas().clearInternedStrings();
+    for (EntityDelta entityDelta : delta.getEntityDeltasList()) {
+      EntityDelta.Builder expanded =
+          entityDelta.toBuilder().clearClearedFieldBits().clearRelativePosition();
+      int clearedBits = entityDelta.getClearedFieldBits();
+      for (int field = 1; field < Integer.SIZE; field++) {
+        if ((clearedBits & (1 << field)) != 0) {
+          expanded.addClearedFieldsValue(field);
+        }
+      }
+      if ((clearedBits & (1 << EntityStateField.ENTITY_STATE_FIELD_POSITION_VALUE)) != 0) {
+        positions.remove(entityDelta.getEntityId());
+      }
+
+      if (entityDelta.hasChangedState()) {
+        Long basePosition = null;
+        if (entityDelta.getRelativePosition()) {
+          basePosition = base == null ? null : base.get(entityDelta.getEntityId());
+          if (basePosition == null) {
+            throw new IOException(
+                "Missing compact position baseline for entity "
+                    + entityDelta.getEntityId()
+                    + " at tick "
+                    + delta.getBaseTick()
+                    + ".");
+          }
+        }
+        expanded.setChangedState(
+            expandState(entityDelta.getChangedState(), basePosition, positions));
+      }
+      builder.addEntityDeltas(expanded);
+    }
+    history.put(delta.getServerTick(), positions);
+    history.pruneBefore(delta.getBaseTick());
+    return builder.build();
+  }
+
+  private EntityState expandState(
+      EntityState state, Long basePosition, Map<Integer, Long> positions) throws IOException {
+    EntityState.Builder builder = state.toBuilder();
+    if (state.hasEntityNameId()) {
+      builder.clearEntityNameId().setEntityName(lookup(state.getEntityNameId()));
+    }
+    if (state.hasStateNameId()) {
+      builder.clearStateNameId().setStateName(lookup(state.getStateNameId()));
+    }
+
+    PositionInfo.Builder info =
+        state.hasPosition() ? state.getPosition().toBuilder() : PositionInfo.newBuilder();
+    if (state.hasPositionX() && state.hasPositionY()) {
+      int x = state.getPositionX();
+      int y = state.getPositionY();
+      if (basePosition != null) {
+        x += CompactSnapshotFormat.x(basePosition);
+        y += CompactSnapshotFormat.y(basePosition);
+      }
+      long position = CompactSnapshotFormat.pack(x, y);
+      positions.put(state.getEntityId(), position);
+      info.setPosition(CompactSnapshotFormat.dequantize(position));
+    }
+    int viewDirection = state.getPackedFlags() & CompactSnapshotFormat.VIEW_DIRECTION_MASK;
+    if (viewDirection != 0) {
+      info.setViewDirectionValue(viewDirection);
+    }
+    builder.clearPositionX().clearPositionY().clearPackedFlags();
+    if (!CompactSnapshotFormat.isEmpty(info)) {
+      builder.setPosition(info);
+    }
+    return builder.build();
+  }
+
+  private void define(List<InternedString> definitions) {
+    for (InternedString definition : definitions) {
+      strings.put(definition.getId(), definition.getValue());
+    }
+  }
+
+  private String lookup(int id) throws IOException {
+    String value = strings.get(id);
+    if (value == null) {
+      throw new IOException("Unknown interned string id " + id + ".");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,189 @@
+package engine.network.codec;
+
+import static engine.network.config.NetworkConfig.SERVER_DELTA_HISTORY_SIZE;
+
+import com.google.protobuf.Message;
+import engine.network.NetworkTelemetry;
+import engine.network.proto.common.PositionInfo;
+import engine.network.proto.s2c.DeltaSnapshotMessage;
+import engine.network.proto.s2c.EntityDelta;
+import engine.network.proto.s2c.EntityState;
+import engine.network.proto.s2c.EntityStateField;
+import engine.network.proto.s2c.InternedString;
+import engine.network.proto.s2c.SnapshotMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Server-side state of the compact snapshot encoding for one session.
+ *
+ * <p>Interned strings are defined in every snapshot until the client acknowledges a snapshot tick
+ * that carried the definition, so lost datagrams never leave the client with unknown IDs.
+ *
+ * @see CompactSnapshotFormat
+ */
+public final class CompactSnapshotEncoder {
+
+  private final IntSupplier ackedTick;
+  private final CompactSnapshotFormat.PositionHistory history =
+      new CompactSnapshotFormat.PositionHistory(SERVER_DELTA_HISTORY_SIZE);
+  private final Map<String, Integer> stringIds = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+
+  /** Interned string IDs not yet acknowledged, mapped to the tick that first defined them. */
+  private final Map<Integer, Integer> pendingDefinitions = new LinkedHashMap<>();
+
+  private int currentTick;
+
+  /**
+   * Creates an encoder.
+   *
+   * @param ackedTick supplies the latest snapshot tick acknowledged by the client, or -1 if none
+   */
+  public CompactSnapshotEncoder(IntSupplier ackedTick) {
+    this.ackedTick = Objects.requireNonNull(ackedTick, "ackedTick");
+  }
+
+  /**
+   * Rewrites a snapshot proto into the compact encoding.
+   *
+   * <p>Other messages are returned unchanged.
+   *
+   * @param proto the proto to send
+   * @return the compact proto
+   */
+  public synchronized Message compact(Message proto) {
+    Message compact;
+    if (proto instanceof SnapshotMessage snapshot) {
+      compact = compactSnapshot(snapshot);
+    } else if (proto instanceof DeltaSnapshotMessage delta) {
+      compact = compactDelta(delta);
+    } else {
+      return proto;
+    }
+    NetworkTelemetry.recordCompactSnapshot(proto.getSerializedSize(), compact.getSerializedSize());
+    return compact;
+  }
+
+  private SnapshotMessage compactSnapshot(SnapshotMessage snapshot) {
+    beginMessage(snapshot.getServerTick());
+    Map<Integer, Long> positions = new HashMap<>();
+    SnapshotMessage.Builder builder = snapshot.toBuilder().clearEntities();
+    for (EntityState state : snapshot.getEntitiesList()) {
+      builder.addEntities(compactState(state, null, positions));
+    }
+    addDefinitions(builder::addInternedStrings);
+    history.put(snapshot.getServerTick(), positions);
+    return builder.build();
+  }
+
+  private DeltaSnapshotMessage compactDelta(DeltaSnapshotMessage delta) {
+    beginMessage(delta.getServerTick());
+    Map<Integer, Long> base = history.positions(delta.getBaseTick());
+    Map<Integer, Long> positions = base == null ? new HashMap<>() : new HashMap<>(base);
+    delta.getRemovedEntityIdsList().forEach(positions::remove);
+
+    DeltaSnapshotMessage.Builder builder = delta.toBuilder().clearEntityDeltas();
+    for (EntityDelta entityDelta : delta.getEntityDeltasList()) {
+      EntityDelta.Builder compact = entityDelta.toBuilder().clearClearedFields();
+      int clearedBits = 0;
+      for (int field : entityDelta.getClearedFieldsValueList()) {
+        clearedBits |= 1 << field;
+      }
+      if ((clearedBits & (1 << EntityStateField.ENTITY_STATE_FIELD_POSITION_VALUE)) != 0) {
+        positions.remove(entityDelta.getEntityId());
+      }
+      compact.setClearedFieldBits(clearedBits);
+
+      if (entityDelta.hasChangedState()) {
+        EntityState changed = entityDelta.getChangedState();
+        Long basePosition = base == null ? null : base.get(entityDelta.getEntityId());
+        boolean relative =
+            basePosition != null && changed.hasPosition() && changed.getPosition().hasPosition();
+        compact.setChangedState(compactState(changed, relative ? basePosition : null, positions));
+        compact.setRelativePosition(relative);
+      }
+      builder.addEntityDeltas(compact);
+    }
+    addDefinitions(builder::addInternedStrings);
+    history.put(delta.getServerTick(), positions);
+    return builder.build();
+  }
+
+  private EntityState compactState(
+      EntityState state, Long basePosition, Map<Integer, Long> positions) {
+    EntityState.Builder builder = state.toBuilder();
+    if (state.hasEntityName()) {
+      Integer id = intern(state.getEntityName());
+      if (id != null) {
+        builder.clearEntityName().setEntityNameId(id);
+      }
+    }
+    if (state.hasStateName()) {
+      Integer id = intern(state.getStateName());
+      if (id != null) {
+        builder.clearStateName().setStateNameId(id);
+      }
+    }
+    if (state.hasPosition()) {
+      PositionInfo info = state.getPosition();
+      PositionInfo.Builder rest = info.toBuilder().clearPosition().clearViewDirection();
+      if (info.hasPosition()) {
+        long position = CompactSnapshotFormat.quantize(info.getPosition());
+        positions.put(state.getEntityId(), position);
+        int x = CompactSnapshotFormat.x(position);
+        int y = CompactSnapshotFormat.y(position);
+        if (basePosition != null) {
+          x -= CompactSnapshotFormat.x(basePosition);
+          y -= CompactSnapshotFormat.y(basePosition);
+        }
+        builder.setPositionX(x).setPositionY(y);
+      }
+      if (info.hasViewDirection()) {
+        builder.setPackedFlags(
+            info.getViewDirectionValue() & CompactSnapshotFormat.VIEW_DIRECTION_MASK);
+      }
+      if (CompactSnapshotFormat.isEmpty(rest)) {
+        builder.clearPosition();
+      } else {
+        builder.setPosition(rest);
+      }
+    }
+    return builder.build();
+  }
+
+  private void beginMessage(int tick) {
+    currentTick = tick;
+    int acked = ackedTick.getAsInt();
+    if (acked >= 0) {
+      pendingDefinitions.values().removeIf(definedAt -> definedAt <= acked);
+      history.pruneBefore(acked);
+    }
+  }
+
+  private Integer intern(String value) {
+    Integer id = stringIds.get(value);
+    if (id == null) {
+      if (strings.size() >= CompactSnapshotFormat.MAX_INTERNED_STRINGS) {
+        return null;
+      }
+      id = strings.size();
+      strings.add(value);
+      stringIds.put(value, id);
+      pendingDefinitions.put(id, currentTick);
+    }
+    return id;
+  }
+
+  private void addDefinitions(Consumer<InternedString> sink) {
+    for (int id : pendingDefinitions.keySet()) {
+      sink.accept(InternedString.newBuilder().setId(id).setValue(strings.get(id)).build());
+    }
+  }
+}
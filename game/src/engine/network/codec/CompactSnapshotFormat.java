@@ -0,0 +1,116 @@
+package engine.network.codec;
+
+import engine.network.proto.common.Point;
+import engine.network.proto.common.PositionInfo;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Shared definitions of the compact snapshot encoding.
+ *
+ * <p>The compact encoding is negotiated per session via {@code ConnectRequest.compactSnapshots}
+ * and {@code ConnectAck.compactSnapshots}. It rewrites snapshot protos before they are written and
+ * restores them after they are parsed, so converters and game code only ever see the regular
+ * format:
+ *
+ * <ul>
+ *   <li>positions are sent as fixed-point integers with {@link #POSITION_SCALE} steps per tile
+ *   <li>in deltas, positions are sent as offsets from the quantized baseline position
+ *   <li>the view direction and the cleared fields of a delta are packed into bit fields
+ *   <li>entity and state names are replaced by IDs interned per session
+ * </ul>
+ *
+ * @see CompactSnapshotEncoder
+ * @see CompactSnapshotDecoder
+ */
+public final class CompactSnapshotFormat {
+
+  /** Number of fixed-point steps per tile. */
+  public static final int POSITION_SCALE = 256;
+
+  /** Maximum number of interned strings per session; further strings are sent as text. */
+  public static final int MAX_INTERNED_STRINGS = 4096;
+
+  /** Bit mask of the view direction in {@code EntityState.packed_flags}. */
+  static final int VIEW_DIRECTION_MASK = 0b111;
+
+  private CompactSnapshotFormat() {}
+
+  /**
+   * Quantizes a position to fixed-point coordinates.
+   *
+   * @param point position in tiles
+   * @return packed fixed-point coordinates, see {@link #x(long)} and {@link #y(long)}
+   */
+  static long quantize(Point point) {
+    return pack(
+        Math.round(point.getX() * POSITION_SCALE), Math.round(point.getY() * POSITION_SCALE));
+  }
+
+  /**
+   * Converts packed fixed-point coordinates back to a position.
+   *
+   * @param packed packed fixed-point coordinates
+   * @return position in tiles
+   */
+  static Point dequantize(long packed) {
+    return Point.newBuilder()
+        .setX(x(packed) / (float) POSITION_SCALE)
+        .setY(y(packed) / (float) POSITION_SCALE)
+        .build();
+  }
+
+  static long pack(int x, int y) {
+    return ((long) x << Integer.SIZE) | (y & 0xFFFF_FFFFL);
+  }
+
+  static int x(long packed) {
+    return (int) (packed >> Integer.SIZE);
+  }
+
+  static int y(long packed) {
+    return (int) packed;
+  }
+
+  static boolean isEmpty(PositionInfo.Builder info) {
+    return !info.hasPosition()
+        && !info.hasViewDirection()
+        && !info.hasRotation()
+        && !info.hasScale();
+  }
+
+  /**
+   * Quantized entity positions per server tick, used as baselines for relative positions.
+   *
+   * <p>Encoder and decoder build the same history from the same messages. The encoder only uses
+   * baselines it still has, so a history pruned earlier on one side only costs compactness.
+   */
+  static final class PositionHistory {
+    private final NavigableMap<Integer, Map<Integer, Long>> byTick = new TreeMap<>();
+    private final int capacity;
+
+    PositionHistory(int capacity) {
+      this.capacity = capacity;
+    }
+
+    Map<Integer, Long> positions(int tick) {
+      return byTick.get(tick);
+    }
+
+    void put(int tick, Map<Integer, Long> positions) {
+      byTick.put(tick, positions);
+      while (byTick.size() > capacity) {
+        byTick.pollFirstEntry();
+      }
+    }
+
+    void pruneBefore(int tick) {
+      byTick.headMap(tick, false).clear();
+    }
+
+    int size() {
+      return byTick.size();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package engine.network.codec;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import engine.network.messages.NetworkMessage;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -151,6 +152,23 @@ public final class ConverterRegistry {
     return converter.parser().parseFrom(data);
   }
 
+  /**
+   * Parses wire bytes into a protobuf message without copying them into an array first.
+   *
+   * @param typeId the wire type identifier
+   * @param data the protobuf payload bytes; all remaining bytes are parsed
+   * @return the parsed protobuf message
+   * @throws InvalidProtocolBufferException if parsing fails
+   */
+  public Message parse(byte typeId, ByteBuffer data) throws InvalidProtocolBufferException {
+    Objects.requireNonNull(data, "data");
+    MessageConverter<?, ?> converter = byWireId.get(typeId);
+    if (converter == null) {
+      throw new IllegalArgumentException("Unknown message type id: " + Byte.toUnsignedInt(typeId));
+    }
+    return converter.parser().parseFrom(data);
+  }
+
   @SuppressWarnings("unchecked")
   private MessageConverter<NetworkMessage, Message> converterByDomainType(
       Class<?> messageClass, NetworkMessage message) {
@@ -23,6 +23,7 @@ import engine.network.codec.converters.s2c.EntitySpawnEventConverter;
 import engine.network.codec.converters.s2c.EntityStateConverter;
 import engine.network.codec.converters.s2c.GameOverConverter;
 import engine.network.codec.converters.s2c.InitialWorldCompleteConverter;
+import engine.network.codec.converters.s2c.InputAckConverter;
 import engine.network.codec.converters.s2c.LevelChangeConverter;
 import engine.network.codec.converters.s2c.RegisterAckConverter;
 import engine.network.codec.converters.s2c.SnapshotConverter;
@@ -68,5 +69,6 @@ public final class CoreConverters {
     registry.register(new DebugTelemetrySnapshotConverter());
     registry.register(new DebugPongConverter());
     registry.register(new InitialWorldCompleteConverter());
+    registry.register(new InputAckConverter());
   }
 }
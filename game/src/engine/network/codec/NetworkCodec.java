@@ -1,19 +1,29 @@
 package engine.network.codec;
 
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import engine.network.messages.NetworkMessage;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
  * Protocol Buffer based network codec.
  *
  * <p>Frames are encoded with a 1-byte message type header followed by protobuf payload bytes.
+ *
+ * <p>The {@link ByteBuf} based methods write and read the protobuf payload directly in the Netty
+ * buffer, without intermediate byte arrays. They are used by the transports; {@link
+ * #serialize(NetworkMessage)} remains for callers that need a standalone array.
  */
 public final class NetworkCodec {
 
+  private static final int TYPE_HEADER_SIZE = 1;
+
   private NetworkCodec() {}
 
   /**
@@ -26,41 +36,170 @@ public final class NetworkCodec {
   public static byte[] serialize(NetworkMessage message) throws IOException {
     Objects.requireNonNull(message, "message");
     Message proto = ConverterRegistry.global().toProto(message);
-    return serializeProto(proto);
+    byte typeId = typeId(proto);
+    int size = proto.getSerializedSize();
+    byte[] result = new byte[TYPE_HEADER_SIZE + size];
+    result[0] = typeId;
+    CodedOutputStream output = CodedOutputStream.newInstance(result, TYPE_HEADER_SIZE, size);
+    proto.writeTo(output);
+    output.checkNoSpaceLeft();
+    return result;
+  }
+
+  /**
+   * Computes the size of the encoded frame without serializing the message.
+   *
+   * @param message the message to measure
+   * @return number of bytes {@link #serialize(NetworkMessage)} would produce
+   * @throws IOException if the message type is not supported
+   */
+  public static int encodedSize(NetworkMessage message) throws IOException {
+    Objects.requireNonNull(message, "message");
+    Message proto = ConverterRegistry.global().toProto(message);
+    typeId(proto);
+    return TYPE_HEADER_SIZE + proto.getSerializedSize();
+  }
+
+  /**
+   * Encodes a network message into a new buffer from the given allocator.
+   *
+   * @param message the message to encode
+   * @param alloc allocator for the returned buffer
+   * @return a buffer whose readable bytes are the encoded frame; the caller owns the buffer
+   * @throws IOException if serialization fails
+   * @see #encode(NetworkMessage, ByteBufAllocator, int)
+   */
+  public static ByteBuf encode(NetworkMessage message, ByteBufAllocator alloc) throws IOException {
+    return encode(message, alloc, 0);
+  }
+
+  /**
+   * Encodes a network message into a new buffer, leaving room for a transport header in front.
+   *
+   * <p>The first {@code headroom} bytes of the returned buffer are reserved for the caller (e.g.
+   * the TCP length prefix) and followed by the type header and protobuf payload. The buffer is
+   * sized exactly, so the protobuf payload is written once and never copied.
+   *
+   * @param message the message to encode
+   * @param alloc allocator for the returned buffer
+   * @param headroom number of bytes to reserve before the frame
+   * @return a buffer whose readable bytes are the headroom followed by the encoded frame; the
+   *     caller owns the buffer
+   * @throws IOException if serialization fails
+   */
+  public static ByteBuf encode(NetworkMessage message, ByteBufAllocator alloc, int headroom)
+      throws IOException {
+    Objects.requireNonNull(message, "message");
+    Objects.requireNonNull(alloc, "alloc");
+    return encodeProto(ConverterRegistry.global().toProto(message), alloc, headroom);
+  }
+
+  /**
+   * Encodes a network message for a session that uses the compact snapshot encoding.
+   *
+   * @param message the message to encode
+   * @param alloc allocator for the returned buffer
+   * @param headroom number of bytes to reserve before the frame
+   * @param compact compact snapshot state of the receiving session
+   * @return a buffer laid out like {@link #encode(NetworkMessage, ByteBufAllocator, int)}
+   * @throws IOException if serialization fails
+   */
+  public static ByteBuf encode(
+      NetworkMessage message, ByteBufAllocator alloc, int headroom, CompactSnapshotEncoder compact)
+      throws IOException {
+    Objects.requireNonNull(message, "message");
+    Objects.requireNonNull(alloc, "alloc");
+    Objects.requireNonNull(compact, "compact");
+    return encodeProto(
+        compact.compact(ConverterRegistry.global().toProto(message)), alloc, headroom);
   }
 
   /**
    * Deserializes a {@link NetworkMessage} from a {@link ByteBuf}.
    *
+   * <p>The payload is parsed from an NIO view of the buffer, so no intermediate array is created.
+   * All readable bytes are consumed.
+   *
    * @param buf the {@link ByteBuf} containing the serialized message data
    * @return the deserialized message
    * @throws IOException if parsing fails
    */
   public static NetworkMessage deserialize(ByteBuf buf) throws IOException {
-    if (buf.readableBytes() < 1) {
+    return ConverterRegistry.global().fromProto(readProto(buf));
+  }
+
+  /**
+   * Deserializes a {@link NetworkMessage} from a {@link ByteBuf}, restoring compact snapshots.
+   *
+   * @param buf the {@link ByteBuf} containing the serialized message data
+   * @param compact compact snapshot state of the session, or null if the session does not use the
+   *     compact encoding
+   * @return the deserialized message
+   * @throws IOException if parsing fails
+   */
+  public static NetworkMessage deserialize(ByteBuf buf, CompactSnapshotDecoder compact)
+      throws IOException {
+    Message proto = readProto(buf);
+    if (compact != null) {
+      proto = compact.expand(proto);
+    }
+    return ConverterRegistry.global().fromProto(proto);
+  }
+
+  private static ByteBuf encodeProto(Message proto, ByteBufAllocator alloc, int headroom)
+      throws IOException {
+    if (headroom < 0) {
+      throw new IllegalArgumentException("headroom must not be negative");
+    }
+    byte typeId = typeId(proto);
+    int size = proto.getSerializedSize();
+    ByteBuf buf = alloc.buffer(headroom + TYPE_HEADER_SIZE + size);
+    try {
+      buf.writerIndex(headroom);
+      buf.writeByte(typeId);
+      writeProto(proto, size, buf);
+      return buf;
+    } catch (IOException | RuntimeException e) {
+      buf.release();
+      throw e;
+    }
+  }
+
+  private static Message readProto(ByteBuf buf) throws IOException {
+    if (buf.readableBytes() < TYPE_HEADER_SIZE) {
       throw new IOException("Empty buffer; missing message type header.");
     }
     byte typeId = buf.readByte();
-    byte[] payload = new byte[buf.readableBytes()];
-    buf.readBytes(payload);
-    Message proto = parseProto(typeId, payload);
-    return ConverterRegistry.global().fromProto(proto);
+    int length = buf.readableBytes();
+    ByteBuffer payload = buf.nioBuffer(buf.readerIndex(), length);
+    buf.skipBytes(length);
+    return parseProto(typeId, payload);
+  }
+
+  private static void writeProto(Message proto, int size, ByteBuf buf) throws IOException {
+    if (buf.nioBufferCount() == 1) {
+      int start = buf.writerIndex();
+      CodedOutputStream output =
+          CodedOutputStream.newInstance(buf.nioBuffer(start, buf.writableBytes()));
+      proto.writeTo(output);
+      output.flush();
+      buf.writerIndex(start + size);
+      return;
+    }
+    try (ByteBufOutputStream stream = new ByteBufOutputStream(buf)) {
+      proto.writeTo(stream);
+    }
   }
 
-  private static byte[] serializeProto(Message message) throws IOException {
+  private static byte typeId(Message proto) throws IOException {
     try {
-      byte typeId = ConverterRegistry.global().typeId(message);
-      byte[] protoBytes = message.toByteArray();
-      byte[] result = new byte[1 + protoBytes.length];
-      result[0] = typeId;
-      System.arraycopy(protoBytes, 0, result, 1, protoBytes.length);
-      return result;
+      return ConverterRegistry.global().typeId(proto);
     } catch (IllegalArgumentException e) {
       throw new IOException("Failed to serialize message.", e);
     }
   }
 
-  private static Message parseProto(byte typeId, byte[] payload) throws IOException {
+  private static Message parseProto(byte typeId, ByteBuffer payload) throws IOException {
     try {
       return ConverterRegistry.global().parse(typeId, payload);
     } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
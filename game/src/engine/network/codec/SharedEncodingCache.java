@@ -0,0 +1,94 @@
+package engine.network.codec;
+
+import engine.network.messages.NetworkMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes messages that are sent to several peers only once.
+ *
+ * <p>Messages are registered with {@link #share(NetworkMessage)}. The first {@link
+ * #encode(NetworkMessage, ByteBufAllocator, int)} call for a shared message encodes it with {@link
+ * NetworkCodec} and keeps the buffer; later calls return retained duplicates of that buffer.
+ * Messages that were not shared are encoded on every call, exactly like {@link
+ * NetworkCodec#encode(NetworkMessage, ByteBufAllocator, int)}.
+ *
+ * <p>Messages are matched by identity, not by equality. {@link #clear()} releases the cached
+ * buffers; duplicates that are still being written keep their own reference.
+ */
+public final class SharedEncodingCache {
+
+  private final Map<NetworkMessage, ByteBuf> encoded = new IdentityHashMap<>();
+
+  /**
+   * Marks a message as shared, so it is encoded at most once until the next {@link #clear()}.
+   *
+   * @param message the message that will be sent to several peers
+   */
+  public synchronized void share(NetworkMessage message) {
+    Objects.requireNonNull(message, "message");
+    encoded.putIfAbsent(message, null);
+  }
+
+  /**
+   * Returns whether the message is currently shared.
+   *
+   * @param message the message to check
+   * @return true if the message was shared since the last {@link #clear()}
+   */
+  public synchronized boolean isShared(NetworkMessage message) {
+    return encoded.containsKey(message);
+  }
+
+  /**
+   * Encodes the message, reusing the cached frame if the message is shared.
+   *
+   * @param message the message to encode
+   * @param alloc allocator for new buffers
+   * @param headroom number of bytes to reserve before the frame
+   * @return a buffer owned by the caller, laid out like {@link NetworkCodec#encode(NetworkMessage,
+   *     ByteBufAllocator, int)}
+   * @throws IOException if serialization fails
+   */
+  public ByteBuf encode(NetworkMessage message, ByteBufAllocator alloc, int headroom)
+      throws IOException {
+    ByteBuf frame;
+    synchronized (this) {
+      if (!encoded.containsKey(message)) {
+        frame = null;
+      } else {
+        frame = encoded.get(message);
+        if (frame == null) {
+          frame = NetworkCodec.encode(message, alloc);
+          encoded.put(message, frame);
+        }
+        frame = frame.retainedDuplicate();
+      }
+    }
+    if (frame == null) {
+      return NetworkCodec.encode(message, alloc, headroom);
+    }
+    if (headroom == 0) {
+      return frame;
+    }
+    CompositeByteBuf buf = alloc.compositeBuffer(2);
+    buf.addComponent(true, alloc.buffer(headroom).writeZero(headroom));
+    buf.addComponent(true, frame);
+    return buf;
+  }
+
+  /** Releases all cached frames and forgets the shared messages. */
+  public synchronized void clear() {
+    for (ByteBuf frame : encoded.values()) {
+      if (frame != null) {
+        frame.release();
+      }
+    }
+    encoded.clear();
+  }
+}
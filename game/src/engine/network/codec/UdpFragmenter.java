@@ -0,0 +1,97 @@
+package engine.network.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Splits serialized messages that exceed the safe UDP MTU into several datagrams.
+ *
+ * <p>Each fragment starts with the reserved wire type ID {@code 0}, so it can never be mistaken for
+ * a regular {@link NetworkCodec} frame. The header is followed by the message ID, the fragment
+ * index and the fragment count:
+ *
+ * <pre>
+ *   [0x00][messageId: int][index: u8][count: u8][payload...]
+ * </pre>
+ *
+ * <p>The payload of all fragments concatenated in index order is the original serialized message,
+ * including its type header. Fragments are reassembled by {@link UdpReassembler}.
+ */
+public final class UdpFragmenter {
+
+  /** Wire type ID marking a fragment. This ID is reserved and never used by a converter. */
+  public static final byte FRAGMENT_TYPE_ID = 0;
+
+  /** Size of the fragment header in bytes. */
+  public static final int HEADER_SIZE = 1 + Integer.BYTES + 2;
+
+  /** Maximum number of fragments per message. */
+  public static final int MAX_FRAGMENTS = 255;
+
+  private UdpFragmenter() {}
+
+  /**
+   * Splits the encoded message into fragment buffers that fit into the given datagram size.
+   *
+   * <p>The readable bytes of {@code data} are copied straight into buffers from {@code alloc}. The
+   * reader index of {@code data} is not changed.
+   *
+   * @param data encoded message including its type header
+   * @param messageId ID of the message, must increase for each fragmented message of a sender
+   * @param maxDatagramSize maximum size of a single datagram, including the fragment header
+   * @param alloc allocator for the fragment buffers
+   * @return the fragments in index order; the caller owns the buffers
+   * @throws IllegalArgumentException if the datagram size is too small or the message would need
+   *     more than {@link #MAX_FRAGMENTS} fragments
+   */
+  public static List<ByteBuf> split(
+      ByteBuf data, int messageId, int maxDatagramSize, ByteBufAllocator alloc) {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(alloc, "alloc");
+    int size = data.readableBytes();
+    int count = fragmentCount(size, maxDatagramSize);
+    int chunkSize = maxDatagramSize - HEADER_SIZE;
+    List<ByteBuf> fragments = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      int offset = index * chunkSize;
+      int length = Math.min(chunkSize, size - offset);
+      ByteBuf fragment = alloc.buffer(HEADER_SIZE + length);
+      fragment.writeByte(FRAGMENT_TYPE_ID);
+      fragment.writeInt(messageId);
+      fragment.writeByte(index);
+      fragment.writeByte(count);
+      fragment.writeBytes(data, data.readerIndex() + offset, length);
+      fragments.add(fragment);
+    }
+    return fragments;
+  }
+
+  /**
+   * Checks if the datagram is a fragment.
+   *
+   * <p>The reader index of the buffer is not changed.
+   *
+   * @param datagram content of a received datagram
+   * @return true if the datagram starts with the fragment type ID
+   */
+  public static boolean isFragment(ByteBuf datagram) {
+    return datagram.readableBytes() > 0
+        && datagram.getByte(datagram.readerIndex()) == FRAGMENT_TYPE_ID;
+  }
+
+  private static int fragmentCount(int size, int maxDatagramSize) {
+    int chunkSize = maxDatagramSize - HEADER_SIZE;
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Datagram size too small for fragment header.");
+    }
+    int count = Math.max(1, (size + chunkSize - 1) / chunkSize);
+    if (count > MAX_FRAGMENTS) {
+      throw new IllegalArgumentException(
+          "Message of " + size + " B needs " + count + " fragments.");
+    }
+    return count;
+  }
+}
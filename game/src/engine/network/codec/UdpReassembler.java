@@ -0,0 +1,178 @@
+package engine.network.codec;
+
+import engine.network.NetworkTelemetry;
+import io.netty.buffer.ByteBuf;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reassembles messages that were split by {@link UdpFragmenter}.
+ *
+ * <p>One instance is used per sender. Incomplete messages are dropped if
+ *
+ * <ul>
+ *   <li>their first fragment arrived more than the configured timeout ago,
+ *   <li>a newer message of the same sender was completed, since unreliable messages like delta
+ *       snapshots are superseded by newer ones, or
+ *   <li>too many messages are incomplete at the same time.
+ * </ul>
+ *
+ * <p>Fragments of messages older than the latest completed message are dropped right away.
+ *
+ * <p>This class is not thread-safe; it is meant to be used by the network thread receiving the
+ * datagrams of one sender.
+ */
+public final class UdpReassembler {
+
+  /** Maximum number of incomplete messages kept at the same time. */
+  public static final int MAX_PENDING_MESSAGES = 8;
+
+  private final long timeoutMs;
+  private final LinkedHashMap<Integer, PendingMessage> pending = new LinkedHashMap<>();
+  private boolean hasCompleted = false;
+  private int lastCompletedId;
+
+  /**
+   * Creates a new reassembler.
+   *
+   * @param timeoutMs time in milliseconds after which incomplete messages are dropped
+   */
+  public UdpReassembler(long timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+
+  /**
+   * Accepts a received fragment.
+   *
+   * <p>The reader index of the buffer is not changed.
+   *
+   * @param datagram content of the received datagram, must be a fragment
+   * @param nowMs current time in milliseconds
+   * @return the complete serialized message if this fragment completed it, otherwise empty
+   */
+  public Optional<byte[]> accept(ByteBuf datagram, long nowMs) {
+    expire(nowMs);
+    int base = datagram.readerIndex();
+    if (datagram.readableBytes() <= UdpFragmenter.HEADER_SIZE
+        || datagram.getByte(base) != UdpFragmenter.FRAGMENT_TYPE_ID) {
+      NetworkTelemetry.recordUdpFragmentsDropped("invalid fragment", 1);
+      return Optional.empty();
+    }
+    int messageId = datagram.getInt(base + 1);
+    int index = datagram.getUnsignedByte(base + 5);
+    int count = datagram.getUnsignedByte(base + 6);
+    if (count == 0 || index >= count) {
+      NetworkTelemetry.recordUdpFragmentsDropped("invalid fragment header", 1);
+      return Optional.empty();
+    }
+    if (hasCompleted && messageId - lastCompletedId <= 0) {
+      NetworkTelemetry.recordUdpFragmentsDropped("stale fragment", 1);
+      return Optional.empty();
+    }
+
+    PendingMessage message = pending.get(messageId);
+    if (message == null) {
+      if (pending.size() >= MAX_PENDING_MESSAGES) {
+        dropEldest();
+      }
+      message = new PendingMessage(count, nowMs);
+      pending.put(messageId, message);
+    } else if (message.chunks.length != count) {
+      NetworkTelemetry.recordUdpFragmentsDropped("inconsistent fragment count", 1);
+      return Optional.empty();
+    }
+
+    byte[] chunk = new byte[datagram.readableBytes() - UdpFragmenter.HEADER_SIZE];
+    datagram.getBytes(base + UdpFragmenter.HEADER_SIZE, chunk);
+    if (!message.add(index, chunk) || !message.isComplete()) {
+      return Optional.empty();
+    }
+
+    pending.remove(messageId);
+    hasCompleted = true;
+    lastCompletedId = messageId;
+    dropOlderThan(messageId);
+    NetworkTelemetry.recordUdpMessageReassembled();
+    return Optional.of(message.assemble());
+  }
+
+  /**
+   * Returns the number of incomplete messages.
+   *
+   * @return number of messages waiting for fragments
+   */
+  public int pendingMessages() {
+    return pending.size();
+  }
+
+  /** Drops all incomplete messages and forgets the latest completed message. */
+  public void clear() {
+    pending.clear();
+    hasCompleted = false;
+  }
+
+  private void expire(long nowMs) {
+    for (Iterator<PendingMessage> it = pending.values().iterator(); it.hasNext(); ) {
+      PendingMessage message = it.next();
+      if (nowMs - message.firstSeenMs > timeoutMs) {
+        NetworkTelemetry.recordUdpFragmentsDropped("fragment timeout", message.received);
+        it.remove();
+      }
+    }
+  }
+
+  private void dropOlderThan(int messageId) {
+    for (Iterator<Map.Entry<Integer, PendingMessage>> it = pending.entrySet().iterator();
+        it.hasNext(); ) {
+      Map.Entry<Integer, PendingMessage> entry = it.next();
+      if (entry.getKey() - messageId < 0) {
+        NetworkTelemetry.recordUdpFragmentsDropped("superseded message", entry.getValue().received);
+        it.remove();
+      }
+    }
+  }
+
+  private void dropEldest() {
+    Iterator<PendingMessage> it = pending.values().iterator();
+    NetworkTelemetry.recordUdpFragmentsDropped("too many pending messages", it.next().received);
+    it.remove();
+  }
+
+  private static final class PendingMessage {
+    private final byte[][] chunks;
+    private final long firstSeenMs;
+    private int received = 0;
+    private int size = 0;
+
+    private PendingMessage(int count, long firstSeenMs) {
+      this.chunks = new byte[count][];
+      this.firstSeenMs = firstSeenMs;
+    }
+
+    private boolean add(int index, byte[] chunk) {
+      if (chunks[index] != null) {
+        return false;
+      }
+      chunks[index] = chunk;
+      received++;
+      size += chunk.length;
+      return true;
+    }
+
+    private boolean isComplete() {
+      return received == chunks.length;
+    }
+
+    private byte[] assemble() {
+      byte[] data = new byte[size];
+      int offset = 0;
+      for (byte[] chunk : chunks) {
+        System.arraycopy(chunk, 0, data, offset, chunk.length);
+        offset += chunk.length;
+      }
+      return data;
+    }
+  }
+}
@@ -39,6 +39,9 @@ public final class DebugTelemetrySnapshotConverter
             .setUdpOversizedPackets(message.udp().oversizedPackets())
             .setUdpSendFailures(message.udp().sendFailures())
             .setUdpDroppedPackets(message.udp().droppedPackets())
+            .setUdpFragmentsSent(message.udp().fragmentsSent())
+            .setUdpMessagesReassembled(message.udp().messagesReassembled())
+            .setUdpFragmentsDropped(message.udp().fragmentsDropped())
             .setFullSnapshotsSent(message.snapshots().fullSent())
             .setDeltaSnapshotsSent(message.snapshots().deltaSent())
             .setLastFullSnapshotTick(message.snapshots().lastFullTick())
@@ -58,6 +61,8 @@ public final class DebugTelemetrySnapshotConverter
             .setSnapshotHistorySize(message.snapshots().historySize())
             .setSnapshotHistoryCapacityTicks(message.snapshots().historyCapacityTicks())
             .setSnapshotHistoryCapacitySeconds(message.snapshots().historyCapacitySeconds())
+            .setCompactSnapshotsSent(message.snapshots().compactSent())
+            .setCompactSnapshotBytesSaved(message.snapshots().compactBytesSaved())
             .setTransportOutBytesLastSecond(message.windows().transportOutBytesLastSecond())
             .setTransportOutBytesLastFiveSeconds(
                 message.windows().transportOutBytesLastFiveSeconds())
@@ -97,6 +102,9 @@ public final class DebugTelemetrySnapshotConverter
             .setLastQueueDepth(message.timings().lastQueueDepth())
             .setMaxQueueDepthLastTenSeconds(message.timings().maxQueueDepthLastTenSeconds())
             .setLastQueueDrainCount(message.timings().lastQueueDrainCount())
+            .setFrameMicrosP50LastTenSeconds(message.timings().frameMicrosP50LastTenSeconds())
+            .setFrameMicrosP95LastTenSeconds(message.timings().frameMicrosP95LastTenSeconds())
+            .setFrameMicrosP99LastTenSeconds(message.timings().frameMicrosP99LastTenSeconds())
             .setLastUdpFallbackReason(message.udp().lastFallbackReason())
             .setLastUdpDropReason(message.udp().lastDropReason())
             .setLastUdpFailureReason(message.udp().lastFailureReason());
@@ -140,6 +148,9 @@ public final class DebugTelemetrySnapshotConverter
             proto.getUdpOversizedPackets(),
             proto.getUdpSendFailures(),
             proto.getUdpDroppedPackets(),
+            proto.getUdpFragmentsSent(),
+            proto.getUdpMessagesReassembled(),
+            proto.getUdpFragmentsDropped(),
             proto.getLastUdpFallbackReason(),
             proto.getLastUdpDropReason(),
             proto.getLastUdpFailureReason()),
@@ -162,7 +173,9 @@ public final class DebugTelemetrySnapshotConverter
             proto.getSnapshotHistoryServerTick(),
             proto.getSnapshotHistorySize(),
             proto.getSnapshotHistoryCapacityTicks(),
-            proto.getSnapshotHistoryCapacitySeconds()),
+            proto.getSnapshotHistoryCapacitySeconds(),
+            proto.getCompactSnapshotsSent(),
+            proto.getCompactSnapshotBytesSaved()),
         new DebugTelemetrySnapshot.Windows(
             proto.getTransportOutBytesLastSecond(),
             proto.getTransportOutBytesLastFiveSeconds(),
@@ -195,7 +208,10 @@ public final class DebugTelemetrySnapshotConverter
             proto.getMaxGcPauseMsLastTenSeconds(),
             proto.getLastQueueDepth(),
             proto.getMaxQueueDepthLastTenSeconds(),
-            proto.getLastQueueDrainCount()),
+            proto.getLastQueueDrainCount(),
+            proto.getFrameMicrosP50LastTenSeconds(),
+            proto.getFrameMicrosP95LastTenSeconds(),
+            proto.getFrameMicrosP99LastTenSeconds()),
         clients);
   }
 
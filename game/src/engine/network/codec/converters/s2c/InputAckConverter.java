@@ -0,0 +1,51 @@
+package engine.network.codec.converters.s2c;
+
+import com.google.protobuf.Parser;
+import engine.network.codec.CommonProtoConverters;
+import engine.network.codec.MessageConverter;
+import engine.network.messages.s2c.InputAck;
+
+/** Converter for server-to-client input acknowledgment messages. */
+public final class InputAckConverter
+    implements MessageConverter<InputAck, engine.network.proto.s2c.InputAck> {
+  private static final byte WIRE_TYPE_ID = 29;
+
+  @Override
+  public engine.network.proto.s2c.InputAck toProto(InputAck message) {
+    return engine.network.proto.s2c.InputAck.newBuilder()
+        .setServerTick(message.serverTick())
+        .setSequence(message.sequence())
+        .setPosition(CommonProtoConverters.toProto(message.position()))
+        .setVelocity(CommonProtoConverters.toProto(message.velocity()))
+        .build();
+  }
+
+  @Override
+  public InputAck fromProto(engine.network.proto.s2c.InputAck proto) {
+    return new InputAck(
+        proto.getServerTick(),
+        CommonProtoConverters.toShortExact(proto.getSequence(), "sequence"),
+        CommonProtoConverters.fromProto(proto.getPosition()),
+        CommonProtoConverters.fromProto(proto.getVelocity()));
+  }
+
+  @Override
+  public Class<InputAck> domainType() {
+    return InputAck.class;
+  }
+
+  @Override
+  public Class<engine.network.proto.s2c.InputAck> protoType() {
+    return engine.network.proto.s2c.InputAck.class;
+  }
+
+  @Override
+  public Parser<engine.network.proto.s2c.InputAck> parser() {
+    return engine.network.proto.s2c.InputAck.parser();
+  }
+
+  @Override
+  public byte wireTypeId() {
+    return WIRE_TYPE_ID;
+  }
+}
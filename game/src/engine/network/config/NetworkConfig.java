@@ -40,6 +40,15 @@ public final class NetworkConfig {
   /** Protocol version used by multiplayer clients and servers during the connection handshake. */
   public static final short PROTOCOL_VERSION = 5;
 
+  /**
+   * Enables the compact snapshot encoding.
+   *
+   * <p>Clients request it in their {@code ConnectRequest}, and servers accept it only if it is
+   * enabled on their side as well. Compact snapshots quantize positions, pack bit fields, intern
+   * names per session and send positions in deltas relative to the baseline.
+   */
+  public static boolean COMPACT_SNAPSHOTS = false;
+
   /** Enables server responses to debug network telemetry requests. */
   public static boolean DEBUG_TELEMETRY_ENABLED = false;
 
@@ -58,6 +67,14 @@ public final class NetworkConfig {
   /** Time without a successful UDP acknowledgement after which UDP is considered stale. */
   public static final int UDP_STALE_AFTER_MS = 4_500;
 
+  /**
+   * Time after which an incompletely received fragmented UDP message is dropped, in milliseconds.
+   *
+   * <p>Messages larger than {@link #SAFE_UDP_MTU} are split into several datagrams. If one of them
+   * is lost, the message can never be completed, and a newer one will usually replace it anyway.
+   */
+  public static final int UDP_FRAGMENT_TIMEOUT_MS = 250;
+
   /** Offset for the length field in TCP frames, in bytes. */
   public static final int TCP_LENGTH_FIELD_OFFSET = 0;
 
@@ -126,6 +143,24 @@ public final class NetworkConfig {
    */
   public static final int CLIENT_DELTA_HISTORY_SIZE = SERVER_TICK_HZ * 10;
 
+  /**
+   * Radius around a client's hero, in tiles, in which entities are included in its snapshots.
+   *
+   * <p>Entities outside this radius are left out of the snapshots sent to that client, except for
+   * always-relevant entities like players. A value of zero or less disables interest management and
+   * every client receives the full world.
+   */
+  public static float SNAPSHOT_INTEREST_RADIUS = 24f;
+
+  /**
+   * Additional radius, in tiles, in which entities that are already known to a client stay in its
+   * snapshots.
+   *
+   * <p>This prevents entities moving along the border of the interest radius from being removed
+   * and spawned on the client every few ticks.
+   */
+  public static float SNAPSHOT_INTEREST_HYSTERESIS = 4f;
+
   /**
    * Delay before sending an explicit reliable snapshot acknowledgement.
    *
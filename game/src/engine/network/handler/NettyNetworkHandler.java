@@ -1,5 +1,6 @@
 package engine.network.handler;
 
+import engine.game.ECSManagement;
 import engine.game.PreRunConfiguration;
 import engine.network.ConnectionListener;
 import engine.network.MessageDispatcher;
@@ -10,6 +11,7 @@ import engine.network.messages.NetworkMessage;
 import engine.network.messages.c2s.InputMessage;
 import engine.network.server.ServerRuntime;
 import engine.network.server.Session;
+import engine.systems.ClientPredictionSystem;
 import engine.utils.logging.DungeonLogger;
 import feature.entities.CharacterClass;
 import java.util.Objects;
@@ -152,6 +154,9 @@ public class NettyNetworkHandler implements INetworkHandler {
   public void sendInput(InputMessage input) {
     if (serverMode) return;
     client.sendUnreliableInput(input);
+    if (ClientPredictionSystem.isClientPredictionEnabled()) {
+      ECSManagement.system(ClientPredictionSystem.class, system -> system.recordInput(input));
+    }
   }
 
   @Override
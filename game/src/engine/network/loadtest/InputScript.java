@@ -0,0 +1,123 @@
+package engine.network.loadtest;
+
+import engine.network.messages.c2s.InputMessage;
+import engine.utils.Point;
+import engine.utils.Vector2;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Generates the inputs of a synthetic client.
+ *
+ * <p>A script is called once per input tick of its client. The returned message only provides the
+ * action and payload; the client fills in session, tick, sequence number and snapshot
+ * acknowledgement before sending it.
+ */
+@FunctionalInterface
+public interface InputScript {
+
+  /**
+   * Returns the input for the given input tick.
+   *
+   * @param tick input tick of the client, starting at 0
+   * @param random random source of the client
+   * @return the input to send, or empty to send nothing in this tick
+   */
+  Optional<InputMessage> next(int tick, Random random);
+
+  /**
+   * Returns a built-in script by name.
+   *
+   * <ul>
+   *   <li>{@code idle}: sends no input; the client only receives and acknowledges snapshots
+   *   <li>{@code walk}: walks in a random direction that changes about every second
+   *   <li>{@code circle}: walks in a circle with a period of about four seconds
+   *   <li>{@code fight}: like {@code walk}, and casts the main skill about twice a second
+   * </ul>
+   *
+   * @param name script name
+   * @return the script
+   * @throws IllegalArgumentException if no script has this name
+   */
+  static InputScript named(String name) {
+    return switch (name.toLowerCase(Locale.ROOT)) {
+      case "idle" -> idle();
+      case "walk" -> randomWalk(30);
+      case "circle" -> circle(120);
+      case "fight" -> fight(30, 15);
+      default -> throw new IllegalArgumentException("Unknown input script '" + name + "'");
+    };
+  }
+
+  /**
+   * Returns a script that sends no input.
+   *
+   * @return idle script
+   */
+  static InputScript idle() {
+    return (tick, random) -> Optional.empty();
+  }
+
+  /**
+   * Returns a script that moves in a random direction and picks a new one periodically.
+   *
+   * <p>The direction depends only on the random source, so clients with the same seed walk the
+   * same way.
+   *
+   * @param ticksPerDirection number of input ticks before the direction changes
+   * @return random walk script
+   */
+  static InputScript randomWalk(int ticksPerDirection) {
+    Vector2[] direction = {Vector2.ZERO};
+    return (tick, random) -> {
+      if (tick % ticksPerDirection == 0) {
+        double angle = random.nextDouble() * 2.0 * Math.PI;
+        direction[0] = Vector2.of(Math.cos(angle), Math.sin(angle));
+      }
+      return Optional.of(move(direction[0]));
+    };
+  }
+
+  /**
+   * Returns a script that moves in a circle.
+   *
+   * @param ticksPerRound number of input ticks for one full circle
+   * @return circle script
+   */
+  static InputScript circle(int ticksPerRound) {
+    return (tick, random) -> {
+      double angle = (tick % ticksPerRound) * 2.0 * Math.PI / ticksPerRound;
+      return Optional.of(move(Vector2.of(Math.cos(angle), Math.sin(angle))));
+    };
+  }
+
+  /**
+   * Returns a random walk that periodically casts the main skill at a random nearby point.
+   *
+   * @param ticksPerDirection number of input ticks before the walking direction changes
+   * @param ticksPerCast number of input ticks between two casts
+   * @return fight script
+   */
+  static InputScript fight(int ticksPerDirection, int ticksPerCast) {
+    InputScript walk = randomWalk(ticksPerDirection);
+    return (tick, random) -> {
+      if (tick % ticksPerCast == ticksPerCast - 1) {
+        Point target = new Point(random.nextFloat() * 20f, random.nextFloat() * 20f);
+        return Optional.of(
+            new InputMessage(
+                0,
+                0,
+                (short) 0,
+                InputMessage.Action.CAST_SKILL,
+                new InputMessage.CastSkill(target, true)));
+      }
+      return walk.next(tick, random);
+    };
+  }
+
+  private static InputMessage move(Vector2 direction) {
+    return new InputMessage(
+        0, 0, (short) 0, InputMessage.Action.MOVE, new InputMessage.Move(direction));
+  }
+}
@@ -0,0 +1,178 @@
+package engine.network.loadtest;
+
+import engine.network.config.NetworkConfig;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration of a network load test.
+ *
+ * <p>Command line arguments use the form {@code --name=value}:
+ *
+ * <ul>
+ *   <li>{@code --host=<host>} server to connect to; without it, the server runs in-process
+ *   <li>{@code --port=<port>} server port (default: 7777)
+ *   <li>{@code --clients=<count>} number of synthetic clients (default: 32)
+ *   <li>{@code --duration=<seconds>} measurement duration after the ramp-up (default: 60)
+ *   <li>{@code --ramp-up=<seconds>} time over which the clients connect (default: 10)
+ *   <li>{@code --input-rate=<hz>} input messages per second and client (default: 30)
+ *   <li>{@code --script=<name>} input script, see {@link InputScript#named(String)} (default:
+ *       walk)
+ *   <li>{@code --profile=<name>} network profile, see {@link NetworkProfile#parse(String)}
+ *       (default: lan)
+ *   <li>{@code --compact=<true|false>} request compact snapshots (default: {@link
+ *       NetworkConfig#COMPACT_SNAPSHOTS})
+ *   <li>{@code --seed=<seed>} seed of the input scripts (default: 1)
+ * </ul>
+ *
+ * @param host server to connect to, or empty to start the server in-process
+ * @param port server port
+ * @param clients number of synthetic clients
+ * @param durationSeconds measurement duration after the ramp-up
+ * @param rampUpSeconds time over which the clients connect
+ * @param inputRateHz input messages per second and client
+ * @param script name of the input script
+ * @param profile simulated network conditions of every client
+ * @param compactSnapshots whether the clients request compact snapshots
+ * @param seed seed of the input scripts
+ */
+public record LoadTestConfig(
+    Optional<String> host,
+    int port,
+    int clients,
+    int durationSeconds,
+    int rampUpSeconds,
+    int inputRateHz,
+    String script,
+    NetworkProfile profile,
+    boolean compactSnapshots,
+    long seed) {
+
+  /** Port of the in-process server if none is given. */
+  public static final int DEFAULT_PORT = 7777;
+
+  /**
+   * Creates a validated configuration.
+   *
+   * @param host server to connect to, or empty to start the server in-process
+   * @param port server port
+   * @param clients number of synthetic clients
+   * @param durationSeconds measurement duration after the ramp-up
+   * @param rampUpSeconds time over which the clients connect
+   * @param inputRateHz input messages per second and client
+   * @param script name of the input script
+   * @param profile simulated network conditions of every client
+   * @param compactSnapshots whether the clients request compact snapshots
+   * @param seed seed of the input scripts
+   * @throws IllegalArgumentException if a value is out of range or the script is unknown
+   */
+  public LoadTestConfig {
+    host = host == null ? Optional.empty() : host;
+    Objects.requireNonNull(script, "script");
+    Objects.requireNonNull(profile, "profile");
+    if (port < 1 || port > 65_535) {
+      throw new IllegalArgumentException("port must be between 1 and 65535");
+    }
+    if (clients < 1) {
+      throw new IllegalArgumentException("clients must be positive");
+    }
+    if (durationSeconds < 1) {
+      throw new IllegalArgumentException("duration must be positive");
+    }
+    if (rampUpSeconds < 0) {
+      throw new IllegalArgumentException("ramp-up must not be negative");
+    }
+    if (inputRateHz < 0 || inputRateHz > NetworkConfig.SERVER_TICK_HZ) {
+      throw new IllegalArgumentException(
+          "input-rate must be between 0 and " + NetworkConfig.SERVER_TICK_HZ);
+    }
+    InputScript.named(script);
+  }
+
+  /**
+   * Returns the default configuration.
+   *
+   * @return configuration for 32 clients on an in-process server
+   */
+  public static LoadTestConfig defaults() {
+    return new LoadTestConfig(
+        Optional.empty(),
+        DEFAULT_PORT,
+        32,
+        60,
+        10,
+        30,
+        "walk",
+        NetworkProfile.LAN,
+        NetworkConfig.COMPACT_SNAPSHOTS,
+        1L);
+  }
+
+  /**
+   * Parses command line arguments, starting from {@link #defaults()}.
+   *
+   * @param args arguments of the form {@code --name=value}
+   * @return the parsed configuration
+   * @throws IllegalArgumentException if an argument is unknown or malformed
+   */
+  public static LoadTestConfig parse(String[] args) {
+    LoadTestConfig defaults = defaults();
+    Optional<String> host = defaults.host();
+    int port = defaults.port();
+    int clients = defaults.clients();
+    int durationSeconds = defaults.durationSeconds();
+    int rampUpSeconds = defaults.rampUpSeconds();
+    int inputRateHz = defaults.inputRateHz();
+    String script = defaults.script();
+    NetworkProfile profile = defaults.profile();
+    boolean compactSnapshots = defaults.compactSnapshots();
+    long seed = defaults.seed();
+
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+      }
+      String name = arg.substring(2, separator).toLowerCase(Locale.ROOT);
+      String value = arg.substring(separator + 1);
+      try {
+        switch (name) {
+          case "host" -> host = value.isBlank() ? Optional.empty() : Optional.of(value);
+          case "port" -> port = Integer.parseInt(value);
+          case "clients" -> clients = Integer.parseInt(value);
+          case "duration" -> durationSeconds = Integer.parseInt(value);
+          case "ramp-up" -> rampUpSeconds = Integer.parseInt(value);
+          case "input-rate" -> inputRateHz = Integer.parseInt(value);
+          case "script" -> script = value;
+          case "profile" -> profile = NetworkProfile.parse(value);
+          case "compact" -> compactSnapshots = Boolean.parseBoolean(value);
+          case "seed" -> seed = Long.parseLong(value);
+          default -> throw new IllegalArgumentException("Unknown argument '--" + name + "'");
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid number in '" + arg + "'", e);
+      }
+    }
+    return new LoadTestConfig(
+        host,
+        port,
+        clients,
+        durationSeconds,
+        rampUpSeconds,
+        inputRateHz,
+        script,
+        profile,
+        compactSnapshots,
+        seed);
+  }
+
+  /**
+   * Returns whether the load test starts the server in-process.
+   *
+   * @return true if no host is configured
+   */
+  public boolean inProcessServer() {
+    return host.isEmpty();
+  }
+}
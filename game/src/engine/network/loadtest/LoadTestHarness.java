@@ -0,0 +1,111 @@
+package engine.network.loadtest;
+
+import engine.network.messages.s2c.DebugTelemetrySnapshot;
+import engine.utils.logging.DungeonLogger;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a network load test against a multiplayer server.
+ *
+ * <p>The harness connects the configured number of {@link SyntheticClient}s, spread evenly over the
+ * ramp-up, then resets their counters and measures for the configured duration. The first client
+ * streams the server's debug telemetry, which provides the tick time percentiles and transport
+ * counters of the report; the server must have {@code NetworkConfig.DEBUG_TELEMETRY_ENABLED} set.
+ *
+ * <p>All clients share one event loop group, so hundreds of clients only need a few threads.
+ *
+ * @see engine.starter.NetworkLoadTest
+ */
+public final class LoadTestHarness {
+  private static final DungeonLogger LOGGER = DungeonLogger.getLogger(LoadTestHarness.class);
+
+  private static final String LOCALHOST = "127.0.0.1";
+  private static final long PROGRESS_INTERVAL_MS = 5_000L;
+
+  private final LoadTestConfig config;
+  private final AtomicReference<DebugTelemetrySnapshot> latestTelemetry = new AtomicReference<>();
+  private final AtomicLong worstFrameMicrosP99 = new AtomicLong(-1L);
+
+  /**
+   * Creates a load test harness.
+   *
+   * @param config load test configuration
+   */
+  public LoadTestHarness(LoadTestConfig config) {
+    this.config = Objects.requireNonNull(config, "config");
+  }
+
+  /**
+   * Runs the load test and disconnects all clients afterwards.
+   *
+   * @return the load test report
+   * @throws InterruptedException if the calling thread is interrupted
+   */
+  public LoadTestReport run() throws InterruptedException {
+    String host = config.host().orElse(LOCALHOST);
+    EventLoopGroup group = new MultiThreadIoEventLoopGroup(NioIoHandler.newFactory());
+    List<SyntheticClient> clients = new ArrayList<>(config.clients());
+    try {
+      long rampUpMs = TimeUnit.SECONDS.toMillis(config.rampUpSeconds());
+      long startMs = System.currentTimeMillis();
+      for (int i = 0; i < config.clients(); i++) {
+        SyntheticClient client = new SyntheticClient(i, config, i == 0 ? this::onTelemetry : null);
+        clients.add(client);
+        client.connect(group, host);
+        sleepUntil(startMs + rampUpMs * (i + 1) / config.clients());
+      }
+      LOGGER.info(
+          "Connected {} of {} clients, measuring for {} s",
+          connectedClients(clients),
+          config.clients(),
+          config.durationSeconds());
+
+      clients.forEach(SyntheticClient::resetCounters);
+      worstFrameMicrosP99.set(-1L);
+      long measureStartNanos = System.nanoTime();
+      long measureEndMs =
+          System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.durationSeconds());
+      while (System.currentTimeMillis() < measureEndMs) {
+        sleepUntil(Math.min(measureEndMs, System.currentTimeMillis() + PROGRESS_INTERVAL_MS));
+        LOGGER.info("{} of {} clients connected", connectedClients(clients), config.clients());
+      }
+      double measuredSeconds = (System.nanoTime() - measureStartNanos) / 1e9;
+
+      return new LoadTestReport(
+          config,
+          measuredSeconds,
+          clients.stream().map(SyntheticClient::result).toList(),
+          Optional.ofNullable(latestTelemetry.get()),
+          worstFrameMicrosP99.get());
+    } finally {
+      clients.forEach(SyntheticClient::close);
+      group.shutdownGracefully(0L, 1L, TimeUnit.SECONDS).await(5L, TimeUnit.SECONDS);
+    }
+  }
+
+  private void onTelemetry(DebugTelemetrySnapshot snapshot) {
+    latestTelemetry.set(snapshot);
+    worstFrameMicrosP99.accumulateAndGet(
+        snapshot.timings().frameMicrosP99LastTenSeconds(), Math::max);
+  }
+
+  private static long connectedClients(List<SyntheticClient> clients) {
+    return clients.stream().filter(SyntheticClient::isConnected).count();
+  }
+
+  private static void sleepUntil(long timeMs) throws InterruptedException {
+    long remaining = timeMs - System.currentTimeMillis();
+    if (remaining > 0L) {
+      Thread.sleep(remaining);
+    }
+  }
+}
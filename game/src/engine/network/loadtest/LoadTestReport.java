@@ -0,0 +1,315 @@
+package engine.network.loadtest;
+
+import engine.network.config.NetworkConfig;
+import engine.network.messages.s2c.DebugTelemetrySnapshot;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Result of a network load test.
+ *
+ * @param config configuration of the load test
+ * @param measuredSeconds length of the measurement window
+ * @param clients counters of every synthetic client, recorded in the measurement window
+ * @param serverTelemetry latest server telemetry, or empty if the server did not send any
+ * @param worstFrameMicrosP99 highest rolling 99th percentile of the server tick duration seen in
+ *     the measurement window, or -1 if unknown
+ */
+public record LoadTestReport(
+    LoadTestConfig config,
+    double measuredSeconds,
+    List<ClientResult> clients,
+    Optional<DebugTelemetrySnapshot> serverTelemetry,
+    long worstFrameMicrosP99) {
+
+  private static final long MICROS_PER_TICK = 1_000_000L / NetworkConfig.SERVER_TICK_HZ;
+
+  /**
+   * Creates a load test report.
+   *
+   * @param config configuration of the load test
+   * @param measuredSeconds length of the measurement window
+   * @param clients counters of every synthetic client, recorded in the measurement window
+   * @param serverTelemetry latest server telemetry, or empty if the server did not send any
+   * @param worstFrameMicrosP99 highest rolling 99th percentile of the server tick duration
+   */
+  public LoadTestReport {
+    Objects.requireNonNull(config, "config");
+    clients = List.copyOf(Objects.requireNonNull(clients, "clients"));
+    serverTelemetry = serverTelemetry == null ? Optional.empty() : serverTelemetry;
+  }
+
+  /**
+   * Counters of one synthetic client.
+   *
+   * @param index index of the client
+   * @param connected whether the server accepted the client
+   * @param udpReady whether the server registered the UDP address of the client
+   * @param rejectReason reason of a connect rejection, or "n/a"
+   * @param connectMillis time from the TCP connect until the ConnectAck, or -1
+   * @param fullSnapshots received full snapshots
+   * @param deltaSnapshots received delta snapshots
+   * @param snapshotBytes encoded size of the received snapshots
+   * @param inboundBytes received bytes on TCP and UDP
+   * @param outboundBytes sent bytes on TCP and UDP
+   * @param inputsSent sent input messages
+   * @param droppedInbound inbound datagrams dropped by the network profile
+   * @param droppedOutbound outbound datagrams dropped by the network profile
+   * @param decodeErrors received messages that could not be decoded
+   */
+  public record ClientResult(
+      int index,
+      boolean connected,
+      boolean udpReady,
+      String rejectReason,
+      long connectMillis,
+      long fullSnapshots,
+      long deltaSnapshots,
+      long snapshotBytes,
+      long inboundBytes,
+      long outboundBytes,
+      long inputsSent,
+      long droppedInbound,
+      long droppedOutbound,
+      long decodeErrors) {}
+
+  /**
+   * Formats the report for the console.
+   *
+   * @return the report as plain text
+   */
+  public String format() {
+    StringBuilder out = new StringBuilder();
+    List<ClientResult> connected = clients.stream().filter(ClientResult::connected).toList();
+    double seconds = Math.max(measuredSeconds, 1e-3);
+
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "Network load test: %d clients, script=%s, profile=%s, compact=%s%n",
+            config.clients(),
+            config.script(),
+            config.profile(),
+            config.compactSnapshots()));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "Measured %.1f s after %d s ramp-up, server %s%n",
+            measuredSeconds,
+            config.rampUpSeconds(),
+            config.host().map(host -> host + ":" + config.port()).orElse("in-process")));
+
+    out.append(String.format(Locale.ROOT, "%nClients%n"));
+    long udpReady = connected.stream().filter(ClientResult::udpReady).count();
+    List<ClientResult> rejected =
+        clients.stream().filter(client -> !"n/a".equals(client.rejectReason())).toList();
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  connected %d/%d, UDP ready %d, rejected %d%s%n",
+            connected.size(),
+            clients.size(),
+            udpReady,
+            rejected.size(),
+            rejected.isEmpty() ? "" : " (" + rejected.getFirst().rejectReason() + ")"));
+    long[] connectMillis =
+        sorted(connected.stream().mapToLong(ClientResult::connectMillis).toArray());
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  connect time p50/p95/max: %d ms / %d ms / %d ms%n",
+            percentile(connectMillis, 0.50),
+            percentile(connectMillis, 0.95),
+            percentile(connectMillis, 1.0)));
+    long inputs = sum(connected, ClientResult::inputsSent);
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  inputs sent: %d (%.1f/s per client), simulated loss: %d out / %d in datagrams%n",
+            inputs,
+            perClientPerSecond(inputs, connected.size(), seconds),
+            sum(connected, ClientResult::droppedOutbound),
+            sum(connected, ClientResult::droppedInbound)));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  decode errors: %d%n",
+            sum(connected, ClientResult::decodeErrors)));
+
+    out.append(String.format(Locale.ROOT, "%nSnapshots per client%n"));
+    long full = sum(connected, ClientResult::fullSnapshots);
+    long delta = sum(connected, ClientResult::deltaSnapshots);
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  received/s avg: %.1f (full %.2f, delta %.1f)%n",
+            perClientPerSecond(full + delta, connected.size(), seconds),
+            perClientPerSecond(full, connected.size(), seconds),
+            perClientPerSecond(delta, connected.size(), seconds)));
+    long[] bytesPerSecond =
+        sorted(
+            connected.stream()
+                .mapToLong(client -> Math.round(client.snapshotBytes() / seconds))
+                .toArray());
+    long snapshotBytes = sum(connected, ClientResult::snapshotBytes);
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  bytes/s min/avg/p95/max: %s / %s / %s / %s%n",
+            formatBytes(percentile(bytesPerSecond, 0.0)),
+            formatBytes(Math.round(perClientPerSecond(snapshotBytes, connected.size(), seconds))),
+            formatBytes(percentile(bytesPerSecond, 0.95)),
+            formatBytes(percentile(bytesPerSecond, 1.0))));
+    long inbound = sum(connected, ClientResult::inboundBytes);
+    long outbound = sum(connected, ClientResult::outboundBytes);
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  all clients: snapshots %s/s, received %s/s (%.2f Mbit/s), sent %s/s%n",
+            formatBytes(Math.round(snapshotBytes / seconds)),
+            formatBytes(Math.round(inbound / seconds)),
+            inbound * 8.0 / seconds / 1_000_000.0,
+            formatBytes(Math.round(outbound / seconds))));
+
+    appendServer(out);
+    return out.toString();
+  }
+
+  private void appendServer(StringBuilder out) {
+    if (serverTelemetry.isEmpty()) {
+      out.append(
+          String.format(
+              Locale.ROOT,
+              "%nServer telemetry unavailable; enable NetworkConfig.DEBUG_TELEMETRY_ENABLED on"
+                  + " the server.%n"));
+      return;
+    }
+    DebugTelemetrySnapshot telemetry = serverTelemetry.orElseThrow();
+    DebugTelemetrySnapshot.Timings timings = telemetry.timings();
+    out.append(String.format(Locale.ROOT, "%nServer tick (last 10 s)%n"));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  p50/p95/p99/max: %s / %s / %s / %s (budget %s)%n",
+            formatMicros(timings.frameMicrosP50LastTenSeconds()),
+            formatMicros(timings.frameMicrosP95LastTenSeconds()),
+            formatMicros(timings.frameMicrosP99LastTenSeconds()),
+            formatMicros(timings.maxFrameMicrosLastTenSeconds()),
+            formatMicros(MICROS_PER_TICK)));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  worst p99 during the run: %s, network dispatch max: %s, GC pause max: %d ms%n",
+            formatMicros(worstFrameMicrosP99),
+            formatMicros(timings.maxNetworkDispatchMicrosLastTenSeconds()),
+            timings.maxGcPauseMsLastTenSeconds()));
+
+    DebugTelemetrySnapshot.Transport transport = telemetry.transport();
+    DebugTelemetrySnapshot.Snapshots snapshots = telemetry.snapshots();
+    DebugTelemetrySnapshot.Udp udp = telemetry.udp();
+    out.append(String.format(Locale.ROOT, "%nServer telemetry (since start)%n"));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  TCP out %d msgs / %s, in %d msgs / %s%n",
+            transport.tcpOutboundMessages(),
+            formatBytes(transport.tcpOutboundBytes()),
+            transport.tcpInboundMessages(),
+            formatBytes(transport.tcpInboundBytes())));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  UDP out %d msgs / %s, in %d msgs / %s%n",
+            transport.udpOutboundMessages(),
+            formatBytes(transport.udpOutboundBytes()),
+            transport.udpInboundMessages(),
+            formatBytes(transport.udpInboundBytes())));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  snapshots sent: full %d (periodic %d, fallback %d, missing baseline %d), delta %d%n",
+            snapshots.fullSent(),
+            snapshots.periodicFullSent(),
+            snapshots.fallbackFullSent(),
+            snapshots.missingBaselineFullFallbacks(),
+            snapshots.deltaSent()));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  compact snapshots: %d, bytes saved %s; last snapshot build %s%n",
+            snapshots.compactSent(),
+            formatBytes(snapshots.compactBytesSaved()),
+            formatMicros(snapshots.lastBuildMicros())));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  UDP fallbacks %d, oversized %d, send failures %d, drops %d (%s)%n",
+            udp.fallbacks(),
+            udp.oversizedPackets(),
+            udp.sendFailures(),
+            udp.droppedPackets(),
+            udp.lastDropReason()));
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "  UDP fragments sent %d, messages reassembled %d, fragments dropped %d%n",
+            udp.fragmentsSent(),
+            udp.messagesReassembled(),
+            udp.fragmentsDropped()));
+  }
+
+  /**
+   * Returns the nearest-rank percentile of sorted values.
+   *
+   * @param sorted values in ascending order
+   * @param fraction percentile as a fraction between 0 and 1
+   * @return the percentile, or -1 if there are no values
+   */
+  static long percentile(long[] sorted, double fraction) {
+    if (sorted.length == 0) {
+      return -1L;
+    }
+    int rank = (int) Math.ceil(fraction * sorted.length);
+    return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+  }
+
+  private static long[] sorted(long[] values) {
+    Arrays.sort(values);
+    return values;
+  }
+
+  private static long sum(List<ClientResult> clients, ToLongFunction<ClientResult> value) {
+    return clients.stream().mapToLong(value).sum();
+  }
+
+  private static double perClientPerSecond(long total, int clients, double seconds) {
+    return clients == 0 ? 0.0 : total / (double) clients / seconds;
+  }
+
+  private static String formatBytes(long bytes) {
+    if (bytes < 0L) {
+      return "n/a";
+    }
+    if (bytes < 1024L) {
+      return bytes + " B";
+    }
+    if (bytes < 1024L * 1024L) {
+      return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+    }
+    return String.format(Locale.ROOT, "%.2f MiB", bytes / (1024.0 * 1024.0));
+  }
+
+  private static String formatMicros(long micros) {
+    if (micros < 0L) {
+      return "n/a";
+    }
+    if (micros < 1000L) {
+      return micros + " us";
+    }
+    return String.format(Locale.ROOT, "%.2f ms", micros / 1000.0);
+  }
+}
@@ -0,0 +1,120 @@
+package engine.network.loadtest;
+
+import engine.network.handler.SlowNettyNetworkHandler;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulated network conditions of a synthetic client.
+ *
+ * <p>Like {@link SlowNettyNetworkHandler}, the profile delays every message and drops unreliable
+ * ones, but it applies to both directions of a single synthetic client. Reliable (TCP) messages are
+ * never dropped and are delayed without jitter, so they keep their order.
+ *
+ * @param latencyMs one-way latency added to every message
+ * @param jitterMs maximum additional random latency of unreliable messages
+ * @param lossRate probability (0.0 - 1.0) that an unreliable message is dropped
+ */
+public record NetworkProfile(long latencyMs, long jitterMs, double lossRate) {
+
+  /** No added latency or loss. */
+  public static final NetworkProfile NONE = new NetworkProfile(0L, 0L, 0.0);
+
+  /** Wired classroom network. */
+  public static final NetworkProfile LAN = new NetworkProfile(1L, 1L, 0.0);
+
+  /** Busy classroom Wi-Fi. */
+  public static final NetworkProfile WIFI = new NetworkProfile(15L, 20L, 0.02);
+
+  /** The conditions of {@link SlowNettyNetworkHandler}. */
+  public static final NetworkProfile SLOW =
+      new NetworkProfile(
+          SlowNettyNetworkHandler.NETWORK_LATENCY_MS,
+          0L,
+          SlowNettyNetworkHandler.CLIENT_PACKAGE_DROP_RATE);
+
+  /**
+   * Creates a validated network profile.
+   *
+   * @param latencyMs one-way latency added to every message
+   * @param jitterMs maximum additional random latency of unreliable messages
+   * @param lossRate probability (0.0 - 1.0) that an unreliable message is dropped
+   * @throws IllegalArgumentException if a value is out of range
+   */
+  public NetworkProfile {
+    if (latencyMs < 0L || jitterMs < 0L) {
+      throw new IllegalArgumentException("latency and jitter must not be negative");
+    }
+    if (!(lossRate >= 0.0 && lossRate <= 1.0)) {
+      throw new IllegalArgumentException("lossRate must be between 0.0 and 1.0");
+    }
+  }
+
+  /**
+   * Parses a profile name ({@code none}, {@code lan}, {@code wifi}, {@code slow}) or a custom
+   * profile of the form {@code <latencyMs>/<jitterMs>/<lossRate>}, e.g. {@code 40/10/0.05}.
+   *
+   * @param value profile name or custom profile
+   * @return the parsed profile
+   * @throws IllegalArgumentException if the value is neither a known name nor a valid profile
+   */
+  public static NetworkProfile parse(String value) {
+    switch (value.toLowerCase(Locale.ROOT)) {
+      case "none" -> {
+        return NONE;
+      }
+      case "lan" -> {
+        return LAN;
+      }
+      case "wifi" -> {
+        return WIFI;
+      }
+      case "slow" -> {
+        return SLOW;
+      }
+      default -> {
+        String[] parts = value.split("/");
+        if (parts.length != 3) {
+          throw new IllegalArgumentException(
+              "Unknown network profile '" + value + "', expected latency/jitter/loss");
+        }
+        try {
+          return new NetworkProfile(
+              Long.parseLong(parts[0].trim()),
+              Long.parseLong(parts[1].trim()),
+              Double.parseDouble(parts[2].trim()));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid network profile '" + value + "'", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the delay of the next message.
+   *
+   * @param reliable whether the message is sent reliably (TCP)
+   * @return delay in milliseconds
+   */
+  public long delayMs(boolean reliable) {
+    if (reliable || jitterMs == 0L) {
+      return latencyMs;
+    }
+    return latencyMs + ThreadLocalRandom.current().nextLong(jitterMs + 1L);
+  }
+
+  /**
+   * Decides whether the next unreliable message is lost.
+   *
+   * @return true if the message should be dropped
+   */
+  public boolean drop() {
+    return lossRate > 0.0 && ThreadLocalRandom.current().nextDouble() < lossRate;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT, "%d ms +%d ms jitter, %.1f%% loss", latencyMs, jitterMs, lossRate * 100.0);
+  }
+}
@@ -0,0 +1,517 @@
+package engine.network.loadtest;
+
+import static engine.network.codec.NetworkCodec.deserialize;
+import static engine.network.codec.NetworkCodec.encode;
+import static engine.network.config.NetworkConfig.MAX_TCP_OBJECT_SIZE;
+import static engine.network.config.NetworkConfig.PROTOCOL_VERSION;
+import static engine.network.config.NetworkConfig.SAFE_UDP_MTU;
+import static engine.network.config.NetworkConfig.TCP_CONNECT_TIMEOUT_MS;
+import static engine.network.config.NetworkConfig.TCP_INITIAL_BYTES_TO_STRIP;
+import static engine.network.config.NetworkConfig.TCP_LENGTH_ADJUSTMENT;
+import static engine.network.config.NetworkConfig.TCP_LENGTH_FIELD_LENGTH;
+import static engine.network.config.NetworkConfig.TCP_LENGTH_FIELD_OFFSET;
+import static engine.network.config.NetworkConfig.UDP_FRAGMENT_TIMEOUT_MS;
+import static engine.network.config.NetworkConfig.UDP_KEEPALIVE_INTERVAL_MS;
+import static engine.network.config.NetworkConfig.UDP_RETRY_INITIAL_DELAY_MS;
+
+import engine.network.client.ClientNetwork;
+import engine.network.codec.CompactSnapshotDecoder;
+import engine.network.codec.UdpFragmenter;
+import engine.network.codec.UdpReassembler;
+import engine.network.messages.NetworkMessage;
+import engine.network.messages.c2s.ConnectRequest;
+import engine.network.messages.c2s.DebugTelemetryRequest;
+import engine.network.messages.c2s.InitialWorldReady;
+import engine.network.messages.c2s.InputMessage;
+import engine.network.messages.c2s.RegisterUdp;
+import engine.network.messages.c2s.SnapshotAck;
+import engine.network.messages.s2c.ConnectAck;
+import engine.network.messages.s2c.ConnectReject;
+import engine.network.messages.s2c.DebugTelemetrySnapshot;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.InitialWorldComplete;
+import engine.network.messages.s2c.RegisterAck;
+import engine.network.messages.s2c.SnapshotMessage;
+import engine.utils.logging.DungeonLogger;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Headless client that speaks the multiplayer protocol of {@link ClientNetwork} without a game.
+ *
+ * <p>The client connects over TCP, registers its UDP address, answers {@link InitialWorldComplete},
+ * sends the inputs of its {@link InputScript} and acknowledges received snapshots. It does not
+ * apply snapshots; it only counts them. All traffic passes through its {@link NetworkProfile}.
+ *
+ * <p>{@link ClientNetwork} cannot be used for this, because it stores the session in a shared file
+ * and reports to the global {@code NetworkTelemetry}. All handlers and timers of one client run on
+ * the event loop of its TCP channel, so the client itself needs no locking.
+ */
+final class SyntheticClient {
+  private static final DungeonLogger LOGGER = DungeonLogger.getLogger(SyntheticClient.class);
+
+  private static final long SNAPSHOT_ACK_INTERVAL_MS = 100L;
+  private static final int TELEMETRY_INTERVAL_MS = 1_000;
+
+  private final int index;
+  private final LoadTestConfig config;
+  private final InputScript script;
+  private final Random random;
+  private final Consumer<DebugTelemetrySnapshot> telemetryListener;
+  private final UdpReassembler udpReassembler = new UdpReassembler(UDP_FRAGMENT_TIMEOUT_MS);
+
+  private final LongAdder fullSnapshots = new LongAdder();
+  private final LongAdder deltaSnapshots = new LongAdder();
+  private final LongAdder snapshotBytes = new LongAdder();
+  private final LongAdder inboundBytes = new LongAdder();
+  private final LongAdder outboundBytes = new LongAdder();
+  private final LongAdder inputsSent = new LongAdder();
+  private final LongAdder droppedInbound = new LongAdder();
+  private final LongAdder droppedOutbound = new LongAdder();
+  private final LongAdder decodeErrors = new LongAdder();
+
+  private volatile Channel tcp;
+  private volatile Channel udp;
+  private volatile InetSocketAddress udpRemote;
+  private volatile CompactSnapshotDecoder compactSnapshots;
+  private volatile boolean connected;
+  private volatile boolean udpReady;
+  private volatile boolean closed;
+  private volatile String rejectReason = "n/a";
+  private volatile long connectMillis = -1L;
+
+  private long connectStartNanos;
+  private int sessionId;
+  private byte[] sessionToken;
+  private short clientId;
+  private int latestSnapshotTick = -1;
+  private int lastAckedSnapshotTick = -1;
+  private long lastRegisterUdpMs;
+  private int inputTick;
+  private short sequence;
+  private ScheduledFuture<?> inputTask;
+  private ScheduledFuture<?> maintenanceTask;
+
+  /**
+   * Creates a synthetic client.
+   *
+   * @param index index of the client, used for its player name and random seed
+   * @param config load test configuration
+   * @param telemetryListener receives the server telemetry stream, or null to not request it
+   */
+  SyntheticClient(
+      int index, LoadTestConfig config, Consumer<DebugTelemetrySnapshot> telemetryListener) {
+    this.index = index;
+    this.config = config;
+    this.script = InputScript.named(config.script());
+    this.random = new Random(config.seed() * 31L + index);
+    this.telemetryListener = telemetryListener;
+  }
+
+  /**
+   * Opens the TCP connection and starts the handshake.
+   *
+   * @param group event loop group shared by all synthetic clients
+   * @param host server host
+   * @return future of the TCP connect
+   */
+  ChannelFuture connect(EventLoopGroup group, String host) {
+    connectStartNanos = System.nanoTime();
+    Bootstrap bootstrap =
+        new Bootstrap()
+            .group(group)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TCP_CONNECT_TIMEOUT_MS)
+            .handler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(SocketChannel ch) {
+                    ch.pipeline()
+                        .addLast(
+                            new LengthFieldBasedFrameDecoder(
+                                MAX_TCP_OBJECT_SIZE + 4,
+                                TCP_LENGTH_FIELD_OFFSET,
+                                TCP_LENGTH_FIELD_LENGTH,
+                                TCP_LENGTH_ADJUSTMENT,
+                                TCP_INITIAL_BYTES_TO_STRIP),
+                            new TcpHandler());
+                  }
+                });
+    ChannelFuture future = bootstrap.connect(host, config.port());
+    future.addListener(
+        f -> {
+          if (!f.isSuccess()) {
+            rejectReason = "connect failed: " + f.cause().getMessage();
+          }
+        });
+    return future;
+  }
+
+  /** Stops the client and closes its channels. */
+  void close() {
+    closed = true;
+    Channel channel = tcp;
+    if (channel == null) {
+      return;
+    }
+    channel
+        .eventLoop()
+        .execute(
+            () -> {
+              cancel(inputTask);
+              cancel(maintenanceTask);
+              if (udp != null) {
+                udp.close();
+              }
+              channel.close();
+            });
+  }
+
+  /**
+   * Returns whether the server accepted this client and the connection is still open.
+   *
+   * @return true if the client is connected
+   */
+  boolean isConnected() {
+    return connected;
+  }
+
+  /** Resets the traffic counters, e.g. at the end of the ramp-up. */
+  void resetCounters() {
+    fullSnapshots.reset();
+    deltaSnapshots.reset();
+    snapshotBytes.reset();
+    inboundBytes.reset();
+    outboundBytes.reset();
+    inputsSent.reset();
+    droppedInbound.reset();
+    droppedOutbound.reset();
+    decodeErrors.reset();
+  }
+
+  /**
+   * Returns the current counters of this client.
+   *
+   * @return counters since the last {@link #resetCounters()}
+   */
+  LoadTestReport.ClientResult result() {
+    return new LoadTestReport.ClientResult(
+        index,
+        connected,
+        udpReady,
+        rejectReason,
+        connectMillis,
+        fullSnapshots.sum(),
+        deltaSnapshots.sum(),
+        snapshotBytes.sum(),
+        inboundBytes.sum(),
+        outboundBytes.sum(),
+        inputsSent.sum(),
+        droppedInbound.sum(),
+        droppedOutbound.sum(),
+        decodeErrors.sum());
+  }
+
+  // ---- inbound ----
+
+  private void receive(NetworkMessage msg, int size, boolean reliable) {
+    Channel channel = tcp;
+    if (channel == null) {
+      return;
+    }
+    later(channel.eventLoop(), config.profile().delayMs(reliable), () -> handle(msg, size));
+  }
+
+  private void handle(NetworkMessage msg, int size) {
+    if (closed) {
+      return;
+    }
+    if (msg instanceof ConnectAck ack) {
+      onConnectAck(ack);
+    } else if (msg instanceof ConnectReject(byte reason)) {
+      rejectReason = ConnectReject.Reason.fromCode(reason).name();
+      close();
+    } else if (msg instanceof RegisterAck(boolean ok)) {
+      udpReady = ok;
+    } else if (msg instanceof InitialWorldComplete) {
+      sendTcp(new InitialWorldReady());
+    } else if (msg instanceof SnapshotMessage snapshot) {
+      fullSnapshots.increment();
+      snapshotBytes.add(size);
+      latestSnapshotTick = Math.max(latestSnapshotTick, snapshot.serverTick());
+      // Full snapshots establish delta baselines, so the real client acknowledges them at once.
+      acknowledgeSnapshot();
+    } else if (msg instanceof DeltaSnapshotMessage delta) {
+      deltaSnapshots.increment();
+      snapshotBytes.add(size);
+      latestSnapshotTick = Math.max(latestSnapshotTick, delta.serverTick());
+    } else if (msg instanceof DebugTelemetrySnapshot telemetry && telemetryListener != null) {
+      telemetryListener.accept(telemetry);
+    }
+  }
+
+  private void onConnectAck(ConnectAck ack) {
+    clientId = ack.clientId();
+    sessionId = ack.sessionId();
+    sessionToken = ack.sessionToken();
+    connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartNanos);
+    connected = true;
+    openUdp();
+
+    EventLoop loop = tcp.eventLoop();
+    maintenanceTask =
+        loop.scheduleAtFixedRate(
+            this::runMaintenance, 0L, SNAPSHOT_ACK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    if (config.inputRateHz() > 0) {
+      long periodMicros = 1_000_000L / config.inputRateHz();
+      inputTask =
+          loop.scheduleAtFixedRate(
+              this::sendInput, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+    if (telemetryListener != null) {
+      sendTcp(
+          new DebugTelemetryRequest(
+              1L, DebugTelemetryRequest.Mode.START_STREAM, TELEMETRY_INTERVAL_MS));
+    }
+  }
+
+  private void runMaintenance() {
+    long now = System.currentTimeMillis();
+    long registerInterval = udpReady ? UDP_KEEPALIVE_INTERVAL_MS : UDP_RETRY_INITIAL_DELAY_MS;
+    if (udp != null && now - lastRegisterUdpMs >= registerInterval) {
+      lastRegisterUdpMs = now;
+      sendUdp(new RegisterUdp(sessionId, sessionToken, clientId));
+    }
+    // Inputs piggyback the latest snapshot tick; explicit acks cover idle clients and lost inputs.
+    acknowledgeSnapshot();
+  }
+
+  private void acknowledgeSnapshot() {
+    if (latestSnapshotTick > lastAckedSnapshotTick) {
+      lastAckedSnapshotTick = latestSnapshotTick;
+      sendTcp(new SnapshotAck(latestSnapshotTick));
+    }
+  }
+
+  // ---- outbound ----
+
+  private void sendInput() {
+    int tick = inputTick++;
+    Optional<InputMessage> next = script.next(tick, random);
+    if (next.isEmpty() || closed) {
+      return;
+    }
+    InputMessage template = next.orElseThrow();
+    InputMessage input =
+        new InputMessage(
+            sessionId,
+            tick,
+            sequence++,
+            latestSnapshotTick >= 0 ? Optional.of(latestSnapshotTick) : Optional.empty(),
+            template.action(),
+            template.payload());
+    inputsSent.increment();
+    if (udpReady) {
+      sendUdp(input);
+    } else {
+      sendTcp(input);
+    }
+  }
+
+  private void sendTcp(NetworkMessage msg) {
+    Channel channel = tcp;
+    if (channel == null || !channel.isActive()) {
+      return;
+    }
+    ByteBuf buf;
+    try {
+      buf = encode(msg, channel.alloc(), TCP_LENGTH_FIELD_LENGTH);
+    } catch (IOException e) {
+      LOGGER.warn("Client {} failed to encode {}", index, msg.getClass().getSimpleName(), e);
+      return;
+    }
+    buf.setInt(0, buf.readableBytes() - TCP_LENGTH_FIELD_LENGTH);
+    outboundBytes.add(buf.readableBytes());
+    later(
+        channel.eventLoop(),
+        config.profile().delayMs(true),
+        () -> channel.writeAndFlush(buf, channel.voidPromise()));
+  }
+
+  private void sendUdp(NetworkMessage msg) {
+    Channel channel = udp;
+    InetSocketAddress target = udpRemote;
+    if (channel == null || !channel.isActive() || target == null) {
+      return;
+    }
+    ByteBuf buf;
+    try {
+      buf = encode(msg, channel.alloc());
+    } catch (IOException e) {
+      LOGGER.warn("Client {} failed to encode {}", index, msg.getClass().getSimpleName(), e);
+      return;
+    }
+    if (buf.readableBytes() > SAFE_UDP_MTU) {
+      buf.release();
+      sendTcp(msg);
+      return;
+    }
+    if (config.profile().drop()) {
+      buf.release();
+      droppedOutbound.increment();
+      return;
+    }
+    outboundBytes.add(buf.readableBytes());
+    later(
+        channel.eventLoop(),
+        config.profile().delayMs(false),
+        () -> channel.writeAndFlush(new DatagramPacket(buf, target), channel.voidPromise()));
+  }
+
+  private void openUdp() {
+    Channel channel = tcp;
+    if (!(channel.remoteAddress() instanceof InetSocketAddress remote)) {
+      return;
+    }
+    udpRemote = new InetSocketAddress(remote.getAddress(), config.port());
+    // Bind to the event loop of the TCP channel, so all handlers of this client share one thread.
+    new Bootstrap()
+        .group(channel.eventLoop())
+        .channel(NioDatagramChannel.class)
+        .handler(new UdpHandler())
+        .bind(0)
+        .addListener(
+            (ChannelFuture future) -> {
+              if (!future.isSuccess()) {
+                LOGGER.warn("Client {} failed to bind UDP", index, future.cause());
+                return;
+              }
+              if (closed) {
+                future.channel().close();
+                return;
+              }
+              udp = future.channel();
+              runMaintenance();
+            });
+  }
+
+  private static void later(EventLoop loop, long delayMs, Runnable task) {
+    if (delayMs <= 0L) {
+      loop.execute(task);
+    } else {
+      loop.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static void cancel(ScheduledFuture<?> future) {
+    if (future != null) {
+      future.cancel(false);
+    }
+  }
+
+  private final class TcpHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+      tcp = ctx.channel();
+      sendTcp(
+          new ConnectRequest(
+              PROTOCOL_VERSION,
+              "load-" + index,
+              0,
+              new byte[0],
+              Optional.empty(),
+              config.compactSnapshots()));
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+      int size = frame.readableBytes();
+      inboundBytes.add(size + TCP_LENGTH_FIELD_LENGTH);
+      NetworkMessage msg;
+      try {
+        msg = deserialize(frame, compactSnapshots);
+      } catch (IOException e) {
+        decodeErrors.increment();
+        return;
+      }
+      if (msg instanceof ConnectAck ack) {
+        // Later frames may be decoded before the delayed ConnectAck is handled.
+        compactSnapshots = ack.compactSnapshots() ? new CompactSnapshotDecoder() : null;
+      }
+      receive(msg, size, true);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+      connected = false;
+      udpReady = false;
+      cancel(inputTask);
+      cancel(maintenanceTask);
+      if (udp != null) {
+        udp.close();
+      }
+      if (!closed) {
+        LOGGER.warn("Client {} lost its TCP connection", index);
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.warn("Client {} TCP error: {}", index, cause.getMessage());
+      ctx.close();
+    }
+  }
+
+  private final class UdpHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
+      ByteBuf content = packet.content();
+      int size = content.readableBytes();
+      inboundBytes.add(size);
+      if (config.profile().drop()) {
+        droppedInbound.increment();
+        return;
+      }
+      try {
+        if (UdpFragmenter.isFragment(content)) {
+          Optional<byte[]> message = udpReassembler.accept(content, System.currentTimeMillis());
+          if (message.isEmpty()) {
+            return;
+          }
+          content = Unpooled.wrappedBuffer(message.get());
+          size = message.get().length;
+        }
+        receive(deserialize(content, compactSnapshots), size, false);
+      } catch (IOException e) {
+        decodeErrors.increment();
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.warn("Client {} UDP error: {}", index, cause.getMessage());
+    }
+  }
+}
@@ -16,13 +16,15 @@ import java.util.Optional;
  * @param sessionToken token of previous session, or empty array if none
  * @param characterClass requested character class, or empty to use the server default; must not be
  *     null
+ * @param compactSnapshots true if the client can decode compact snapshots
  */
 public record ConnectRequest(
     short protocolVersion,
     String playerName,
     int sessionId,
     byte[] sessionToken,
-    Optional<CharacterClass> characterClass)
+    Optional<CharacterClass> characterClass,
+    boolean compactSnapshots)
     implements NetworkMessage {
 
   /**
@@ -35,12 +37,33 @@ public record ConnectRequest(
    * @param sessionToken token of previous session, or empty array if none
    * @param characterClass requested character class, or empty to use the server default; must not
    *     be null
+   * @param compactSnapshots true if the client can decode compact snapshots
    */
   public ConnectRequest {
     sessionToken = sessionToken == null ? new byte[0] : sessionToken.clone();
     characterClass = Objects.requireNonNull(characterClass, "characterClass");
   }
 
+  /**
+   * Create a new ConnectRequest without compact snapshot support.
+   *
+   * @param protocolVersion The protocol version the client is using. Must match the server's
+   *     version.
+   * @param playerName desired player name, must be unique on server
+   * @param sessionId id of previous session, or 0 if none
+   * @param sessionToken token of previous session, or empty array if none
+   * @param characterClass requested character class, or empty to use the server default; must not
+   *     be null
+   */
+  public ConnectRequest(
+      short protocolVersion,
+      String playerName,
+      int sessionId,
+      byte[] sessionToken,
+      Optional<CharacterClass> characterClass) {
+    this(protocolVersion, playerName, sessionId, sessionToken, characterClass, false);
+  }
+
   /**
    * Create a new ConnectRequest with no prior session.
    *
@@ -10,6 +10,20 @@ import engine.network.messages.NetworkMessage;
  * @param clientId the assigned client ID
  * @param sessionId the assigned session ID
  * @param sessionToken the assigned session token
+ * @param compactSnapshots true if the server sends compact snapshots to this client
  */
-public record ConnectAck(short clientId, int sessionId, byte[] sessionToken)
-    implements NetworkMessage {}
+public record ConnectAck(
+    short clientId, int sessionId, byte[] sessionToken, boolean compactSnapshots)
+    implements NetworkMessage {
+
+  /**
+   * Creates a connect acknowledgement without compact snapshots.
+   *
+   * @param clientId the assigned client ID
+   * @param sessionId the assigned session ID
+   * @param sessionToken the assigned session token
+   */
+  public ConnectAck(short clientId, int sessionId, byte[] sessionToken) {
+    this(clientId, sessionId, sessionToken, false);
+  }
+}
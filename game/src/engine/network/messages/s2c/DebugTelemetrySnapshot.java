@@ -85,6 +85,9 @@ public record DebugTelemetrySnapshot(
    * @param oversizedPackets UDP payloads rejected because they exceeded the safe MTU
    * @param sendFailures UDP send attempts that failed before fallback
    * @param droppedPackets inbound UDP packets dropped before dispatch
+   * @param fragmentsSent UDP fragments sent for messages exceeding the safe MTU
+   * @param messagesReassembled fragmented UDP messages reassembled completely
+   * @param fragmentsDropped UDP fragments dropped before their message was complete
    * @param lastFallbackReason last UDP fallback reason
    * @param lastDropReason last inbound UDP drop reason
    * @param lastFailureReason last UDP send failure reason
@@ -94,6 +97,9 @@ public record DebugTelemetrySnapshot(
       long oversizedPackets,
       long sendFailures,
       long droppedPackets,
+      long fragmentsSent,
+      long messagesReassembled,
+      long fragmentsDropped,
       String lastFallbackReason,
       String lastDropReason,
       String lastFailureReason) {
@@ -133,6 +139,8 @@ public record DebugTelemetrySnapshot(
    * @param historySize number of retained snapshots
    * @param historyCapacityTicks snapshot history capacity in ticks
    * @param historyCapacitySeconds snapshot history capacity in seconds
+   * @param compactSent snapshots sent with the compact encoding
+   * @param compactBytesSaved bytes saved by the compact encoding
    */
   public record Snapshots(
       long fullSent,
@@ -153,7 +161,9 @@ public record DebugTelemetrySnapshot(
       int historyServerTick,
       int historySize,
       int historyCapacityTicks,
-      double historyCapacitySeconds) {
+      double historyCapacitySeconds,
+      long compactSent,
+      long compactBytesSaved) {
     /**
      * Creates a snapshot counter payload.
      *
@@ -216,6 +226,9 @@ public record DebugTelemetrySnapshot(
    * @param lastQueueDepth inbound messages waiting when the latest network poll started
    * @param maxQueueDepthLastTenSeconds max inbound queue depth in the last ten seconds
    * @param lastQueueDrainCount inbound messages drained by the latest network poll
+   * @param frameMicrosP50LastTenSeconds median frame/tick duration in the last ten seconds
+   * @param frameMicrosP95LastTenSeconds 95th percentile frame/tick duration in the last ten seconds
+   * @param frameMicrosP99LastTenSeconds 99th percentile frame/tick duration in the last ten seconds
    */
   public record Timings(
       String lastTcpDecodeType,
@@ -236,7 +249,10 @@ public record DebugTelemetrySnapshot(
       long maxGcPauseMsLastTenSeconds,
       int lastQueueDepth,
       int maxQueueDepthLastTenSeconds,
-      int lastQueueDrainCount) {
+      int lastQueueDrainCount,
+      long frameMicrosP50LastTenSeconds,
+      long frameMicrosP95LastTenSeconds,
+      long frameMicrosP99LastTenSeconds) {
     /**
      * Creates a timing diagnostics payload.
      *
@@ -263,7 +279,7 @@ public record DebugTelemetrySnapshot(
     public static Timings empty() {
       return new Timings(
           "n/a", -1L, -1L, "n/a", -1L, -1L, "n/a", -1L, -1L, "n/a", -1L, -1L, -1L, -1L, -1L, -1L,
-          -1, -1, -1);
+          -1, -1, -1, -1L, -1L, -1L);
     }
   }
 
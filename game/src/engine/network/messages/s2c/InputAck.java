@@ -0,0 +1,22 @@
+package engine.network.messages.s2c;
+
+import engine.network.messages.NetworkMessage;
+import engine.utils.Point;
+import engine.utils.Vector2;
+
+/**
+ * Server→client: acknowledge the inputs of the client and send the authoritative movement state
+ * of its hero.
+ *
+ * <p>The client uses this to reconcile its locally predicted hero: it resets the hero to this state
+ * and replays all inputs sent after {@code sequence}.
+ *
+ * <p>Expected max size: tiny (<= 32 bytes).
+ *
+ * @param serverTick the server tick of the acknowledged state
+ * @param sequence the sequence number of the last input the server has applied
+ * @param position the authoritative position of the hero after applying the input
+ * @param velocity the authoritative velocity of the hero after applying the input
+ */
+public record InputAck(int serverTick, short sequence, Point position, Vector2 velocity)
+    implements NetworkMessage {}
@@ -4,19 +4,23 @@ import static engine.network.config.NetworkConfig.FULL_SNAPSHOT_RECOVERY_RETRY_I
 import static engine.network.config.NetworkConfig.SERVER_DELTA_HISTORY_SIZE;
 import static engine.network.config.NetworkConfig.SERVER_DELTA_SNAPSHOT_HZ;
 import static engine.network.config.NetworkConfig.SERVER_TICK_HZ;
+import static engine.network.config.NetworkConfig.SNAPSHOT_INTEREST_HYSTERESIS;
+import static engine.network.config.NetworkConfig.SNAPSHOT_INTEREST_RADIUS;
 
 import engine.Entity;
 import engine.Game;
+import engine.components.PositionComponent;
+import engine.components.VelocityComponent;
 import engine.game.ECSManagement;
 import engine.game.PreRunConfiguration;
 import engine.level.loader.DungeonLoader;
 import engine.network.FullSnapshotSendReason;
 import engine.network.NetworkTelemetry;
-import engine.network.delta.SnapshotDeltaCompressor;
 import engine.network.delta.SnapshotHistory;
 import engine.network.messages.s2c.DeltaSnapshotMessage;
 import engine.network.messages.s2c.EntitySpawnEvent;
 import engine.network.messages.s2c.GameOverEvent;
+import engine.network.messages.s2c.InputAck;
 import engine.network.messages.s2c.SnapshotMessage;
 import engine.utils.Point;
 import engine.utils.logging.DungeonLogger;
@@ -37,6 +41,12 @@ import java.util.concurrent.TimeUnit;
  * <p>Handles ticking the game state, processing client inputs, and sending snapshots to clients at
  * configured rates.
  *
+ * <p>Each client only receives the entities around its hero, see {@link SnapshotInterestFilter}.
+ * The filtered snapshots sent to a client are retained per client and used as its delta baselines.
+ *
+ * <p>Clients that receive the same snapshot or delta in a round share its computation and encoding,
+ * see {@link SnapshotBroadcastCache}.
+ *
  * <p>Spawns hero entities for connected clients and removes them on disconnection.
  *
  * <p>Usage:
@@ -205,15 +215,31 @@ public final class AuthoritativeServerLoop {
                   snapshotHistory.size(),
                   snapshotHistory.capacity(),
                   SERVER_TICK_HZ);
-              clients.forEach(client -> sendSnapshotToClient(client, snapshot));
+              SnapshotInterestFilter interest =
+                  new SnapshotInterestFilter(
+                      snapshot, SNAPSHOT_INTEREST_RADIUS, SNAPSHOT_INTEREST_HYSTERESIS);
+              SnapshotBroadcastCache broadcast = new SnapshotBroadcastCache(net.sharedEncodings());
+              try {
+                clients.forEach(
+                    client -> {
+                      sendSnapshotToClient(client, interest, broadcast);
+                      sendInputAck(client, snapshot.serverTick());
+                    });
+              } finally {
+                broadcast.clear();
+              }
             });
   }
 
-  private void sendSnapshotToClient(ClientState client, SnapshotMessage currentSnapshot) {
+  private void sendSnapshotToClient(
+      ClientState client, SnapshotInterestFilter interest, SnapshotBroadcastCache broadcast) {
+    SnapshotMessage currentSnapshot = interest.snapshotFor(client);
     ClientSnapshotSyncState snapshotSync = client.snapshotSync();
     int ackTick = snapshotSync.lastAckedSnapshotTick();
     boolean hasAck = snapshotSync.hasAck();
-    boolean baselineInHistory = hasAck && snapshotHistory.contains(ackTick);
+    Optional<SnapshotMessage> baseSnapshot =
+        hasAck ? baselineSnapshot(client, interest, ackTick) : Optional.empty();
+    boolean baselineInHistory = baseSnapshot.isPresent();
     NetworkTelemetry.recordBaselineHealth(
         client.clientId(),
         currentSnapshot.serverTick(),
@@ -225,33 +251,89 @@ public final class AuthoritativeServerLoop {
     if (!hasAck) {
       if (snapshotSync.fullSnapshotRecoveryDue(
           currentSnapshot.serverTick(), FULL_SNAPSHOT_RECOVERY_RETRY_INTERVAL_TICKS)) {
-        sendFullSnapshot(client, currentSnapshot, snapshotSync.pendingFullSnapshotReason());
+        sendFullSnapshot(
+            client,
+            interest,
+            broadcast.fullSnapshot(currentSnapshot),
+            snapshotSync.pendingFullSnapshotReason());
       }
       return;
     }
 
-    Optional<SnapshotMessage> baseSnapshot = snapshotHistory.snapshot(ackTick);
     if (baseSnapshot.isEmpty()) {
       if (snapshotSync.fullSnapshotRecoveryDue(
           currentSnapshot.serverTick(), FULL_SNAPSHOT_RECOVERY_RETRY_INTERVAL_TICKS)) {
-        sendFullSnapshot(client, currentSnapshot, FullSnapshotSendReason.MISSING_BASELINE_HISTORY);
+        sendFullSnapshot(
+            client,
+            interest,
+            broadcast.fullSnapshot(currentSnapshot),
+            FullSnapshotSendReason.MISSING_BASELINE_HISTORY);
       }
       return;
     }
 
     SnapshotMessage baseline = baseSnapshot.orElseThrow();
     client.ensureKnownSnapshotEntityIdsForBaseline(baseline);
-    SnapshotDeltaCompressor.compress(baseline, currentSnapshot, client.knownSnapshotEntityIds())
+    broadcast
+        .delta(baseline, currentSnapshot, client.knownSnapshotEntityIds())
         .ifPresent(
             delta -> {
               client.trackKnownSnapshotEntityIds(
                   delta.entityDeltas().stream()
                       .map(entityDelta -> entityDelta.entityId())
                       .toList());
+              rememberSentSnapshot(client, interest, currentSnapshot);
               sendDeltaSnapshot(client, delta);
             });
   }
 
+  /**
+   * Sends the last applied input sequence and the resulting movement state of the client's hero.
+   *
+   * <p>Clients with prediction enabled reset their hero to this state and replay the inputs that
+   * were not applied yet. The ack is sent unreliable, a lost ack is replaced by the next one. It is
+   * also sent before the first input was applied (sequence {@code -1}), so server-side movement of
+   * the hero (e.g., knockback or teleports) reaches predicting clients.
+   *
+   * @param client the client to acknowledge the inputs of
+   * @param tick the server tick of the current snapshot
+   */
+  private void sendInputAck(ClientState client, int tick) {
+    Entity hero = client.playerEntity().orElse(null);
+    if (hero == null) {
+      return;
+    }
+    PositionComponent pc = hero.fetch(PositionComponent.class).orElse(null);
+    VelocityComponent vc = hero.fetch(VelocityComponent.class).orElse(null);
+    if (pc == null || vc == null) {
+      return;
+    }
+    Game.network()
+        .send(
+            client.clientId(),
+            new InputAck(
+                tick, (short) client.lastProcessedSeq(), pc.position(), vc.currentVelocity()),
+            false);
+  }
+
+  /**
+   * Finds the delta baseline for the given acknowledged tick.
+   *
+   * <p>With interest management, the baseline is the filtered snapshot that was sent to this
+   * client, not the full world snapshot of that tick.
+   */
+  private Optional<SnapshotMessage> baselineSnapshot(
+      ClientState client, SnapshotInterestFilter interest, int ackTick) {
+    return interest.enabled() ? client.sentSnapshot(ackTick) : snapshotHistory.snapshot(ackTick);
+  }
+
+  private void rememberSentSnapshot(
+      ClientState client, SnapshotInterestFilter interest, SnapshotMessage sentSnapshot) {
+    if (interest.enabled()) {
+      client.rememberSentSnapshot(sentSnapshot, client.snapshotSync().protectedSnapshotTicks());
+    }
+  }
+
   private Set<Integer> protectedSnapshotTicks(Set<ClientState> clients) {
     Set<Integer> protectedTicks = new HashSet<>();
     clients.forEach(
@@ -265,8 +347,12 @@ public final class AuthoritativeServerLoop {
   }
 
   private void sendFullSnapshot(
-      ClientState client, SnapshotMessage currentSnapshot, FullSnapshotSendReason reason) {
+      ClientState client,
+      SnapshotInterestFilter interest,
+      SnapshotMessage currentSnapshot,
+      FullSnapshotSendReason reason) {
     ClientSnapshotSyncState snapshotSync = client.snapshotSync();
+    rememberSentSnapshot(client, interest, currentSnapshot);
     snapshotSync.markFullSnapshotScheduled(currentSnapshot.serverTick());
     NetworkTelemetry.recordFullSnapshotScheduled(
         client.clientId(), currentSnapshot.serverTick(), currentSnapshot.entities().size(), reason);
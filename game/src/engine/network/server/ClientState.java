@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Server-side state tracking for a connected client. Manages sequence numbering, tick correlation,
@@ -94,6 +95,13 @@ public class ClientState {
   /** Server tick of the baseline used by knownSnapshotEntityIds. */
   private volatile int knownSnapshotBaseTick = -1;
 
+  /** Server-side history of the interest-filtered snapshots sent to this client. */
+  private final SnapshotHistory sentSnapshotHistory =
+      new SnapshotHistory(NetworkConfig.SERVER_DELTA_HISTORY_SIZE);
+
+  /** Entity IDs contained in the latest interest-filtered snapshot sent to this client. */
+  private volatile Set<Integer> interestEntityIds = Set.of();
+
   /**
    * Constructs a new ClientState for a fresh connection.
    *
@@ -419,6 +427,8 @@ public class ClientState {
     this.appliedSnapshotHistory.clear();
     this.knownSnapshotEntityIds.clear();
     this.knownSnapshotBaseTick = -1;
+    this.sentSnapshotHistory.clear();
+    this.interestEntityIds = Set.of();
   }
 
   /**
@@ -564,6 +574,43 @@ public class ClientState {
     return appliedSnapshotHistory.newest();
   }
 
+  /**
+   * Stores the interest-filtered snapshot that was sent to this client.
+   *
+   * <p>The stored snapshot is used as delta baseline once the client acknowledges its tick, so the
+   * delta only contains the entities this client actually received.
+   *
+   * @param snapshot interest-filtered snapshot sent to this client
+   * @param protectedSnapshotTicks snapshot ticks that must remain available as delta baselines
+   */
+  public void rememberSentSnapshot(
+      SnapshotMessage snapshot, Collection<Integer> protectedSnapshotTicks) {
+    sentSnapshotHistory.add(snapshot, protectedSnapshotTicks);
+    interestEntityIds =
+        snapshot.entities().stream()
+            .map(entity -> entity.entityId())
+            .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Finds an interest-filtered snapshot sent to this client by server tick.
+   *
+   * @param serverTick server tick to look up
+   * @return sent snapshot, if retained
+   */
+  public Optional<SnapshotMessage> sentSnapshot(int serverTick) {
+    return sentSnapshotHistory.snapshot(serverTick);
+  }
+
+  /**
+   * Returns the entity IDs of the latest interest-filtered snapshot sent to this client.
+   *
+   * @return an immutable set of entity IDs, empty if no filtered snapshot was sent yet
+   */
+  public Set<Integer> interestEntityIds() {
+    return interestEntityIds;
+  }
+
   @Override
   public String toString() {
     return "ClientState(clientId='" + clientId + "', username='" + username + "')";
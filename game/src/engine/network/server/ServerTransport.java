@@ -1,8 +1,9 @@
 package engine.network.server;
 
 import static engine.network.codec.NetworkCodec.deserialize;
-import static engine.network.codec.NetworkCodec.serialize;
+import static engine.network.codec.NetworkCodec.encodedSize;
 import static engine.network.config.NetworkConfig.MAX_TCP_OBJECT_SIZE;
+import static engine.network.config.NetworkConfig.MAX_UDP_OBJECT_SIZE;
 import static engine.network.config.NetworkConfig.PROTOCOL_VERSION;
 import static engine.network.config.NetworkConfig.SAFE_UDP_MTU;
 import static engine.network.config.NetworkConfig.TCP_INITIAL_BYTES_TO_STRIP;
@@ -17,6 +18,10 @@ import engine.game.PreRunConfiguration;
 import engine.network.FullSnapshotSendReason;
 import engine.network.MessageDispatcher;
 import engine.network.NetworkTelemetry;
+import engine.network.codec.CompactSnapshotEncoder;
+import engine.network.codec.NetworkCodec;
+import engine.network.codec.SharedEncodingCache;
+import engine.network.codec.UdpFragmenter;
 import engine.network.config.NetworkConfig;
 import engine.network.messages.NetworkMessage;
 import engine.network.messages.c2s.ConnectRequest;
@@ -44,6 +49,7 @@ import feature.entities.HeroController;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -131,6 +137,8 @@ public final class ServerTransport {
       new ConcurrentHashMap<>();
 
   private final AtomicInteger nextClientId = new AtomicInteger(1);
+  private final AtomicInteger nextFragmentedMessageId = new AtomicInteger();
+  private final SharedEncodingCache sharedEncodings = new SharedEncodingCache();
   private int nextFallbackCharacterClassIndex = 0;
 
   // Netty resources
@@ -274,6 +282,18 @@ public final class ServerTransport {
     return udpChannel;
   }
 
+  /**
+   * Gets the cache for messages that are sent to several clients.
+   *
+   * <p>Messages shared in this cache are encoded once and the encoded bytes are reused for every
+   * client. The owner of a broadcast round clears the cache when the round is done.
+   *
+   * @return The shared encoding cache.
+   */
+  public SharedEncodingCache sharedEncodings() {
+    return sharedEncodings;
+  }
+
   private CompletableFuture<Boolean> sendUdpObject(InetSocketAddress target, NetworkMessage msg) {
     if (udpChannel == null || !udpChannel.isActive()) {
       LOGGER.warn("UDP channel not active; cannot send to {}", target);
@@ -281,20 +301,23 @@ public final class ServerTransport {
       return CompletableFuture.completedFuture(false);
     }
     try {
-      byte[] data = serialize(msg);
-      if (data.length > SAFE_UDP_MTU) {
-        LOGGER.warn("Skip UDP send; payload too large ({} B) to {}", data.length, target);
-        NetworkTelemetry.recordUdpOversized(msg, data.length);
+      ByteBuf data = encodeFor(sessionForUdp(target), msg, udpChannel.alloc(), 0);
+      int size = data.readableBytes();
+      if (size > MAX_UDP_OBJECT_SIZE) {
+        data.release();
+        LOGGER.warn("Skip UDP send; payload too large ({} B) to {}", size, target);
+        NetworkTelemetry.recordUdpOversized(msg, size);
         return CompletableFuture.completedFuture(false);
       }
+      if (size > SAFE_UDP_MTU) {
+        return sendUdpFragments(target, msg, data);
+      }
       CompletableFuture<Boolean> result = new CompletableFuture<>();
-      ChannelFuture writeFuture =
-          udpChannel.writeAndFlush(
-              new DatagramPacket(udpChannel.alloc().buffer(data.length).writeBytes(data), target));
+      ChannelFuture writeFuture = udpChannel.writeAndFlush(new DatagramPacket(data, target));
       writeFuture.addListener(
           future -> {
             if (future.isSuccess()) {
-              NetworkTelemetry.recordOutboundUdp(msg, data.length);
+              NetworkTelemetry.recordOutboundUdp(msg, size);
               result.complete(true);
               return;
             }
@@ -310,25 +333,89 @@ public final class ServerTransport {
     }
   }
 
+  private Session sessionForUdp(InetSocketAddress target) {
+    Short clientId = udpToClientId.get(target);
+    return clientId == null ? null : clientIdToSession.get(clientId);
+  }
+
+  /**
+   * Encodes a message for the given session.
+   *
+   * <p>Sessions with compact snapshots get their own encoding. All other sessions use the shared
+   * encodings, so messages sent to several clients are only encoded once.
+   */
+  private ByteBuf encodeFor(
+      Session session, NetworkMessage msg, ByteBufAllocator alloc, int headroom)
+      throws IOException {
+    Optional<CompactSnapshotEncoder> compact =
+        session == null ? Optional.empty() : session.compactSnapshots();
+    if (compact.isPresent()) {
+      return NetworkCodec.encode(msg, alloc, headroom, compact.orElseThrow());
+    }
+    return sharedEncodings.encode(msg, alloc, headroom);
+  }
+
+  /**
+   * Sends a serialized message that exceeds the safe MTU as several UDP fragments.
+   *
+   * <p>The client reassembles the fragments; if one of them is lost, the whole message is dropped
+   * like any other lost datagram instead of being resent over TCP.
+   */
+  private CompletableFuture<Boolean> sendUdpFragments(
+      InetSocketAddress target, NetworkMessage msg, ByteBuf data) {
+    int size = data.readableBytes();
+    List<ByteBuf> fragments;
+    try {
+      fragments =
+          UdpFragmenter.split(
+              data, nextFragmentedMessageId.incrementAndGet(), SAFE_UDP_MTU, udpChannel.alloc());
+    } finally {
+      data.release();
+    }
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    AtomicInteger remaining = new AtomicInteger(fragments.size());
+    for (ByteBuf fragment : fragments) {
+      udpChannel
+          .write(new DatagramPacket(fragment, target))
+          .addListener(
+              future -> {
+                if (!future.isSuccess()) {
+                  if (result.complete(false)) {
+                    NetworkTelemetry.recordUdpSendFailure(msg, "server UDP fragment write failed");
+                    LOGGER.warn("Failed to write UDP fragment to {}", target, future.cause());
+                  }
+                  return;
+                }
+                if (remaining.decrementAndGet() == 0 && result.complete(true)) {
+                  NetworkTelemetry.recordOutboundUdp(msg, size);
+                }
+              });
+    }
+    udpChannel.flush();
+    NetworkTelemetry.recordUdpFragmentsSent(fragments.size());
+    return result;
+  }
+
   private CompletableFuture<Boolean> sendTcpObject(ChannelHandlerContext ctx, NetworkMessage msg) {
     if (ctx == null || ctx.channel() == null || !ctx.channel().isActive()) {
       return CompletableFuture.completedFuture(false);
     }
     try {
-      byte[] data = serialize(msg);
-      if (data.length > MAX_TCP_OBJECT_SIZE) {
-        LOGGER.warn("Skip TCP send; payload too large ({} B) to {}", data.length, ctx.channel());
+      ByteBuf buf =
+          encodeFor(sessions.get(ctx.channel().id()), msg, ctx.alloc(), TCP_LENGTH_FIELD_LENGTH);
+      int size = buf.readableBytes() - TCP_LENGTH_FIELD_LENGTH;
+      if (size > MAX_TCP_OBJECT_SIZE) {
+        buf.release();
+        LOGGER.warn("Skip TCP send; payload too large ({} B) to {}", size, ctx.channel());
         return CompletableFuture.completedFuture(false);
       }
-      ByteBuf buf = ctx.alloc().buffer(TCP_LENGTH_FIELD_LENGTH + data.length);
-      buf.writeInt(data.length);
-      buf.writeBytes(data);
+      buf.setInt(0, size);
       CompletableFuture<Boolean> result = new CompletableFuture<>();
       ctx.writeAndFlush(buf)
           .addListener(
               future -> {
                 if (future.isSuccess()) {
-                  NetworkTelemetry.recordOutboundTcp(msg, data.length, clientId(ctx));
+                  NetworkTelemetry.recordOutboundTcp(msg, size, clientId(ctx));
                   result.complete(true);
                   return;
                 }
@@ -784,7 +871,13 @@ public final class ServerTransport {
             selectedCharacterClass(req));
     session.udpReady(false);
 
-    session.sendMessage(new ConnectAck(newClientId, ServerRuntime.SESSION_ID, sessionToken), true);
+    session.sendMessage(
+        new ConnectAck(
+            newClientId,
+            ServerRuntime.SESSION_ID,
+            sessionToken,
+            enableCompactSnapshots(session, req)),
+        true);
 
     session.attachClientState(clientState);
     clientIdToSession.put(newClientId, session);
@@ -797,6 +890,28 @@ public final class ServerTransport {
     LOGGER.info("Accepted client id={} name='{}' {}", newClientId, playerName, session);
   }
 
+  /**
+   * Enables compact snapshots for the session if both client and server support them.
+   *
+   * @return true if the session uses compact snapshots
+   */
+  private static boolean enableCompactSnapshots(Session session, ConnectRequest req) {
+    if (!req.compactSnapshots() || !NetworkConfig.COMPACT_SNAPSHOTS) {
+      session.compactSnapshots(null);
+      return false;
+    }
+    session.compactSnapshots(
+        new CompactSnapshotEncoder(
+            () ->
+                session
+                    .clientState()
+                    .map(ClientState::snapshotSync)
+                    .filter(ClientSnapshotSyncState::hasAck)
+                    .map(ClientSnapshotSyncState::lastAckedSnapshotTick)
+                    .orElse(-1)));
+    return true;
+  }
+
   private void handleRestoringSession(Session session, ConnectRequest req) {
     // 1. Validate session ID
     if (req.sessionId() != ServerRuntime.SESSION_ID) {
@@ -867,7 +982,13 @@ public final class ServerTransport {
     oldClientState.resetForReconnect(ServerRuntime.SESSION_ID, newSessionToken, true);
 
     // 4. Send ConnectAck
-    session.sendMessage(new ConnectAck(clientId, ServerRuntime.SESSION_ID, newSessionToken), true);
+    session.sendMessage(
+        new ConnectAck(
+            clientId,
+            ServerRuntime.SESSION_ID,
+            newSessionToken,
+            enableCompactSnapshots(session, req)),
+        true);
 
     session.attachClientState(oldClientState);
     clientIdToSession.put(clientId, session);
@@ -1206,7 +1327,7 @@ public final class ServerTransport {
     List<EntitySpawnEvent> candidate = new ArrayList<>(batch);
     candidate.add(nextSpawnEvent);
     try {
-      return serialize(new EntitySpawnBatch(candidate)).length > MAX_TCP_OBJECT_SIZE;
+      return encodedSize(new EntitySpawnBatch(candidate)) > MAX_TCP_OBJECT_SIZE;
     } catch (IOException e) {
       LOGGER.warn("Failed to estimate initial entity spawn batch size", e);
       return false;
@@ -1,6 +1,7 @@
 package engine.network.server;
 
 import engine.network.NetworkTelemetry;
+import engine.network.codec.CompactSnapshotEncoder;
 import engine.network.messages.NetworkMessage;
 import engine.utils.logging.DungeonLogger;
 import io.netty.channel.ChannelHandlerContext;
@@ -31,6 +32,7 @@ public final class Session {
   private volatile long udpLastSeenTimeMs;
 
   private volatile ClientState clientState;
+  private volatile CompactSnapshotEncoder compactSnapshots;
 
   private final BiFunction<InetSocketAddress, NetworkMessage, CompletableFuture<Boolean>> udpSender;
   private final BiFunction<ChannelHandlerContext, NetworkMessage, CompletableFuture<Boolean>>
@@ -146,6 +148,24 @@ public final class Session {
     this.udpAddress = addr;
   }
 
+  /**
+   * Gets the compact snapshot encoder of this session.
+   *
+   * @return the encoder, or empty if the client did not negotiate compact snapshots
+   */
+  public Optional<CompactSnapshotEncoder> compactSnapshots() {
+    return Optional.ofNullable(compactSnapshots);
+  }
+
+  /**
+   * Sets the compact snapshot encoder of this session.
+   *
+   * @param encoder the encoder to use for snapshots, or null to send regular snapshots
+   */
+  public void compactSnapshots(CompactSnapshotEncoder encoder) {
+    this.compactSnapshots = encoder;
+  }
+
   /**
    * Returns whether UDP is currently considered healthy for this session.
    *
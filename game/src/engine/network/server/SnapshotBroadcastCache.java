@@ -0,0 +1,116 @@
+package engine.network.server;
+
+import engine.network.codec.SharedEncodingCache;
+import engine.network.delta.SnapshotDeltaCompressor;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.EntityState;
+import engine.network.messages.s2c.SnapshotMessage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shares snapshot work between the clients of one snapshot round.
+ *
+ * <p>Clients that acknowledged the same baseline and know the same entities get the same delta.
+ * The delta is computed once per round and shared in the transport's {@link SharedEncodingCache},
+ * so it is also encoded only once. Full snapshots sent to several clients are shared the same way.
+ *
+ * <p>Snapshots are matched by content, not by identity. With interest management, each client gets
+ * its own filtered snapshot instance, but all of them are cut from the same full snapshot of their
+ * tick. Two filtered snapshots with the same server tick and the same entity ids are therefore
+ * equal, so clients with the same interest set still share deltas and full snapshots.
+ */
+final class SnapshotBroadcastCache {
+
+  private final SharedEncodingCache encodings;
+  private final Map<DeltaKey, Optional<DeltaSnapshotMessage>> deltas = new HashMap<>();
+  private final Map<SnapshotKey, SnapshotMessage> fullSnapshots = new HashMap<>();
+  private final Map<SnapshotMessage, SnapshotKey> keys = new IdentityHashMap<>();
+
+  /**
+   * Creates a cache for one snapshot round.
+   *
+   * @param encodings cache of the transport that sends the snapshots
+   */
+  SnapshotBroadcastCache(SharedEncodingCache encodings) {
+    this.encodings = Objects.requireNonNull(encodings, "encodings");
+  }
+
+  /**
+   * Returns the full snapshot to send and marks it for shared encoding.
+   *
+   * @param snapshot the full snapshot that is sent to a client
+   * @return the first snapshot of this round with the same content as the given one
+   */
+  SnapshotMessage fullSnapshot(SnapshotMessage snapshot) {
+    return fullSnapshots.computeIfAbsent(
+        keyOf(snapshot),
+        key -> {
+          encodings.share(snapshot);
+          return snapshot;
+        });
+  }
+
+  /**
+   * Returns the delta from the baseline to the current snapshot, computing it only once per key.
+   *
+   * @param baseline snapshot acknowledged by the client
+   * @param current snapshot for the current tick
+   * @param knownEntityIds entities known by the client since its full baseline
+   * @return the shared delta, or empty if nothing changed
+   * @see SnapshotDeltaCompressor#compress(SnapshotMessage, SnapshotMessage, java.util.Collection)
+   */
+  Optional<DeltaSnapshotMessage> delta(
+      SnapshotMessage baseline, SnapshotMessage current, Set<Integer> knownEntityIds) {
+    DeltaKey key = new DeltaKey(keyOf(baseline), keyOf(current), knownEntityIds);
+    Optional<DeltaSnapshotMessage> cached = deltas.get(key);
+    if (cached != null) return cached;
+
+    Optional<DeltaSnapshotMessage> delta =
+        SnapshotDeltaCompressor.compress(baseline, current, knownEntityIds);
+    delta.ifPresent(encodings::share);
+    // the client's set changes after sending, so the stored key needs its own copy
+    deltas.put(new DeltaKey(key.baseline(), key.current(), Set.copyOf(knownEntityIds)), delta);
+    return delta;
+  }
+
+  /**
+   * Returns the number of distinct deltas computed in this round.
+   *
+   * @return number of computed deltas
+   */
+  int computedDeltas() {
+    return deltas.size();
+  }
+
+  /** Ends the round and releases the shared encodings. */
+  void clear() {
+    deltas.clear();
+    fullSnapshots.clear();
+    keys.clear();
+    encodings.clear();
+  }
+
+  private SnapshotKey keyOf(SnapshotMessage snapshot) {
+    return keys.computeIfAbsent(
+        snapshot,
+        s ->
+            new SnapshotKey(
+                s.serverTick(), s.entities().stream().map(EntityState::entityId).toList()));
+  }
+
+  /**
+   * Content of a snapshot of the current round.
+   *
+   * <p>All snapshots of one tick are filtered from the same full snapshot, so the tick and the
+   * entity ids determine the entity states and the level state.
+   */
+  private record SnapshotKey(int serverTick, List<Integer> entityIds) {}
+
+  private record DeltaKey(SnapshotKey baseline, SnapshotKey current, Set<Integer> knownEntityIds) {}
+}
@@ -0,0 +1,155 @@
+package engine.network.server;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.PlayerComponent;
+import engine.components.PositionComponent;
+import engine.network.messages.s2c.EntityState;
+import engine.network.messages.s2c.SnapshotMessage;
+import engine.utils.Point;
+import feature.utils.EntityUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Area-of-interest filter that reduces a full world snapshot to the entities relevant for a single
+ * client.
+ *
+ * <p>A client is interested in every entity within {@code radius} tiles around its hero, plus
+ * entities that are always relevant: players (including their inventories, which are part of the
+ * player state) and snapshot entries without a position. Entities the client already received stay
+ * relevant until they leave the radius plus {@code hysteresis}.
+ *
+ * <p>The filter is created once per snapshot and shared by all clients. Range lookups use the
+ * spatial entity index of the ECS, so the cost per client grows with the number of entities around
+ * its hero instead of with the size of the level.
+ *
+ * <p>Entities that enter the interest set of a client are contained in its next delta snapshot
+ * with their full state, entities that leave it are reported as removed. Clients spawn or remove
+ * them just like entities created or destroyed on the server.
+ */
+public final class SnapshotInterestFilter {
+
+  private final SnapshotMessage snapshot;
+  private final float radius;
+  private final float hysteresis;
+  private final Map<Integer, Integer> indexById = new HashMap<>();
+  private final Set<Integer> alwaysRelevant = new HashSet<>();
+
+  /**
+   * Creates a filter for the given full snapshot.
+   *
+   * @param snapshot full world snapshot
+   * @param radius interest radius around a hero in tiles; zero or less disables filtering
+   * @param hysteresis additional radius in which already known entities stay relevant
+   */
+  public SnapshotInterestFilter(SnapshotMessage snapshot, float radius, float hysteresis) {
+    this.snapshot = Objects.requireNonNull(snapshot, "snapshot");
+    this.radius = radius;
+    this.hysteresis = Math.max(0f, hysteresis);
+    if (!enabled()) {
+      return;
+    }
+    List<EntityState> entities = snapshot.entities();
+    for (int i = 0; i < entities.size(); i++) {
+      EntityState state = entities.get(i);
+      indexById.put(state.entityId(), i);
+      if (state.position().isEmpty() || isPlayer(state.entityId())) {
+        alwaysRelevant.add(state.entityId());
+      }
+    }
+  }
+
+  /**
+   * Returns whether interest management is enabled for this filter.
+   *
+   * @return true if snapshots are filtered per client
+   */
+  public boolean enabled() {
+    return radius > 0f;
+  }
+
+  /**
+   * Returns the full world snapshot this filter was created for.
+   *
+   * @return full snapshot
+   */
+  public SnapshotMessage fullSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Builds the snapshot for the given client.
+   *
+   * <p>Clients without a positioned hero receive the full snapshot.
+   *
+   * @param client client to build the snapshot for
+   * @return snapshot containing only the entities relevant for the client
+   */
+  public SnapshotMessage snapshotFor(ClientState client) {
+    if (!enabled()) {
+      return snapshot;
+    }
+    return client
+        .playerEntity()
+        .filter(Game::exist)
+        .filter(hero -> hero.isPresent(PositionComponent.class))
+        .map(hero -> snapshotAround(EntityUtils.getPosition(hero), client.interestEntityIds()))
+        .orElse(snapshot);
+  }
+
+  /**
+   * Builds the snapshot for a client whose hero is at the given position.
+   *
+   * @param center position of the hero
+   * @param previous entity IDs the client received with its latest snapshot
+   * @return snapshot containing only the relevant entities
+   */
+  public SnapshotMessage snapshotAround(Point center, Set<Integer> previous) {
+    if (!enabled()) {
+      return snapshot;
+    }
+    Set<Integer> interest = new HashSet<>(alwaysRelevant);
+    idsInRange(center, radius).forEach(interest::add);
+    if (hysteresis > 0f && !previous.isEmpty()) {
+      idsInRange(center, radius + hysteresis).filter(previous::contains).forEach(interest::add);
+    }
+    return filter(interest);
+  }
+
+  private Stream<Integer> idsInRange(Point center, float range) {
+    return Game.entitiesInRange(center, range).map(Entity::id).filter(indexById::containsKey);
+  }
+
+  private SnapshotMessage filter(Set<Integer> interest) {
+    if (interest.size() == indexById.size()) {
+      return snapshot;
+    }
+    int[] indices = new int[interest.size()];
+    int count = 0;
+    for (Integer id : interest) {
+      indices[count++] = indexById.get(id);
+    }
+    // Keep the order of the full snapshot, so every client applies entities in the same order
+    Arrays.sort(indices);
+    List<EntityState> source = snapshot.entities();
+    List<EntityState> entities = new ArrayList<>(count);
+    for (int index : indices) {
+      entities.add(source.get(index));
+    }
+    return new SnapshotMessage(snapshot.serverTick(), entities, snapshot.levelState());
+  }
+
+  private static boolean isPlayer(int entityId) {
+    return Game.findEntityById(entityId)
+        .map(entity -> entity.isPresent(PlayerComponent.class))
+        .orElse(false);
+  }
+}
@@ -45,7 +45,7 @@ public class MultiplayerServer {
     Game.run();
   }
 
-  private static void onSetup() {
+  static void onSetup() {
     ECSManagement.add(new PositionSystem());
     ECSManagement.add(new VelocitySystem());
     ECSManagement.add(new FrictionSystem());
@@ -62,7 +62,7 @@ public class MultiplayerServer {
     ECSManagement.add(new PressurePlateSystem());
   }
 
-  private static void onFrame() {
+  static void onFrame() {
     HeroController.drainAndApplyInputs();
   }
 }
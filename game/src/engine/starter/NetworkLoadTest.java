@@ -0,0 +1,69 @@
+package engine.starter;
+
+import engine.Game;
+import engine.game.PreRunConfiguration;
+import engine.level.DungeonLevel;
+import engine.level.loader.DungeonLoader;
+import engine.network.config.NetworkConfig;
+import engine.network.loadtest.LoadTestConfig;
+import engine.network.loadtest.LoadTestHarness;
+import engine.network.loadtest.LoadTestReport;
+import engine.utils.Tuple;
+import engine.utils.logging.DungeonLogLevel;
+import engine.utils.logging.DungeonLogger;
+import engine.utils.logging.DungeonLoggerConfig;
+
+/**
+ * Headless load test of the multiplayer server with synthetic clients.
+ *
+ * <p>Without {@code --host}, the {@link MultiplayerServer} is started in-process with debug
+ * telemetry enabled. See {@link LoadTestConfig} for all arguments.
+ */
+public class NetworkLoadTest {
+  private static final DungeonLogger LOGGER = DungeonLogger.getLogger(NetworkLoadTest.class);
+
+  /**
+   * Main method to run the load test.
+   *
+   * @param args command line arguments of the form {@code --name=value}
+   * @throws InterruptedException if the load test is interrupted
+   */
+  public static void main(String[] args) throws InterruptedException {
+    LoadTestConfig config;
+    try {
+      config = LoadTestConfig.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+      return;
+    }
+    DungeonLoggerConfig.initWithLevel(DungeonLogLevel.INFO);
+
+    if (config.inProcessServer()) {
+      startServer(config);
+    }
+    LoadTestReport report = new LoadTestHarness(config).run();
+    System.out.println(report.format());
+
+    if (config.inProcessServer()) {
+      Game.exit("Load test finished");
+    }
+    // The server loop and Netty threads are not daemon threads.
+    System.exit(0);
+  }
+
+  private static void startServer(LoadTestConfig config) {
+    LOGGER.info("Starting in-process server on port {}", config.port());
+    NetworkConfig.DEBUG_TELEMETRY_ENABLED = true;
+    PreRunConfiguration.multiplayerEnabled(true);
+    PreRunConfiguration.isNetworkServer(true);
+    PreRunConfiguration.networkPort(config.port());
+    PreRunConfiguration.networkServerMaximumPlayers(config.clients());
+    DungeonLoader.addLevel(Tuple.of("playground", DungeonLevel.class));
+
+    Game.userOnSetup(MultiplayerServer::onSetup);
+    Game.userOnFrame(MultiplayerServer::onFrame);
+
+    Game.run();
+  }
+}
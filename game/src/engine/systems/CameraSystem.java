@@ -27,6 +27,10 @@ import feature.utils.EntityUtils;
  * <p>In {@link #isPointInFrustum(Point)} also checks if points are visible on screen and should be
  * rendered.
  *
+ * <p>With a fixed timestep (see {@link PreRunConfiguration#fixedTimestep(boolean)}), the camera is
+ * not moved per tick but per rendered frame (see {@link #followFrame(float, float)}), following the
+ * same interpolated position the {@link DrawSystem} draws the entity at.
+ *
  * @see CameraComponent
  */
 public final class CameraSystem extends System {
@@ -136,12 +140,34 @@ public final class CameraSystem extends System {
 
   @Override
   public void execute() {
+    // With a fixed timestep, the GameLoop moves the camera once per rendered frame instead
+    if (PreRunConfiguration.fixedTimestep()) return;
+    follow(1f, CAMERA_FOCUS_LERP);
+  }
+
+  /**
+   * Move the camera for a rendered frame of a fixed timestep simulation.
+   *
+   * <p>The camera focuses the position interpolated between the last two ticks, like the {@link
+   * DrawSystem}. The focus lerp is scaled to the frame time, so the camera approaches its focus
+   * point at the same speed no matter how many frames are rendered per tick.
+   *
+   * @param delta the time since the last rendered frame, in seconds
+   * @param alpha the fraction of the next tick that has passed, between 0 and 1
+   * @see PositionComponent#interpolatedPosition(float)
+   */
+  public void followFrame(float delta, float alpha) {
+    float ticks = delta * PreRunConfiguration.frameRate();
+    follow(alpha, 1f - (float) Math.pow(1f - CAMERA_FOCUS_LERP, ticks));
+  }
+
+  private void follow(float alpha, float lerp) {
     filteredEntityStream(CameraComponent.class, PositionComponent.class)
         .filter(CameraSystem::hasLegalPosition)
         .findAny()
-        .ifPresentOrElse(this::focus, this::focus);
+        .ifPresentOrElse(entity -> focus(entity, alpha), this::focus);
 
-    approachFocusPoint();
+    approachFocusPoint(lerp);
     CAMERA.update();
   }
 
@@ -159,14 +185,12 @@ public final class CameraSystem extends System {
     CAMERA.viewportHeight = viewportWidth() / aspectRatio;
   }
 
-  private void approachFocusPoint() {
+  private void approachFocusPoint(float lerp) {
     if (actualPosition == null) {
       actualPosition = focusPoint;
     }
-    float newX =
-        actualPosition.x() * (1 - CAMERA_FOCUS_LERP) + (focusPoint.x() * CAMERA_FOCUS_LERP);
-    float newY =
-        actualPosition.y() * (1 - CAMERA_FOCUS_LERP) + (focusPoint.y() * CAMERA_FOCUS_LERP);
+    float newX = actualPosition.x() * (1 - lerp) + (focusPoint.x() * lerp);
+    float newY = actualPosition.y() * (1 - lerp) + (focusPoint.y() * lerp);
     actualPosition = new Point(newX, newY);
 
     if (actualPosition.distance(focusPoint) <= 0.01f) {
@@ -184,8 +208,16 @@ public final class CameraSystem extends System {
     focus(focusPoint);
   }
 
-  private void focus(Entity entity) {
-    focus(EntityUtils.getPosition(entity));
+  private void focus(Entity entity, float alpha) {
+    Point center = EntityUtils.getPosition(entity);
+    PositionComponent pc = entity.fetch(PositionComponent.class).orElseThrow();
+    Point position = pc.position();
+    Point interpolated = pc.interpolatedPosition(alpha);
+    // Keep the offset of the center (e.g., of the collider) to the position of the entity
+    focus(
+        new Point(
+            center.x() + interpolated.x() - position.x(),
+            center.y() + interpolated.y() - position.y()));
   }
 
   private void focus(Point point) {
@@ -0,0 +1,195 @@
+package engine.systems;
+
+import engine.Entity;
+import engine.Game;
+import engine.System;
+import engine.components.DrawComponent;
+import engine.components.NetworkPositionComponent;
+import engine.components.PlayerComponent;
+import engine.components.PositionComponent;
+import engine.components.VelocityComponent;
+import engine.network.NetworkTelemetry;
+import engine.network.client.InputHistory;
+import engine.network.messages.c2s.InputMessage;
+import engine.network.messages.s2c.InputAck;
+import engine.utils.Point;
+import engine.utils.Vector2;
+import engine.utils.logging.DungeonLogger;
+import feature.components.CharacterClassComponent;
+import feature.entities.HeroController;
+import feature.systems.PositionSync;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicts the movement of the local hero on a multiplayer client.
+ *
+ * <p>Without prediction, the local hero only moves when a snapshot arrives, so every input is
+ * delayed by a full round trip. With prediction enabled, this system applies the movement inputs
+ * sent to the server immediately to the local hero and runs the same per-entity steps as {@link
+ * VelocitySystem}, {@link FrictionSystem} and {@link MoveSystem} on the server. Each predicted
+ * tick is stored in an {@link InputHistory}.
+ *
+ * <p>The server answers with an {@link InputAck} containing the last applied input sequence and the
+ * authoritative position and velocity of the hero. The system then resets the hero to this state,
+ * drops the acknowledged ticks from the history and replays the remaining ones. The distance
+ * between the predicted and the reconciled position is recorded in {@link NetworkTelemetry}.
+ *
+ * <p>While prediction is enabled, snapshots do not move the local hero (see {@link
+ * #predicts(Entity)}); the hero is corrected by the input acks only. Only movement inputs are
+ * predicted, everything else (skills, interactions, knockback) is applied by the server and reaches
+ * the client with the next ack.
+ *
+ * <p>Prediction is disabled by default, see {@link #useClientPrediction(boolean)}.
+ */
+public final class ClientPredictionSystem extends System {
+
+  private static final DungeonLogger LOGGER = DungeonLogger.getLogger(ClientPredictionSystem.class);
+
+  /** Corrections of at least this distance (in tiles) are treated as teleport. */
+  private static final double TELEPORT_DISTANCE = 2.0;
+
+  private static boolean clientPredictionEnabled = false;
+
+  private final VelocitySystem velocitySystem = new VelocitySystem();
+  private final FrictionSystem frictionSystem = new FrictionSystem();
+  private final MoveSystem moveSystem = new MoveSystem();
+  private final InputHistory history = new InputHistory();
+  private final List<Vector2> pendingMoves = new ArrayList<>();
+  private short lastSentSequence = -1;
+  private int lastAckTick = -1;
+
+  /** Creates a new client-side prediction system. */
+  public ClientPredictionSystem() {
+    super(
+        AuthoritativeSide.CLIENT,
+        PlayerComponent.class,
+        VelocityComponent.class,
+        PositionComponent.class,
+        DrawComponent.class);
+  }
+
+  /**
+   * Enable or disable the client-side prediction of the local hero.
+   *
+   * <p>Only has an effect on multiplayer clients.
+   *
+   * @param enabled true to predict the movement of the local hero, false to move it by snapshots
+   */
+  public static void useClientPrediction(boolean enabled) {
+    if (enabled == clientPredictionEnabled) return;
+    clientPredictionEnabled = enabled;
+    LOGGER.info("Client prediction is now {}", enabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * Check if the client-side prediction of the local hero is enabled.
+   *
+   * @return true if the movement of the local hero is predicted
+   * @see #useClientPrediction(boolean)
+   */
+  public static boolean isClientPredictionEnabled() {
+    return clientPredictionEnabled;
+  }
+
+  /**
+   * Check if the position of the given entity is predicted by this system.
+   *
+   * @param entity the entity to check
+   * @return true if prediction is enabled, this is a multiplayer client and the entity is the local
+   *     hero
+   */
+  public static boolean predicts(Entity entity) {
+    return clientPredictionEnabled
+        && Game.isMultiplayerClient()
+        && entity.fetch(PlayerComponent.class).map(PlayerComponent::isLocal).orElse(false);
+  }
+
+  /**
+   * Record an input sent to the server.
+   *
+   * <p>Movement inputs are applied to the local hero in the next tick of this system. The sequence
+   * number of each input is remembered, so the predicted tick can be matched with the server
+   * acknowledgment.
+   *
+   * @param input the input sent to the server
+   */
+  public void recordInput(InputMessage input) {
+    lastSentSequence = input.sequence();
+    if (input.action() == InputMessage.Action.MOVE
+        && input.payload() instanceof InputMessage.Move move) {
+      pendingMoves.add(move.direction());
+    }
+  }
+
+  @Override
+  public void execute() {
+    Entity hero = Game.player().orElse(null);
+    if (hero == null || !predicts(hero) || !hero.isPresent(VelocityComponent.class)) {
+      pendingMoves.clear();
+      return;
+    }
+    pendingMoves.forEach(direction -> applyMove(hero, direction));
+    history.add(lastSentSequence, pendingMoves);
+    pendingMoves.clear();
+
+    velocitySystem.update(hero);
+    frictionSystem.applyFriction(hero);
+    moveSystem.move(hero);
+  }
+
+  /**
+   * Reconcile the local hero with the authoritative state of an input acknowledgment.
+   *
+   * <p>Resets the hero to the acknowledged position and velocity and replays all predicted ticks
+   * the server has not applied yet. Acks older than the last handled one are ignored.
+   *
+   * @param ack the input acknowledgment received from the server
+   */
+  public void reconcile(InputAck ack) {
+    if (ack.serverTick() <= lastAckTick) return;
+    lastAckTick = ack.serverTick();
+    Entity hero = Game.player().orElse(null);
+    if (hero == null || !predicts(hero)) return;
+    PositionComponent pc = hero.fetch(PositionComponent.class).orElse(null);
+    VelocityComponent vc = hero.fetch(VelocityComponent.class).orElse(null);
+    if (pc == null || vc == null) return;
+
+    Point predicted = pc.position();
+    history.acknowledge(ack.sequence());
+    if (predicted.distance(ack.position()) >= TELEPORT_DISTANCE) {
+      // The pending inputs were made before the teleport, replaying them would be wrong
+      history.clear();
+    }
+    hero.remove(NetworkPositionComponent.class);
+
+    pc.position(ack.position());
+    vc.currentVelocity(ack.velocity());
+    vc.clearForces();
+    // Restore the friction force the server carries over into its next tick
+    frictionSystem.applyFriction(hero);
+    for (InputHistory.Entry entry : history.pending()) {
+      entry.moves().forEach(direction -> applyMove(hero, direction));
+      velocitySystem.calculateVelocity(vc);
+      frictionSystem.applyFriction(hero);
+      moveSystem.move(hero);
+    }
+    PositionSync.syncPosition(hero);
+
+    NetworkTelemetry.recordPredictionCorrection(
+        predicted.distance(pc.position()), history.size());
+  }
+
+  /** Forget all predicted ticks and acks, e.g., after a level change. */
+  public void reset() {
+    history.clear();
+    pendingMoves.clear();
+    lastAckTick = -1;
+  }
+
+  private static void applyMove(Entity hero, Vector2 direction) {
+    CharacterClassComponent cc = hero.fetch(CharacterClassComponent.class).orElse(null);
+    if (cc == null) return;
+    HeroController.moveHero(hero, direction.direction(), cc.characterClass().speed());
+  }
+}
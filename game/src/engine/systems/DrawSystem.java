@@ -66,6 +66,10 @@ import java.util.TreeMap;
  * <p>Each entity with a {@link DrawComponent} and a {@link PositionComponent} will be drawn on the
  * screen.
  *
+ * <p>If the game simulates with a fixed timestep (see {@link
+ * engine.game.PreRunConfiguration#fixedTimestep(boolean)}), the entities are drawn at their {@link
+ * PositionComponent#interpolatedPosition(float) interpolated position} between the last two ticks.
+ *
  * @see DrawComponent
  * @see Animation
  */
@@ -99,6 +103,7 @@ public final class DrawSystem extends System implements Disposable {
 
   private float secondsElapsed = 0f;
   private int shadersActiveLastFrame = 0;
+  private float interpolationAlpha = 1f;
 
   private int stableWidth = -1;
   private int stableHeight = -1;
@@ -284,6 +289,35 @@ public final class DrawSystem extends System implements Disposable {
     checkStableResize();
   }
 
+  /**
+   * Remember the current position of each drawn entity as the position of the previous tick.
+   *
+   * <p>Called before each tick of a fixed timestep simulation.
+   *
+   * @see PositionComponent#storePreviousPosition()
+   */
+  public void storePreviousPositions() {
+    filteredEntityStream().map(DSData::build).forEach(dsd -> dsd.pc.storePreviousPosition());
+  }
+
+  /**
+   * Set the fraction of the next tick that has passed when the next frame is rendered.
+   *
+   * <p>The entities are drawn at their position interpolated by this factor between the previous
+   * and the current tick. Without a fixed timestep, this stays {@code 1}, which draws the entities
+   * at their current position.
+   *
+   * @param alpha the interpolation factor, between 0 (previous tick) and 1 (current tick)
+   * @see PositionComponent#interpolatedPosition(float)
+   */
+  public void interpolationAlpha(float alpha) {
+    interpolationAlpha = alpha;
+  }
+
+  private Point renderPosition(final PositionComponent pc) {
+    return pc.interpolatedPosition(interpolationAlpha);
+  }
+
   /** Tracks the most recent stable window size, to not flood the FBO creation while resizing. */
   private void checkStableResize() {
     int currentWidth = Game.windowWidth();
@@ -619,7 +653,8 @@ public final class DrawSystem extends System implements Disposable {
       Rectangle worldBounds = new Rectangle(1, 1, 0, 0);
       if (pc != null) {
         worldBounds =
-            getFboWorldBounds(pc.position(), pc.scale(), Vector2.of(unscaledWidth, unscaledHeight));
+            getFboWorldBounds(
+                renderPosition(pc), pc.scale(), Vector2.of(unscaledWidth, unscaledHeight));
       }
       Rectangle shaderBounds = pass.worldBounds();
       if (shaderBounds != null && !worldBounds.intersects(shaderBounds)) {
@@ -715,8 +750,7 @@ public final class DrawSystem extends System implements Disposable {
       // passed directly to the draw method. Thus, we need to factor it in here to offset the
       // padding.
       Point offsetPosition =
-          dsd.pc
-              .position()
+          renderPosition(dsd.pc)
               .translate(
                   -paddingX * dsd.pc.scale().x() * worldWidth,
                   -paddingY * dsd.pc.scale().y() * worldHeight);
@@ -759,32 +793,36 @@ public final class DrawSystem extends System implements Disposable {
    * @param config the {@link DrawConfig} controlling scaling, tint, and offset
    */
   public void draw(final Point position, final Sprite sprite, final DrawConfig config) {
+    draw(position, (TextureRegion) sprite, config);
+  }
+
+  private void draw(final Point position, final TextureRegion region, final DrawConfig config) {
     BlendUtils.setBlending(batch());
     Affine2 transform = makeTransform(position, config);
     batch()
         .setColor(config.tintColor() != -1 ? ColorUtils.pmaColor(config.tintColor()) : Color.WHITE);
-    batch().draw(sprite, config.size().x(), config.size().y(), transform);
+    batch().draw(region, config.size().x(), config.size().y(), transform);
   }
 
   private void draw(final DSData dsd) {
     Sprite sprite = dsd.dc.getSprite();
     DrawConfig conf =
         makeConfig(dsd, Vector2.of(dsd.dc.getWidth(), dsd.dc.getHeight()), dsd.pc.scale());
-    draw(dsd.pc.position(), sprite, conf);
+    draw(renderPosition(dsd.pc), sprite, conf);
   }
 
   /**
    * Draws a texture from a path at a given position using the specified configuration.
    *
-   * <p>This method automatically wraps the texture in a {@link Sprite} using {@link TextureMap} and
-   * delegates to {@link #draw(Point, Sprite, DrawConfig)}.
+   * <p>The texture is resolved to a cached region with {@link TextureMap#regionAt(IPath)}, which
+   * points into the texture atlas if it is enabled.
    *
    * @param position the world position where the texture should be drawn
    * @param path the {@link IPath} identifying the texture to draw
    * @param config the {@link DrawConfig} controlling scaling, tint, and offset
    */
   public void draw(final Point position, final IPath path, final DrawConfig config) {
-    draw(position, new Sprite(TextureMap.instance().textureAt(path)), config);
+    draw(position, TextureMap.instance().regionAt(path), config);
   }
 
   // endregion
@@ -831,7 +869,7 @@ public final class DrawSystem extends System implements Disposable {
       return CameraSystem.getCameraWorldBounds();
     }
     return getFboWorldBounds(
-        dsd.pc.position(), dsd.pc.scale(), Vector2.of(dsd.dc.getWidth(), dsd.dc.getHeight()));
+        renderPosition(dsd.pc), dsd.pc.scale(), Vector2.of(dsd.dc.getWidth(), dsd.dc.getHeight()));
   }
 
   private Rectangle getFboWorldBounds(Point pos, Vector2 scale, Vector2 size) {
@@ -937,7 +975,7 @@ public final class DrawSystem extends System implements Disposable {
 
     Rectangle cameraBounds = CameraSystem.getCameraWorldBounds();
 
-    Point pos = data.pc.position();
+    Point pos = renderPosition(data.pc);
     float width = data.dc.getWidth() * data.pc.scale().x();
     float height = data.dc.getHeight() * data.pc.scale().y();
     List<Point> corners =
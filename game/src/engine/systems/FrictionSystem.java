@@ -28,13 +28,12 @@ public class FrictionSystem extends System {
 
   @Override
   public void execute() {
-    filteredEntityStream()
-        .filter(entity -> !entity.isPresent(FlyComponent.class))
-        .map(this::buildDataObject)
-        .forEach(this::applyFriction);
+    forEachEntity(this::applyFriction);
   }
 
-  private void applyFriction(FSData data) {
+  void applyFriction(Entity e) {
+    if (e.isPresent(FlyComponent.class)) return;
+    FSData data = buildDataObject(e);
     float friction = Game.tileAt(data.pc.position()).map(Tile::friction).orElse(DEFAULT_FRICTION);
     Vector2 force = data.vc().currentVelocity().scale(friction).inverse();
     if (force.isZero()) force = Vector2.ZERO;
@@ -8,7 +8,6 @@ import engine.components.PositionComponent;
 import engine.level.Tile;
 import engine.level.elements.ILevel;
 import engine.level.elements.tile.ExitTile;
-import engine.level.elements.tile.PitTile;
 import engine.level.loader.DungeonLoader;
 import engine.utils.IVoidFunction;
 import engine.utils.Tuple;
@@ -107,7 +106,8 @@ public final class LevelSystem extends System {
    *
    * <p>If no level exists yet, the system will do nothing. If all players are on the end tile, the
    * onEndTile callback will be executed. If all players are on the same open door, the level behind
-   * that door will be loaded. Otherwise, the system will check if any pits should be opened.
+   * that door will be loaded. Otherwise, the due {@link ILevel#tileTimers() tile timers} of the
+   * level are run (e.g., to open pits).
    */
   @Override
   public void execute() {
@@ -122,22 +122,11 @@ public final class LevelSystem extends System {
       onEndTile.execute();
       return;
     }
-    openPits();
+    runTileTimers();
   }
 
-  private void openPits() {
-    level()
-        .ifPresent(
-            level -> {
-              Tile[][] layout = level.layout();
-              for (int y = layout.length - 1; y >= 0; y--) {
-                for (int x = 0; x < layout[0].length; x++) {
-                  if (layout[y][x] instanceof PitTile pit) {
-                    if (pit.timeToOpen() <= 0) pit.open();
-                  }
-                }
-              }
-            });
+  private void runTileTimers() {
+    level().ifPresent(level -> level.tileTimers().runDue());
   }
 
   /** LevelSystem can't be paused. If it is paused, the level will not be shown anymore. */
@@ -14,11 +14,8 @@ import feature.collision.CollisionUtils;
 import feature.components.CollideComponent;
 import feature.systems.CollisionSystem;
 import feature.systems.PositionSync;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * System responsible for updating the position of entities based on their velocity, while
@@ -38,7 +35,12 @@ public class MoveSystem extends System {
 
   private static final float EPSILON = 0.01f;
 
-  private final Map<Entity, Float> cornerCorrectTimers = new HashMap<>();
+  // One-element arrays, so the timers can be updated without boxing.
+  private final Map<Entity, float[]> cornerCorrectTimers = new HashMap<>();
+
+  // Result of the last successful closestAvailablePos call.
+  private float correctedX;
+  private float correctedY;
 
   /**
    * Constructs a MoveSystem that requires entities to have {@link VelocityComponent} and {@link
@@ -58,11 +60,22 @@ public class MoveSystem extends System {
    */
   @Override
   public void execute() {
-    filteredEntityStream()
-        .map(MSData::of)
-        .peek(this::updatePosition)
-        .map(MSData::e)
-        .forEach(PositionSync::syncPosition);
+    filteredEntityStream().forEach(this::move);
+  }
+
+  void move(Entity e) {
+    VelocityComponent vc = e.fetchOrNull(VelocityComponent.class);
+    if (vc == null) {
+      throw MissingComponentException.build(e, VelocityComponent.class);
+    }
+    PositionComponent pc = e.fetchOrNull(PositionComponent.class);
+    if (pc == null) {
+      throw MissingComponentException.build(e, PositionComponent.class);
+    }
+    CollideComponent cc = e.fetchOrNull(CollideComponent.class);
+
+    updatePosition(e, vc, pc, cc);
+    PositionSync.syncPosition(e);
   }
 
   /**
@@ -74,114 +87,113 @@ public class MoveSystem extends System {
    *
    * <p>If the tile is blocked, the entity's {@code onWallHit} callback is invoked.
    *
-   * @param data a record containing the entity and its required components
+   * <p>This runs for every moving entity in every frame, so it works on primitive coordinates
+   * instead of {@link Point} and {@link Vector2} instances. The arithmetic matches the vector
+   * operations step by step, so the results are identical.
+   *
+   * @param e the entity
+   * @param vc the velocity component of the entity
+   * @param pc the position component of the entity
+   * @param cc the collide component of the entity (nullable)
    */
-  private void updatePosition(MSData data) {
-    VelocityComponent vc = data.vc;
-
-    Vector2 velocity = data.vc.currentVelocity();
+  private void updatePosition(
+      Entity e, VelocityComponent vc, PositionComponent pc, CollideComponent cc) {
+    Vector2 velocity = vc.currentVelocity();
+    float velocityX = velocity.x();
+    float velocityY = velocity.y();
 
     // Cap velocity magnitude to maxSpeed, mainly for diagonal movement
-    if (velocity.length() > data.vc.maxSpeed()) {
-      velocity = velocity.normalize().scale(data.vc.maxSpeed());
+    double length = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+    if (length > vc.maxSpeed()) {
+      float normalizedX = length < Vector2.EPSILON ? 0f : (float) (velocityX / length);
+      float normalizedY = length < Vector2.EPSILON ? 0f : (float) (velocityY / length);
+      velocityX = normalizedX * vc.maxSpeed();
+      velocityY = normalizedY * vc.maxSpeed();
     }
-    Vector2 absVelocity = Vector2.of(Math.abs(velocity.x()), Math.abs(velocity.y()));
 
     // Calculate scaled velocity vector per frame time
-    Vector2 sv = velocity.scale(1f / Game.frameRate());
-    Point oldPos = data.pc.position();
-    Collider collider = data.cc != null ? data.cc.collider() : null;
+    float frameTime = 1f / Game.frameRate();
+    float svX = velocityX * frameTime;
+    float svY = velocityY * frameTime;
+    Point oldPos = pc.position();
+    float oldX = oldPos.x();
+    float oldY = oldPos.y();
+    Collider collider = cc != null ? cc.collider() : null;
 
-    boolean hasCollider = data.cc != null;
     boolean hasHitWall = false;
     boolean triggeredXCC = false;
     boolean triggeredYCC = false;
-    boolean canCornerCorrect = cornerCorrectTimers.getOrDefault(data.e, 0f) <= 0;
+    float[] cornerCorrectTimer = cornerCorrectTimers.computeIfAbsent(e, key -> new float[1]);
+    boolean canCornerCorrect = cornerCorrectTimer[0] <= 0;
 
     // Dont allow corner correction when moving too fast diagonally. This allows the hero to enter
     // 1-tile wide tunnels when easily by walking diagonally into them.
-    canCornerCorrect &= absVelocity.x() < 0.5f || absVelocity.y() < 0.5f;
+    canCornerCorrect &= Math.abs(velocityX) < 0.5f || Math.abs(velocityY) < 0.5f;
 
-    // First: move only in X direction
-    Point newPos = oldPos.translate(sv.x(), 0);
-    if (isCollidingWithLevel(data.cc, newPos, vc)) {
+    // First: move only in X direction. Adding 0 like Point#translate keeps the sign of zero.
+    float x = oldX + svX;
+    float y = oldY + 0f;
+    if (isCollidingWithLevel(collider, x, y, vc)) {
       // Try corner correction first
       if (canCornerCorrect) {
-        List<Direction> correctDirs = new ArrayList<>();
-        if (sv.y() <= EPSILON) {
-          correctDirs.add(Direction.UP);
-        }
-        if (sv.y() >= -EPSILON) {
-          correctDirs.add(Direction.DOWN);
-        }
-        while (!correctDirs.isEmpty() && !triggeredXCC) {
-          Direction dir = correctDirs.removeFirst();
-          Optional<Point> correct = closestAvailablePos(newPos, dir, collider, vc);
-          if (correct.isPresent()) {
-            newPos = correct.get();
-            triggeredXCC = true;
-          }
+        triggeredXCC =
+            (svY <= EPSILON && closestAvailablePos(x, y, Direction.UP, collider, vc))
+                || (svY >= -EPSILON && closestAvailablePos(x, y, Direction.DOWN, collider, vc));
+        if (triggeredXCC) {
+          x = correctedX;
+          y = correctedY;
         }
       }
 
       // If corner correction not possible, hit wall
       if (!triggeredXCC) {
-        float colliderEdge = hasCollider ? scaledXEdge(collider, sv.x() > 0) : 0f;
-        float wallX = snapToWall(newPos.x(), sv.x() > 0, colliderEdge);
-        newPos = new Point(wallX, newPos.y());
+        float colliderEdge = collider != null ? scaledXEdge(collider, svX > 0) : 0f;
+        x = snapToWall(x, svX > 0, colliderEdge);
         hasHitWall = true;
       }
     }
 
     // Then: move in Y direction
-    newPos = newPos.translate(0, sv.y());
-    if (isCollidingWithLevel(data.cc, newPos, vc)) {
-      // Try corner correction first
-      if (canCornerCorrect) {
-        List<Direction> correctDirs = new ArrayList<>();
-        if (sv.x() <= EPSILON) {
-          correctDirs.add(Direction.RIGHT);
-        }
-        if (sv.x() >= -EPSILON) {
-          correctDirs.add(Direction.LEFT);
-        }
-
-        while (!correctDirs.isEmpty() && !triggeredXCC && !triggeredYCC) {
-          Direction dir = correctDirs.removeFirst();
-          Optional<Point> correct = closestAvailablePos(newPos, dir, collider, vc);
-          if (correct.isPresent()) {
-            newPos = correct.get();
-            triggeredYCC = true;
-          }
+    x = x + 0f;
+    y = y + svY;
+    if (isCollidingWithLevel(collider, x, y, vc)) {
+      // Try corner correction first, unless it was already used for the X direction
+      if (canCornerCorrect && !triggeredXCC) {
+        triggeredYCC =
+            (svX <= EPSILON && closestAvailablePos(x, y, Direction.RIGHT, collider, vc))
+                || (svX >= -EPSILON && closestAvailablePos(x, y, Direction.LEFT, collider, vc));
+        if (triggeredYCC) {
+          x = correctedX;
+          y = correctedY;
         }
       }
 
       // If corner correction not possible, hit wall
       if (!triggeredYCC) {
-        float colliderEdge = hasCollider ? scaledYEdge(collider, sv.y() > 0) : 0f;
-        float wallY = snapToWall(newPos.y(), sv.y() > 0, colliderEdge);
-        newPos = new Point(newPos.x(), wallY);
+        float colliderEdge = collider != null ? scaledYEdge(collider, svY > 0) : 0f;
+        y = snapToWall(y, svY > 0, colliderEdge);
         hasHitWall = true;
       }
     }
 
     // Update corner correction timer
     if (triggeredXCC || triggeredYCC) {
-      cornerCorrectTimers.put(data.e, CORNER_CORRECT_COOLDOWN);
+      cornerCorrectTimer[0] = CORNER_CORRECT_COOLDOWN;
     } else {
-      cornerCorrectTimers.put(
-          data.e,
-          Math.max(0, cornerCorrectTimers.getOrDefault(data.e, 0f) - 1f / Game.frameRate()));
+      cornerCorrectTimer[0] = Math.max(0, cornerCorrectTimer[0] - 1f / Game.frameRate());
     }
 
-    // Final check if newPos is accessible. If no, abort to oldPos.
-    if (hasHitWall && isCollidingWithLevel(data.cc, newPos, vc)) {
-      newPos = oldPos;
+    // Final check if the new position is accessible. If no, abort to the old position.
+    if (hasHitWall && isCollidingWithLevel(collider, x, y, vc)) {
+      x = oldX;
+      y = oldY;
+    }
+    if (Float.compare(x, oldX) != 0 || Float.compare(y, oldY) != 0) {
+      pc.position(x, y);
     }
-    data.pc.position(newPos);
 
     if (hasHitWall) {
-      data.vc.onWallHit().accept(data.e);
+      vc.onWallHit().accept(e);
     }
   }
 
@@ -204,59 +216,45 @@ public class MoveSystem extends System {
     return (positiveDirection ? collider.top() : collider.bottom()) * collider.scale().y();
   }
 
-  private Optional<Point> closestAvailablePos(
-      Point start, Vector2 dir, Collider collider, VelocityComponent vc) {
+  /**
+   * Searches for a free position next to the start position in the given direction.
+   *
+   * <p>On success, the position is stored in {@link #correctedX} and {@link #correctedY}.
+   *
+   * @param startX x coordinate of the blocked position
+   * @param startY y coordinate of the blocked position
+   * @param dir direction to search in
+   * @param collider the collider of the entity (nullable)
+   * @param vc the velocity component of the entity
+   * @return true if a free position was found
+   */
+  private boolean closestAvailablePos(
+      float startX, float startY, Direction dir, Collider collider, VelocityComponent vc) {
     int stepCount = 10;
-    float distance =
-        Math.max(CORNER_CORRECT_DISTANCE, collider != null ? collider.size().x() / 3 : 0);
-    Vector2 step = dir.normalize().scale(distance / stepCount);
-    Point testPos = start;
+    float distance = Math.max(CORNER_CORRECT_DISTANCE, collider != null ? collider.width() / 3 : 0);
+    // Directions are unit vectors, so normalizing them does not change them
+    float stepSize = distance / stepCount;
+    float stepX = dir.x() * stepSize;
+    float stepY = dir.y() * stepSize;
+    float testX = startX;
+    float testY = startY;
     for (int i = 0; i < stepCount; i++) {
-      testPos = testPos.translate(step);
-      if (collider == null && !CollisionUtils.isCollidingWithLevel(testPos, vc)) {
-        return Optional.of(testPos);
-      } else if (collider != null && !CollisionUtils.isCollidingWithLevel(collider, testPos, vc)) {
-        return Optional.of(testPos);
+      testX += stepX;
+      testY += stepY;
+      if (!isCollidingWithLevel(collider, testX, testY, vc)) {
+        correctedX = testX;
+        correctedY = testY;
+        return true;
       }
     }
-    return Optional.empty();
-  }
-
-  private boolean isCollidingWithLevel(CollideComponent cc, Point position, VelocityComponent vc) {
-    if (cc == null) {
-      return CollisionUtils.isCollidingWithLevel(position, vc);
-    }
-    return CollisionUtils.isCollidingWithLevel(cc.collider(), position, vc);
+    return false;
   }
 
-  /**
-   * Data record bundling entity and its components for processing in this system.
-   *
-   * @param e the entity
-   * @param vc the velocity component
-   * @param pc the position component
-   * @param cc the collide component (nullable)
-   */
-  private record MSData(Entity e, VelocityComponent vc, PositionComponent pc, CollideComponent cc) {
-
-    /**
-     * Builds an MSData object from the given entity by fetching its required components.
-     *
-     * @param e the entity
-     * @return the constructed MSData object
-     */
-    public static MSData of(Entity e) {
-      VelocityComponent vc =
-          e.fetch(VelocityComponent.class)
-              .orElseThrow(() -> MissingComponentException.build(e, VelocityComponent.class));
-
-      PositionComponent pc =
-          e.fetch(PositionComponent.class)
-              .orElseThrow(() -> MissingComponentException.build(e, PositionComponent.class));
-
-      CollideComponent cc = e.fetch(CollideComponent.class).orElse(null);
-
-      return new MSData(e, vc, pc, cc);
+  private boolean isCollidingWithLevel(
+      Collider collider, float x, float y, VelocityComponent vc) {
+    if (collider == null) {
+      return CollisionUtils.isCollidingWithLevel(x, y, vc);
     }
+    return CollisionUtils.isCollidingWithLevel(collider, x, y, vc);
   }
 }
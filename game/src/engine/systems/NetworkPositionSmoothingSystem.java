@@ -26,8 +26,7 @@ public final class NetworkPositionSmoothingSystem extends System {
 
   @Override
   public void execute() {
-    filteredEntityStream(PositionComponent.class, NetworkPositionComponent.class)
-        .forEach(this::smoothPosition);
+    forEachEntity(this::smoothPosition);
   }
 
   private void smoothPosition(Entity entity) {
@@ -59,32 +59,52 @@ public final class VelocitySystem extends System {
    */
   @Override
   public void execute() {
-    filteredEntityStream(VelocityComponent.class, PositionComponent.class, DrawComponent.class)
-        .map(this::buildDataObject)
-        .map(this::calculateVelocity)
-        .forEach(this::movementAnimation);
+    forEachEntity(this::update);
+  }
+
+  void update(Entity e) {
+    VelocityComponent vc = e.fetchOrNull(VelocityComponent.class);
+    if (vc == null) {
+      throw MissingComponentException.build(e, VelocityComponent.class);
+    }
+    PositionComponent pc = e.fetchOrNull(PositionComponent.class);
+    if (pc == null) {
+      throw MissingComponentException.build(e, PositionComponent.class);
+    }
+    DrawComponent dc = e.fetchOrNull(DrawComponent.class);
+    if (dc == null) {
+      throw MissingComponentException.build(e, DrawComponent.class);
+    }
+
+    calculateVelocity(vc);
+    movementAnimation(vc, pc, dc);
   }
 
   /**
    * Calculates the new velocity of an entity by summing applied forces and dividing by mass.
    *
-   * @param vsd containing entity and components
-   * @return updated VSData with modified velocity
+   * <p>Works on primitive components, with the same arithmetic as the corresponding {@link
+   * Vector2} operations. A new velocity vector is only created if the velocity changed.
+   *
+   * @param vc the velocity component of the entity
    */
-  private VSData calculateVelocity(VSData vsd) {
-    Vector2 sumForces = vsd.vc.appliedForcesStream().reduce(Vector2.of(0, 0), Vector2::add);
-
-    float mass = vsd.vc().mass();
+  void calculateVelocity(VelocityComponent vc) {
+    float mass = vc.mass();
     // acceleration = force / mass
-    Vector2 acceleration = sumForces.scale(1.0 / mass);
-
-    Vector2 newVelocity = vsd.vc.currentVelocity().add(acceleration);
-    if (newVelocity.length() < THRESHOLD_VELOCITY) newVelocity = Vector2.ZERO;
-
-    vsd.vc.currentVelocity(newVelocity);
-    vsd.vc.clearForces();
-
-    return vsd;
+    double inverseMass = 1.0 / mass;
+    float accelerationX = (float) (vc.appliedForcesX() * inverseMass);
+    float accelerationY = (float) (vc.appliedForcesY() * inverseMass);
+
+    Vector2 currentVelocity = vc.currentVelocity();
+    float x = currentVelocity.x() + accelerationX;
+    float y = currentVelocity.y() + accelerationY;
+    if (Math.sqrt(x * x + y * y) < THRESHOLD_VELOCITY) {
+      vc.currentVelocity(Vector2.ZERO);
+    } else if (Float.compare(x, currentVelocity.x()) != 0
+        || Float.compare(y, currentVelocity.y()) != 0) {
+      vc.currentVelocity(Vector2.of(x, y));
+    }
+    vc.clearForces();
   }
 
   /**
@@ -93,11 +113,13 @@ public final class VelocitySystem extends System {
    * <p>If the entity is moving, enqueues run animations depending on the dominant velocity axis. If
    * idle, enqueues idle animation matching the current view direction.
    *
-   * @param vsd containing entity and components
+   * @param vc the velocity component of the entity
+   * @param pc the position component of the entity
+   * @param dc the draw component of the entity
    */
-  private void movementAnimation(VSData vsd) {
-    float x = vsd.vc.currentVelocity().x();
-    float y = vsd.vc.currentVelocity().y();
+  private void movementAnimation(VelocityComponent vc, PositionComponent pc, DrawComponent dc) {
+    float x = vc.currentVelocity().x();
+    float y = vc.currentVelocity().y();
 
     if (Math.abs(x) > EPSILON || Math.abs(y) > EPSILON) {
       Direction newDirection = Direction.NONE;
@@ -114,46 +136,13 @@ public final class VelocitySystem extends System {
         newDirection = Direction.DOWN;
       }
 
-      vsd.dc.sendSignal(MOVE_SIGNAL, newDirection);
-      vsd.pc.viewDirection(newDirection);
+      dc.sendSignal(MOVE_SIGNAL, newDirection);
+      pc.viewDirection(newDirection);
     }
     // Entity is idle
     else {
       // each entity that is moving should have an idle animation
-      vsd.dc.sendSignal(IDLE_SIGNAL, vsd.pc.viewDirection());
+      dc.sendSignal(IDLE_SIGNAL, pc.viewDirection());
     }
   }
-
-  /**
-   * Builds a data record with the entity and its required components. Throws {@link
-   * MissingComponentException} if components are missing.
-   *
-   * @param e the entity to process
-   * @return a VSData record bundling entity and components
-   */
-  private VSData buildDataObject(Entity e) {
-    VelocityComponent vc =
-        e.fetch(VelocityComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, VelocityComponent.class));
-
-    PositionComponent pc =
-        e.fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, PositionComponent.class));
-
-    DrawComponent dc =
-        e.fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, DrawComponent.class));
-
-    return new VSData(e, vc, pc, dc);
-  }
-
-  /**
-   * Record bundling entity and its components for processing in VelocitySystem.
-   *
-   * @param e the entity
-   * @param vc the velocity component
-   * @param pc the position component
-   * @param dc the draw component
-   */
-  private record VSData(Entity e, VelocityComponent vc, PositionComponent pc, DrawComponent dc) {}
 }
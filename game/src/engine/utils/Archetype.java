@@ -0,0 +1,105 @@
+package engine.utils;
+
+import engine.Component;
+import engine.Entity;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Group of {@link Entity entities} that share the exact same set of {@link Component} classes.
+ *
+ * <p>Archetypes are managed by the {@link ArchetypeStorage}. An entity is stored in exactly one
+ * archetype, which is swapped whenever a component is added to or removed from the entity.
+ *
+ * <p>The entities are stored in a dense list. Removal swaps the last entity into the free slot, so
+ * adding and removing is constant time. Readers get a {@link #snapshot() snapshot array} that is
+ * only rebuilt if the archetype changed since the last call, so iterating an unchanged archetype
+ * does not copy anything.
+ *
+ * @see ArchetypeStorage
+ * @see ArchetypeQuery
+ */
+public final class Archetype {
+
+  private static final Entity[] EMPTY = new Entity[0];
+
+  private final Set<Class<? extends Component>> signature;
+  private final List<Entity> entities = new ArrayList<>();
+  private final Map<Entity, Integer> indices = new HashMap<>();
+  private Entity[] snapshot = EMPTY;
+  private boolean dirty = false;
+
+  /**
+   * Create a new, empty archetype.
+   *
+   * @param signature the component classes every entity in this archetype has
+   */
+  Archetype(final Set<Class<? extends Component>> signature) {
+    this.signature = Set.copyOf(signature);
+  }
+
+  /**
+   * Get the component classes every entity in this archetype has.
+   *
+   * @return immutable set of the component classes
+   */
+  public Set<Class<? extends Component>> signature() {
+    return signature;
+  }
+
+  /**
+   * Check if entities of this archetype fulfill the given filter rules.
+   *
+   * @param filterRules the component classes an entity needs
+   * @return true if the signature contains every class of the filter rules
+   */
+  public boolean matches(final Set<Class<? extends Component>> filterRules) {
+    return signature.containsAll(filterRules);
+  }
+
+  /**
+   * Get the number of entities in this archetype.
+   *
+   * @return the number of entities
+   */
+  public int size() {
+    return entities.size();
+  }
+
+  /**
+   * Get the entities of this archetype.
+   *
+   * <p>The returned array must not be modified. It is shared between all readers until the
+   * archetype changes, so it is safe to add or remove entities while iterating over it.
+   *
+   * @return the current entities of this archetype
+   */
+  public Entity[] snapshot() {
+    if (dirty) {
+      snapshot = entities.isEmpty() ? EMPTY : entities.toArray(EMPTY);
+      dirty = false;
+    }
+    return snapshot;
+  }
+
+  void add(final Entity entity) {
+    if (indices.containsKey(entity)) return;
+    indices.put(entity, entities.size());
+    entities.add(entity);
+    dirty = true;
+  }
+
+  void remove(final Entity entity) {
+    Integer index = indices.remove(entity);
+    if (index == null) return;
+    Entity last = entities.removeLast();
+    if (last != entity) {
+      entities.set(index, last);
+      indices.put(last, index);
+    }
+    dirty = true;
+  }
+}
@@ -0,0 +1,88 @@
+package engine.utils;
+
+import engine.Component;
+import engine.Entity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Cached view over every {@link Archetype} that matches a set of filter rules.
+ *
+ * <p>Queries are created by {@link ArchetypeStorage#query(Set)} and stay valid for the lifetime of
+ * the storage. New archetypes are added to every matching query once when they are created, so a
+ * query never has to search the archetypes again.
+ *
+ * <p>Iterating over a query does not copy the entities. Each matching archetype hands out its
+ * {@link Archetype#snapshot() snapshot array}, which is only rebuilt if entities joined or left it.
+ */
+public final class ArchetypeQuery {
+
+  private final Set<Class<? extends Component>> filterRules;
+  private final List<Archetype> archetypes = new ArrayList<>();
+
+  /**
+   * Create a new query.
+   *
+   * @param filterRules the component classes an entity needs to be part of this query
+   */
+  ArchetypeQuery(final Set<Class<? extends Component>> filterRules) {
+    this.filterRules = Set.copyOf(filterRules);
+  }
+
+  /**
+   * Get the filter rules of this query.
+   *
+   * @return immutable set of the component classes an entity needs
+   */
+  public Set<Class<? extends Component>> filterRules() {
+    return filterRules;
+  }
+
+  /**
+   * Get the number of entities that currently match this query.
+   *
+   * @return the number of matching entities
+   */
+  public int size() {
+    int size = 0;
+    for (Archetype archetype : archetypes) size += archetype.size();
+    return size;
+  }
+
+  /**
+   * Call the action for each entity that matches this query.
+   *
+   * <p>The entities are taken from the archetype snapshots, so entities may be added or removed by
+   * the action without affecting the current iteration.
+   *
+   * @param action the action to call for each entity
+   */
+  public void forEach(final Consumer<Entity> action) {
+    for (int i = 0; i < archetypes.size(); i++) {
+      for (Entity entity : archetypes.get(i).snapshot()) action.accept(entity);
+    }
+  }
+
+  /**
+   * Get a stream of all entities that match this query.
+   *
+   * <p>The archetype snapshots are captured when this method is called, so later changes to the
+   * storage do not affect the stream.
+   *
+   * @return stream of the matching entities
+   */
+  public Stream<Entity> stream() {
+    if (archetypes.size() == 1) return Arrays.stream(archetypes.getFirst().snapshot());
+    Entity[][] snapshots = new Entity[archetypes.size()][];
+    for (int i = 0; i < snapshots.length; i++) snapshots[i] = archetypes.get(i).snapshot();
+    return Arrays.stream(snapshots).flatMap(Arrays::stream);
+  }
+
+  void offer(final Archetype archetype) {
+    if (archetype.matches(filterRules)) archetypes.add(archetype);
+  }
+}
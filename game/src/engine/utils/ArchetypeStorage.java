@@ -0,0 +1,133 @@
+package engine.utils;
+
+import engine.Component;
+import engine.Entity;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores {@link Entity entities} grouped by their component signature.
+ *
+ * <p>Every distinct combination of component classes forms one {@link Archetype}. Filtering
+ * entities is done once per archetype instead of once per entity: a {@link ArchetypeQuery} knows
+ * all archetypes matching its filter rules and only iterates over these.
+ *
+ * <p>Use {@link #add(Entity)} and {@link #remove(Entity)} to register entities, and call {@link
+ * #update(Entity)} if the components of an entity changed. The entity will then be moved to the
+ * archetype of its new signature.
+ *
+ * <p>Queries are cached by their filter rules, so requesting the same filter twice returns the
+ * same {@link ArchetypeQuery}. Queries are kept up to date incrementally whenever a new archetype
+ * is created.
+ *
+ * <p>This class is not thread-safe. It is meant to be used from the ECS tick only.
+ */
+public final class ArchetypeStorage {
+
+  private final Map<Set<Class<? extends Component>>, Archetype> archetypes = new HashMap<>();
+  private final Map<Set<Class<? extends Component>>, ArchetypeQuery> queries = new HashMap<>();
+  private final Map<Entity, Archetype> entityArchetypes = new HashMap<>();
+
+  /**
+   * Add the entity to the archetype of its current signature.
+   *
+   * <p>If the entity is already stored, this behaves like {@link #update(Entity)}.
+   *
+   * @param entity the entity to add
+   */
+  public void add(final Entity entity) {
+    update(entity);
+  }
+
+  /**
+   * Move the entity to the archetype of its current signature.
+   *
+   * <p>If the signature did not change, nothing happens. If the entity is not stored yet, it will
+   * be added.
+   *
+   * @param entity the entity whose components changed
+   */
+  public void update(final Entity entity) {
+    Archetype current = entityArchetypes.get(entity);
+    Set<Class<? extends Component>> signature = signature(entity);
+    if (current != null && current.signature().equals(signature)) return;
+    if (current != null) current.remove(entity);
+    Archetype target = archetypes.get(signature);
+    if (target == null) target = createArchetype(signature);
+    target.add(entity);
+    entityArchetypes.put(entity, target);
+  }
+
+  /**
+   * Remove the entity from the storage.
+   *
+   * @param entity the entity to remove
+   * @return true if the entity was stored, false otherwise
+   */
+  public boolean remove(final Entity entity) {
+    Archetype current = entityArchetypes.remove(entity);
+    if (current == null) return false;
+    current.remove(entity);
+    return true;
+  }
+
+  /**
+   * Get the query for the given filter rules.
+   *
+   * <p>The query is created on the first request and cached afterward.
+   *
+   * @param filterRules the component classes an entity needs to be part of the query
+   * @return the query for the filter rules
+   */
+  public ArchetypeQuery query(final Set<Class<? extends Component>> filterRules) {
+    ArchetypeQuery query = queries.get(filterRules);
+    if (query == null) {
+      query = new ArchetypeQuery(filterRules);
+      archetypes.values().forEach(query::offer);
+      queries.put(query.filterRules(), query);
+    }
+    return query;
+  }
+
+  /**
+   * Get a stream of all archetypes.
+   *
+   * @return stream of all archetypes created so far, including empty ones
+   */
+  public Stream<Archetype> archetypes() {
+    return archetypes.values().stream();
+  }
+
+  /**
+   * Get the number of stored entities.
+   *
+   * @return the number of entities in the storage
+   */
+  public int size() {
+    return entityArchetypes.size();
+  }
+
+  /**
+   * Remove all entities.
+   *
+   * <p>Archetypes and queries are kept, so they can be reused by the next level.
+   */
+  public void clear() {
+    entityArchetypes.forEach((entity, archetype) -> archetype.remove(entity));
+    entityArchetypes.clear();
+  }
+
+  private Archetype createArchetype(final Set<Class<? extends Component>> signature) {
+    Archetype archetype = new Archetype(signature);
+    archetypes.put(archetype.signature(), archetype);
+    queries.values().forEach(query -> query.offer(archetype));
+    return archetype;
+  }
+
+  private static Set<Class<? extends Component>> signature(final Entity entity) {
+    return entity.componentStream().map(Component::getClass).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,37 @@
+package engine.utils;
+
+import engine.Component;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe central ID provider for component classes.
+ *
+ * <p>Each component class gets a small, consecutive id the first time it is requested. {@link
+ * engine.Entity} uses these ids as index into its component array, so fetching a component is an
+ * array access instead of a hash lookup.
+ *
+ * <p>The ids are only valid during the current run and must not be persisted or sent over the
+ * network.
+ */
+public final class ComponentTypeIdProvider {
+  private static final AtomicInteger NEXT = new AtomicInteger(0);
+  private static final ClassValue<Integer> IDS =
+      new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+          return NEXT.getAndIncrement();
+        }
+      };
+
+  private ComponentTypeIdProvider() {}
+
+  /**
+   * Get the id of the given component class.
+   *
+   * @param klass the component class
+   * @return the id of the component class, the same for each call with the same class
+   */
+  public static int id(final Class<? extends Component> klass) {
+    return IDS.get(klass);
+  }
+}
@@ -0,0 +1,177 @@
+package engine.utils;
+
+import engine.Entity;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Stores {@link Entity entities} by their id in dense arrays.
+ *
+ * <p>The ids handed out by {@link EntityIdProvider} are consecutive, so they are used directly as
+ * array index: non-negative (server) ids index one array, negative (local) ids index a second
+ * array at {@code -id - 1}. Looking up an entity is a bounds check and an array access, without
+ * boxing the id. Explicit ids beyond {@link #DENSE_LIMIT} are stored in a map instead, so a single
+ * large id does not blow up the arrays.
+ *
+ * <p>Each slot has a generation counter, which is incremented whenever an entity is stored in the
+ * slot. An id stays unique only while its entity is in the game; after the entity was removed, the
+ * id may be registered again for a different entity. A reference kept as id and {@link
+ * #generation(int) generation} can be resolved with {@link #get(int, int)} and will not resolve to
+ * the new entity.
+ *
+ * <p>This class is not thread-safe. It is meant to be used from the ECS tick only.
+ */
+public final class EntityRegistry {
+
+  /** Ids with an absolute value at or above this limit are not stored in the dense arrays. */
+  public static final int DENSE_LIMIT = 1 << 20;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private Entity[] entities = new Entity[INITIAL_CAPACITY];
+  private int[] generations = new int[INITIAL_CAPACITY];
+  private Entity[] localEntities = new Entity[INITIAL_CAPACITY];
+  private int[] localGenerations = new int[INITIAL_CAPACITY];
+  private final Map<Integer, Entity> sparseEntities = new HashMap<>();
+  private final Map<Integer, Integer> sparseGenerations = new HashMap<>();
+  private int size = 0;
+
+  /**
+   * Store the given entity in the slot of its id.
+   *
+   * @param entity the entity to store
+   * @return true if the entity was stored, false if the slot is already used by an entity
+   */
+  public boolean add(final Entity entity) {
+    int id = entity.id();
+    if (get(id) != null) return false;
+    if (isSparse(id)) {
+      sparseEntities.put(id, entity);
+      sparseGenerations.merge(id, 1, Integer::sum);
+    } else if (id >= 0) {
+      ensureCapacity(id + 1);
+      entities[id] = entity;
+      generations[id]++;
+    } else {
+      int index = -id - 1;
+      ensureLocalCapacity(index + 1);
+      localEntities[index] = entity;
+      localGenerations[index]++;
+    }
+    size++;
+    return true;
+  }
+
+  /**
+   * Remove the given entity from the slot of its id.
+   *
+   * <p>Nothing happens if the slot is used by a different entity instance.
+   *
+   * @param entity the entity to remove
+   * @return true if the entity was removed, false if it was not stored
+   */
+  public boolean remove(final Entity entity) {
+    int id = entity.id();
+    if (get(id) != entity) return false;
+    if (isSparse(id)) sparseEntities.remove(id);
+    else if (id >= 0) entities[id] = null;
+    else localEntities[-id - 1] = null;
+    size--;
+    return true;
+  }
+
+  /**
+   * Get the entity with the given id.
+   *
+   * @param id the id of the entity
+   * @return the entity with the given id, or null if no such entity is stored
+   */
+  public Entity get(final int id) {
+    if (isSparse(id)) return sparseEntities.get(id);
+    if (id >= 0) return id < entities.length ? entities[id] : null;
+    int index = -id - 1;
+    return index < localEntities.length ? localEntities[index] : null;
+  }
+
+  /**
+   * Get the entity with the given id, if it is still the entity of the given generation.
+   *
+   * @param id the id of the entity
+   * @param generation the generation of the slot when the reference was taken
+   * @return the entity, or null if the slot is empty or was reused since then
+   */
+  public Entity get(final int id, final int generation) {
+    Entity entity = get(id);
+    return entity != null && generation(id) == generation ? entity : null;
+  }
+
+  /**
+   * Get the current generation of the slot of the given id.
+   *
+   * @param id the id of the slot
+   * @return the number of entities stored in the slot so far, 0 if the slot was never used
+   */
+  public int generation(final int id) {
+    if (isSparse(id)) return sparseGenerations.getOrDefault(id, 0);
+    if (id >= 0) return id < generations.length ? generations[id] : 0;
+    int index = -id - 1;
+    return index < localGenerations.length ? localGenerations[index] : 0;
+  }
+
+  /**
+   * Check if an entity with the given id is stored.
+   *
+   * @param id the id to check
+   * @return true if the slot of the id is used
+   */
+  public boolean contains(final int id) {
+    return get(id) != null;
+  }
+
+  /**
+   * Get the number of stored entities.
+   *
+   * @return the number of stored entities
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Apply the given action to each stored entity.
+   *
+   * <p>Local entities are visited first, then the server entities in ascending id order, then the
+   * entities with sparse ids. The action must not add or remove entities.
+   *
+   * @param action the action to apply
+   */
+  public void forEach(final Consumer<Entity> action) {
+    for (int i = localEntities.length - 1; i >= 0; i--) {
+      if (localEntities[i] != null) action.accept(localEntities[i]);
+    }
+    for (Entity entity : entities) {
+      if (entity != null) action.accept(entity);
+    }
+    sparseEntities.values().forEach(action);
+  }
+
+  private static boolean isSparse(final int id) {
+    return id >= DENSE_LIMIT || id < -DENSE_LIMIT;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity <= entities.length) return;
+    int newCapacity = Math.max(capacity, entities.length * 2);
+    entities = Arrays.copyOf(entities, newCapacity);
+    generations = Arrays.copyOf(generations, newCapacity);
+  }
+
+  private void ensureLocalCapacity(final int capacity) {
+    if (capacity <= localEntities.length) return;
+    int newCapacity = Math.max(capacity, localEntities.length * 2);
+    localEntities = Arrays.copyOf(localEntities, newCapacity);
+    localGenerations = Arrays.copyOf(localGenerations, newCapacity);
+  }
+}
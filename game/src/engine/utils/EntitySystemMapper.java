@@ -3,7 +3,9 @@ package engine.utils;
 import engine.Component;
 import engine.Entity;
 import engine.System;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -31,19 +33,27 @@ import java.util.stream.Stream;
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
  * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()}, or as an array using
+ * {@link #snapshot()}. Both are backed by a snapshot of the entities in insertion order, which is
+ * only rebuilt after the entities changed. Ticks that do not add or remove entities therefore read
+ * the entities without copying them, and the snapshot is never modified, so entities can be added
+ * or removed while iterating over it.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
  * are identical.
  */
 public final class EntitySystemMapper {
 
+  private static final Entity[] EMPTY = new Entity[0];
+
   private final Set<Class<? extends Component>> filterRules;
   private final Set<Entity> entities;
   private final Set<System> systems;
   private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
   private final Lock readLock = lock.readLock();
   private final Lock writeLock = lock.writeLock();
+  // null if the entities changed since the last snapshot was built
+  private volatile Entity[] snapshot = EMPTY;
 
   /**
    * Creates a new EntitySystemMapper with the given filter rules.
@@ -53,14 +63,14 @@ public final class EntitySystemMapper {
    */
   public EntitySystemMapper(final Set<Class<? extends Component>> filterRules) {
     this.filterRules = filterRules;
-    entities = new HashSet<>();
+    entities = new LinkedHashSet<>();
     systems = new HashSet<>();
   }
 
   /** Creates a new EntitySystemMapper with no filter rules. */
   public EntitySystemMapper() {
     filterRules = new HashSet<>();
-    entities = new HashSet<>();
+    entities = new LinkedHashSet<>();
     systems = new HashSet<>();
   }
 
@@ -80,8 +90,7 @@ public final class EntitySystemMapper {
     writeLock.lock();
     try {
       if (systems.add(system)) {
-        Set<Entity> copy = new HashSet<>(entities);
-        copy.forEach(system::triggerOnAdd);
+        for (Entity entity : snapshot()) system.triggerOnAdd(entity);
         return true;
       }
       return false;
@@ -106,8 +115,7 @@ public final class EntitySystemMapper {
     writeLock.lock();
     try {
       if (systems.remove(system)) {
-        Set<Entity> copy = new HashSet<>(entities);
-        copy.forEach(system::triggerOnRemove);
+        for (Entity entity : snapshot()) system.triggerOnRemove(entity);
         return true;
       }
       return false;
@@ -134,6 +142,7 @@ public final class EntitySystemMapper {
       // accept() is called within the write lock to ensure consistency with entities.contains()
       if (!entities.contains(entity) && accept(entity)) {
         entities.add(entity);
+        snapshot = null;
         systems.forEach(s -> s.triggerOnAdd(entity));
         return true;
       }
@@ -159,6 +168,7 @@ public final class EntitySystemMapper {
     try {
       if (entities.contains(entity)) {
         entities.remove(entity);
+        snapshot = null;
         systems.forEach(s -> s.triggerOnRemove(entity));
         return true;
       }
@@ -186,12 +196,49 @@ public final class EntitySystemMapper {
   /**
    * Returns a Stream of the Entities in the EntitySystemMapper.
    *
+   * <p>The stream iterates over the current {@link #snapshot()}, so later changes to the
+   * EntitySystemMapper do not affect it.
+   *
    * @return A Stream of Entities currently present in the EntitySystemMapper.
    */
   public Stream<Entity> stream() {
+    return Arrays.stream(snapshot());
+  }
+
+  /**
+   * Returns the Entities in the EntitySystemMapper, in the order they were added.
+   *
+   * <p>The returned array must not be modified. It is shared between all readers until an Entity
+   * is added or removed, so it is safe to add or remove Entities while iterating over it.
+   *
+   * @return The Entities currently present in the EntitySystemMapper.
+   */
+  public Entity[] snapshot() {
+    Entity[] current = snapshot;
+    if (current != null) return current;
+    readLock.lock();
+    try {
+      // Writers invalidate the snapshot under the write lock, so it cannot become stale here.
+      current = snapshot;
+      if (current == null) {
+        current = entities.isEmpty() ? EMPTY : entities.toArray(EMPTY);
+        snapshot = current;
+      }
+      return current;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of Entities in the EntitySystemMapper.
+   *
+   * @return The number of Entities currently present in the EntitySystemMapper.
+   */
+  public int size() {
     readLock.lock();
     try {
-      return new HashSet<>(entities).stream();
+      return entities.size();
     } finally {
       readLock.unlock();
     }
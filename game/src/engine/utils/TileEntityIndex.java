@@ -0,0 +1,169 @@
+package engine.utils;
+
+import engine.Entity;
+import engine.level.utils.Coordinate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Spatial index that maps level coordinates to the {@link Entity entities} standing on them.
+ *
+ * <p>The index stores the last known coordinate of each entity. {@link #update(Entity)} compares
+ * the current coordinate with the stored one and only moves the entity to another bucket if it
+ * crossed a tile border.
+ *
+ * <p>Lookups for a single tile, a rectangular area, or a radius only visit the buckets of the
+ * affected tiles instead of every entity in the game.
+ *
+ * <p>Lookups return copies of the affected buckets, so the index may change while the returned
+ * stream is processed.
+ */
+public final class TileEntityIndex {
+
+  private final Function<Entity, Coordinate> locator;
+  private final Map<Coordinate, List<Entity>> buckets = new HashMap<>();
+  private final Map<Entity, Coordinate> coordinates = new HashMap<>();
+
+  /**
+   * Create a new, empty index.
+   *
+   * @param locator Function that returns the coordinate of an entity, or null if the entity has no
+   *     position and should not be indexed.
+   */
+  public TileEntityIndex(final Function<Entity, Coordinate> locator) {
+    this.locator = locator;
+  }
+
+  /**
+   * Move the entity to the bucket of its current coordinate.
+   *
+   * <p>If the entity has no position, it will be removed from the index.
+   *
+   * @param entity The entity to update.
+   * @return true if the entity moved to another bucket, false otherwise.
+   */
+  public boolean update(final Entity entity) {
+    Coordinate current = locator.apply(entity);
+    if (current == null) return remove(entity);
+    Coordinate old = coordinates.put(entity, current);
+    if (current.equals(old)) return false;
+    if (old != null) removeFromBucket(entity, old);
+    buckets.computeIfAbsent(current, c -> new ArrayList<>(2)).add(entity);
+    return true;
+  }
+
+  /**
+   * Remove the entity from the index.
+   *
+   * @param entity The entity to remove.
+   * @return true if the entity was indexed, false otherwise.
+   */
+  public boolean remove(final Entity entity) {
+    Coordinate old = coordinates.remove(entity);
+    if (old == null) return false;
+    removeFromBucket(entity, old);
+    return true;
+  }
+
+  /** Remove all entities from the index. */
+  public void clear() {
+    buckets.clear();
+    coordinates.clear();
+  }
+
+  /**
+   * Get the number of indexed entities.
+   *
+   * @return The number of indexed entities.
+   */
+  public int size() {
+    return coordinates.size();
+  }
+
+  /**
+   * Get the entities on the given coordinate.
+   *
+   * @param coordinate The coordinate to check.
+   * @return Stream of all entities on the coordinate.
+   */
+  public Stream<Entity> at(final Coordinate coordinate) {
+    List<Entity> bucket = buckets.get(coordinate);
+    return bucket == null ? Stream.empty() : List.copyOf(bucket).stream();
+  }
+
+  /**
+   * Get the entities in the given rectangular area.
+   *
+   * <p>Both corners are inclusive and may be passed in any order.
+   *
+   * @param from One corner of the area.
+   * @param to The opposite corner of the area.
+   * @return Stream of all entities in the area.
+   */
+  public Stream<Entity> inArea(final Coordinate from, final Coordinate to) {
+    List<Entity> result = new ArrayList<>();
+    forEachBucket(from, to, (coordinate, bucket) -> result.addAll(bucket));
+    return result.stream();
+  }
+
+  /**
+   * Get the entities whose tile lies within the given radius around a point.
+   *
+   * <p>An entity is in range if the distance between the center and the center of its tile is not
+   * greater than the radius.
+   *
+   * @param center The center of the search area.
+   * @param radius The radius of the search area.
+   * @return Stream of all entities in range.
+   */
+  public Stream<Entity> inRadius(final Point center, float radius) {
+    Coordinate from = new Point(center.x() - radius, center.y() - radius).toCoordinate();
+    Coordinate to = new Point(center.x() + radius, center.y() + radius).toCoordinate();
+    List<Entity> result = new ArrayList<>();
+    forEachBucket(
+        from,
+        to,
+        (coordinate, bucket) -> {
+          if (Point.inRange(center, coordinate.toCenteredPoint(), radius)) result.addAll(bucket);
+        });
+    return result.stream();
+  }
+
+  private void forEachBucket(
+      final Coordinate from,
+      final Coordinate to,
+      final BiConsumer<Coordinate, List<Entity>> consumer) {
+    int minX = Math.min(from.x(), to.x());
+    int maxX = Math.max(from.x(), to.x());
+    int minY = Math.min(from.y(), to.y());
+    int maxY = Math.max(from.y(), to.y());
+    if ((long) (maxX - minX + 1) * (maxY - minY + 1) > buckets.size()) {
+      // Large areas: checking each occupied bucket is cheaper than checking each tile
+      buckets.forEach(
+          (c, bucket) -> {
+            if (c.x() >= minX && c.x() <= maxX && c.y() >= minY && c.y() <= maxY)
+              consumer.accept(c, bucket);
+          });
+      return;
+    }
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Coordinate coordinate = new Coordinate(x, y);
+        List<Entity> bucket = buckets.get(coordinate);
+        if (bucket != null) consumer.accept(coordinate, bucket);
+      }
+    }
+  }
+
+  private void removeFromBucket(final Entity entity, final Coordinate coordinate) {
+    List<Entity> bucket = buckets.get(coordinate);
+    if (bucket == null) return;
+    bucket.remove(entity);
+    if (bucket.isEmpty()) buckets.remove(coordinate);
+  }
+}
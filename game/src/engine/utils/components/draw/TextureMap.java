@@ -8,20 +8,37 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import engine.utils.components.draw.atlas.AtlasManifest;
 import engine.utils.components.path.IPath;
 import engine.utils.components.path.SimpleIPath;
 import engine.utils.logging.DungeonLogger;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Maps Paths to libGDX {@link Texture}s, to reduce unnecessary loading of textures.
  *
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
+ *
+ * <p>For drawing, use {@link #regionAt(IPath)}. If the texture atlas is enabled (see {@link
+ * #useAtlas(boolean)}), assets that were packed by the {@code packTextureAtlas} Gradle task are
+ * resolved to regions of a few shared atlas pages. Consecutive draw calls then use the same texture
+ * and the {@link com.badlogic.gdx.graphics.g2d.Batch} does not need to flush. Assets that are not
+ * in the atlas, or were replaced with {@link #putTexture(IPath, Texture)}, are drawn from their own
+ * texture.
  */
 public final class TextureMap extends HashMap<String, Texture> {
   private static final TextureMap INSTANCE = new TextureMap();
   private static final DungeonLogger LOGGER = DungeonLogger.getLogger(TextureMap.class);
+  private static boolean atlasEnabled = false;
+
+  private final Map<String, TextureRegion> regions = new HashMap<>();
+  private final Set<String> replacedPaths = new HashSet<>();
+  private AtlasManifest atlas;
+  private boolean atlasLoaded = false;
 
   /**
    * Get the instance of the TextureMap.
@@ -32,6 +49,82 @@ public final class TextureMap extends HashMap<String, Texture> {
     return INSTANCE;
   }
 
+  /**
+   * Enable or disable drawing from the texture atlas.
+   *
+   * <p>The atlas is created with the Gradle task {@code packTextureAtlas}. If it is missing, all
+   * textures are drawn from their own files.
+   *
+   * @param enabled true to resolve {@link #regionAt(IPath) regions} from the atlas
+   */
+  public static void useAtlas(boolean enabled) {
+    if (enabled == atlasEnabled) return;
+    atlasEnabled = enabled;
+    INSTANCE.regions.clear();
+    LOGGER.info("Texture atlas is now {}", enabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * Check if drawing from the texture atlas is enabled.
+   *
+   * @return true if regions are resolved from the atlas
+   * @see #useAtlas(boolean)
+   */
+  public static boolean isAtlasEnabled() {
+    return atlasEnabled;
+  }
+
+  /**
+   * Get the region to draw for the texture at the given path.
+   *
+   * <p>If the atlas is enabled and contains the path, the region on the atlas page is returned.
+   * Otherwise, the region covers the whole texture returned by {@link #textureAt(IPath)}. The
+   * regions are cached, so this method can be called every frame.
+   *
+   * @param path Path to the texture.
+   * @return The region to draw, or null if the texture does not exist.
+   */
+  public TextureRegion regionAt(final IPath path) {
+    String key = path.pathString();
+    TextureRegion region = regions.get(key);
+    if (region != null) return region;
+
+    region = atlasRegion(key);
+    if (region == null) {
+      Texture texture = textureAt(path);
+      if (texture == null) return null;
+      region = new TextureRegion(texture);
+    }
+    regions.put(key, region);
+    return region;
+  }
+
+  private TextureRegion atlasRegion(final String key) {
+    if (!atlasEnabled || replacedPaths.contains(key)) return null;
+    AtlasManifest manifest = atlas();
+    if (manifest == null) return null;
+    AtlasManifest.Region r = manifest.region(key).orElse(null);
+    if (r == null) return null;
+    Texture page = textureAt(new SimpleIPath(manifest.page(r.page())));
+    if (page == null) return null;
+    return new TextureRegion(page, r.x(), r.y(), r.width(), r.height());
+  }
+
+  private AtlasManifest atlas() {
+    if (atlasLoaded) return atlas;
+    atlasLoaded = true;
+    FileHandle file = Gdx.files.internal(AtlasManifest.DEFAULT_PATH);
+    if (!file.exists()) {
+      LOGGER.warn(
+          "No texture atlas found at {}, run the packTextureAtlas task",
+          AtlasManifest.DEFAULT_PATH);
+      return null;
+    }
+    atlas = AtlasManifest.parse(file.readString());
+    LOGGER.info("Loaded texture atlas with {} textures", atlas.size());
+    return atlas;
+  }
+
   /**
    * Searches the HashMap for the matching texture and returns it. If the texture is not stored in
    * the HashMap, it is created and saved.
@@ -58,6 +151,9 @@ public final class TextureMap extends HashMap<String, Texture> {
    * @param texture The texture to store. NOTE: Must be a premultiplied alpha texture.
    */
   public void putTexture(final IPath path, final Texture texture) {
+    // A replaced texture must not be drawn from the atlas anymore
+    regions.remove(path.pathString());
+    replacedPaths.add(path.pathString());
     if (containsKey(path.pathString())) {
       Texture oldTexture = get(path.pathString());
       if (oldTexture != null) {
@@ -67,6 +163,19 @@ public final class TextureMap extends HashMap<String, Texture> {
     put(path.pathString(), texture);
   }
 
+  @Override
+  public Texture remove(final Object key) {
+    regions.remove(key);
+    return super.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    regions.clear();
+    replacedPaths.clear();
+    super.clear();
+  }
+
   /**
    * Puts the given pixmap as a premultiplied alpha texture into the map at the given path. If there
    * is already a texture at that path, it is disposed of first.
@@ -1,6 +1,5 @@
 package engine.utils.components.draw.animation;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -33,7 +32,9 @@ import org.lwjgl.glfw.GLFW;
  * behavior, and optionally spritesheet layout.
  *
  * <p>Animation frames are stored internally as {@link Sprite} objects and can be updated
- * frame-by-frame with {@link #update()}.
+ * frame-by-frame with {@link #update()}. Once textures are available, the frames are shared with
+ * all animations of the same source through the {@link AnimationCache}; an animation only holds its
+ * playback state (frame counter and config). The shared frames must not be modified.
  */
 public class Animation implements Cloneable {
   private static final DungeonLogger LOGGER = DungeonLogger.getLogger(Animation.class);
@@ -60,7 +61,7 @@ public class Animation implements Cloneable {
   /** Current frame counter. Serializable. */
   private int frameCount;
 
-  /** Lazily-loaded runtime sprites. Not serializable. */
+  /** Lazily-loaded runtime sprites, possibly shared with other animations. Not serializable. */
   private transient Sprite[] sprites;
 
   /** Indicates whether sprites are loaded. */
@@ -88,8 +89,7 @@ public class Animation implements Cloneable {
     this.config = config == null ? new AnimationConfig() : config;
 
     // Resolve single vs spritesheet based on config presence
-    String resolved = resolveImplicitFilePath(path.pathString());
-    IPath exactPath = new SimpleIPath(resolved);
+    IPath exactPath = new SimpleIPath(AnimationCache.imagePath(path.pathString()));
 
     if (this.config.config().isPresent()) {
       // Spritesheet path retained; lazy-load frames
@@ -368,32 +368,21 @@ public class Animation implements Cloneable {
    * <p>The JSON file must be placed next to the spritesheet and have the same base name. It defines
    * a map of animation names to {@link AnimationConfig} objects.
    *
+   * <p>The resolved paths and the parsed JSON are cached in the {@link AnimationCache}, so loading
+   * the same spritesheet again (e.g., for each spawned monster) does not touch the file system.
+   * Each returned animation gets its own copy of its config.
+   *
    * @param path Path to the spritesheet image or folder.
    * @return A map of animation names to {@link Animation} instances, or null if no config was
    *     found.
    */
   public static Map<String, Animation> loadAnimationSpritesheet(IPath path) {
-    String pathString = path.pathString();
-    String jsonPath;
-
-    if (pathString.endsWith("/") || !pathString.matches(".*\\.(png|jpg|jpeg)$")) {
-      String dirName = pathString.replaceAll("/$", "");
-      String baseName = dirName.substring(dirName.lastIndexOf('/') + 1);
-      jsonPath = dirName + "/" + baseName + ".json";
-      pathString = dirName + "/" + baseName + ".png";
-    } else {
-      jsonPath = pathString.replaceAll("\\.(png|jpg|jpeg)$", ".json");
-    }
-
-    if (Gdx.files != null && Gdx.files.internal(pathString).exists()) {
-      if (canUseTextures()) {
-        TextureMap.instance().textureAt(new SimpleIPath(pathString));
-      }
-    } else {
-      throw new IllegalArgumentException("Image file not found: " + pathString);
+    AnimationCache.Spritesheet sheet = AnimationCache.spritesheet(path.pathString());
+    if (canUseTextures()) {
+      TextureMap.instance().textureAt(new SimpleIPath(sheet.imagePath()));
     }
 
-    Map<String, AnimationConfig> configs = AnimationConfig.loadAnimationConfigMap(jsonPath);
+    Map<String, AnimationConfig> configs = sheet.copyConfigs();
     if (configs == null) return null;
 
     Map<String, Animation> animations = new HashMap<>();
@@ -451,22 +440,24 @@ public class Animation implements Cloneable {
     if (paths == null || paths.isEmpty())
       throw new IllegalStateException("No frame paths provided");
 
-    sprites = new Sprite[paths.size()];
-    for (int i = 0; i < paths.size(); i++) {
-      if (TextureMap.instance().containsKey(paths.get(i).pathString()) || canUseTextures()) {
-        sprites[i] = new Sprite(TextureMap.instance().textureAt(paths.get(i)));
-      } else {
-        sprites[i] = new Sprite();
+    if (canUseTextures()) {
+      Texture[] textures = new Texture[paths.size()];
+      for (int i = 0; i < paths.size(); i++) {
+        textures[i] = TextureMap.instance().regionAt(paths.get(i)).getTexture();
       }
+      String key = String.join("|", paths.stream().map(IPath::pathString).toList());
+      sprites = AnimationCache.frames(key, textures, () -> createSprites(paths));
+    } else {
+      sprites = createSprites(paths);
     }
 
     int textWidth;
     int textHeight;
 
     if (TextureMap.instance().containsKey(paths.get(0).pathString()) || canUseTextures()) {
-      Texture t = TextureMap.instance().textureAt(paths.get(0));
-      textWidth = t.getWidth();
-      textHeight = t.getHeight();
+      TextureRegion region = TextureMap.instance().regionAt(paths.get(0));
+      textWidth = region.getRegionWidth();
+      textHeight = region.getRegionHeight();
     } else {
       textWidth = 16;
       textHeight = 16;
@@ -475,16 +466,29 @@ public class Animation implements Cloneable {
     calculateWorldSize(textWidth, textHeight);
   }
 
+  private static Sprite[] createSprites(List<IPath> paths) {
+    Sprite[] result = new Sprite[paths.size()];
+    for (int i = 0; i < paths.size(); i++) {
+      if (TextureMap.instance().containsKey(paths.get(i).pathString()) || canUseTextures()) {
+        // Regions point into the texture atlas if it is enabled
+        result[i] = new Sprite(TextureMap.instance().regionAt(paths.get(i)));
+      } else {
+        result[i] = new Sprite();
+      }
+    }
+    return result;
+  }
+
   /**
    * Load sprites from a spritesheet using {@link SpritesheetConfig}.
    *
    * @param path Path to the spritesheet image.
    */
   private void loadSpritesFromSpritesheet(IPath path) {
-    Texture spritesheet = null;
-    if (TextureMap.instance().containsKey(path.pathString()) || canUseTextures()) {
-      spritesheet = TextureMap.instance().textureAt(path);
-    }
+    Texture spritesheet =
+        TextureMap.instance().containsKey(path.pathString()) || canUseTextures()
+            ? TextureMap.instance().textureAt(path)
+            : null;
 
     SpritesheetConfig ssc =
         config
@@ -493,27 +497,45 @@ public class Animation implements Cloneable {
                 () ->
                     new IllegalStateException(
                         "SpritesheetConfig expected but not present in config"));
+    if (canUseTextures() && spritesheet != null) {
+      String key =
+          path.pathString()
+              + '#'
+              + ssc.x()
+              + ','
+              + ssc.y()
+              + ','
+              + ssc.spriteWidth()
+              + ','
+              + ssc.spriteHeight()
+              + ','
+              + ssc.rows()
+              + ','
+              + ssc.columns();
+      sprites =
+          AnimationCache.frames(
+              key, new Texture[] {spritesheet}, () -> cutSpritesheet(spritesheet, ssc));
+    } else {
+      sprites = new Sprite[ssc.rows() * ssc.columns()];
+      Arrays.setAll(sprites, i -> new Sprite());
+    }
+
+    calculateWorldSize(ssc.spriteWidth(), ssc.spriteHeight());
+  }
+
+  private static Sprite[] cutSpritesheet(Texture spritesheet, SpritesheetConfig ssc) {
     int sWidth = ssc.spriteWidth();
     int sHeight = ssc.spriteHeight();
-    int offsetX = ssc.x();
-    int offsetY = ssc.y();
-
-    sprites = new Sprite[ssc.rows() * ssc.columns()];
+    Sprite[] result = new Sprite[ssc.rows() * ssc.columns()];
     for (int y = 0; y < ssc.rows(); y++) {
       for (int x = 0; x < ssc.columns(); x++) {
-        int index = y * ssc.columns() + x;
-        if (canUseTextures() && spritesheet != null) {
-          sprites[index] =
-              new Sprite(
-                  new TextureRegion(
-                      spritesheet, offsetX + sWidth * x, offsetY + sHeight * y, sWidth, sHeight));
-        } else {
-          sprites[index] = new Sprite();
-        }
+        result[y * ssc.columns() + x] =
+            new Sprite(
+                new TextureRegion(
+                    spritesheet, ssc.x() + sWidth * x, ssc.y() + sHeight * y, sWidth, sHeight));
       }
     }
-
-    calculateWorldSize(sWidth, sHeight);
+    return result;
   }
 
   /**
@@ -529,15 +551,6 @@ public class Animation implements Cloneable {
     height = (float) spriteHeight * spriteScale * getScaleY();
   }
 
-  private static String resolveImplicitFilePath(String pathString) {
-    if (pathString.endsWith("/") || !pathString.matches(".*\\.(png|jpg|jpeg)$")) {
-      String dirName = pathString.replaceAll("/$", "");
-      String baseName = dirName.substring(dirName.lastIndexOf('/') + 1);
-      return dirName + "/" + baseName + ".png";
-    }
-    return pathString;
-  }
-
   @Override
   public Animation clone() {
     try {
@@ -548,13 +561,7 @@ public class Animation implements Cloneable {
         cloned.config = config.clone();
       }
 
-      // Clone sprite array
-      if (this.sprites != null) {
-        cloned.sprites = new Sprite[this.sprites.length];
-        for (int i = 0; i < this.sprites.length; i++) {
-          cloned.sprites[i] = this.sprites[i] != null ? new Sprite(this.sprites[i]) : null;
-        }
-      }
+      // The sprites are never modified and can be shared, see AnimationCache
 
       return cloned;
     } catch (CloneNotSupportedException e) {
@@ -0,0 +1,174 @@
+package engine.utils.components.draw.animation;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of the data that all {@link Animation}s of the same source share.
+ *
+ * <p>Creating a {@link engine.components.DrawComponent} for a spritesheet resolves the image and
+ * JSON paths, checks that the image exists, parses the JSON with the {@link AnimationConfig}s and
+ * cuts the spritesheet into frames. Spawning many entities with the same textures (e.g., a wave of
+ * monsters) would repeat all of this for every entity. This cache keeps the results per source:
+ *
+ * <ul>
+ *   <li>the resolved paths and parsed configs of a spritesheet (see {@link #spritesheet(String)}),
+ *   <li>the frames of an animation (see {@link #frames(String, Texture[], Supplier)}).
+ * </ul>
+ *
+ * <p>The cached configs are never handed out; each animation gets its own copy, because the config
+ * also holds per-entity state like {@link AnimationConfig#mirrored()}. The cached frames are shared
+ * by all animations of the same source and must not be modified. An {@link Animation} only holds
+ * the playback state (frame counter and config) on top of them.
+ *
+ * <p>Frames remember the textures they were cut from. If a texture in the {@link
+ * engine.utils.components.draw.TextureMap} is replaced (or the texture atlas is toggled), the
+ * frames are created again on the next request.
+ *
+ * <p>This class is thread-safe, so animations can be created on network threads as well.
+ */
+public final class AnimationCache {
+
+  private static final Map<String, String> IMAGE_PATHS = new ConcurrentHashMap<>();
+  private static final Map<String, Spritesheet> SPRITESHEETS = new ConcurrentHashMap<>();
+  private static final Map<String, Frames> FRAMES = new ConcurrentHashMap<>();
+
+  private AnimationCache() {}
+
+  /**
+   * Get the image path for a path to an image or a folder.
+   *
+   * <p>Paths that don't end with an image extension are treated as a folder {@code <dir>} that
+   * contains the image {@code <dir>/<dir>.png}.
+   *
+   * @param path path to an image or a folder
+   * @return the path to the image
+   */
+  public static String imagePath(final String path) {
+    return IMAGE_PATHS.computeIfAbsent(path, AnimationCache::resolveImagePath);
+  }
+
+  /**
+   * Get the resolved paths and the parsed animation configs of a spritesheet.
+   *
+   * <p>The JSON file is expected next to the image with the same base name.
+   *
+   * @param path path to the spritesheet image or its folder
+   * @return the spritesheet
+   * @throws IllegalArgumentException if the image does not exist
+   */
+  public static Spritesheet spritesheet(final String path) {
+    return SPRITESHEETS.computeIfAbsent(path, AnimationCache::loadSpritesheet);
+  }
+
+  /**
+   * Get the frames of an animation, creating them if needed.
+   *
+   * <p>The frames are created again if they were cut from other textures than the given ones,
+   * e.g., because a texture was replaced.
+   *
+   * @param key identifies the source and layout of the frames
+   * @param textures the current textures the frames are cut from
+   * @param loader creates the frames
+   * @return the shared frames, must not be modified
+   */
+  public static Sprite[] frames(
+      final String key, final Texture[] textures, final Supplier<Sprite[]> loader) {
+    Frames cached = FRAMES.get(key);
+    if (cached != null && Arrays.equals(cached.textures(), textures)) return cached.sprites();
+    Sprite[] sprites = loader.get();
+    FRAMES.put(key, new Frames(textures.clone(), sprites));
+    return sprites;
+  }
+
+  /**
+   * Get the number of cached frame arrays.
+   *
+   * @return the number of animation sources with cached frames
+   */
+  public static int cachedFrames() {
+    return FRAMES.size();
+  }
+
+  /** Remove all cached data, e.g., after the assets changed. */
+  public static void clear() {
+    IMAGE_PATHS.clear();
+    SPRITESHEETS.clear();
+    FRAMES.clear();
+  }
+
+  private static String resolveImagePath(final String path) {
+    if (path.endsWith("/") || !path.matches(".*\\.(png|jpg|jpeg)$")) {
+      String dirName = path.replaceAll("/$", "");
+      String baseName = dirName.substring(dirName.lastIndexOf('/') + 1);
+      return dirName + "/" + baseName + ".png";
+    }
+    return path;
+  }
+
+  private static Spritesheet loadSpritesheet(final String path) {
+    String imagePath = imagePath(path);
+    String jsonPath = imagePath.replaceAll("\\.(png|jpg|jpeg)$", ".json");
+    if (Gdx.files == null || !Gdx.files.internal(imagePath).exists())
+      throw new IllegalArgumentException("Image file not found: " + imagePath);
+    Map<String, AnimationConfig> configs = AnimationConfig.loadAnimationConfigMap(jsonPath);
+    return new Spritesheet(imagePath, configs);
+  }
+
+  /** The resolved image path and the parsed animation configs of a spritesheet. */
+  public static final class Spritesheet {
+    private final String imagePath;
+    private final Map<String, AnimationConfig> configs;
+
+    private Spritesheet(final String imagePath, final Map<String, AnimationConfig> configs) {
+      this.imagePath = imagePath;
+      this.configs = configs;
+    }
+
+    /**
+     * Get the path to the spritesheet image.
+     *
+     * @return the image path
+     */
+    public String imagePath() {
+      return imagePath;
+    }
+
+    /**
+     * Check if the spritesheet has a JSON file with animation configs.
+     *
+     * @return true if there are animation configs
+     */
+    public boolean hasConfigs() {
+      return configs != null;
+    }
+
+    /**
+     * Get a copy of each animation config.
+     *
+     * @return the copied configs by animation name, or null if there is no JSON file
+     */
+    public Map<String, AnimationConfig> copyConfigs() {
+      if (configs == null) return null;
+      Map<String, AnimationConfig> copies = new HashMap<>();
+      configs.forEach((name, config) -> copies.put(name, copy(config)));
+      return copies;
+    }
+
+    private static AnimationConfig copy(final AnimationConfig config) {
+      try {
+        return config.clone();
+      } catch (CloneNotSupportedException e) {
+        throw new IllegalStateException("Failed to copy animation config", e);
+      }
+    }
+  }
+
+  private record Frames(Texture[] textures, Sprite[] sprites) {}
+}
@@ -0,0 +1,165 @@
+package engine.utils.components.draw.atlas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Describes which asset is stored where in the pages of a texture atlas.
+ *
+ * <p>The manifest is a text file written by the {@link TextureAtlasTool}. Each line is either a
+ * page or a region, empty lines and lines starting with {@code #} are ignored:
+ *
+ * <pre>
+ * page atlas/page_0.png
+ * region 0 2 2 16 16 dungeon/default/floor/floor_1.png
+ * </pre>
+ *
+ * <p>Pages are numbered in the order they appear. A region line contains the page index, the
+ * position of the top left pixel, the size in pixels and the asset path the region replaces. All
+ * paths are relative to the asset root.
+ */
+public final class AtlasManifest {
+
+  /** Default location of the manifest, relative to the asset root. */
+  public static final String DEFAULT_PATH = "atlas/manifest.txt";
+
+  private final List<String> pages;
+  private final Map<String, Region> regions;
+
+  /**
+   * Create a new manifest.
+   *
+   * @param pages the paths of the page images, in page order
+   * @param regions the regions of the atlas
+   * @throws IllegalArgumentException if a region references a missing page or a path is used twice
+   */
+  public AtlasManifest(final List<String> pages, final List<Region> regions) {
+    this.pages = List.copyOf(pages);
+    Map<String, Region> byPath = new LinkedHashMap<>();
+    for (Region region : regions) {
+      if (region.page() < 0 || region.page() >= pages.size())
+        throw new IllegalArgumentException("Missing page for region " + region.path());
+      if (byPath.put(region.path(), region) != null)
+        throw new IllegalArgumentException("Duplicate region " + region.path());
+    }
+    this.regions = Collections.unmodifiableMap(byPath);
+  }
+
+  /**
+   * Parse a manifest.
+   *
+   * @param text the content of the manifest file
+   * @return the parsed manifest
+   * @throws IllegalArgumentException if a line can't be parsed
+   */
+  public static AtlasManifest parse(final String text) {
+    List<String> pages = new ArrayList<>();
+    List<Region> regions = new ArrayList<>();
+    String[] lines = text.split("\\R");
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i].strip();
+      if (line.isEmpty() || line.startsWith("#")) continue;
+      try {
+        if (line.startsWith("page ")) {
+          pages.add(line.substring("page ".length()).strip());
+        } else if (line.startsWith("region ")) {
+          String[] parts = line.split(" ", 7);
+          regions.add(
+              new Region(
+                  parts[6],
+                  Integer.parseInt(parts[1]),
+                  Integer.parseInt(parts[2]),
+                  Integer.parseInt(parts[3]),
+                  Integer.parseInt(parts[4]),
+                  Integer.parseInt(parts[5])));
+        } else {
+          throw new IllegalArgumentException("unknown entry");
+        }
+      } catch (RuntimeException e) {
+        throw new IllegalArgumentException(
+            "Invalid atlas manifest line " + (i + 1) + ": " + line, e);
+      }
+    }
+    return new AtlasManifest(pages, regions);
+  }
+
+  /**
+   * Write the manifest in the format read by {@link #parse(String)}.
+   *
+   * @return the content of the manifest file
+   */
+  public String write() {
+    StringBuilder sb = new StringBuilder("# texture atlas manifest\n");
+    pages.forEach(page -> sb.append("page ").append(page).append('\n'));
+    for (Region r : regions.values()) {
+      sb.append("region ")
+          .append(r.page())
+          .append(' ')
+          .append(r.x())
+          .append(' ')
+          .append(r.y())
+          .append(' ')
+          .append(r.width())
+          .append(' ')
+          .append(r.height())
+          .append(' ')
+          .append(r.path())
+          .append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Get the paths of the page images.
+   *
+   * @return the page paths, in page order
+   */
+  public List<String> pages() {
+    return pages;
+  }
+
+  /**
+   * Get the path of a page image.
+   *
+   * @param page the index of the page
+   * @return the path of the page image
+   */
+  public String page(final int page) {
+    return pages.get(page);
+  }
+
+  /**
+   * Get the region that replaces the given asset.
+   *
+   * @param path the asset path
+   * @return the region, or empty if the asset is not in the atlas
+   */
+  public Optional<Region> region(final String path) {
+    return Optional.ofNullable(regions.get(path));
+  }
+
+  /**
+   * Get the number of regions.
+   *
+   * @return the number of assets in the atlas
+   */
+  public int size() {
+    return regions.size();
+  }
+
+  /**
+   * An asset in the atlas.
+   *
+   * @param path the asset path, relative to the asset root
+   * @param page the index of the page
+   * @param x the x coordinate of the top left pixel on the page
+   * @param y the y coordinate of the top left pixel on the page
+   * @param width the width in pixels
+   * @param height the height in pixels
+   */
+  public record Region(String path, int page, int x, int y, int width, int height) {}
+}
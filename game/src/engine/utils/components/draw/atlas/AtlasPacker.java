@@ -0,0 +1,138 @@
+package engine.utils.components.draw.atlas;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Packs rectangular images into square atlas pages.
+ *
+ * <p>The packer only computes the placement of the images and does not touch any pixels, so it can
+ * be used (and tested) without a graphics context. The images are sorted by height and placed
+ * row by row ("shelf packing"). This is simple and works well for the game assets, which are
+ * mostly 16x16 pixel tiles and frames.
+ *
+ * <p>Each image is surrounded by a border of {@link #padding()} pixels, which the {@link
+ * TextureAtlasTool} fills with the edge pixels of the image. This prevents neighbouring images from
+ * bleeding into each other when the region is scaled or filtered.
+ */
+public final class AtlasPacker {
+
+  private final int pageSize;
+  private final int padding;
+
+  /**
+   * Create a new packer.
+   *
+   * @param pageSize width and height of a page in pixels, must be {@code > 0}
+   * @param padding border around each image in pixels, must be {@code >= 0}
+   */
+  public AtlasPacker(final int pageSize, final int padding) {
+    if (pageSize <= 0) throw new IllegalArgumentException("pageSize must be > 0");
+    if (padding < 0) throw new IllegalArgumentException("padding must be >= 0");
+    this.pageSize = pageSize;
+    this.padding = padding;
+  }
+
+  /**
+   * Get the width and height of a page.
+   *
+   * @return the page size in pixels
+   */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Get the border around each image.
+   *
+   * @return the padding in pixels
+   */
+  public int padding() {
+    return padding;
+  }
+
+  /**
+   * Place the given images on as few pages as possible.
+   *
+   * <p>The result does not depend on the order of the input. Images that don't fit on an empty
+   * page are not placed and returned in {@link Result#skipped()}.
+   *
+   * @param images the images to place
+   * @return the placement of the images
+   */
+  public Result pack(final List<Image> images) {
+    List<Image> sorted = new ArrayList<>(images);
+    sorted.sort(
+        Comparator.comparingInt(Image::height)
+            .reversed()
+            .thenComparing(Comparator.comparingInt(Image::width).reversed())
+            .thenComparing(Image::name));
+
+    List<Placement> placements = new ArrayList<>();
+    List<Image> skipped = new ArrayList<>();
+    int page = 0;
+    int x = 0;
+    int y = 0;
+    int shelfHeight = 0;
+    boolean pageUsed = false;
+    for (Image image : sorted) {
+      int slotWidth = image.width() + 2 * padding;
+      int slotHeight = image.height() + 2 * padding;
+      if (slotWidth > pageSize || slotHeight > pageSize) {
+        skipped.add(image);
+        continue;
+      }
+      if (x + slotWidth > pageSize) {
+        // Next shelf
+        x = 0;
+        y += shelfHeight;
+        shelfHeight = 0;
+      }
+      if (y + slotHeight > pageSize) {
+        // Next page
+        page++;
+        x = 0;
+        y = 0;
+        shelfHeight = 0;
+      }
+      placements.add(
+          new Placement(
+              image.name(), page, x + padding, y + padding, image.width(), image.height()));
+      pageUsed = true;
+      x += slotWidth;
+      shelfHeight = Math.max(shelfHeight, slotHeight);
+    }
+    return new Result(placements, skipped, pageUsed ? page + 1 : 0);
+  }
+
+  /**
+   * An image to pack.
+   *
+   * @param name the name of the image, e.g., its asset path
+   * @param width the width in pixels
+   * @param height the height in pixels
+   */
+  public record Image(String name, int width, int height) {}
+
+  /**
+   * The place of an image in the atlas.
+   *
+   * @param name the name of the image
+   * @param page the index of the page
+   * @param x the x coordinate of the top left pixel of the image on the page
+   * @param y the y coordinate of the top left pixel of the image on the page
+   * @param width the width in pixels
+   * @param height the height in pixels
+   */
+  public record Placement(String name, int page, int x, int y, int width, int height) {}
+
+  /**
+   * The result of packing.
+   *
+   * @param placements the placed images
+   * @param skipped the images that are too large for a page
+   * @param pageCount the number of pages needed
+   */
+  public record Result(List<Placement> placements, List<Image> skipped, int pageCount) {}
+}
@@ -0,0 +1,142 @@
+package engine.utils.components.draw.atlas;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * Packs the PNG files of asset directories into atlas pages and writes an {@link AtlasManifest}.
+ *
+ * <p>Run by the Gradle task {@code packTextureAtlas}:
+ *
+ * <pre>
+ * TextureAtlasTool &lt;assetRoot&gt; &lt;outputRoot&gt; &lt;directory&gt;...
+ * </pre>
+ *
+ * <p>All PNG files below the given directories (relative to the asset root) are packed with an
+ * {@link AtlasPacker}. The pages and the manifest are written to {@code atlas/} below the output
+ * root, so the output root can be used as an additional resource directory. The padding around
+ * each image is filled with its edge pixels.
+ *
+ * <p>The tool only uses {@code java.awt} and {@code javax.imageio} and does not need libGDX.
+ */
+public final class TextureAtlasTool {
+
+  /** Width and height of the atlas pages in pixels. */
+  public static final int PAGE_SIZE = 2048;
+
+  /** Border around each image in pixels. */
+  public static final int PADDING = 1;
+
+  private static final String ATLAS_DIRECTORY = "atlas";
+
+  private TextureAtlasTool() {}
+
+  /**
+   * Pack the assets.
+   *
+   * @param args asset root, output root and the directories to pack
+   * @throws IOException if an image can't be read or the atlas can't be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      throw new IllegalArgumentException(
+          "Usage: TextureAtlasTool <assetRoot> <outputRoot> <directory>...");
+    }
+    Path assetRoot = Path.of(args[0]);
+    Path outputRoot = Path.of(args[1]);
+    List<String> directories = List.of(args).subList(2, args.length);
+    AtlasManifest manifest = pack(assetRoot, outputRoot, directories);
+    System.out.println(
+        "Packed " + manifest.size() + " textures into " + manifest.pages().size() + " page(s)");
+  }
+
+  /**
+   * Pack the PNG files of the given directories.
+   *
+   * @param assetRoot the asset root, the manifest paths are relative to it
+   * @param outputRoot the directory to write {@code atlas/} into
+   * @param directories the directories to pack, relative to the asset root
+   * @return the written manifest
+   * @throws IOException if an image can't be read or the atlas can't be written
+   */
+  public static AtlasManifest pack(Path assetRoot, Path outputRoot, List<String> directories)
+      throws IOException {
+    Map<String, BufferedImage> images = new HashMap<>();
+    List<AtlasPacker.Image> entries = new ArrayList<>();
+    for (String directory : directories) {
+      Path dir = assetRoot.resolve(directory);
+      if (!Files.isDirectory(dir)) continue;
+      try (Stream<Path> files = Files.walk(dir)) {
+        for (Path file : files.filter(TextureAtlasTool::isPng).sorted().toList()) {
+          BufferedImage image = ImageIO.read(file.toFile());
+          if (image == null) throw new IOException("Can't read image " + file);
+          String name = assetRoot.relativize(file).toString().replace('\\', '/');
+          images.put(name, image);
+          entries.add(new AtlasPacker.Image(name, image.getWidth(), image.getHeight()));
+        }
+      }
+    }
+
+    AtlasPacker packer = new AtlasPacker(PAGE_SIZE, PADDING);
+    AtlasPacker.Result result = packer.pack(entries);
+    result.skipped().forEach(image -> System.out.println("Too large, not packed: " + image.name()));
+
+    BufferedImage[] pages = new BufferedImage[result.pageCount()];
+    for (int i = 0; i < pages.length; i++) {
+      pages[i] = new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+    }
+    List<AtlasManifest.Region> regions = new ArrayList<>();
+    for (AtlasPacker.Placement p : result.placements()) {
+      blit(images.get(p.name()), pages[p.page()], p.x(), p.y(), PADDING);
+      regions.add(
+          new AtlasManifest.Region(p.name(), p.page(), p.x(), p.y(), p.width(), p.height()));
+    }
+
+    Path atlasDir = outputRoot.resolve(ATLAS_DIRECTORY);
+    Files.createDirectories(atlasDir);
+    List<String> pagePaths = new ArrayList<>();
+    for (int i = 0; i < pages.length; i++) {
+      String pageName = "page_" + i + ".png";
+      ImageIO.write(pages[i], "png", atlasDir.resolve(pageName).toFile());
+      pagePaths.add(ATLAS_DIRECTORY + "/" + pageName);
+    }
+    AtlasManifest manifest = new AtlasManifest(pagePaths, regions);
+    Files.writeString(
+        outputRoot.resolve(AtlasManifest.DEFAULT_PATH), manifest.write(), StandardCharsets.UTF_8);
+    return manifest;
+  }
+
+  private static boolean isPng(Path file) {
+    return Files.isRegularFile(file) && file.getFileName().toString().endsWith(".png");
+  }
+
+  /**
+   * Copy an image onto a page and extrude its edge pixels into the padding.
+   *
+   * @param image the image to copy
+   * @param page the page to copy onto
+   * @param x the x coordinate of the top left pixel on the page
+   * @param y the y coordinate of the top left pixel on the page
+   * @param padding the border to fill with the edge pixels
+   */
+  private static void blit(BufferedImage image, BufferedImage page, int x, int y, int padding) {
+    int w = image.getWidth();
+    int h = image.getHeight();
+    for (int dy = -padding; dy < h + padding; dy++) {
+      int sy = Math.clamp(dy, 0, h - 1);
+      for (int dx = -padding; dx < w + padding; dx++) {
+        int sx = Math.clamp(dx, 0, w - 1);
+        page.setRGB(x + dx, y + dy, image.getRGB(sx, sy));
+      }
+    }
+  }
+}
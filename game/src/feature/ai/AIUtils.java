@@ -6,6 +6,7 @@ import engine.Game;
 import engine.components.PositionComponent;
 import engine.components.VelocityComponent;
 import engine.level.Tile;
+import engine.level.utils.FlowField;
 import engine.level.utils.LevelUtils;
 import engine.utils.Direction;
 import engine.utils.Vector2;
@@ -35,6 +36,34 @@ public class AIUtils {
       return;
     }
 
+    moveTowards(entity, currentTile, nextTile);
+  }
+
+  /**
+   * Sets the velocity of the passed entity so that it takes the next necessary step to get to the
+   * target tile.
+   *
+   * <p>The step is looked up in the {@link FlowField} of the current level. Because the level
+   * caches the field per target, all entities moving to the same tile share one search, and each
+   * entity only needs a constant-time lookup per frame.
+   *
+   * <p>If the entity is already on the target tile, or the target can not be reached, the velocity
+   * is not changed.
+   *
+   * @param entity Entity moving to the target.
+   * @param target Tile the entity should move to.
+   * @see engine.level.elements.ILevel#flowField(Tile)
+   */
+  public static void followFlowField(final Entity entity, final Tile target) {
+    Tile currentTile = Game.tileAtEntity(entity).orElse(null);
+    if (currentTile == null || target == null) return;
+    Game.currentLevel()
+        .flatMap(level -> level.flowField(target))
+        .flatMap(field -> field.nextTile(currentTile))
+        .ifPresent(nextTile -> moveTowards(entity, currentTile, nextTile));
+  }
+
+  private static void moveTowards(final Entity entity, final Tile currentTile, final Tile nextTile) {
     Vector2 direction = calculateDirection(currentTile, nextTile);
 
     entity
@@ -1,6 +1,5 @@
 package feature.ai.fight;
 
-import com.badlogic.gdx.ai.pfa.GraphPath;
 import engine.Entity;
 import engine.Game;
 import engine.level.Tile;
@@ -14,13 +13,17 @@ import java.util.function.Consumer;
  * <p>The entity will attempt to move towards the player and attack, if the player is within a
  * specified range.
  *
- * <p>Otherwise, it will continue to follow the last calculated path towards the player.
+ * <p>Otherwise, it will continue to move towards the last known tile of the player, which is updated
+ * once per second.
+ *
+ * <p>The movement uses the {@link engine.level.utils.FlowField flow field} of the level, so all
+ * monsters chasing the same player share a single search instead of each running A* per frame.
  */
 public class AIChaseBehaviour implements Consumer<Entity> {
   private final float chaseRange;
   private final int delay = Game.frameRate();
   private int timeSinceLastUpdate = delay;
-  private GraphPath<Tile> path;
+  private Tile target;
 
   /**
    * Creates a new AIChaseBehaviour with the given chase range.
@@ -41,17 +44,21 @@ public class AIChaseBehaviour implements Consumer<Entity> {
   }
 
   private void handlePlayerInChaseRange(final Entity entity) {
-    path = LevelUtils.calculatePathToPlayer(entity);
-    AIUtils.followPath(entity, path);
+    target = playerTile();
+    AIUtils.followFlowField(entity, target);
     timeSinceLastUpdate = delay;
   }
 
   private void handlePlayerNotInChaseRange(final Entity entity) {
     if (timeSinceLastUpdate >= delay) {
-      path = LevelUtils.calculatePathToPlayer(entity);
+      target = playerTile();
       timeSinceLastUpdate = 0;
     }
     timeSinceLastUpdate++;
-    AIUtils.followPath(entity, path);
+    AIUtils.followFlowField(entity, target);
+  }
+
+  private Tile playerTile() {
+    return Game.player().flatMap(Game::tileAtEntity).orElse(null);
   }
 }
@@ -149,8 +149,7 @@ public class AIRangeBehaviour implements Consumer<Entity>, ISkillUser {
    * @param entity The entity to move.
    */
   private void moveToPlayer(Entity entity) {
-    GraphPath<Tile> path = LevelUtils.calculatePathToPlayer(entity);
-    AIUtils.followPath(entity, path);
+    AIUtils.followFlowField(entity, Game.player().flatMap(Game::tileAtEntity).orElse(null));
   }
 
   @Override
@@ -3,11 +3,11 @@ package feature.collision;
 import engine.Game;
 import engine.components.VelocityComponent;
 import engine.level.Tile;
+import engine.level.elements.ILevel;
 import engine.level.utils.LevelElement;
 import engine.utils.Point;
 import engine.utils.Vector2;
 import feature.components.CollideComponent;
-import java.util.List;
 import java.util.Set;
 
 /** Utility class for handling various collision detection things. */
@@ -49,7 +49,22 @@ public class CollisionUtils {
    * @return true if the tile at the given position is not accessible, false otherwise
    */
   public static boolean isCollidingWithLevel(Point pos, VelocityComponent vc) {
-    return !tileIsAccessible(Game.tileAt(pos).orElse(null), vc);
+    return isCollidingWithLevel(pos.x(), pos.y(), vc);
+  }
+
+  /**
+   * Checks if a point is colliding with a non-accessible level tile.
+   *
+   * <p>Same as {@link #isCollidingWithLevel(Point, VelocityComponent)}, for callers that keep
+   * positions as primitive values.
+   *
+   * @param x the x coordinate of the position to check for collision
+   * @param y the y coordinate of the position to check for collision
+   * @param vc the velocity component containing movement capabilities
+   * @return true if the tile at the given position is not accessible, false otherwise
+   */
+  public static boolean isCollidingWithLevel(float x, float y, VelocityComponent vc) {
+    return !tileIsAccessible(tileAt(x, y), vc);
   }
 
   /**
@@ -63,9 +78,41 @@ public class CollisionUtils {
    *     otherwise
    */
   public static boolean isCollidingWithLevel(Collider collider, Point pos, VelocityComponent vc) {
-    List<Vector2> corners = collider.cornersScaled();
-    return corners.stream()
-        .anyMatch(v -> !tileIsAccessible(Game.tileAt(pos.translate(v)).orElse(null), vc));
+    return isCollidingWithLevel(collider, pos.x(), pos.y(), vc);
+  }
+
+  /**
+   * Checks if a collider, when set on a specific position, is colliding with any level tiles that
+   * are not accessible.
+   *
+   * <p>Same as {@link #isCollidingWithLevel(Collider, Point, VelocityComponent)}, but checks the
+   * corners of {@link Collider#cornersScaled()} without creating them. This is called several times
+   * per moving entity and frame by the {@link engine.systems.MoveSystem}.
+   *
+   * @param collider the collider
+   * @param x the x coordinate of the position to check for collision
+   * @param y the y coordinate of the position to check for collision
+   * @param vc the velocity component containing movement capabilities
+   * @return true if any corner of the collider is colliding with a non-accessible tile, false
+   *     otherwise
+   */
+  public static boolean isCollidingWithLevel(
+      Collider collider, float x, float y, VelocityComponent vc) {
+    Vector2 scale = collider.scale();
+    float left = x + collider.left() * scale.x();
+    float right = x + collider.right() * scale.x();
+    float bottom = y + collider.bottom() * scale.y();
+    float top = y + collider.top() * scale.y();
+    // Same order as cornersScaled(): bottom-left, bottom-right, top-left, top-right
+    return isCollidingWithLevel(left, bottom, vc)
+        || isCollidingWithLevel(right, bottom, vc)
+        || isCollidingWithLevel(left, top, vc)
+        || isCollidingWithLevel(right, top, vc);
+  }
+
+  private static Tile tileAt(float x, float y) {
+    ILevel level = Game.currentLevel().orElse(null);
+    return level == null ? null : level.tileAt(new Point(x, y)).orElse(null);
   }
 
   /**
@@ -0,0 +1,213 @@
+package feature.collision;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A uniform grid used as broadphase for the collision detection.
+ *
+ * <p>Each stored element occupies every cell its axis-aligned bounds overlap. Two elements can only
+ * collide if they share at least one cell, so {@link #forEachPair(BiConsumer)} only reports pairs
+ * that share a cell instead of every possible pair.
+ *
+ * <p>The grid is maintained incrementally: {@link #update(Object, float, float, float, float)} only
+ * touches the cell lists if the covered cell range of an element changed. Elements that did not
+ * move across a cell border cost nothing besides the range comparison.
+ *
+ * <p>Cells are stored in a hash map, so the grid is unbounded and does not need to know the level
+ * size. Empty cells are dropped to keep the map small after level changes.
+ *
+ * @param <T> the type of the stored elements
+ */
+public final class SpatialHashGrid<T> {
+
+  /** Default edge length of a grid cell, aligned with the size of one level tile. */
+  public static final float DEFAULT_CELL_SIZE = 1f;
+
+  private final float cellSize;
+  private final Map<Long, Cell<T>> cells = new HashMap<>();
+  private final Map<T, CellRange> ranges = new HashMap<>();
+
+  /**
+   * Create a new grid with the given cell size.
+   *
+   * @param cellSize edge length of a single cell in world units
+   * @throws IllegalArgumentException if the cell size is not positive
+   */
+  public SpatialHashGrid(float cellSize) {
+    if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive.");
+    this.cellSize = cellSize;
+  }
+
+  /** Create a new grid with the {@link #DEFAULT_CELL_SIZE default cell size}. */
+  public SpatialHashGrid() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * Insert the element or move it to the cells covered by the given bounds.
+   *
+   * <p>If the element already covers exactly these cells, nothing is changed.
+   *
+   * @param element the element to insert or move
+   * @param left left edge of the element bounds
+   * @param bottom bottom edge of the element bounds
+   * @param right right edge of the element bounds
+   * @param top top edge of the element bounds
+   * @return true if the cells of the element changed, false otherwise
+   */
+  public boolean update(T element, float left, float bottom, float right, float top) {
+    int minX = cellIndex(Math.min(left, right));
+    int minY = cellIndex(Math.min(bottom, top));
+    int maxX = cellIndex(Math.max(left, right));
+    int maxY = cellIndex(Math.max(bottom, top));
+
+    CellRange old = ranges.get(element);
+    if (old != null && old.matches(minX, minY, maxX, maxY)) return false;
+    if (old != null) removeFromCells(element, old);
+
+    CellRange range = new CellRange(minX, minY, maxX, maxY);
+    ranges.put(element, range);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        final int cellX = x;
+        final int cellY = y;
+        cells.computeIfAbsent(key(x, y), k -> new Cell<>(cellX, cellY)).elements.add(element);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Remove the element from the grid.
+   *
+   * @param element the element to remove
+   * @return true if the element was stored in the grid, false otherwise
+   */
+  public boolean remove(T element) {
+    CellRange old = ranges.remove(element);
+    if (old == null) return false;
+    removeFromCells(element, old);
+    return true;
+  }
+
+  /**
+   * Check if the element is stored in the grid.
+   *
+   * @param element the element to check
+   * @return true if the element is stored in the grid
+   */
+  public boolean contains(T element) {
+    return ranges.containsKey(element);
+  }
+
+  /**
+   * Check if the cell ranges of both elements overlap.
+   *
+   * <p>If this returns false, the elements can not collide and will not be reported by {@link
+   * #forEachPair(BiConsumer)}.
+   *
+   * @param a the first element
+   * @param b the second element
+   * @return true if both elements are stored and share at least one cell, false otherwise
+   */
+  public boolean overlaps(T a, T b) {
+    CellRange ra = ranges.get(a);
+    CellRange rb = ranges.get(b);
+    return ra != null && rb != null && ra.overlaps(rb);
+  }
+
+  /**
+   * Call the consumer for each pair of elements that share at least one cell.
+   *
+   * <p>Each pair is reported exactly once, even if the elements share multiple cells: a pair is
+   * only reported in the lowest cell of the intersection of both cell ranges.
+   *
+   * <p>The grid must not be modified by the consumer.
+   *
+   * @param consumer the consumer to call for each candidate pair
+   */
+  public void forEachPair(BiConsumer<T, T> consumer) {
+    for (Cell<T> cell : cells.values()) {
+      List<T> elements = cell.elements;
+      for (int i = 0; i < elements.size(); i++) {
+        T a = elements.get(i);
+        CellRange ra = ranges.get(a);
+        for (int j = i + 1; j < elements.size(); j++) {
+          T b = elements.get(j);
+          CellRange rb = ranges.get(b);
+          if (Math.max(ra.minX, rb.minX) == cell.x && Math.max(ra.minY, rb.minY) == cell.y)
+            consumer.accept(a, b);
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the number of stored elements.
+   *
+   * @return the number of elements in the grid
+   */
+  public int size() {
+    return ranges.size();
+  }
+
+  /**
+   * Get the number of cells that currently contain at least one element.
+   *
+   * @return the number of occupied cells
+   */
+  public int occupiedCells() {
+    return cells.size();
+  }
+
+  /** Remove all elements from the grid. */
+  public void clear() {
+    cells.clear();
+    ranges.clear();
+  }
+
+  private void removeFromCells(T element, CellRange range) {
+    for (int x = range.minX; x <= range.maxX; x++) {
+      for (int y = range.minY; y <= range.maxY; y++) {
+        long key = key(x, y);
+        Cell<T> cell = cells.get(key);
+        if (cell == null) continue;
+        cell.elements.remove(element);
+        if (cell.elements.isEmpty()) cells.remove(key);
+      }
+    }
+  }
+
+  private int cellIndex(float value) {
+    return (int) Math.floor(value / cellSize);
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+
+  private static final class Cell<T> {
+    private final int x;
+    private final int y;
+    private final List<T> elements = new ArrayList<>(4);
+
+    private Cell(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+  private record CellRange(int minX, int minY, int maxX, int maxY) {
+    private boolean matches(int minX, int minY, int maxX, int maxY) {
+      return this.minX == minX && this.minY == minY && this.maxX == maxX && this.maxY == maxY;
+    }
+
+    private boolean overlaps(CellRange other) {
+      return minX <= other.maxX && other.minX <= maxX && minY <= other.maxY && other.minY <= maxY;
+    }
+  }
+}
@@ -10,7 +10,6 @@ import engine.level.Tile;
 import engine.level.utils.LevelElement;
 import engine.systems.LevelSystem;
 import engine.utils.Point;
-import engine.utils.Vector2;
 import feature.systems.LevelEditorSystem;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -203,19 +202,10 @@ public abstract class LevelEditorMode {
 
     Tile tile = level.tileAt(position).orElse(null);
     if (tile == null) return false;
-    boolean changed = tile.levelElement() != element;
+    if (tile.levelElement() == element) return false;
+    // The autotiler of the level also updates the sprites of the neighboring tiles
     level.changeTileElementType(tile, element);
-    // Also set the tiles around the position, to update their sprites for the new neighboring tile
-    for (int dx = -1; dx <= 1; dx++) {
-      for (int dy = -1; dy <= 1; dy++) {
-        Point neighborPos = position.translate(Vector2.of(dx, dy));
-        Tile neighborTile = level.tileAt(neighborPos).orElse(null);
-        if (neighborTile != null) {
-          level.changeTileElementType(neighborTile, neighborTile.levelElement());
-        }
-      }
-    }
-    return changed;
+    return true;
   }
 
   protected enum SnapMode {
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import engine.level.utils.Coordinate;
 import engine.level.utils.LevelElement;
+import engine.level.utils.TileAutotiler;
 import engine.systems.input.InputManager;
 import engine.utils.Point;
 import engine.utils.Vector2;
@@ -181,15 +182,22 @@ public class TilesMode extends LevelEditorMode {
           // y independently (not a square), etc.
           Point cursorPos = getCursorPosition();
           boolean changed = false;
-          for (int dx = -targetBrushSize + 1; dx < targetBrushSize; dx++) {
-            for (int dy = -targetBrushSize + 1; dy < targetBrushSize; dy++) {
-              // Ignore corners
-              if (Math.abs(dx) + Math.abs(dy) >= targetBrushSize) {
-                continue;
+          // Resolve the textures of the whole brush area once, after all tiles are set
+          TileAutotiler autotiler = getLevel().autotiler();
+          autotiler.beginEdit();
+          try {
+            for (int dx = -targetBrushSize + 1; dx < targetBrushSize; dx++) {
+              for (int dy = -targetBrushSize + 1; dy < targetBrushSize; dy++) {
+                // Ignore corners
+                if (Math.abs(dx) + Math.abs(dy) >= targetBrushSize) {
+                  continue;
+                }
+                Point targetPos = cursorPos.translate(Vector2.of(dx, dy));
+                changed |= setTile(targetPos, element);
               }
-              Point targetPos = cursorPos.translate(Vector2.of(dx, dy));
-              changed |= setTile(targetPos, element);
             }
+          } finally {
+            autotiler.commit();
           }
           CheckPatternPainter.paintCheckerPattern(getLevel().layout());
           if (changed) {
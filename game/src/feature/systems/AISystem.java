@@ -19,7 +19,7 @@ public final class AISystem extends System {
 
   @Override
   public void execute() {
-    filteredEntityStream(AIComponent.class).forEach(this::executeAI);
+    forEachEntity(this::executeAI);
   }
 
   private void executeAI(Entity entity) {
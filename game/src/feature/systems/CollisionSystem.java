@@ -13,10 +13,12 @@ import engine.utils.components.MissingComponentException;
 import engine.utils.logging.DungeonLogger;
 import feature.collision.Collider;
 import feature.collision.CollisionUtils;
+import feature.collision.SpatialHashGrid;
 import feature.components.CollideComponent;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 /**
  * System to check for collisions between two entities.
@@ -30,6 +32,9 @@ import java.util.stream.Stream;
  * with all currently active collisions is stored and allows informing the entities when a collision
  * ended.
  *
+ * <p>To avoid testing every pair of entities, the colliders are stored in a {@link SpatialHashGrid}.
+ * Only entities that share a grid cell are tested against each other.
+ *
  * <p>Entities with the {@link CollideComponent} will be processed by this system.
  */
 public final class CollisionSystem extends System {
@@ -44,7 +49,12 @@ public final class CollisionSystem extends System {
   /** Solid entities will be kept at this distance after colliding. */
   public static final float COLLIDE_SET_DISTANCE = 0.0001f;
 
+  /** Edge length of the broadphase grid cells, one cell per level tile. */
+  public static final float BROADPHASE_CELL_SIZE = SpatialHashGrid.DEFAULT_CELL_SIZE;
+
   private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+  private final SpatialHashGrid<Entity> broadphase = new SpatialHashGrid<>(BROADPHASE_CELL_SIZE);
+  private final List<CollisionData> candidates = new ArrayList<>();
 
   /** Create a new CollisionSystem. */
   public CollisionSystem() {
@@ -55,9 +65,11 @@ public final class CollisionSystem extends System {
 
   private void onAddEntity(Entity e) {
     PositionSync.syncPosition(e);
+    updateBroadphase(e);
   }
 
   private void onRemoveEntity(Entity e) {
+    broadphase.remove(e);
     // Check if this entity is colliding, if yes trigger onLeave
     // Remove all collisions where this id is part of
     collisions.keySet().stream()
@@ -69,11 +81,10 @@ public final class CollisionSystem extends System {
 
   private void triggerOnLeave(Entity removedEntity, CollisionKey key) {
     // Determine the other entity in the collision
-    long otherId = (key.a == removedEntity.id()) ? key.b : key.a;
+    int otherId = (key.a == removedEntity.id()) ? key.b : key.a;
 
-    // iterate over ALL entities, so collisions will be resolved if a new level was loaded
-    Entity other =
-        Game.levelEntities().filter(entity -> entity.id() == otherId).findFirst().orElse(null);
+    // look up in ALL entities, so collisions will be resolved if a new level was loaded
+    Entity other = Game.findEntityById(otherId).orElse(null);
 
     if (other == null) return;
     // Trigger onLeave for both entities
@@ -86,41 +97,65 @@ public final class CollisionSystem extends System {
   }
 
   /**
-   * Test every CollideEntity with every other CollideEntity for collision.
+   * Test every CollideEntity with every other CollideEntity that shares a broadphase cell for
+   * collision.
    *
    * <p>The collision check will be performed only once for a given tuple of entities, i.e. when
    * entity A does collide with entity B, it also means B collides with A.
+   *
+   * <p>Ongoing collisions whose entities no longer share a cell are checked as well, so their
+   * {@code onLeave} will be triggered.
    */
   @Override
   public void execute() {
-    filteredEntityStream(CollideComponent.class)
-        .flatMap(this::createDataPairs)
-        .forEach(this::onEnterLeaveCheck);
+    filteredEntityStream(CollideComponent.class).forEach(this::updateBroadphase);
+    broadphase.forEachPair(this::addCandidate);
+    collisions.values().stream()
+        .filter(cdata -> !broadphase.overlaps(cdata.ea, cdata.eb))
+        .filter(cdata -> !isStationary(cdata.ea) || !isStationary(cdata.eb))
+        .forEach(candidates::add);
+    try {
+      candidates.forEach(this::onEnterLeaveCheck);
+    } finally {
+      candidates.clear();
+    }
   }
 
   /**
-   * Create a stream of pairs of entities.
+   * Move the entity to the broadphase cells covered by its current collider bounds.
    *
-   * <p>Pair a given entity with every other entity with a higher ID.
+   * @param e Entity to update.
+   */
+  private void updateBroadphase(final Entity e) {
+    e.fetch(CollideComponent.class)
+        .map(CollideComponent::collider)
+        .ifPresent(
+            c ->
+                broadphase.update(
+                    e, c.absoluteLeft(), c.absoluteBottom(), c.absoluteRight(), c.absoluteTop()));
+  }
+
+  /**
+   * Add a pair of entities sharing a broadphase cell to the candidates of this tick.
+   *
+   * <p>The entity with the lower ID will be the first partner. Pairs of two stationary entities
+   * are skipped, because they can not start colliding.
    *
-   * @param a Entity which is the lower ID partner.
-   * @return The stream which contains every valid pair of Entities.
+   * @param a First Entity.
+   * @param b Second Entity.
    */
-  private Stream<CollisionData> createDataPairs(final Entity a) {
-    boolean isStationary = isStationary(a);
-    var filteredEntityStream = filteredEntityStream().filter(b -> isSmallerThen(a, b));
-    if (isStationary) {
-      filteredEntityStream = filteredEntityStream.filter(b -> !isStationary(b));
-    }
-    return filteredEntityStream.map(b -> newDataPair(a, b));
+  private void addCandidate(final Entity a, final Entity b) {
+    if (isStationary(a) && isStationary(b)) return;
+    if (isSmallerThen(a, b)) candidates.add(newDataPair(a, b));
+    else candidates.add(newDataPair(b, a));
   }
 
   /**
    * Compare the entities.
    *
-   * <p>This comparison is applied in the {@link #createDataPairs(Entity a) createDataPairs} method
-   * to create only tuples with entities with higher ID. This avoids performing a collision check
-   * twice for a pair of entities, first for (a,b) and second for (b,a).
+   * <p>This comparison is applied in the {@link #addCandidate(Entity, Entity) addCandidate} method
+   * to create only tuples where the first entity has the lower ID. This keeps the {@link
+   * CollisionKey} of a pair stable, no matter in which order the broadphase reports it.
    *
    * @param a First Entity.
    * @param b Second Entity
@@ -197,9 +232,9 @@ public final class CollisionSystem extends System {
   }
 
   private void checkSolidCollision(CollisionData cdata, Direction d) {
-    VelocityComponent vca = cdata.ea.fetch(VelocityComponent.class).orElse(null);
+    VelocityComponent vca = cdata.ea.fetchOrNull(VelocityComponent.class);
     boolean aStationary = isStationary(cdata.ea);
-    VelocityComponent vcb = cdata.eb.fetch(VelocityComponent.class).orElse(null);
+    VelocityComponent vcb = cdata.eb.fetchOrNull(VelocityComponent.class);
     boolean bStationary = isStationary(cdata.eb);
 
     if (aStationary && bStationary) {
@@ -226,7 +261,8 @@ public final class CollisionSystem extends System {
   }
 
   private boolean isStationary(Entity e) {
-    return e.fetch(CollideComponent.class).map(cc -> cc.isStatic(e)).orElse(true);
+    CollideComponent cc = e.fetchOrNull(CollideComponent.class);
+    return cc == null || cc.isStatic(e);
   }
 
   /**
@@ -320,7 +356,7 @@ public final class CollisionSystem extends System {
     }
 
     Point newPos = newColliderPos.translate(b.offset().inverse());
-    VelocityComponent vcb = eb.fetch(VelocityComponent.class).orElse(null);
+    VelocityComponent vcb = eb.fetchOrNull(VelocityComponent.class);
 
     if (!aStationary
         && (CollisionUtils.isCollidingWithLevel(b, newPos, vcb)
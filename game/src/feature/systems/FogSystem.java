@@ -6,24 +6,30 @@ import engine.System;
 import engine.components.DrawComponent;
 import engine.components.PositionComponent;
 import engine.level.Tile;
+import engine.level.elements.ILevel;
+import engine.level.utils.Coordinate;
+import engine.level.utils.FieldOfView;
 import engine.level.utils.LevelElement;
-import engine.level.utils.LevelUtils;
-import engine.utils.Point;
 import engine.utils.components.MissingComponentException;
-import feature.utils.EntityUtils;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The FogSystem class is responsible for controlling the fog in the game.
  *
- * <p>The fog is a game mechanic where areas of the game world that are not in the player's line of
+ * <p>The fog is a game mechanic where areas of the game world that are not in the players' line of
  * sight are obscured. This class maintains a set of tiles that are currently darkened (not visible
- * to the player) and a list of entities that are hidden. It also keeps track of the last known
- * position of the player (player character) and whether the fog system is currently active.
+ * to any player) and a set of entities that are hidden.
+ *
+ * <p>The line of sight of all players is computed by the {@link FieldOfView} of the level; the fog
+ * shows the union of what the players see. The tints of the tiles are only computed again if a
+ * player moved to another tile, the view distance changed, or the visibility changed (e.g., a door
+ * was opened). In the last case, only the tiles in the {@link FieldOfView.Diff diff} are touched.
  *
  * @author Flamtky
  */
@@ -31,10 +37,6 @@ public class FogSystem extends System {
   private static final int DISTANCE_TRANSITION_SIZE = 2; // size of distance transition (in tiles)
   private static final int HIDE_ENTITY_THRESHOLD =
       0xFFFFFF99; // tint color threshold for hiding entities
-  private static final int[][] mult = { // needed for casting light
-    {1, 0, 0, -1}, {0, 1, -1, 0}, {0, -1, -1, 0}, {-1, 0, 0, -1},
-    {-1, 0, 0, 1}, {0, -1, 1, 0}, {0, 1, 1, 0}, {1, 0, 0, 1}
-  };
   private static final float TINT_COLOR_WALL_DISTANCE_SCALE =
       1.5f; // scale factor for behind wall distance fog
   private static final float TINT_COLOR_DISTANCE_SCALE = .5f; // scale factor for distance fog
@@ -46,32 +48,46 @@ public class FogSystem extends System {
   private static final int MAX_VIEW_DISTANCE = 25;
 
   private final Map<Tile, Integer> darkenedTiles = new HashMap<>();
-  private final List<Entity> hiddenEntities = new ArrayList<>();
+  private final Map<Entity, Coordinate> viewers = new HashMap<>();
+  private final List<Coordinate> origins = new ArrayList<>();
+  private final List<Tile> retintTiles = new ArrayList<>();
+  private final BitSet shownVisibility = new BitSet();
+  private final BitSet visibility = new BitSet();
+  private final BitSet retinted = new BitSet();
+  private Set<Entity> hiddenEntities = new HashSet<>();
+  private Set<Entity> stillHiddenEntities = new HashSet<>();
+  private ILevel fogLevel;
+  private int appliedViewDistance = -1;
   private boolean active = true;
 
   /**
    * Resets the FogSystem.
    *
-   * <p>This method clears the sets of darkened tiles and hidden entities.
+   * <p>This method clears the sets of darkened tiles and hidden entities, and forgets the players'
+   * positions, so the fog is computed again in the next tick.
    *
-   * @param revert If true, the FogSystem will also revert to its initial state.
+   * @param revert If true, the darkened tiles and hidden entities are revealed before they are
+   *     cleared.
    * @see #reset()
    * @see #revealAll()
    */
   public void reset(boolean revert) {
-    darkenedTiles.clear();
-    hiddenEntities.clear();
     if (revert) {
       revealAll();
     }
+    darkenedTiles.clear();
+    hiddenEntities.clear();
+    if (fogLevel != null) viewers.keySet().forEach(fogLevel.fieldOfView()::removeViewer);
+    viewers.clear();
+    shownVisibility.clear();
+    fogLevel = null;
+    appliedViewDistance = -1;
   }
 
   /**
    * Resets the FogSystem to its initial state.
    *
-   * <p>This method clears the sets of darkened tiles and hidden entities, and resets the last known
-   * player position. The last known player position is set to the current player's position if a
-   * player exists, otherwise it is set to (0,0). This method also reverts the FogSystem to its
+   * <p>This method reveals and clears the sets of darkened tiles and hidden entities.
    *
    * @see #revealAll()
    */
@@ -81,8 +97,10 @@ public class FogSystem extends System {
 
   /** Reverts the FogSystem. This reveals all darkened tiles and hidden entities. */
   public void revealAll() {
-    revertTilesBackToLight(darkenedTiles.keySet().stream().toList());
-    revealHiddenEntities();
+    darkenedTiles.forEach((tile, tint) -> tile.tintColor(tint));
+    darkenedTiles.clear();
+    hiddenEntities.forEach(entity -> setVisible(entity, true));
+    hiddenEntities.clear();
   }
 
   /**
@@ -138,75 +156,137 @@ public class FogSystem extends System {
     }
   }
 
-  private List<Tile> castLight(
-      int row,
-      float start,
-      float end,
-      int radius,
-      int xx,
-      int xy,
-      int yx,
-      int yy,
-      Point playerPos) {
-    List<Tile> visibleTiles = new ArrayList<>();
-    if (start < end) {
-      return visibleTiles;
+  @Override
+  public void execute() {
+    if (!active) return;
+    ILevel level = Game.currentLevel().orElse(null);
+    if (level == null) return;
+    if (level != fogLevel) {
+      reset(true);
+      fogLevel = level;
+    }
+
+    FieldOfView fov = level.fieldOfView();
+    boolean moved = updateViewers(fov);
+    if (viewers.isEmpty()) return; // no player, no fog
+
+    fov.visibility(visibility);
+    if (moved || appliedViewDistance != currentViewDistance) {
+      retintAll(fov);
+    } else if (!visibility.equals(shownVisibility)) {
+      FieldOfView.Diff diff = FieldOfView.Diff.between(shownVisibility, visibility);
+      retint(fov, diff.lit());
+      retint(fov, diff.darkened());
+    }
+    shownVisibility.clear();
+    shownVisibility.or(visibility);
+    appliedViewDistance = currentViewDistance;
+
+    updateHiddenEntities();
+  }
+
+  /**
+   * Update the position of all players in the field of view.
+   *
+   * @param fov the field of view of the current level
+   * @return true if a player moved to another tile, or a player was added or removed
+   */
+  private boolean updateViewers(FieldOfView fov) {
+    boolean moved = false;
+    Set<Entity> players = new HashSet<>();
+    for (Entity player : Game.allPlayers().toList()) {
+      PositionComponent pc = player.fetch(PositionComponent.class).orElse(null);
+      if (pc == null) continue;
+      Coordinate origin = pc.position().toCoordinate();
+      players.add(player);
+      fov.updateViewer(player, origin, MAX_VIEW_DISTANCE);
+      moved |= !origin.equals(viewers.put(player, origin));
     }
-    float newStart = 0.0f;
-    for (int i = row; i <= radius; i++) {
-      int dx = -i - 1;
-      int dy = -i;
-      boolean blocked = false;
-      while (dx <= 0) {
-        dx += 1;
-        // Translate the dx, dy coordinates into map coordinates
-        int X = (int) (playerPos.x() + (dx * xx + dy * xy));
-        int Y = (int) (playerPos.y() + (dx * yx + dy * yy));
-        // l_slope and r_slope store the slopes of the left and right extremities of the square
-        // we're considering
-        float lSlope = (dx - 0.5f) / (dy + 0.5f);
-        float rSlope = (dx + 0.5f) / (dy - 0.5f);
-        if (start < rSlope) {
-          continue;
-        } else if (end > lSlope) {
-          break;
-        } else {
-          // Our light beam is touching this square; light it
-          if (dx * dx + dy * dy < radius * radius) {
-            Tile tile = Game.tileAt(new Point(X, Y)).orElse(null);
-            visibleTiles.add(tile);
-          }
-          Tile tile = Game.tileAt(new Point(X, Y)).orElse(null);
-          if (tile == null) {
-            continue;
-          }
-          if (blocked) { // previous step was a blocking square
+    for (Entity gone : new ArrayList<>(viewers.keySet())) {
+      if (players.contains(gone)) continue;
+      viewers.remove(gone);
+      fov.removeViewer(gone);
+      moved = true;
+    }
+    origins.clear();
+    origins.addAll(viewers.values());
+    return moved;
+  }
 
-            if (!tile.canSeeThrough()) { // this step is a blocking square
-              newStart = rSlope;
-              continue;
-            } else {
-              blocked = false;
-              start = newStart;
-            }
-          } else {
-            if (!tile.canSeeThrough() && i < radius) { // this step is a blocking square
-              blocked = true;
-              visibleTiles.addAll(
-                  castLight(i + 1, start, lSlope, radius, xx, xy, yx, yy, playerPos));
-              newStart = rSlope;
-            }
-          }
+  /**
+   * Compute the tint of all tiles in range of a player and of all darkened tiles again.
+   *
+   * @param fov the field of view of the current level
+   */
+  private void retintAll(FieldOfView fov) {
+    retinted.clear();
+    retintTiles.clear();
+    retintTiles.addAll(darkenedTiles.keySet());
+    for (Coordinate origin : origins) {
+      for (int dy = -MAX_VIEW_DISTANCE; dy <= MAX_VIEW_DISTANCE; dy++) {
+        for (int dx = -MAX_VIEW_DISTANCE; dx <= MAX_VIEW_DISTANCE; dx++) {
+          if (dx * dx + dy * dy > MAX_VIEW_DISTANCE * MAX_VIEW_DISTANCE) continue;
+          Game.tileAt(new Coordinate(origin.x() + dx, origin.y() + dy))
+              .ifPresent(retintTiles::add);
         }
       }
-      if (blocked) break;
     }
-    return visibleTiles;
+    for (Tile tile : retintTiles) {
+      int index = fov.index(tile.coordinate());
+      if (index < 0 || retinted.get(index)) continue;
+      retinted.set(index);
+      retint(tile, visibility.get(index));
+    }
   }
 
-  private void darkenTile(Tile tile, int maxDistance, float scale, Point playerPos) {
-    if (tile == null) return;
-    int newTint = getTintColor(tile.position(), maxDistance, scale, playerPos);
+  /**
+   * Compute the tint of the given tiles again.
+   *
+   * @param fov the field of view of the current level
+   * @param indices the indices of the tiles in the field of view
+   */
+  private void retint(FieldOfView fov, BitSet indices) {
+    for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+      Tile tile = Game.tileAt(fov.coordinate(i)).orElse(null);
+      if (tile != null) retint(tile, visibility.get(i));
+    }
+  }
+
+  /**
+   * Set the tint of a tile based on its visibility and the distance to the nearest player.
+   *
+   * <p>Visible tiles within the view distance are lit, visible tiles beyond are faded out with the
+   * distance. Tiles that are not visible are darkened behind the walls. Tiles that are out of range
+   * of all players keep their original tint.
+   *
+   * @param tile the tile to tint
+   * @param visible true if a player can see the tile
+   */
+  private void retint(Tile tile, boolean visible) {
+    double distance = distanceToNearestViewer(tile.coordinate());
+    if (distance > MAX_VIEW_DISTANCE || (visible && distance <= currentViewDistance)) {
+      revertTileBackToLight(tile);
+    } else if (visible) {
+      darkenTile(
+          tile,
+          getTintColor(
+              distance, currentViewDistance + DISTANCE_TRANSITION_SIZE, TINT_COLOR_DISTANCE_SCALE));
+    } else {
+      darkenTile(
+          tile, getTintColor(distance, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE));
+    }
+  }
+
+  private double distanceToNearestViewer(Coordinate coordinate) {
+    double nearest = Double.POSITIVE_INFINITY;
+    for (Coordinate origin : origins) {
+      nearest =
+          Math.min(nearest, Math.hypot(coordinate.x() - origin.x(), coordinate.y() - origin.y()));
+    }
+    return nearest;
+  }
+
+  private void darkenTile(Tile tile, int newTint) {
     int orgTint = tile.tintColor();
     int mixedTint = orgTint == -1 ? newTint : (orgTint & 0xFFFFFF00) | (newTint & 0x000000FF);
     if (!darkenedTiles.containsKey(tile)) {
@@ -216,22 +296,19 @@ public class FogSystem extends System {
   }
 
   /**
-   * Calculates the tint color for a tile based on its distance from the player's position. The tint
+   * Calculates the tint color for a tile based on its distance from the nearest player. The tint
    * color is represented as an ARGB integer, where the alpha component is adjusted based on the
    * distance. The closer the tile is to the player, the more transparent (closer to white) it
    * becomes. If the tile is beyond the view distance, it is fully opaque.
    *
-   * @param tilePos The position of the tile for which to calculate the tint color.
+   * @param distance The distance of the tile to the nearest player (in tiles).
    * @param maxDistance The maximum distance from the player's position at which the tile is fully
    *     opaque.
    * @param scale The scale factor for the distance. The larger the scale, the more transparent the
    *     tiles will be.
-   * @param playerPos The position of the player.
    * @return The calculated tint color as an ARGB integer.
    */
-  private int getTintColor(Point tilePos, int maxDistance, float scale, Point playerPos) {
-    double distance =
-        playerPos.floor().distance(tilePos); // point -> coordinate -> point to floor the value
+  private int getTintColor(double distance, int maxDistance, float scale) {
     if (distance > maxDistance) {
       return 0xFFFFFF00;
     }
@@ -241,110 +318,40 @@ public class FogSystem extends System {
     return 0xFFFFFF00 | alpha;
   }
 
-  private void revertTilesBackToLight(List<Tile> visibleTiles) {
-    Iterator<Tile> iterator = darkenedTiles.keySet().iterator();
-    while (iterator.hasNext()) {
-      Tile darkenTile = iterator.next();
-      Integer originalTint = darkenedTiles.get(darkenTile);
-      // match non-current tile or tile that are far away
-      if (visibleTiles.contains(darkenTile)) {
-        darkenTile.tintColor(originalTint);
-        iterator.remove();
-      }
-    }
+  private void revertTileBackToLight(Tile tile) {
+    Integer originalTint = darkenedTiles.remove(tile);
+    if (originalTint != null) tile.tintColor(originalTint);
   }
 
-  private void hideAllHiddenEntities() {
-    darkenedTiles.keySet().stream()
-        .filter(tile -> tile.tintColor() < HIDE_ENTITY_THRESHOLD)
-        .flatMap(Game::entityAtTile)
-        .filter(entity -> entity.isPresent(DrawComponent.class))
+  /** Hide the entities standing in the fog and reveal the entities that left it. */
+  private void updateHiddenEntities() {
+    filteredEntityStream(DrawComponent.class, PositionComponent.class)
         .forEach(
             entity -> {
-              DrawComponent dc =
+              PositionComponent pc =
                   entity
-                      .fetch(DrawComponent.class)
+                      .fetch(PositionComponent.class)
                       .orElseThrow(
-                          () -> MissingComponentException.build(entity, DrawComponent.class));
-              dc.setVisible(false);
-              hiddenEntities.add(entity);
+                          () -> MissingComponentException.build(entity, PositionComponent.class));
+              Tile tile = Game.tileAt(pc.position()).orElse(null);
+              if (tile != null
+                  && darkenedTiles.containsKey(tile)
+                  && tile.tintColor() < HIDE_ENTITY_THRESHOLD) {
+                setVisible(entity, false);
+                stillHiddenEntities.add(entity);
+              }
             });
-  }
-
-  private void revealHiddenEntities() {
     for (Entity entity : hiddenEntities) {
-      PositionComponent pc =
-          entity
-              .fetch(PositionComponent.class)
-              .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-      Tile tile = Game.tileAt(pc.position()).orElse(null);
-      if (!darkenedTiles.containsKey(tile) || tile.tintColor() >= HIDE_ENTITY_THRESHOLD) {
-        DrawComponent dc =
-            entity
-                .fetch(DrawComponent.class)
-                .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
-        dc.setVisible(true);
-      }
+      if (!stillHiddenEntities.contains(entity)) setVisible(entity, true);
     }
+    Set<Entity> swap = hiddenEntities;
+    hiddenEntities = stillHiddenEntities;
+    stillHiddenEntities = swap;
+    stillHiddenEntities.clear();
   }
 
-  @Override
-  public void execute() {
-    if (!active) return;
-
-    Point playerPos = EntityUtils.getPlayerPosition();
-    if (playerPos == null) return; // no player, no fog
-
-    List<Tile> allTilesInView = LevelUtils.tilesInRange(playerPos, MAX_VIEW_DISTANCE);
-    // Revert all darkened tiles back to light that are not in view
-    List<Tile> tilesOutsideView = new ArrayList<>(darkenedTiles.keySet());
-    tilesOutsideView.removeAll(allTilesInView);
-    revertTilesBackToLight(tilesOutsideView);
-
-    List<Tile> visibleTiles = new ArrayList<>();
-    visibleTiles.add(Game.tileAt(playerPos).orElse(null));
-    // Cast light into the surrounding tiles
-    for (int octant = 0; octant < 8; octant++) {
-      visibleTiles.addAll(
-          castLight(
-              1,
-              1.0f,
-              0.0f,
-              MAX_VIEW_DISTANCE,
-              mult[octant][0],
-              mult[octant][1],
-              mult[octant][2],
-              mult[octant][3],
-              playerPos));
-    }
-    List<Tile> distancedTiles = new ArrayList<>(visibleTiles.stream().toList()); // copy
-
-    // Handle tiles that are beyond the view distance
-    distancedTiles.removeAll(LevelUtils.tilesInRange(playerPos, currentViewDistance));
-    distancedTiles.forEach(
-        (tile) ->
-            darkenTile(
-                tile,
-                currentViewDistance + DISTANCE_TRANSITION_SIZE,
-                TINT_COLOR_DISTANCE_SCALE,
-                playerPos));
-    visibleTiles.removeAll(distancedTiles); // remove distanced tiles from visible tiles
-    allTilesInView.removeAll(distancedTiles); // and from tile behind walls
-
-    allTilesInView.removeAll(visibleTiles); // remove visible tiles from tiles behind walls
-
-    // Darken tiles that are behind walls
-    allTilesInView.forEach(
-        (tile) -> darkenTile(tile, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE, playerPos));
-
-    // Revert all visible tiles back to light
-    revertTilesBackToLight(visibleTiles);
-
-    // Hide entities in the fog
-    hideAllHiddenEntities();
-
-    // Reveal entities in the visible area
-    revealHiddenEntities();
+  private static void setVisible(Entity entity, boolean visible) {
+    entity.fetch(DrawComponent.class).ifPresent(dc -> dc.setVisible(visible));
   }
 
   /**
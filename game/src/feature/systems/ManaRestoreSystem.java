@@ -1,5 +1,6 @@
 package feature.systems;
 
+import engine.Entity;
 import engine.Game;
 import engine.System;
 import feature.components.ManaComponent;
@@ -20,6 +21,7 @@ public class ManaRestoreSystem extends System {
    */
   public ManaRestoreSystem() {
     super(ManaComponent.class);
+    declareWrites(ManaComponent.class);
   }
 
   /**
@@ -35,8 +37,11 @@ public class ManaRestoreSystem extends System {
    */
   @Override
   public void execute() {
-    filteredEntityStream()
-        .flatMap(e -> e.fetch(ManaComponent.class).stream())
-        .forEach(m -> m.restore(m.restorePerSecond() / Game.frameRate()));
+    forEachEntity(this::restore);
+  }
+
+  private void restore(Entity entity) {
+    ManaComponent mana = entity.fetch(ManaComponent.class).orElse(null);
+    if (mana != null) mana.restore(mana.restorePerSecond() / Game.frameRate());
   }
 }
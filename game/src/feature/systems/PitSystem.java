@@ -8,7 +8,9 @@ import engine.components.PlayerComponent;
 import engine.components.PositionComponent;
 import engine.components.VelocityComponent;
 import engine.level.Tile;
+import engine.level.elements.ILevel;
 import engine.level.elements.tile.PitTile;
+import engine.level.utils.TileTimers;
 import engine.utils.Point;
 import engine.utils.components.MissingComponentException;
 import feature.components.AIComponent;
@@ -16,16 +18,19 @@ import feature.components.CollideComponent;
 import feature.components.FlyComponent;
 import feature.components.ProjectileComponent;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 /**
  * Manages the pit system. A pit is an open or closed hole in the ground. If it is open, the player
  * dies (see {@link FallingSystem}). If it is closed, the player can walk over it, but the pit gets
  * opened up after a certain amount of time. The pit system will manage the opening of the pits.
+ *
+ * <p>When a pit is stepped on, a timer is scheduled in the {@link TileTimers tile timers} of its
+ * level. The timer opens the pit after its {@link PitTile#timeToOpen() time to open}; the timers
+ * are run by the {@link engine.systems.LevelSystem}.
  */
 public class PitSystem extends System {
-  private final Map<PitTile, Long> pitTimes = new HashMap<>();
+  private final Map<PitTile, TileTimers.Timer> pitTimers = new HashMap<>();
 
   /**
    * Constructor for the PitSystem class. This system processes entities with the PositionComponent
@@ -38,10 +43,9 @@ public class PitSystem extends System {
   @Override
   public void execute() {
     processEntities();
-    openPits();
   }
 
-  /** Process each entity and add it to the pitTimes map if it's on a PitTile. */
+  /** Process each entity and schedule the opening of the PitTile it is on. */
   private void processEntities() {
     filteredEntityStream()
         .filter(entity -> !entity.isPresent(ProjectileComponent.class))
@@ -55,38 +59,32 @@ public class PitSystem extends System {
                 if (entity.isPresent(CameraComponent.class)
                     && !entity.isPresent(PlayerComponent.class)
                     && !entity.isPresent(AIComponent.class)) return;
-                pitTimes.putIfAbsent(pitTile, java.lang.System.currentTimeMillis());
+                scheduleOpening(pitTile);
               }
             });
   }
 
-  /** Open pits that have been stepped on for more than their timeToOpen. */
-  private void openPits() {
-
-    Iterator<Map.Entry<PitTile, Long>> pitIterator = pitTimes.entrySet().iterator();
-
-    while (pitIterator.hasNext()) {
-      Map.Entry<PitTile, Long> pitEntry = pitIterator.next();
-      PitTile pitTile = pitEntry.getKey();
-      Long stepOnTime = pitEntry.getValue();
-
-      if (hasPitOpenTimeElapsed(stepOnTime, pitTile.timeToOpen())) {
-        pitTile.open();
-        pitIterator.remove();
-      }
-    }
-  }
-
   /**
-   * Check if the time elapsed since the pit was stepped on is greater than the time to open the
-   * pit.
+   * Schedule the opening of a pit that was stepped on, unless it is already scheduled.
    *
-   * @param stepOnTime The time the pit was stepped on.
-   * @param timeToOpen The time it takes for the pit to open.
-   * @return true if the time elapsed is greater than the time to open, false otherwise.
+   * @param pitTile The pit that was stepped on.
    */
-  private boolean hasPitOpenTimeElapsed(long stepOnTime, long timeToOpen) {
-    return java.lang.System.currentTimeMillis() - stepOnTime > timeToOpen;
+  private void scheduleOpening(PitTile pitTile) {
+    TileTimers.Timer timer = pitTimers.get(pitTile);
+    if (timer != null && timer.isPending()) return;
+    ILevel level = pitTile.level();
+    if (level == null) return;
+    timer =
+        level
+            .tileTimers()
+            .schedule(
+                pitTile,
+                pitTile.timeToOpen(),
+                () -> {
+                  pitTimers.remove(pitTile);
+                  pitTile.open();
+                });
+    pitTimers.put(pitTile, timer);
   }
 
   private Tile tileAtCenter(Entity entity) {
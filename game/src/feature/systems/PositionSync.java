@@ -25,16 +25,14 @@ public class PositionSync {
    * @param e The entity to sync the position for.
    */
   public static void syncPosition(Entity e) {
-    e.fetch(PositionComponent.class)
-        .ifPresent(
-            pc -> {
-              // CollideComponent
-              e.fetch(CollideComponent.class)
-                  .ifPresent(
-                      cc -> {
-                        cc.collider().position(pc.position());
-                        cc.collider().scale(pc.scale());
-                      });
-            });
+    // Called for every moving entity in every frame, so no lambdas capturing the entity
+    PositionComponent pc = e.fetch(PositionComponent.class).orElse(null);
+    CollideComponent cc = e.fetch(CollideComponent.class).orElse(null);
+    if (pc == null || cc == null) {
+      return;
+    }
+    cc.collider().position(pc.position());
+    cc.collider().scale(pc.scale());
+    pc.markChanged();
   }
 }
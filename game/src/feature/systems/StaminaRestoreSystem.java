@@ -1,5 +1,6 @@
 package feature.systems;
 
+import engine.Entity;
 import engine.Game;
 import engine.System;
 import feature.components.StaminaComponent;
@@ -20,6 +21,7 @@ public class StaminaRestoreSystem extends System {
    */
   public StaminaRestoreSystem() {
     super(StaminaComponent.class);
+    declareWrites(StaminaComponent.class);
   }
 
   /**
@@ -35,8 +37,11 @@ public class StaminaRestoreSystem extends System {
    */
   @Override
   public void execute() {
-    filteredEntityStream()
-        .flatMap(e -> e.fetch(StaminaComponent.class).stream())
-        .forEach(c -> c.restore(c.restorePerSecond() / Game.frameRate()));
+    forEachEntity(this::restore);
+  }
+
+  private void restore(Entity entity) {
+    StaminaComponent stamina = entity.fetch(StaminaComponent.class).orElse(null);
+    if (stamina != null) stamina.restore(stamina.restorePerSecond() / Game.frameRate());
   }
 }
@@ -1,6 +1,7 @@
 package engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -64,6 +65,19 @@ public class EntityTest {
     assertTrue(entity.fetch(testComponent.getClass()).isEmpty());
   }
 
+  /** Fetching without Optional returns the component, or null if it is missing. */
+  @Test
+  public void fetchOrNull() {
+    assertEquals(testComponent, entity.fetchOrNull(testComponent.getClass()));
+    assertNull(entity.fetchOrNull(TestComponent.class));
+    entity.add(new TestComponent());
+    assertTrue(entity.isPresent(TestComponent.class));
+    assertEquals(2, entity.componentStream().count());
+    entity.remove(TestComponent.class);
+    assertNull(entity.fetchOrNull(TestComponent.class));
+    assertEquals(1, entity.componentStream().count());
+  }
+
   /** WTF? . */
   @Test
   public void compareToSameID() {
@@ -1,8 +1,10 @@
 package engine.components;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import engine.utils.Point;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +28,35 @@ public class PositionComponentTest {
     positionComponent.position(newPoint);
     assertTrue(newPoint.equals(positionComponent.position()));
   }
+
+  /** Tests setting the position from primitive coordinates. */
+  @Test
+  public void setPositionFromCoordinates() {
+    AtomicInteger changes = new AtomicInteger();
+    positionComponent.changeListener(changes::incrementAndGet);
+    positionComponent.position(3f, 4f);
+    assertTrue(new Point(3, 4).equals(positionComponent.position()));
+    assertEquals(1, changes.get());
+  }
+
+  /** The position is interpolated between the previous and the current tick. */
+  @Test
+  public void interpolatedPosition() {
+    assertEquals(position, positionComponent.interpolatedPosition(0.5f));
+    positionComponent.storePreviousPosition();
+    positionComponent.position(3.5f, 3f);
+
+    assertEquals(position, positionComponent.interpolatedPosition(0f));
+    assertEquals(new Point(3.25f, 3f), positionComponent.interpolatedPosition(0.5f));
+    assertEquals(new Point(3.5f, 3f), positionComponent.interpolatedPosition(1f));
+  }
+
+  /** Jumps further than the maximum interpolation distance are not interpolated. */
+  @Test
+  public void teleportIsNotInterpolated() {
+    positionComponent.storePreviousPosition();
+    positionComponent.position(new Point(10, 10));
+
+    assertEquals(new Point(10, 10), positionComponent.interpolatedPosition(0.5f));
+  }
 }
@@ -227,6 +227,19 @@ class VelocityComponentTest {
     assertEquals(2, count);
   }
 
+  /** Tests that the applied forces are summed per axis. */
+  @Test
+  void testAppliedForcesSum() {
+    assertEquals(0f, component.appliedForcesX());
+    assertEquals(0f, component.appliedForcesY());
+
+    component.applyForce("a", Vector2.of(1.5, -2));
+    component.applyForce("b", Vector2.of(0.5, 3));
+
+    assertEquals(2f, component.appliedForcesX(), 0.0001f);
+    assertEquals(1f, component.appliedForcesY(), 0.0001f);
+  }
+
   /**
    * Tests that the applied forces map is returned as a copy and not modifiable from the outside.
    */
@@ -0,0 +1,179 @@
+package engine.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Component;
+import engine.Entity;
+import engine.Game;
+import engine.System;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link CommandBuffer} and its sync points in {@link ECSManagement}. */
+public class CommandBufferTest {
+
+  private final List<String> log = new ArrayList<>();
+
+  /** Removes the essential systems, so only the test systems are executed. */
+  @BeforeEach
+  public void setup() {
+    Game.removeAllSystems();
+  }
+
+  /** Cleans up global game state after each test. */
+  @AfterEach
+  public void cleanup() {
+    ECSManagement.useCommandBuffer(false);
+    ECSManagement.useParallelSystems(false);
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** Changes are recorded and played back in recording order. */
+  @Test
+  public void playbackKeepsRecordingOrder() {
+    CommandBuffer buffer = new CommandBuffer();
+    buffer.recordDuring(
+        () -> {
+          assertTrue(CommandBuffer.record(() -> log.add("first")));
+          assertTrue(CommandBuffer.record(() -> log.add("second")));
+        });
+
+    assertTrue(log.isEmpty());
+    assertFalse(buffer.isEmpty());
+    buffer.playback();
+    assertEquals(List.of("first", "second"), log);
+    assertTrue(buffer.isEmpty());
+    assertFalse(CommandBuffer.record(() -> log.add("immediate")));
+  }
+
+  /** Changes played back inside an active buffer are recorded by that buffer. */
+  @Test
+  public void nestedPlaybackRecordsIntoEnclosingBuffer() {
+    CommandBuffer outer = new CommandBuffer();
+    CommandBuffer inner = new CommandBuffer();
+    outer.recordDuring(
+        () -> {
+          inner.recordDuring(() -> Game.add(new Entity()));
+          inner.playback();
+        });
+
+    assertEquals(0, ECSManagement.entities().count());
+    outer.playback();
+    assertEquals(1, ECSManagement.entities().count());
+  }
+
+  /** Added entities are visible to the following system, but not to the adding one. */
+  @Test
+  public void entitiesAreAddedAfterTheSystem() {
+    ECSManagement.useCommandBuffer(true);
+    Entity spawned = new Entity();
+    Game.add(new SpawnSystem(spawned, log));
+    Game.add(new ObserveSystem(spawned, log));
+
+    ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+
+    assertEquals(List.of("spawn: false", "observe: true"), log);
+  }
+
+  /** Component changes of entities in the game are deferred, new entities are built directly. */
+  @Test
+  public void componentChangesOfEntitiesInTheGameAreDeferred() {
+    ECSManagement.useCommandBuffer(true);
+    Entity inGame = new Entity();
+    Game.add(inGame);
+    Entity notInGame = new Entity();
+    Game.add(new ComponentSystem(inGame, notInGame, log));
+
+    ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+
+    assertEquals(List.of("in game: false", "not in game: true"), log);
+    assertTrue(inGame.isPresent(MarkerComponent.class));
+  }
+
+  /** Without the command buffer, changes are applied immediately. */
+  @Test
+  public void changesAreImmediateWithoutCommandBuffer() {
+    Entity spawned = new Entity();
+    Game.add(new SpawnSystem(spawned, log));
+
+    ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+
+    assertEquals(List.of("spawn: true"), log);
+  }
+
+  /** The parallel system scheduler always records the changes. */
+  @Test
+  public void parallelSchedulerRecordsChanges() {
+    ECSManagement.useParallelSystems(true);
+    Entity spawned = new Entity();
+    Game.add(new SpawnSystem(spawned, log));
+    Game.add(new ObserveSystem(spawned, log));
+
+    ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+
+    assertTrue(ECSManagement.isCommandBufferEnabled());
+    assertEquals(List.of("spawn: false", "observe: true"), log);
+  }
+
+  private static final class MarkerComponent implements Component {}
+
+  /** Adds an entity and logs whether it is already in the game. */
+  private static final class SpawnSystem extends System {
+    private final Entity entity;
+    private final List<String> log;
+
+    private SpawnSystem(Entity entity, List<String> log) {
+      this.entity = entity;
+      this.log = log;
+    }
+
+    @Override
+    public void execute() {
+      Game.add(entity);
+      log.add("spawn: " + ECSManagement.exist(entity));
+    }
+  }
+
+  /** Logs whether an entity is in the game. */
+  private static final class ObserveSystem extends System {
+    private final Entity entity;
+    private final List<String> log;
+
+    private ObserveSystem(Entity entity, List<String> log) {
+      this.entity = entity;
+      this.log = log;
+    }
+
+    @Override
+    public void execute() {
+      log.add("observe: " + ECSManagement.exist(entity));
+    }
+  }
+
+  /** Adds a component to two entities and logs whether it is present. */
+  private static final class ComponentSystem extends System {
+    private final Entity inGame;
+    private final Entity notInGame;
+    private final List<String> log;
+
+    private ComponentSystem(Entity inGame, Entity notInGame, List<String> log) {
+      this.inGame = inGame;
+      this.notInGame = notInGame;
+      this.log = log;
+    }
+
+    @Override
+    public void execute() {
+      inGame.add(new MarkerComponent());
+      notInGame.add(new MarkerComponent());
+      log.add("in game: " + inGame.isPresent(MarkerComponent.class));
+      log.add("not in game: " + notInGame.isPresent(MarkerComponent.class));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package engine.game;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engine.Entity;
+import engine.network.handler.INetworkHandler;
+import engine.network.messages.s2c.EntityDespawnEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import testingUtils.MockNetworkHandler;
+
+/** Tests for the {@link EntityNetworkEvents}. */
+public class EntityNetworkEventsTest {
+
+  private INetworkHandler network;
+  private EntityNetworkEvents events;
+
+  /** Uses a mocked server network handler. */
+  @BeforeEach
+  public void setup() {
+    PreRunConfiguration.multiplayerEnabled(true);
+    PreRunConfiguration.isNetworkServer(true);
+    network = Mockito.mock(INetworkHandler.class);
+    when(network.isServer()).thenReturn(true);
+    MockNetworkHandler.useNetworkHandler(network);
+    events = new EntityNetworkEvents();
+  }
+
+  /** Restores the local network handler. */
+  @AfterEach
+  public void cleanup() {
+    PreRunConfiguration.multiplayerEnabled(false);
+    MockNetworkHandler.useLocalNetworkHandler();
+  }
+
+  /** Outside a sync point, despawns are broadcast immediately. */
+  @Test
+  public void despawnIsBroadcastImmediately() {
+    events.despawned(7);
+
+    verify(network).broadcast(any(EntityDespawnEvent.class), Mockito.eq(true));
+  }
+
+  /** Collected despawns are broadcast on flush. */
+  @Test
+  public void collectedDespawnsAreBroadcastOnFlush() {
+    events.collect();
+    events.despawned(7);
+    events.despawned(8);
+
+    verify(network, never()).broadcast(any(), anyBoolean());
+    events.flush();
+    verify(network, Mockito.times(2)).broadcast(any(EntityDespawnEvent.class), Mockito.eq(true));
+  }
+
+  /** An entity spawned and despawned between two sync points is not sent at all. */
+  @Test
+  public void spawnedAndDespawnedEntityIsNotSent() {
+    Entity entity = new Entity();
+
+    events.collect();
+    events.spawned(entity);
+    events.despawned(entity.id());
+    events.flush();
+
+    verify(network, never()).broadcast(any(), anyBoolean());
+  }
+
+  /** Entities without position or draw component are not spawned on the clients. */
+  @Test
+  public void entitiesWithoutDrawComponentAreNotSent() {
+    events.collect();
+    events.spawned(new Entity());
+    events.spawned(new Entity());
+    events.flush();
+
+    verify(network, never()).broadcast(any(), anyBoolean());
+  }
+}
@@ -0,0 +1,121 @@
+package engine.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Component;
+import engine.Entity;
+import engine.Game;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link EntityPartitioner} and {@link ECSManagement#forEachEntity}. */
+public class EntityPartitionerTest {
+
+  private static final int ENTITIES = 10 * EntityPartitioner.CHUNK_SIZE + 7;
+
+  private final List<Entity> entities = new ArrayList<>();
+
+  /** Adds the test entities and enables the parallel execution. */
+  @BeforeEach
+  public void setup() {
+    for (int i = 0; i < ENTITIES; i++) {
+      Entity entity = new Entity();
+      entity.add(new IndexComponent(i));
+      Game.add(entity);
+      entities.add(entity);
+    }
+    ECSManagement.useParallelSystems(true);
+  }
+
+  /** Cleans up global game state after each test. */
+  @AfterEach
+  public void cleanup() {
+    ECSManagement.useParallelSystems(false);
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** Each entity is processed exactly once. */
+  @Test
+  public void processesEachEntityOnce() {
+    AtomicIntegerArray visits = new AtomicIntegerArray(ENTITIES);
+
+    ECSManagement.forEachEntity(
+        Set.of(IndexComponent.class),
+        e -> visits.incrementAndGet(e.fetch(IndexComponent.class).orElseThrow().index));
+
+    for (int i = 0; i < ENTITIES; i++) assertEquals(1, visits.get(i));
+  }
+
+  /** Added and removed entities are applied after the iteration, in iteration order. */
+  @Test
+  public void structuralChangesAreDeferredInIterationOrder() {
+    List<Entity> spawned = new ArrayList<>();
+    for (int i = 0; i < ENTITIES; i++) spawned.add(new Entity());
+    boolean[] changedDuringIteration = {false};
+
+    ECSManagement.forEachEntity(
+        Set.of(IndexComponent.class),
+        e -> {
+          int index = e.fetch(IndexComponent.class).orElseThrow().index;
+          Game.add(spawned.get(index));
+          Game.remove(e);
+          if (ECSManagement.entities().count() != ENTITIES) changedDuringIteration[0] = true;
+        });
+
+    assertFalse(changedDuringIteration[0]);
+    assertEquals(spawned, ECSManagement.entities().toList());
+  }
+
+  /** Component changes are deferred, so the filtered entities only change afterwards. */
+  @Test
+  public void componentChangesAreDeferred() {
+    Set<Class<? extends Component>> filter = Set.of(IndexComponent.class);
+    boolean[] changedDuringIteration = {false};
+
+    ECSManagement.forEachEntity(
+        filter,
+        e -> {
+          e.remove(IndexComponent.class);
+          if (ECSManagement.entities(filter).count() != ENTITIES) changedDuringIteration[0] = true;
+        });
+
+    assertFalse(changedDuringIteration[0]);
+    assertEquals(0, ECSManagement.entities(filter).count());
+    assertEquals(ENTITIES, ECSManagement.entities().count());
+  }
+
+  /** Exceptions are rethrown after all entities were processed and the changes were applied. */
+  @Test
+  public void exceptionsAreRethrownAfterTheChanges() {
+    Entity failing = entities.get(ENTITIES / 2);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            ECSManagement.forEachEntity(
+                Set.of(IndexComponent.class),
+                e -> {
+                  Game.remove(e);
+                  if (e == failing) throw new IllegalStateException("failing entity");
+                }));
+
+    assertTrue(ECSManagement.entities().findAny().isEmpty());
+  }
+
+  private static final class IndexComponent implements Component {
+    private final int index;
+
+    private IndexComponent(int index) {
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package engine.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FixedTimestep}. */
+public class FixedTimestepTest {
+
+  private static final float EPSILON = 1e-4f;
+
+  /** Frames shorter than a step accumulate until a whole step fits. */
+  @Test
+  public void shortFramesAccumulate() {
+    FixedTimestep timestep = new FixedTimestep(10, 5);
+
+    assertEquals(0, timestep.advance(0.04f));
+    assertEquals(0.4f, timestep.alpha(), EPSILON);
+    assertEquals(0, timestep.advance(0.04f));
+    assertEquals(1, timestep.advance(0.04f));
+    assertEquals(0.2f, timestep.alpha(), EPSILON);
+  }
+
+  /** A long frame is caught up with several steps. */
+  @Test
+  public void longFrameRunsSeveralSteps() {
+    FixedTimestep timestep = new FixedTimestep(10, 5);
+
+    assertEquals(3, timestep.advance(0.35f));
+    assertEquals(0.5f, timestep.alpha(), EPSILON);
+  }
+
+  /** The catch-up is capped and the backlog is dropped. */
+  @Test
+  public void catchUpIsCapped() {
+    FixedTimestep timestep = new FixedTimestep(10, 5);
+
+    assertEquals(5, timestep.advance(2.05f));
+    assertEquals(0.5f, timestep.alpha(), EPSILON);
+    assertEquals(0, timestep.advance(0.01f));
+  }
+
+  /** The same total time results in the same number of steps, regardless of the frame rate. */
+  @Test
+  public void stepsAreIndependentOfFrameRate() {
+    FixedTimestep slow = new FixedTimestep(30, 5);
+    FixedTimestep fast = new FixedTimestep(30, 5);
+    int slowSteps = 0;
+    int fastSteps = 0;
+
+    for (int frame = 0; frame < 30; frame++) slowSteps += slow.advance(1f / 30);
+    for (int frame = 0; frame < 144; frame++) fastSteps += fast.advance(1f / 144);
+
+    assertEquals(slowSteps, fastSteps, 1);
+    assertEquals(30, fastSteps, 1);
+  }
+
+  /** Invalid rates are rejected. */
+  @Test
+  public void invalidRatesAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5));
+    assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(30, 0));
+  }
+}
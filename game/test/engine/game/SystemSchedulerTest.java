@@ -0,0 +1,266 @@
+package engine.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Component;
+import engine.Entity;
+import engine.Game;
+import engine.System;
+import feature.components.ManaComponent;
+import feature.components.SpikyComponent;
+import feature.components.StaminaComponent;
+import feature.health.DamageType;
+import feature.systems.ManaRestoreSystem;
+import feature.systems.SpikeSystem;
+import feature.systems.StaminaRestoreSystem;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link SystemScheduler} and the parallel execution in {@link ECSManagement}. */
+public class SystemSchedulerTest {
+
+  private static final int ENTITIES = 200;
+  private static final int TICKS = 50;
+
+  /** Cleans up global game state after each test. */
+  @AfterEach
+  public void cleanup() {
+    ECSManagement.useParallelSystems(false);
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** Systems that write different components share a stage. */
+  @Test
+  public void independentSystemsShareAStage() {
+    System mana = new ManaRestoreSystem();
+    System stamina = new StaminaRestoreSystem();
+    System spike = new SpikeSystem();
+    System increment = new IncrementSystem();
+
+    List<List<System>> stages =
+        new SystemScheduler().stages(List.of(mana, stamina, spike, increment));
+
+    assertEquals(List.of(List.of(mana, stamina, spike, increment)), stages);
+  }
+
+  /** Conflicting systems keep their registration order, independent systems move up. */
+  @Test
+  public void conflictingSystemsKeepTheirOrder() {
+    System increment = new IncrementSystem();
+    System mirror = new MirrorSystem();
+    System twice = new DoubleSystem();
+    System mana = new ManaRestoreSystem();
+
+    List<List<System>> stages =
+        new SystemScheduler().stages(List.of(increment, mirror, twice, mana));
+
+    assertEquals(List.of(List.of(increment, mana), List.of(mirror), List.of(twice)), stages);
+  }
+
+  /** Systems without declared access are executed alone. */
+  @Test
+  public void undeclaredSystemsRunAlone() {
+    System mana = new ManaRestoreSystem();
+    System undeclared = new UndeclaredSystem();
+    System stamina = new StaminaRestoreSystem();
+
+    assertFalse(undeclared.declaresAccess());
+    assertTrue(undeclared.conflictsWith(mana));
+    assertTrue(mana.conflictsWith(undeclared));
+    assertEquals(
+        List.of(List.of(mana), List.of(undeclared), List.of(stamina)),
+        new SystemScheduler().stages(List.of(mana, undeclared, stamina)));
+  }
+
+  /** The tick is aborted before the next stage if it was interrupted. */
+  @Test
+  public void interruptStopsBeforeNextStage() {
+    CountingSystem first = new CountingSystem();
+    System undeclared = new UndeclaredSystem();
+    boolean[] interrupted = {false};
+    first.onExecute = () -> interrupted[0] = true;
+
+    boolean completed =
+        new SystemScheduler()
+            .execute(List.of(first, undeclared), () -> interrupted[0], SystemSchedulerTest::apply);
+
+    assertFalse(completed);
+    assertEquals(1, first.executions);
+    assertEquals(0, undeclared.lastExecuteInFrames());
+  }
+
+  /** Exceptions of concurrently executed systems are rethrown on the calling thread. */
+  @Test
+  public void exceptionsArePropagated() {
+    CountingSystem failing = new CountingSystem();
+    failing.onExecute =
+        () -> {
+          throw new IllegalStateException("failing system");
+        };
+    System mana = new ManaRestoreSystem();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new SystemScheduler()
+                .execute(List.of(mana, failing), () -> false, SystemSchedulerTest::apply));
+  }
+
+  /** Serial and parallel execution result in the same world state. */
+  @Test
+  public void parallelExecutionMatchesSerialExecution() {
+    List<Entity> serialWorld = buildWorld();
+    for (int i = 0; i < TICKS; i++) ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+    List<String> serial = worldState(serialWorld);
+    cleanup();
+
+    ECSManagement.useParallelSystems(true);
+    List<Entity> parallelWorld = buildWorld();
+    for (int i = 0; i < TICKS; i++) ECSManagement.executeOneTick(System.AuthoritativeSide.BOTH);
+    List<String> parallel = worldState(parallelWorld);
+
+    assertEquals(serial, parallel);
+  }
+
+  private static void apply(List<CommandBuffer> buffers) {
+    buffers.forEach(CommandBuffer::playback);
+  }
+
+  private static List<Entity> buildWorld() {
+    Game.removeAllSystems();
+    Game.add(new UndeclaredSystem());
+    Game.add(new ManaRestoreSystem());
+    Game.add(new IncrementSystem());
+    Game.add(new StaminaRestoreSystem());
+    Game.add(new MirrorSystem());
+    Game.add(new SpikeSystem());
+    Game.add(new DoubleSystem());
+
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < ENTITIES; i++) {
+      Entity entity = new Entity();
+      entity.add(new CounterComponent(i));
+      if (i % 2 == 0) entity.add(new MirrorComponent());
+      if (i % 3 == 0) entity.add(new ManaComponent(100, i % 50, 0.5f + i % 7));
+      if (i % 4 == 0) entity.add(new StaminaComponent(100, i % 30, 1f + i % 5));
+      if (i % 5 == 0) entity.add(new SpikyComponent(1, DamageType.PHYSICAL, i % 60));
+      Game.add(entity);
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  private static List<String> worldState(List<Entity> entities) {
+    List<String> state = new ArrayList<>();
+    for (Entity entity : entities) {
+      StringBuilder builder = new StringBuilder();
+      entity.fetch(CounterComponent.class).ifPresent(c -> builder.append(c.value).append(';'));
+      entity.fetch(MirrorComponent.class).ifPresent(c -> builder.append(c.hash).append(';'));
+      entity.fetch(ManaComponent.class).ifPresent(c -> builder.append(c.currentAmount()));
+      entity.fetch(StaminaComponent.class).ifPresent(c -> builder.append(c.currentAmount()));
+      entity.fetch(SpikyComponent.class).ifPresent(c -> builder.append(c.isActive()));
+      state.add(builder.toString());
+    }
+    return state;
+  }
+
+  private static final class CounterComponent implements Component {
+    private final int seed;
+    private long value;
+
+    private CounterComponent(int seed) {
+      this.seed = seed;
+      this.value = seed;
+    }
+  }
+
+  private static final class MirrorComponent implements Component {
+    private long hash;
+  }
+
+  /** Writes the counter, no declared access. */
+  private static final class UndeclaredSystem extends System {
+    private UndeclaredSystem() {
+      super(CounterComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      filteredEntityStream()
+          .flatMap(e -> e.fetch(CounterComponent.class).stream())
+          .forEach(c -> c.value ^= c.seed);
+    }
+  }
+
+  /** Writes the counter. */
+  private static final class IncrementSystem extends System {
+    private IncrementSystem() {
+      super(CounterComponent.class);
+      declareWrites(CounterComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      filteredEntityStream()
+          .flatMap(e -> e.fetch(CounterComponent.class).stream())
+          .forEach(c -> c.value += c.seed % 7 + 1);
+    }
+  }
+
+  /** Reads the counter and writes the mirror, so the result depends on the execution order. */
+  private static final class MirrorSystem extends System {
+    private MirrorSystem() {
+      super(MirrorComponent.class);
+      declareReads(CounterComponent.class);
+      declareWrites(MirrorComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      filteredEntityStream(MirrorComponent.class, CounterComponent.class)
+          .forEach(
+              e -> {
+                MirrorComponent mirror = e.fetch(MirrorComponent.class).orElseThrow();
+                long value = e.fetch(CounterComponent.class).orElseThrow().value;
+                mirror.hash = mirror.hash * 31 + value;
+              });
+    }
+  }
+
+  /** Writes the counter after the mirror read it. */
+  private static final class DoubleSystem extends System {
+    private DoubleSystem() {
+      super(CounterComponent.class);
+      declareWrites(CounterComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      filteredEntityStream()
+          .flatMap(e -> e.fetch(CounterComponent.class).stream())
+          .forEach(c -> c.value = c.value * 2 % 1_000_003);
+    }
+  }
+
+  /** Counts its executions and runs an optional action. */
+  private static final class CountingSystem extends System {
+    private Runnable onExecute = () -> {};
+    private int executions = 0;
+
+    private CountingSystem() {
+      declareWrites();
+    }
+
+    @Override
+    public void execute() {
+      executions++;
+      onExecute.run();
+    }
+  }
+}
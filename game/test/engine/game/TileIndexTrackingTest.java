@@ -0,0 +1,76 @@
+package engine.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.PositionComponent;
+import engine.level.utils.Coordinate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the tile index of {@link ECSManagement}. */
+public class TileIndexTrackingTest {
+
+  private Entity entity;
+  private PositionComponent pc;
+
+  /** Adds an entity standing on tile (1, 1). */
+  @BeforeEach
+  public void setup() {
+    entity = new Entity();
+    pc = new PositionComponent(1.5f, 1.5f);
+    entity.add(pc);
+    Game.add(entity);
+  }
+
+  /** Cleans up global game state after each test. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  /** Moving an entity moves it to the bucket of its new tile. */
+  @Test
+  public void movedEntityIsFoundOnNewTile() {
+    assertEquals(List.of(entity), ECSManagement.entitiesAt(new Coordinate(1, 1)).toList());
+
+    pc.position(3.5f, 1.5f);
+
+    assertTrue(ECSManagement.entitiesAt(new Coordinate(1, 1)).toList().isEmpty());
+    assertEquals(List.of(entity), ECSManagement.entitiesAt(new Coordinate(3, 1)).toList());
+  }
+
+  /**
+   * Moves from parallel threads are all picked up by the next lookup.
+   *
+   * @throws InterruptedException if the moving thread is interrupted
+   */
+  @Test
+  public void parallelMovesAreNotLost() throws InterruptedException {
+    Entity other = new Entity();
+    PositionComponent otherPc = new PositionComponent(1.5f, 1.5f);
+    other.add(otherPc);
+    Game.add(other);
+
+    Thread worker = new Thread(() -> otherPc.position(5.5f, 5.5f));
+    worker.start();
+    pc.position(4.5f, 4.5f);
+    worker.join();
+
+    assertEquals(List.of(entity), ECSManagement.entitiesAt(new Coordinate(4, 4)).toList());
+    assertEquals(List.of(other), ECSManagement.entitiesAt(new Coordinate(5, 5)).toList());
+  }
+
+  /** Removed entities no longer report their moves to the index. */
+  @Test
+  public void removedEntityIsNotIndexed() {
+    Game.remove(entity);
+    pc.position(3.5f, 1.5f);
+
+    assertTrue(ECSManagement.entitiesAt(new Coordinate(3, 1)).toList().isEmpty());
+  }
+}
@@ -3,12 +3,14 @@ package engine.level;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.gdx.ai.pfa.GraphPath;
+import engine.level.elements.astar.PathFinderPool;
 import engine.level.elements.astar.TileConnection;
 import engine.level.elements.tile.ExitTile;
 import engine.level.elements.tile.FloorTile;
@@ -656,4 +658,80 @@ public class DungeonLevelTest {
         LevelElement.WALL, level.tileAt(new Coordinate(1, 0)).orElseThrow().levelElement());
     assertEquals(3, counter.get());
   }
+
+  /** Repeated searches are answered from the path cache until the topology changes. */
+  @Test
+  public void test_findPath_cachedUntilTopologyChanges() {
+    Tile[][] layout = new Tile[3][3];
+    for (int x = 0; x < 3; x++) {
+      for (int y = 0; y < 3; y++) {
+        layout[y][x] =
+            new FloorTile(new SimpleIPath(""), new Coordinate(x, y), DesignLabel.DEFAULT);
+      }
+    }
+    DungeonLevel tileLevel = new DungeonLevel(layout);
+    Tile start = layout[0][0];
+    Tile end = layout[0][2];
+
+    GraphPath<Tile> first = tileLevel.findPath(start, end);
+    GraphPath<Tile> second = tileLevel.findPath(start, end);
+    assertEquals(3, first.getCount());
+    assertEquals(3, second.getCount());
+    assertNotSame(first, second);
+    assertEquals(1, tileLevel.pathCache().hits());
+
+    tileLevel.changeTileElementType(layout[0][1], LevelElement.WALL);
+    GraphPath<Tile> detour = tileLevel.findPath(start, end);
+    assertEquals(5, detour.getCount());
+    assertEquals(1, tileLevel.pathCache().hits());
+  }
+
+  /**
+   * Searches from different threads share the search contexts of the level's pool.
+   *
+   * @throws InterruptedException if the search thread is interrupted
+   */
+  @Test
+  public void test_findPath_reusesPooledFinderAcrossThreads() throws InterruptedException {
+    DungeonLevel tileLevel =
+        new DungeonLevel(
+            new LevelElement[][] {{LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}},
+            DesignLabel.DEFAULT);
+    Tile start = tileLevel.tileAt(new Coordinate(0, 0)).orElseThrow();
+    Tile end = tileLevel.tileAt(new Coordinate(2, 0)).orElseThrow();
+    PathFinderPool pool = (PathFinderPool) tileLevel.pathFinder();
+
+    Thread worker = new Thread(() -> tileLevel.findPath(start, end));
+    worker.start();
+    worker.join();
+    assertEquals(1, pool.idleCount());
+
+    tileLevel.pathCache().clear();
+    assertEquals(3, tileLevel.findPath(start, end).getCount());
+    assertEquals(1, pool.idleCount());
+  }
+
+  /** Searches still find the right tiles after an accessible tile got another accessible type. */
+  @Test
+  public void test_findPath_afterSwappingAccessibleTile() {
+    DungeonLevel tileLevel =
+        new DungeonLevel(
+            new LevelElement[][] {{LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}},
+            DesignLabel.DEFAULT);
+    Tile start = tileLevel.tileAt(new Coordinate(0, 0)).orElseThrow();
+    Tile middle = tileLevel.tileAt(new Coordinate(1, 0)).orElseThrow();
+    Tile end = tileLevel.tileAt(new Coordinate(2, 0)).orElseThrow();
+    assertEquals(3, tileLevel.findPath(start, end).getCount());
+
+    // The exit gets the last index, the indices of the other tiles move down
+    tileLevel.changeTileElementType(start, LevelElement.EXIT);
+    Tile exit = tileLevel.tileAt(new Coordinate(0, 0)).orElseThrow();
+    assertEquals(3, tileLevel.getNodeCount());
+
+    GraphPath<Tile> path = tileLevel.findPath(exit, end);
+    assertEquals(3, path.getCount());
+    assertSame(exit, path.get(0));
+    assertSame(middle, path.get(1));
+    assertSame(end, path.get(2));
+  }
 }
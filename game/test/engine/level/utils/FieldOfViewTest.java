@@ -0,0 +1,98 @@
+package engine.level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.level.DungeonLevel;
+import java.util.BitSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FieldOfView} class. */
+public class FieldOfViewTest {
+
+  private static final LevelElement W = LevelElement.WALL;
+  private static final LevelElement F = LevelElement.FLOOR;
+
+  private DungeonLevel level;
+  private FieldOfView fov;
+
+  /** Create two rooms connected by a gap in the wall at (4, 2). */
+  @BeforeEach
+  public void setup() {
+    LevelElement[][] layout =
+        new LevelElement[][] {
+          {W, W, W, W, W, W, W, W, W},
+          {W, F, F, F, W, F, F, F, W},
+          {W, F, F, F, F, F, F, F, W},
+          {W, F, F, F, W, F, F, F, W},
+          {W, W, W, W, W, W, W, W, W},
+        };
+    level = new DungeonLevel(layout, DesignLabel.DEFAULT);
+    fov = level.fieldOfView();
+  }
+
+  /** Walls block the view but are visible themselves. */
+  @Test
+  public void wallsBlockTheView() {
+    level.changeTileElementType(level.tileAt(new Coordinate(4, 2)).orElseThrow(), W);
+    fov.updateViewer("a", new Coordinate(1, 2), 10);
+
+    assertTrue(fov.isVisible("a", new Coordinate(3, 3)));
+    assertTrue(fov.isVisible("a", new Coordinate(4, 2)));
+    assertFalse(fov.isVisible("a", new Coordinate(6, 2)));
+  }
+
+  /** The visibility is only computed again if the viewer moved or the radius changed. */
+  @Test
+  public void standingStillDoesNotRecompute() {
+    assertTrue(fov.updateViewer("a", new Coordinate(1, 1), 10));
+    assertFalse(fov.updateViewer("a", new Coordinate(1, 1), 10));
+    assertTrue(fov.updateViewer("a", new Coordinate(1, 1), 1));
+  }
+
+  /** Changing the opacity of a tile in range recomputes the visibility. */
+  @Test
+  public void opacityChangeRecomputes() {
+    fov.updateViewer("a", new Coordinate(3, 2), 10);
+    assertTrue(fov.isVisible("a", new Coordinate(6, 2)));
+
+    level.changeTileElementType(level.tileAt(new Coordinate(4, 2)).orElseThrow(), W);
+
+    assertTrue(fov.updateViewer("a", new Coordinate(3, 2), 10));
+    assertFalse(fov.isVisible("a", new Coordinate(6, 2)));
+  }
+
+  /** The visibility of the level is the union of all viewers, and diffs report the changes. */
+  @Test
+  public void unionAndDiff() {
+    level.changeTileElementType(level.tileAt(new Coordinate(4, 2)).orElseThrow(), W);
+    fov.updateViewer("a", new Coordinate(1, 1), 10);
+    BitSet before = new BitSet();
+    fov.visibility(before);
+    assertFalse(fov.isVisible(new Coordinate(6, 2)));
+
+    fov.updateViewer("b", new Coordinate(6, 2), 10);
+    BitSet after = new BitSet();
+    fov.visibility(after);
+    assertTrue(fov.isVisible(new Coordinate(6, 2)));
+    assertTrue(fov.isVisible(new Coordinate(2, 2)));
+
+    FieldOfView.Diff diff = FieldOfView.Diff.between(before, after);
+    assertTrue(diff.lit().get(fov.index(new Coordinate(6, 2))));
+    assertTrue(diff.darkened().isEmpty());
+
+    fov.removeViewer("b");
+    fov.visibility(after);
+    assertEquals(before, after);
+  }
+
+  /** Negative radii are rejected. */
+  @Test
+  public void negativeRadiusIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> fov.updateViewer("a", new Coordinate(1, 1), -1));
+  }
+}
@@ -0,0 +1,144 @@
+package engine.level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.level.DungeonLevel;
+import engine.level.Tile;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FlowField} class. */
+public class FlowFieldTest {
+
+  private static final LevelElement W = LevelElement.WALL;
+  private static final LevelElement F = LevelElement.FLOOR;
+
+  private DungeonLevel level;
+
+  /** Create a small ring-shaped level. */
+  @BeforeEach
+  public void setup() {
+    LevelElement[][] layout =
+        new LevelElement[][] {
+          {W, W, W, W, W},
+          {W, F, F, F, W},
+          {W, F, W, F, W},
+          {W, F, F, F, W},
+          {W, W, W, W, W},
+        };
+    level = new DungeonLevel(layout, DesignLabel.DEFAULT);
+  }
+
+  private Tile tile(int x, int y) {
+    return level.tileAt(new Coordinate(x, y)).orElseThrow();
+  }
+
+  private void assertSameDistances(FlowField expected, FlowField actual) {
+    for (Tile[] row : level.layout()) {
+      for (Tile tile : row) {
+        assertEquals(expected.distance(tile), actual.distance(tile), "distance of " + tile);
+      }
+    }
+  }
+
+  @Test
+  void distancesFollowThePathfindingGraph() {
+    FlowField field = FlowField.of(level, tile(1, 1));
+    assertEquals(0, field.distance(tile(1, 1)));
+    assertEquals(2, field.distance(tile(3, 1)));
+    assertEquals(4, field.distance(tile(3, 3)));
+    assertEquals(FlowField.UNREACHABLE, field.distance(tile(2, 2)));
+  }
+
+  @Test
+  void nextTileStepsTowardsTarget() {
+    FlowField field = FlowField.of(level, tile(1, 1));
+    Tile next = field.nextTile(tile(3, 1)).orElseThrow();
+    assertSame(tile(2, 1), next);
+    assertTrue(field.nextTile(tile(1, 1)).isEmpty());
+    assertTrue(field.nextTile(tile(2, 2)).isEmpty());
+  }
+
+  @Test
+  void levelCachesFieldsPerTarget() {
+    FlowField field = level.flowField(tile(1, 1)).orElseThrow();
+    assertSame(field, level.flowField(tile(1, 1)).orElseThrow());
+  }
+
+  @Test
+  void topologyChangeRecomputesField() {
+    int version = level.topologyVersion();
+    assertEquals(2, level.flowField(tile(1, 1)).orElseThrow().distance(tile(3, 1)));
+
+    level.changeTileElementType(tile(2, 1), LevelElement.WALL);
+
+    assertNotEquals(version, level.topologyVersion());
+    assertEquals(6, level.flowField(tile(1, 1)).orElseThrow().distance(tile(3, 1)));
+  }
+
+  @Test
+  void handedOutFieldIsNotModified() {
+    FlowField before = level.flowField(tile(1, 1)).orElseThrow();
+
+    level.changeTileElementType(tile(2, 1), LevelElement.WALL);
+    FlowField after = level.flowField(tile(1, 1)).orElseThrow();
+
+    assertNotSame(before, after);
+    assertEquals(2, before.distance(tile(3, 1)));
+    assertEquals(6, after.distance(tile(3, 1)));
+  }
+
+  @Test
+  void concurrentCallersShareOneField() {
+    List<FlowField> fields =
+        IntStream.range(0, 64)
+            .parallel()
+            .mapToObj(i -> level.flowField(tile(1 + i % 3, 1)).orElseThrow())
+            .toList();
+    for (FlowField field : fields) {
+      assertSame(level.flowField(field.target()).orElseThrow(), field);
+    }
+  }
+
+  @Test
+  void repairedFieldMatchesFreshField() {
+    Tile target = tile(1, 1);
+    level.flowField(target);
+
+    level.changeTileElementType(tile(2, 1), LevelElement.WALL);
+    assertSameDistances(FlowField.of(level, target), level.flowField(target).orElseThrow());
+    level.changeTileElementType(tile(2, 2), LevelElement.FLOOR);
+    assertSameDistances(FlowField.of(level, target), level.flowField(target).orElseThrow());
+    level.changeTileElementType(tile(2, 1), LevelElement.EXIT);
+    assertSameDistances(FlowField.of(level, target), level.flowField(target).orElseThrow());
+  }
+
+  @Test
+  void repairAfterRandomEditsMatchesFreshField() {
+    LevelElement[][] layout = new LevelElement[12][12];
+    for (int y = 0; y < 12; y++) {
+      for (int x = 0; x < 12; x++) {
+        boolean border = x == 0 || y == 0 || x == 11 || y == 11;
+        layout[y][x] = border ? W : F;
+      }
+    }
+    level = new DungeonLevel(layout, DesignLabel.DEFAULT);
+    Tile target = tile(5, 5);
+    level.flowField(target);
+
+    Random random = new Random(42);
+    for (int i = 0; i < 40; i++) {
+      Tile tile = tile(1 + random.nextInt(10), 1 + random.nextInt(10));
+      if (tile.coordinate().equals(target.coordinate())) continue;
+      level.changeTileElementType(tile, tile.isAccessible() ? W : F);
+      assertSameDistances(FlowField.of(level, target), level.flowField(target).orElseThrow());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package engine.level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.level.DungeonLevel;
+import engine.level.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link TileAutotiler} class. */
+public class TileAutotilerTest {
+
+  private static final LevelElement W = LevelElement.WALL;
+  private static final LevelElement F = LevelElement.FLOOR;
+
+  private DungeonLevel level;
+
+  /** Create a small room. */
+  @BeforeEach
+  public void setup() {
+    level = new DungeonLevel(room(), DesignLabel.DEFAULT);
+  }
+
+  private static LevelElement[][] room() {
+    return new LevelElement[][] {
+      {W, W, W, W, W, W},
+      {W, F, F, F, F, W},
+      {W, F, F, F, F, W},
+      {W, F, F, F, F, W},
+      {W, W, W, W, W, W},
+    };
+  }
+
+  private Tile tile(DungeonLevel level, int x, int y) {
+    return level.tileAt(new Coordinate(x, y)).orElseThrow();
+  }
+
+  private void assertSameTextures(DungeonLevel expected) {
+    for (int y = 0; y < level.layout().length; y++) {
+      for (int x = 0; x < level.layout()[y].length; x++) {
+        assertEquals(
+            tile(expected, x, y).texturePath().pathString(),
+            tile(level, x, y).texturePath().pathString(),
+            "texture at " + x + "," + y);
+      }
+    }
+  }
+
+  /** A single change updates the textures of the neighbourhood immediately. */
+  @Test
+  public void singleChangeIsResolvedImmediately() {
+    level.changeTileElementType(tile(level, 2, 2), W);
+
+    LevelElement[][] expected = room();
+    expected[2][2] = W;
+    assertSameTextures(new DungeonLevel(expected, DesignLabel.DEFAULT));
+  }
+
+  /** Changes inside a batch are resolved on commit, with the same result as a fresh level. */
+  @Test
+  public void batchIsResolvedOnCommit() {
+    String before = tile(level, 1, 1).texturePath().pathString();
+    TileAutotiler autotiler = level.autotiler();
+
+    autotiler.beginEdit();
+    level.changeTileElementType(tile(level, 2, 2), W);
+    level.changeTileElementType(tile(level, 3, 2), W);
+    assertTrue(autotiler.isEditing());
+    assertEquals(before, tile(level, 1, 1).texturePath().pathString());
+    autotiler.commit();
+
+    assertFalse(autotiler.isEditing());
+    LevelElement[][] expected = room();
+    expected[2][2] = W;
+    expected[2][3] = W;
+    assertSameTextures(new DungeonLevel(expected, DesignLabel.DEFAULT));
+  }
+
+  /** A tile that was marked as a neighbour and then changed itself is resolved as changed. */
+  @Test
+  public void changedNeighbourInBatchUsesNewElement() {
+    TileAutotiler autotiler = level.autotiler();
+
+    autotiler.beginEdit();
+    for (int x = 1; x <= 4; x++) {
+      level.changeTileElementType(tile(level, x, 2), W);
+    }
+    level.changeTileElementType(tile(level, 1, 2), F);
+    autotiler.commit();
+
+    LevelElement[][] expected = room();
+    expected[2][2] = W;
+    expected[2][3] = W;
+    expected[2][4] = W;
+    assertSameTextures(new DungeonLevel(expected, DesignLabel.DEFAULT));
+  }
+
+  /** Nested batches are resolved when the outermost batch is committed. */
+  @Test
+  public void nestedBatchesResolveOnOutermostCommit() {
+    TileAutotiler autotiler = level.autotiler();
+    autotiler.beginEdit();
+    autotiler.beginEdit();
+    level.changeTileElementType(tile(level, 2, 2), W);
+    autotiler.commit();
+    assertTrue(autotiler.isEditing());
+    autotiler.commit();
+
+    LevelElement[][] expected = room();
+    expected[2][2] = W;
+    assertSameTextures(new DungeonLevel(expected, DesignLabel.DEFAULT));
+  }
+
+  /** Committing without a started batch is an error. */
+  @Test
+  public void commitWithoutBeginThrows() {
+    assertThrows(IllegalStateException.class, () -> level.autotiler().commit());
+  }
+}
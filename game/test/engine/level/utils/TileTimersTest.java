@@ -0,0 +1,87 @@
+package engine.level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import engine.level.Tile;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link TileTimers} class. */
+public class TileTimersTest {
+
+  private final Tile tile = mock(Tile.class);
+  private final List<String> ran = new ArrayList<>();
+  private long now;
+  private TileTimers timers;
+
+  /** Create timers with a manual clock. */
+  @BeforeEach
+  public void setup() {
+    now = 1000;
+    timers = new TileTimers(() -> now);
+  }
+
+  /** Only due timers are run, in order of their deadline. */
+  @Test
+  public void runsDueTimersInDeadlineOrder() {
+    timers.schedule(tile, 200, () -> ran.add("late"));
+    timers.schedule(tile, 100, () -> ran.add("early"));
+    timers.schedule(tile, 100, () -> ran.add("early2"));
+
+    assertEquals(0, timers.runDue());
+    now += 150;
+    assertEquals(2, timers.runDue());
+    assertEquals(List.of("early", "early2"), ran);
+    assertEquals(1, timers.size());
+
+    now += 50;
+    assertEquals(1, timers.runDue());
+    assertTrue(timers.isEmpty());
+  }
+
+  /** Cancelled timers are not run. */
+  @Test
+  public void cancelledTimersAreNotRun() {
+    TileTimers.Timer timer = timers.schedule(tile, 0, () -> ran.add("a"));
+    Tile other = mock(Tile.class);
+    timers.schedule(other, 0, () -> ran.add("b"));
+    timers.schedule(other, 0, () -> ran.add("c"));
+
+    assertTrue(timers.cancel(timer));
+    assertFalse(timer.isPending());
+    assertFalse(timers.cancel(timer));
+    assertEquals(2, timers.cancel(other));
+
+    assertEquals(0, timers.runDue());
+    assertTrue(ran.isEmpty());
+  }
+
+  /** A timer scheduled by an action runs in the next call, even if it is already due. */
+  @Test
+  public void rescheduledTimersRunInNextCall() {
+    timers.schedule(
+        tile,
+        0,
+        () -> {
+          ran.add("first");
+          timers.schedule(tile, 0, () -> ran.add("second"));
+        });
+
+    assertEquals(1, timers.runDue());
+    assertEquals(List.of("first"), ran);
+    assertEquals(1, timers.runDue());
+    assertEquals(List.of("first", "second"), ran);
+  }
+
+  /** Negative delays are rejected. */
+  @Test
+  public void negativeDelayIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> timers.schedule(tile, -1, () -> {}));
+  }
+}
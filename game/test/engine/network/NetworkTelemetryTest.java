@@ -56,6 +56,32 @@ public class NetworkTelemetryTest {
     assertFalse(plainText.contains("capture(c/s)="));
   }
 
+  /** Verifies server snapshots report nearest-rank frame time percentiles. */
+  @Test
+  public void serverSnapshotReportsFrameTimePercentiles() {
+    for (int micros = 1; micros <= 100; micros++) {
+      NetworkTelemetry.recordFrameTime(micros * 1_000L);
+    }
+
+    DebugTelemetrySnapshot.Timings timings =
+        NetworkTelemetry.buildServerSnapshot(1L, List.of()).timings();
+
+    assertEquals(50L, timings.frameMicrosP50LastTenSeconds());
+    assertEquals(95L, timings.frameMicrosP95LastTenSeconds());
+    assertEquals(99L, timings.frameMicrosP99LastTenSeconds());
+    assertEquals(100L, timings.maxFrameMicrosLastTenSeconds());
+  }
+
+  /** Verifies frame time percentiles are unset before the first frame. */
+  @Test
+  public void serverSnapshotReportsMissingFrameTimePercentiles() {
+    DebugTelemetrySnapshot.Timings timings =
+        NetworkTelemetry.buildServerSnapshot(1L, List.of()).timings();
+
+    assertEquals(-1L, timings.frameMicrosP50LastTenSeconds());
+    assertEquals(-1L, timings.frameMicrosP99LastTenSeconds());
+  }
+
   /** Verifies transport counters distinguish successful UDP from oversized fallback. */
   @Test
   public void transportCountersTrackOversizedUdpFallback() {
@@ -296,6 +322,19 @@ public class NetworkTelemetryTest {
     assertFalse(hasBadSpanContaining(report, "n/a"));
   }
 
+  /** Verifies prediction corrections are reported and large corrections are marked bad. */
+  @Test
+  public void debugReportShowsPredictionCorrections() {
+    NetworkTelemetry.recordPredictionCorrection(0.75, 4);
+    NetworkTelemetry.recordPredictionCorrection(0.01, 3);
+
+    NetworkTelemetryReport report = NetworkTelemetry.debugReport();
+
+    assertTrue(report.plainText().contains("Prediction: reconciled=2 replay=3 corr=0.010 tiles"));
+    assertFalse(hasBadSpanContaining(report, "0.010 tiles"));
+    assertTrue(hasBadSpanContaining(report, "0.750 tiles"));
+  }
+
   private static boolean hasBadSpanContaining(NetworkTelemetryReport report, String text) {
     return report.sections().stream()
         .flatMap(section -> section.lines().stream())
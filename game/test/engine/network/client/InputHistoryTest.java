@@ -0,0 +1,63 @@
+package engine.network.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.utils.Direction;
+import engine.utils.Vector2;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link InputHistory}. */
+public class InputHistoryTest {
+
+  /** Acknowledging a sequence drops all ticks up to and including it. */
+  @Test
+  public void acknowledgeDropsAppliedTicks() {
+    InputHistory history = new InputHistory();
+    history.add((short) 1, List.of(Direction.UP));
+    history.add((short) 2, List.of(Direction.UP));
+    history.add((short) 2, List.of());
+    history.add((short) 3, List.of(Direction.LEFT));
+
+    assertEquals(3, history.acknowledge((short) 2));
+
+    assertEquals(1, history.size());
+    InputHistory.Entry pending = history.pending().iterator().next();
+    assertEquals(3, pending.sequence());
+    assertEquals(List.<Vector2>of(Direction.LEFT), pending.moves());
+  }
+
+  /** Sequence numbers are compared across the 16 bit wrap-around. */
+  @Test
+  public void acknowledgeHandlesWrapAround() {
+    InputHistory history = new InputHistory();
+    history.add(Short.MAX_VALUE, List.of());
+    history.add(Short.MIN_VALUE, List.of());
+
+    assertEquals(1, history.acknowledge(Short.MAX_VALUE));
+    assertEquals(Short.MIN_VALUE, history.pending().iterator().next().sequence());
+    assertTrue(InputHistory.isAtOrBefore(Short.MAX_VALUE, Short.MIN_VALUE));
+    assertFalse(InputHistory.isAtOrBefore(Short.MIN_VALUE, Short.MAX_VALUE));
+  }
+
+  /** The oldest ticks are dropped when the capacity is exceeded. */
+  @Test
+  public void oldestTicksAreDroppedAtCapacity() {
+    InputHistory history = new InputHistory(2);
+    history.add((short) 1, List.of());
+    history.add((short) 2, List.of());
+    history.add((short) 3, List.of());
+
+    assertEquals(2, history.size());
+    assertEquals(2, history.pending().iterator().next().sequence());
+  }
+
+  /** The capacity must be positive. */
+  @Test
+  public void invalidCapacityIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new InputHistory(0));
+  }
+}
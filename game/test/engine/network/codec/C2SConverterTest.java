@@ -97,6 +97,7 @@ public class C2SConverterTest {
     assertEquals(0, roundTrip.sessionId());
     assertArrayEquals(new byte[0], roundTrip.sessionToken());
     assertTrue(roundTrip.characterClass().isEmpty());
+    assertFalse(roundTrip.compactSnapshots());
   }
 
   /** Verifies move action conversion. */
@@ -0,0 +1,139 @@
+package engine.network.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.Message;
+import engine.network.NetworkTelemetry;
+import engine.network.delta.SnapshotDeltaCompressor;
+import engine.network.messages.NetworkMessage;
+import engine.network.messages.s2c.DebugTelemetrySnapshot;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.EntityState;
+import engine.network.messages.s2c.LevelState;
+import engine.network.messages.s2c.SnapshotMessage;
+import engine.utils.Direction;
+import engine.utils.Point;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link CompactSnapshotEncoder} and {@link CompactSnapshotDecoder}. */
+public class CompactSnapshotCodecTest {
+
+  private final AtomicInteger ackedTick = new AtomicInteger(-1);
+  private final CompactSnapshotEncoder encoder = new CompactSnapshotEncoder(ackedTick::get);
+  private final CompactSnapshotDecoder decoder = new CompactSnapshotDecoder();
+
+  /** Resets the global telemetry counters. */
+  @BeforeEach
+  public void setup() {
+    NetworkTelemetry.reset();
+  }
+
+  private static SnapshotMessage snapshot(int tick, float heroX) {
+    return new SnapshotMessage(
+        tick,
+        List.of(
+            EntityState.builder()
+                .entityId(1)
+                .entityName("hero")
+                .position(new Point(heroX, 2.25f))
+                .viewDirection(Direction.LEFT)
+                .stateName("move")
+                .currentHealth(10)
+                .build(),
+            EntityState.builder()
+                .entityId(2)
+                .entityName("chest")
+                .position(new Point(7f, 3f))
+                .stateName("idle")
+                .build()),
+        new LevelState(Set.of()));
+  }
+
+  private NetworkMessage roundTrip(NetworkMessage message) throws IOException {
+    ByteBuf buf = NetworkCodec.encode(message, UnpooledByteBufAllocator.DEFAULT, 0, encoder);
+    try {
+      return NetworkCodec.deserialize(buf, decoder);
+    } finally {
+      buf.release();
+    }
+  }
+
+  private static Message proto(NetworkMessage message) {
+    return ConverterRegistry.global().toProto(message);
+  }
+
+  /** Verifies full snapshots and deltas are restored exactly for quantizable values. */
+  @Test
+  public void roundTripsSnapshotAndRelativeDelta() throws Exception {
+    SnapshotMessage baseline = snapshot(1, 1.5f);
+    SnapshotMessage current = snapshot(2, 1.75f);
+    DeltaSnapshotMessage delta = SnapshotDeltaCompressor.compress(baseline, current).orElseThrow();
+
+    assertEquals(proto(baseline), proto(roundTrip(baseline)));
+    ackedTick.set(1);
+    assertEquals(proto(delta), proto(roundTrip(delta)));
+
+    DebugTelemetrySnapshot.Snapshots telemetry =
+        NetworkTelemetry.buildServerSnapshot(1L, List.of()).snapshots();
+    assertEquals(2, telemetry.compactSent());
+    assertTrue(telemetry.compactBytesSaved() > 0);
+  }
+
+  /** Verifies deltas send positions relative to the baseline. */
+  @Test
+  public void deltaUsesRelativePositions() {
+    SnapshotMessage baseline = snapshot(1, 1.5f);
+    DeltaSnapshotMessage delta =
+        SnapshotDeltaCompressor.compress(baseline, snapshot(2, 1.75f)).orElseThrow();
+    encoder.compact(proto(baseline));
+
+    engine.network.proto.s2c.DeltaSnapshotMessage compact =
+        (engine.network.proto.s2c.DeltaSnapshotMessage) encoder.compact(proto(delta));
+
+    engine.network.proto.s2c.EntityDelta heroDelta = compact.getEntityDeltas(0);
+    assertTrue(heroDelta.getRelativePosition());
+    int quarterTile = CompactSnapshotFormat.POSITION_SCALE / 4;
+    assertEquals(quarterTile, heroDelta.getChangedState().getPositionX());
+    assertEquals(0, heroDelta.getChangedState().getPositionY());
+  }
+
+  /** Verifies interned strings are defined until a tick carrying them is acknowledged. */
+  @Test
+  public void definitionsRepeatUntilAcknowledged() {
+    engine.network.proto.s2c.SnapshotMessage first =
+        (engine.network.proto.s2c.SnapshotMessage) encoder.compact(proto(snapshot(1, 1f)));
+    engine.network.proto.s2c.SnapshotMessage second =
+        (engine.network.proto.s2c.SnapshotMessage) encoder.compact(proto(snapshot(2, 1f)));
+    ackedTick.set(2);
+    engine.network.proto.s2c.SnapshotMessage third =
+        (engine.network.proto.s2c.SnapshotMessage) encoder.compact(proto(snapshot(3, 1f)));
+
+    assertEquals(4, first.getInternedStringsCount());
+    assertEquals(4, second.getInternedStringsCount());
+    assertEquals(0, third.getInternedStringsCount());
+    assertTrue(third.getEntities(0).hasEntityNameId());
+    assertFalse(third.getEntities(0).hasEntityName());
+  }
+
+  /** Verifies unknown interned IDs are rejected instead of producing wrong names. */
+  @Test
+  public void unknownInternedIdFails() {
+    engine.network.proto.s2c.SnapshotMessage compact =
+        ((engine.network.proto.s2c.SnapshotMessage) encoder.compact(proto(snapshot(1, 1f))))
+            .toBuilder()
+            .clearInternedStrings()
+            .build();
+
+    assertThrows(IOException.class, () -> decoder.expand(compact));
+  }
+}
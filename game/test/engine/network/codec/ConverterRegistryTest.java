@@ -13,7 +13,10 @@ import engine.network.messages.c2s.InitialWorldReady;
 import engine.network.messages.s2c.DebugPong;
 import engine.network.messages.s2c.DebugTelemetrySnapshot;
 import engine.network.messages.s2c.InitialWorldComplete;
+import engine.network.messages.s2c.InputAck;
 import engine.network.messages.s2c.RegisterAck;
+import engine.utils.Point;
+import engine.utils.Vector2;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +101,12 @@ class ConverterRegistryTest {
         27, Byte.toUnsignedInt(registry.typeId(registry.toProto(new InitialWorldReady()))));
     assertEquals(
         28, Byte.toUnsignedInt(registry.typeId(registry.toProto(new InitialWorldComplete()))));
+    assertEquals(
+        29,
+        Byte.toUnsignedInt(
+            registry.typeId(
+                registry.toProto(
+                    new InputAck(1, (short) 2, new Point(3f, 4f), Vector2.of(5f, 6f))))));
   }
 
   private static List<Message> protoDefaults() {
@@ -129,7 +138,8 @@ class ConverterRegistryTest {
         engine.network.proto.s2c.SoundStopMessage.getDefaultInstance(),
         engine.network.proto.s2c.DebugTelemetrySnapshot.getDefaultInstance(),
         engine.network.proto.s2c.DebugPong.getDefaultInstance(),
-        engine.network.proto.s2c.InitialWorldComplete.getDefaultInstance());
+        engine.network.proto.s2c.InitialWorldComplete.getDefaultInstance(),
+        engine.network.proto.s2c.InputAck.getDefaultInstance());
   }
 
   private static DebugTelemetrySnapshot emptyDebugTelemetrySnapshot() {
@@ -139,9 +149,10 @@ class ConverterRegistryTest {
         5L,
         DebugTelemetrySnapshot.Transport.empty(),
         DebugTelemetrySnapshot.Transport.empty(),
-        new DebugTelemetrySnapshot.Udp(0L, 0L, 0L, 0L, "n/a", "n/a", "n/a"),
+        new DebugTelemetrySnapshot.Udp(0L, 0L, 0L, 0L, 0L, 0L, 0L, "n/a", "n/a", "n/a"),
         new DebugTelemetrySnapshot.Snapshots(
-            0L, 0L, -1, -1, -1, -1, -1, -1, -1, -1L, "n/a", 0L, 0L, 0L, 0L, -1, -1, -1, -1.0),
+            0L, 0L, -1, -1, -1, -1, -1, -1, -1, -1L, "n/a", 0L, 0L, 0L, 0L, -1, -1, -1, -1.0, 0L,
+            0L),
         new DebugTelemetrySnapshot.Windows(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L),
         DebugTelemetrySnapshot.Timings.empty(),
         List.of());
@@ -1,5 +1,6 @@
 package engine.network.codec;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.protobuf.Message;
@@ -26,15 +27,25 @@ import engine.network.messages.s2c.EntityState;
 import engine.network.messages.s2c.EntityStateField;
 import engine.network.messages.s2c.GameOverEvent;
 import engine.network.messages.s2c.InitialWorldComplete;
+import engine.network.messages.s2c.InputAck;
 import engine.network.messages.s2c.LevelChangeEvent;
+import engine.network.messages.s2c.LevelState;
 import engine.network.messages.s2c.RegisterAck;
+import engine.network.messages.s2c.SnapshotMessage;
 import engine.network.messages.s2c.SoundPlayMessage;
 import engine.network.messages.s2c.SoundStopMessage;
 import engine.sound.SoundSpec;
+import engine.utils.Direction;
+import engine.utils.Point;
 import engine.utils.Vector2;
 import feature.entities.CharacterClass;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -49,6 +60,61 @@ class NetworkCodecTest {
     }
   }
 
+  @Test
+  void encodeRoundTripsThroughHeapAndDirectBuffers() throws Exception {
+    List<NetworkMessage> messages = new ArrayList<>(sampleMessages());
+    messages.add(snapshot(64));
+    for (NetworkMessage message : messages) {
+      assertBufferRoundTrip(message, new UnpooledByteBufAllocator(false));
+      assertBufferRoundTrip(message, new UnpooledByteBufAllocator(true));
+    }
+  }
+
+  @Test
+  void encodeMatchesSerialize() throws Exception {
+    NetworkMessage message = snapshot(16);
+    byte[] expected = NetworkCodec.serialize(message);
+    ByteBuf buf = NetworkCodec.encode(message, new UnpooledByteBufAllocator(true), 4);
+    try {
+      assertEquals(expected.length, NetworkCodec.encodedSize(message));
+      assertEquals(4 + expected.length, buf.readableBytes());
+      assertArrayEquals(expected, ByteBufUtil.getBytes(buf, 4, expected.length));
+    } finally {
+      buf.release();
+    }
+  }
+
+  private static void assertBufferRoundTrip(NetworkMessage message, ByteBufAllocator alloc)
+      throws IOException {
+    ByteBuf buf = NetworkCodec.encode(message, alloc, 4);
+    try {
+      buf.skipBytes(4);
+      Message expectedProto = ConverterRegistry.global().toProto(message);
+      NetworkMessage decoded = NetworkCodec.deserialize(buf);
+      assertEquals(0, buf.readableBytes());
+      assertEquals(expectedProto, ConverterRegistry.global().toProto(decoded));
+    } finally {
+      buf.release();
+    }
+  }
+
+  private static SnapshotMessage snapshot(int entityCount) {
+    List<EntityState> entities = new ArrayList<>(entityCount);
+    for (int i = 0; i < entityCount; i++) {
+      entities.add(
+          EntityState.builder()
+              .entityId(i)
+              .entityName("monster-" + i)
+              .position(new Point(i * 0.5f, i * 0.25f))
+              .viewDirection(Direction.LEFT)
+              .currentHealth(10 + i)
+              .maxHealth(100)
+              .stateName("idle")
+              .build());
+    }
+    return new SnapshotMessage(1_000, entities, new LevelState(Set.of()));
+  }
+
   private static void assertRoundTrip(NetworkMessage message) throws IOException {
     byte[] bytes = NetworkCodec.serialize(message);
     Message expectedProto = ConverterRegistry.global().toProto(message);
@@ -105,7 +171,8 @@ class NetworkCodecTest {
             2_000L,
             new DebugTelemetrySnapshot.Transport(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L),
             new DebugTelemetrySnapshot.Transport(31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L),
-            new DebugTelemetrySnapshot.Udp(9L, 10L, 11L, 12L, "fallback", "drop", "failure"),
+            new DebugTelemetrySnapshot.Udp(
+                9L, 10L, 11L, 12L, 78L, 79L, 80L, "fallback", "drop", "failure"),
             new DebugTelemetrySnapshot.Snapshots(
                 13L,
                 14L,
@@ -125,7 +192,9 @@ class NetworkCodecTest {
                 27,
                 28,
                 29,
-                0.48),
+                0.48,
+                81L,
+                82L),
             new DebugTelemetrySnapshot.Windows(
                 30L, 31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L, 39L, 40L, 41L),
             new DebugTelemetrySnapshot.Timings(
@@ -147,7 +216,10 @@ class NetworkCodecTest {
                 53L,
                 54,
                 55,
-                56),
+                56,
+                57L,
+                58L,
+                59L),
             List.of(
                 new DebugTelemetrySnapshot.Client(
                     (short) 1,
@@ -176,6 +248,7 @@ class NetworkCodecTest {
                     47))),
         new DebugPong(4L, 5L, 6L, 7L),
         new InitialWorldComplete(),
+        new InputAck(12, (short) 7, new Point(1f, 2f), Vector2.of(0.5f, 0f)),
         new SoundPlayMessage(
             2,
             SoundSpec.builder("sound")
@@ -23,6 +23,7 @@ import engine.network.codec.converters.s2c.EntitySpawnEventConverter;
 import engine.network.codec.converters.s2c.EntityStateConverter;
 import engine.network.codec.converters.s2c.GameOverConverter;
 import engine.network.codec.converters.s2c.InitialWorldCompleteConverter;
+import engine.network.codec.converters.s2c.InputAckConverter;
 import engine.network.codec.converters.s2c.LevelChangeConverter;
 import engine.network.codec.converters.s2c.RegisterAckConverter;
 import engine.network.codec.converters.s2c.SnapshotConverter;
@@ -44,6 +45,7 @@ import engine.network.messages.s2c.EntityState;
 import engine.network.messages.s2c.EntityStateField;
 import engine.network.messages.s2c.GameOverEvent;
 import engine.network.messages.s2c.InitialWorldComplete;
+import engine.network.messages.s2c.InputAck;
 import engine.network.messages.s2c.InventorySlotState;
 import engine.network.messages.s2c.ItemState;
 import engine.network.messages.s2c.LevelChangeEvent;
@@ -99,6 +101,7 @@ public class S2CConverterTest {
   private static final DebugPongConverter DEBUG_PONG_CONVERTER = new DebugPongConverter();
   private static final InitialWorldCompleteConverter INITIAL_WORLD_COMPLETE_CONVERTER =
       new InitialWorldCompleteConverter();
+  private static final InputAckConverter INPUT_ACK_CONVERTER = new InputAckConverter();
 
   private static DrawInfoData createDrawInfo() {
     DrawInfoData.AnimationConfigData animationConfig =
@@ -131,7 +134,7 @@ public class S2CConverterTest {
   @Test
   public void testConnectAckRoundTrip() {
     byte[] token = new byte[] {4, 5, 6};
-    ConnectAck message = new ConnectAck((short) 7, 42, token);
+    ConnectAck message = new ConnectAck((short) 7, 42, token, true);
 
     engine.network.proto.s2c.ConnectAck proto = CONNECT_ACK_CONVERTER.toProto(message);
     assertEquals(7, proto.getClientId());
@@ -142,6 +145,7 @@ public class S2CConverterTest {
     assertEquals(message.clientId(), roundTrip.clientId());
     assertEquals(message.sessionId(), roundTrip.sessionId());
     assertArrayEquals(message.sessionToken(), roundTrip.sessionToken());
+    assertTrue(roundTrip.compactSnapshots());
   }
 
   /** Verifies connect reject conversion roundtrip. */
@@ -569,7 +573,8 @@ public class S2CConverterTest {
             2_000L,
             new DebugTelemetrySnapshot.Transport(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L),
             new DebugTelemetrySnapshot.Transport(31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L),
-            new DebugTelemetrySnapshot.Udp(9L, 10L, 11L, 12L, "fallback", "drop", "failure"),
+            new DebugTelemetrySnapshot.Udp(
+                9L, 10L, 11L, 12L, 78L, 79L, 80L, "fallback", "drop", "failure"),
             new DebugTelemetrySnapshot.Snapshots(
                 13L,
                 14L,
@@ -589,7 +594,9 @@ public class S2CConverterTest {
                 27,
                 28,
                 29,
-                0.48),
+                0.48,
+                81L,
+                82L),
             new DebugTelemetrySnapshot.Windows(
                 30L, 31L, 32L, 33L, 34L, 35L, 36L, 37L, 38L, 39L, 40L, 41L),
             new DebugTelemetrySnapshot.Timings(
@@ -611,7 +618,10 @@ public class S2CConverterTest {
                 53L,
                 54,
                 55,
-                56),
+                56,
+                57L,
+                58L,
+                59L),
             List.of(
                 new DebugTelemetrySnapshot.Client(
                     (short) 2, true, 101.5f, 500L, 44, 45, 1, 17L, true, 128, 2.13, 3L, 4L, 5L, 6L,
@@ -632,6 +642,7 @@ public class S2CConverterTest {
     assertEquals(54, proto.getLastQueueDepth());
     assertEquals(55, proto.getMaxQueueDepthLastTenSeconds());
     assertEquals(56, proto.getLastQueueDrainCount());
+    assertEquals(59L, proto.getFrameMicrosP99LastTenSeconds());
 
     DebugTelemetrySnapshot roundTrip = DEBUG_TELEMETRY_SNAPSHOT_CONVERTER.fromProto(proto);
     assertEquals(message.requestId(), roundTrip.requestId());
@@ -642,6 +653,9 @@ public class S2CConverterTest {
     assertEquals(
         message.snapshots().lastDeltaRemovals(), roundTrip.snapshots().lastDeltaRemovals());
     assertEquals(message.udp().lastFallbackReason(), roundTrip.udp().lastFallbackReason());
+    assertEquals(message.udp().fragmentsDropped(), roundTrip.udp().fragmentsDropped());
+    assertEquals(
+        message.snapshots().compactBytesSaved(), roundTrip.snapshots().compactBytesSaved());
     assertEquals(message.timings().lastTcpDecodeType(), roundTrip.timings().lastTcpDecodeType());
     assertEquals(message.timings().lastQueueDepth(), roundTrip.timings().lastQueueDepth());
     assertEquals(
@@ -649,6 +663,15 @@ public class S2CConverterTest {
         roundTrip.timings().maxQueueDepthLastTenSeconds());
     assertEquals(
         message.timings().lastQueueDrainCount(), roundTrip.timings().lastQueueDrainCount());
+    assertEquals(
+        message.timings().frameMicrosP50LastTenSeconds(),
+        roundTrip.timings().frameMicrosP50LastTenSeconds());
+    assertEquals(
+        message.timings().frameMicrosP95LastTenSeconds(),
+        roundTrip.timings().frameMicrosP95LastTenSeconds());
+    assertEquals(
+        message.timings().frameMicrosP99LastTenSeconds(),
+        roundTrip.timings().frameMicrosP99LastTenSeconds());
     assertEquals(1, roundTrip.clients().size());
     assertEquals(2, roundTrip.clients().getFirst().clientId());
     assertEquals(101.5f, roundTrip.clients().getFirst().rttEstimateMs(), DELTA);
@@ -684,4 +707,23 @@ public class S2CConverterTest {
 
     assertEquals(message, roundTrip);
   }
+
+  /** Verifies input ack conversion roundtrip, including a wrapped negative sequence. */
+  @Test
+  public void testInputAckRoundTrip() {
+    InputAck message =
+        new InputAck(42, (short) -3, new Point(1.5f, 2.25f), Vector2.of(0.5f, -1f));
+
+    engine.network.proto.s2c.InputAck proto = INPUT_ACK_CONVERTER.toProto(message);
+    assertEquals(42, proto.getServerTick());
+    assertEquals(-3, proto.getSequence());
+
+    InputAck roundTrip = INPUT_ACK_CONVERTER.fromProto(proto);
+    assertEquals(message.serverTick(), roundTrip.serverTick());
+    assertEquals(message.sequence(), roundTrip.sequence());
+    assertEquals(1.5f, roundTrip.position().x(), DELTA);
+    assertEquals(2.25f, roundTrip.position().y(), DELTA);
+    assertEquals(0.5f, roundTrip.velocity().x(), DELTA);
+    assertEquals(-1f, roundTrip.velocity().y(), DELTA);
+  }
 }
@@ -0,0 +1,148 @@
+package engine.network.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.network.NetworkTelemetry;
+import engine.network.messages.s2c.DebugTelemetrySnapshot;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link UdpFragmenter} and {@link UdpReassembler}. */
+public class UdpReassemblerTest {
+
+  private static final int MTU = 100;
+
+  /** Resets the global telemetry counters. */
+  @BeforeEach
+  public void setup() {
+    NetworkTelemetry.reset();
+  }
+
+  private static byte[] message(int size) {
+    byte[] data = new byte[size];
+    new Random(size).nextBytes(data);
+    data[0] = 18;
+    return data;
+  }
+
+  private static List<byte[]> split(byte[] data, int messageId, int maxDatagramSize) {
+    List<ByteBuf> buffers =
+        UdpFragmenter.split(
+            Unpooled.wrappedBuffer(data),
+            messageId,
+            maxDatagramSize,
+            UnpooledByteBufAllocator.DEFAULT);
+    List<byte[]> fragments = new ArrayList<>(buffers.size());
+    for (ByteBuf buffer : buffers) {
+      fragments.add(ByteBufUtil.getBytes(buffer));
+      buffer.release();
+    }
+    return fragments;
+  }
+
+  private static Optional<byte[]> accept(UdpReassembler reassembler, byte[] fragment, long now) {
+    return reassembler.accept(Unpooled.wrappedBuffer(fragment), now);
+  }
+
+  private static DebugTelemetrySnapshot.Udp udpTelemetry() {
+    return NetworkTelemetry.buildServerSnapshot(1L, List.of()).udp();
+  }
+
+  /** Verifies fragments fit into the datagram size and are marked as fragments. */
+  @Test
+  public void splitRespectsDatagramSize() {
+    List<byte[]> fragments = split(message(250), 1, MTU);
+
+    assertEquals(3, fragments.size());
+    fragments.forEach(f -> assertTrue(f.length <= MTU));
+    fragments.forEach(f -> assertTrue(UdpFragmenter.isFragment(Unpooled.wrappedBuffer(f))));
+    assertFalse(UdpFragmenter.isFragment(Unpooled.wrappedBuffer(message(10))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> split(message(10), 1, UdpFragmenter.HEADER_SIZE));
+  }
+
+  /** Verifies the fragment header and that the source buffer is not consumed. */
+  @Test
+  public void splitWritesHeaderAndKeepsSource() {
+    byte[] data = message(250);
+    ByteBuf source = Unpooled.wrappedBuffer(data);
+
+    List<ByteBuf> fragments = UdpFragmenter.split(source, 3, MTU, UnpooledByteBufAllocator.DEFAULT);
+
+    int chunkSize = MTU - UdpFragmenter.HEADER_SIZE;
+    for (int i = 0; i < fragments.size(); i++) {
+      ByteBuf fragment = fragments.get(i);
+      assertEquals(UdpFragmenter.FRAGMENT_TYPE_ID, fragment.getByte(0));
+      assertEquals(3, fragment.getInt(1));
+      assertEquals(i, fragment.getUnsignedByte(5));
+      assertEquals(fragments.size(), fragment.getUnsignedByte(6));
+      int length = Math.min(chunkSize, data.length - i * chunkSize);
+      assertArrayEquals(
+          Arrays.copyOfRange(data, i * chunkSize, i * chunkSize + length),
+          ByteBufUtil.getBytes(fragment, UdpFragmenter.HEADER_SIZE, length));
+      fragment.release();
+    }
+    assertEquals(250, source.readableBytes());
+  }
+
+  /** Verifies fragments arriving out of order are reassembled to the original message. */
+  @Test
+  public void reassemblesOutOfOrderFragments() {
+    byte[] data = message(250);
+    List<byte[]> fragments = split(data, 7, MTU);
+    UdpReassembler reassembler = new UdpReassembler(1_000);
+
+    assertTrue(accept(reassembler, fragments.get(2), 0).isEmpty());
+    assertTrue(accept(reassembler, fragments.get(0), 0).isEmpty());
+    assertTrue(accept(reassembler, fragments.get(0), 0).isEmpty());
+    byte[] result = accept(reassembler, fragments.get(1), 0).orElseThrow();
+
+    assertArrayEquals(data, result);
+    assertEquals(0, reassembler.pendingMessages());
+    assertEquals(1, udpTelemetry().messagesReassembled());
+  }
+
+  /** Verifies incomplete messages are dropped after the timeout. */
+  @Test
+  public void incompleteMessageTimesOut() {
+    List<byte[]> fragments = split(message(250), 1, MTU);
+    UdpReassembler reassembler = new UdpReassembler(100);
+
+    accept(reassembler, fragments.get(0), 0);
+    accept(reassembler, fragments.get(1), 0);
+    assertTrue(accept(reassembler, fragments.get(2), 500).isEmpty());
+
+    assertEquals(1, reassembler.pendingMessages());
+    assertEquals(2, udpTelemetry().fragmentsDropped());
+  }
+
+  /** Verifies completing a newer message drops older incomplete and late fragments. */
+  @Test
+  public void newerMessageSupersedesOlderOne() {
+    List<byte[]> older = split(message(250), 1, MTU);
+    List<byte[]> newer = split(message(150), 2, MTU);
+    UdpReassembler reassembler = new UdpReassembler(1_000);
+
+    accept(reassembler, older.get(0), 0);
+    accept(reassembler, newer.get(0), 0);
+    assertTrue(accept(reassembler, newer.get(1), 0).isPresent());
+    assertTrue(accept(reassembler, older.get(1), 0).isEmpty());
+
+    assertEquals(0, reassembler.pendingMessages());
+    assertEquals(2, udpTelemetry().fragmentsDropped());
+  }
+}
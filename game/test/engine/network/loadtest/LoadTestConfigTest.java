@@ -0,0 +1,112 @@
+package engine.network.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.network.messages.c2s.InputMessage;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link LoadTestConfig}, {@link NetworkProfile} and {@link InputScript}. */
+public class LoadTestConfigTest {
+
+  /** Verifies that no arguments yield the defaults with an in-process server. */
+  @Test
+  public void parseWithoutArgumentsUsesDefaults() {
+    LoadTestConfig config = LoadTestConfig.parse(new String[0]);
+
+    assertEquals(LoadTestConfig.defaults(), config);
+    assertTrue(config.inProcessServer());
+  }
+
+  /** Verifies that all arguments are parsed. */
+  @Test
+  public void parseReadsAllArguments() {
+    LoadTestConfig config =
+        LoadTestConfig.parse(
+            new String[] {
+              "--host=10.0.0.5",
+              "--port=8000",
+              "--clients=300",
+              "--duration=120",
+              "--ramp-up=0",
+              "--input-rate=20",
+              "--script=fight",
+              "--profile=40/10/0.05",
+              "--compact=false",
+              "--seed=7"
+            });
+
+    assertEquals(Optional.of("10.0.0.5"), config.host());
+    assertFalse(config.inProcessServer());
+    assertEquals(8000, config.port());
+    assertEquals(300, config.clients());
+    assertEquals(120, config.durationSeconds());
+    assertEquals(0, config.rampUpSeconds());
+    assertEquals(20, config.inputRateHz());
+    assertEquals("fight", config.script());
+    assertEquals(new NetworkProfile(40L, 10L, 0.05), config.profile());
+    assertFalse(config.compactSnapshots());
+    assertEquals(7L, config.seed());
+  }
+
+  /** Verifies that unknown, malformed and out-of-range arguments are rejected. */
+  @Test
+  public void parseRejectsInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[] {"--foo=1"}));
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[] {"clients=1"}));
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[] {"--clients=x"}));
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[] {"--clients=0"}));
+    assertThrows(
+        IllegalArgumentException.class, () -> LoadTestConfig.parse(new String[] {"--script=x"}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> LoadTestConfig.parse(new String[] {"--input-rate=1000"}));
+  }
+
+  /** Verifies named and custom network profiles. */
+  @Test
+  public void networkProfileParsesNamesAndCustomValues() {
+    assertEquals(NetworkProfile.WIFI, NetworkProfile.parse("WiFi"));
+    assertEquals(NetworkProfile.NONE, NetworkProfile.parse("none"));
+    assertEquals(new NetworkProfile(5L, 0L, 0.5), NetworkProfile.parse("5/0/0.5"));
+    assertThrows(IllegalArgumentException.class, () -> NetworkProfile.parse("fast"));
+    assertThrows(IllegalArgumentException.class, () -> NetworkProfile.parse("5/0/2"));
+  }
+
+  /** Verifies that reliable messages keep the base latency and are never jittered. */
+  @Test
+  public void networkProfileJittersOnlyUnreliableMessages() {
+    NetworkProfile profile = new NetworkProfile(10L, 5L, 0.0);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(10L, profile.delayMs(true));
+      long delay = profile.delayMs(false);
+      assertTrue(delay >= 10L && delay <= 15L);
+      assertFalse(profile.drop());
+    }
+    assertTrue(new NetworkProfile(0L, 0L, 1.0).drop());
+  }
+
+  /** Verifies that the built-in scripts produce the expected inputs. */
+  @Test
+  public void inputScriptsProduceInputs() {
+    Random random = new Random(1L);
+
+    assertTrue(InputScript.named("idle").next(0, random).isEmpty());
+    assertEquals(
+        InputMessage.Action.MOVE,
+        InputScript.named("walk").next(0, random).orElseThrow().action());
+    InputScript fight = InputScript.fight(30, 2);
+    assertEquals(
+        InputMessage.Action.CAST_SKILL,
+        fight.next(1, random).orElseThrow().action());
+  }
+}
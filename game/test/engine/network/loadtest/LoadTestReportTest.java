@@ -0,0 +1,76 @@
+package engine.network.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.network.NetworkTelemetry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link LoadTestReport}. */
+public class LoadTestReportTest {
+
+  /** Clears global telemetry state before every test. */
+  @BeforeEach
+  public void setup() {
+    NetworkTelemetry.reset();
+  }
+
+  /** Verifies the nearest-rank percentile. */
+  @Test
+  public void percentileUsesNearestRank() {
+    long[] values = {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L};
+
+    assertEquals(1L, LoadTestReport.percentile(values, 0.0));
+    assertEquals(5L, LoadTestReport.percentile(values, 0.5));
+    assertEquals(10L, LoadTestReport.percentile(values, 0.95));
+    assertEquals(10L, LoadTestReport.percentile(values, 1.0));
+    assertEquals(-1L, LoadTestReport.percentile(new long[0], 0.5));
+  }
+
+  /** Verifies per-client snapshot rates and server tick percentiles in the formatted report. */
+  @Test
+  public void formatReportsClientsAndServerTicks() {
+    for (int millis = 1; millis <= 100; millis++) {
+      NetworkTelemetry.recordFrameTime(millis * 1_000_000L);
+    }
+    LoadTestReport report =
+        new LoadTestReport(
+            LoadTestConfig.defaults(),
+            10.0,
+            List.of(client(0, 20_480L), client(1, 40_960L), rejected(2)),
+            Optional.of(NetworkTelemetry.buildServerSnapshot(1L, List.of())),
+            120_000L);
+
+    String text = report.format();
+
+    assertTrue(text.contains("connected 2/3, UDP ready 2, rejected 1 (SERVER_FULL)"), text);
+    assertTrue(text.contains("received/s avg: 60.0 (full 0.10, delta 59.9)"), text);
+    assertTrue(text.contains("bytes/s min/avg/p95/max: 2.0 KiB / 3.0 KiB / 4.0 KiB / 4.0 KiB"));
+    assertTrue(text.contains("p50/p95/p99/max: 50.00 ms / 95.00 ms / 99.00 ms / 100.00 ms"), text);
+    assertTrue(text.contains("worst p99 during the run: 120.00 ms"), text);
+  }
+
+  /** Verifies the hint if the server did not send telemetry. */
+  @Test
+  public void formatExplainsMissingServerTelemetry() {
+    LoadTestReport report =
+        new LoadTestReport(
+            LoadTestConfig.defaults(), 10.0, List.of(client(0, 0L)), Optional.empty(), -1L);
+
+    assertTrue(report.format().contains("DEBUG_TELEMETRY_ENABLED"));
+  }
+
+  private static LoadTestReport.ClientResult client(int index, long snapshotBytes) {
+    return new LoadTestReport.ClientResult(
+        index, true, true, "n/a", 5L, 1L, 599L, snapshotBytes, snapshotBytes, 1_000L, 300L, 0L,
+        0L, 0L);
+  }
+
+  private static LoadTestReport.ClientResult rejected(int index) {
+    return new LoadTestReport.ClientResult(
+        index, false, false, "SERVER_FULL", -1L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+  }
+}
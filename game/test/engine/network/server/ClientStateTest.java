@@ -85,6 +85,25 @@ public class ClientStateTest {
     assertEquals(Set.of(1, 2), state.knownSnapshotEntityIds());
   }
 
+  /** Verifies sent interest-filtered snapshots are retained as baselines until cleared. */
+  @Test
+  public void sentSnapshotsAreRetainedUntilBaselineIsCleared() {
+    ClientState state = clientState();
+    SnapshotMessage snapshot =
+        new SnapshotMessage(
+            20, List.of(EntityState.builder().entityId(3).build()), new LevelState(Set.of()));
+
+    state.rememberSentSnapshot(snapshot, Set.of());
+
+    assertEquals(Set.of(3), state.interestEntityIds());
+    assertTrue(state.sentSnapshot(20).isPresent());
+
+    state.clearSnapshotBaseline();
+
+    assertTrue(state.interestEntityIds().isEmpty());
+    assertTrue(state.sentSnapshot(20).isEmpty());
+  }
+
   private static ClientState clientState() {
     return new ClientState((short) 1, "tester", 1, new byte[] {1, 2, 3}, CharacterClass.WIZARD);
   }
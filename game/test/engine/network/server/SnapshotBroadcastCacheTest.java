@@ -0,0 +1,157 @@
+package engine.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.PositionComponent;
+import engine.network.codec.NetworkCodec;
+import engine.network.codec.SharedEncodingCache;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.EntityState;
+import engine.network.messages.s2c.LevelState;
+import engine.network.messages.s2c.SnapshotMessage;
+import engine.utils.Point;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link SnapshotBroadcastCache} and {@link SharedEncodingCache}. */
+public class SnapshotBroadcastCacheTest {
+
+  /** Reset the global ECS state. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  private static SnapshotMessage snapshot(int tick, float x) {
+    return new SnapshotMessage(
+        tick,
+        List.of(
+            EntityState.builder().entityId(1).position(new Point(x, 0)).build(),
+            EntityState.builder().entityId(2).position(new Point(5, 5)).build()),
+        new LevelState(Set.of()));
+  }
+
+  /** Verifies clients on the same baseline share one delta. */
+  @Test
+  public void sharesDeltaForSameBaseline() {
+    SharedEncodingCache encodings = new SharedEncodingCache();
+    SnapshotBroadcastCache cache = new SnapshotBroadcastCache(encodings);
+    SnapshotMessage baseline = snapshot(1, 0);
+    SnapshotMessage current = snapshot(2, 1);
+
+    DeltaSnapshotMessage first = cache.delta(baseline, current, Set.of(1, 2)).orElseThrow();
+    DeltaSnapshotMessage second = cache.delta(baseline, current, Set.of(1, 2)).orElseThrow();
+    DeltaSnapshotMessage otherKnown = cache.delta(baseline, current, Set.of(1, 2, 3)).orElseThrow();
+
+    assertSame(first, second);
+    assertNotSame(first, otherKnown);
+    assertEquals(2, cache.computedDeltas());
+    assertTrue(encodings.isShared(first));
+
+    cache.clear();
+    assertEquals(0, cache.computedDeltas());
+    assertFalse(encodings.isShared(first));
+  }
+
+  private static Entity entityAt(float x, float y) {
+    Entity entity = new Entity();
+    entity.add(new PositionComponent(x, y));
+    Game.add(entity);
+    return entity;
+  }
+
+  private static SnapshotInterestFilter filterOf(int tick, Entity... entities) {
+    List<EntityState> states = new ArrayList<>();
+    for (Entity entity : entities) {
+      states.add(
+          EntityState.builder()
+              .entityId(entity.id())
+              .position(entity.fetch(PositionComponent.class).orElseThrow().position())
+              .build());
+    }
+    return new SnapshotInterestFilter(
+        new SnapshotMessage(tick, states, new LevelState(Set.of())), 5f, 0f);
+  }
+
+  /** Verifies clients with the same interest set share work although each is filtered alone. */
+  @Test
+  public void sharesWorkForEqualFilteredSnapshots() {
+    Entity near = entityAt(2, 1);
+    Entity far = entityAt(40, 40);
+    Point hero = new Point(1, 1);
+    SnapshotInterestFilter previousTick = filterOf(1, near, far);
+    SnapshotMessage baselineA = previousTick.snapshotAround(hero, Set.of());
+    SnapshotMessage baselineB = previousTick.snapshotAround(hero, Set.of());
+    near.fetch(PositionComponent.class).orElseThrow().position(new Point(3, 1));
+    SnapshotInterestFilter currentTick = filterOf(2, near, far);
+    SnapshotMessage currentA = currentTick.snapshotAround(hero, Set.of());
+    SnapshotMessage currentB = currentTick.snapshotAround(hero, Set.of());
+    assertNotSame(currentA, currentB);
+
+    SharedEncodingCache encodings = new SharedEncodingCache();
+    SnapshotBroadcastCache cache = new SnapshotBroadcastCache(encodings);
+    DeltaSnapshotMessage first = cache.delta(baselineA, currentA, Set.of(near.id())).orElseThrow();
+    DeltaSnapshotMessage second = cache.delta(baselineB, currentB, Set.of(near.id())).orElseThrow();
+    SnapshotMessage fullA = cache.fullSnapshot(currentA);
+    SnapshotMessage fullB = cache.fullSnapshot(currentB);
+
+    assertSame(first, second);
+    assertEquals(1, cache.computedDeltas());
+    assertSame(fullA, fullB);
+    assertTrue(encodings.isShared(fullA));
+    cache.clear();
+  }
+
+  /** Verifies the cached delta does not depend on later changes of the known entity set. */
+  @Test
+  public void knownEntitySetIsCopied() {
+    SnapshotBroadcastCache cache = new SnapshotBroadcastCache(new SharedEncodingCache());
+    SnapshotMessage baseline = snapshot(1, 0);
+    SnapshotMessage current = snapshot(2, 1);
+    Set<Integer> known = new HashSet<>(Set.of(1, 2));
+
+    DeltaSnapshotMessage first = cache.delta(baseline, current, known).orElseThrow();
+    known.add(3);
+
+    assertSame(first, cache.delta(baseline, current, Set.of(1, 2)).orElseThrow());
+    assertEquals(1, cache.computedDeltas());
+  }
+
+  /** Verifies a shared message is encoded once and reused with and without headroom. */
+  @Test
+  public void sharedMessageIsEncodedOnce() throws Exception {
+    SharedEncodingCache encodings = new SharedEncodingCache();
+    SnapshotMessage snapshot = snapshot(3, 2);
+    byte[] expected = NetworkCodec.serialize(snapshot);
+    encodings.share(snapshot);
+
+    ByteBuf udp = encodings.encode(snapshot, UnpooledByteBufAllocator.DEFAULT, 0);
+    ByteBuf tcp = encodings.encode(snapshot, UnpooledByteBufAllocator.DEFAULT, 4);
+    ByteBuf again = encodings.encode(snapshot, UnpooledByteBufAllocator.DEFAULT, 0);
+    try {
+      assertArrayEquals(expected, ByteBufUtil.getBytes(udp));
+      assertEquals(4 + expected.length, tcp.readableBytes());
+      assertArrayEquals(expected, ByteBufUtil.getBytes(tcp, 4, expected.length));
+      assertSame(udp.unwrap(), again.unwrap());
+    } finally {
+      udp.release();
+      again.release();
+      tcp.release();
+      encodings.clear();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package engine.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.PlayerComponent;
+import engine.components.PositionComponent;
+import engine.network.delta.SnapshotDeltaCompressor;
+import engine.network.messages.s2c.DeltaSnapshotMessage;
+import engine.network.messages.s2c.EntityState;
+import engine.network.messages.s2c.LevelState;
+import engine.network.messages.s2c.SnapshotMessage;
+import engine.utils.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link SnapshotInterestFilter}. */
+public class SnapshotInterestFilterTest {
+
+  /** Reset the global ECS state. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  private static Entity entityAt(float x, float y) {
+    Entity entity = new Entity();
+    entity.add(new PositionComponent(x, y));
+    Game.add(entity);
+    return entity;
+  }
+
+  private static SnapshotMessage snapshotOf(int tick, Entity... entities) {
+    List<EntityState> states = new ArrayList<>();
+    for (Entity entity : entities) {
+      states.add(
+          EntityState.builder()
+              .entityId(entity.id())
+              .position(entity.fetch(PositionComponent.class).orElseThrow().position())
+              .build());
+    }
+    return new SnapshotMessage(tick, states, new LevelState(Set.of()));
+  }
+
+  private static List<Integer> ids(SnapshotMessage snapshot) {
+    return snapshot.entities().stream().map(EntityState::entityId).toList();
+  }
+
+  /** Verifies only entities near the hero and always-relevant entities are kept. */
+  @Test
+  public void keepsNearbyAndAlwaysRelevantEntities() {
+    Entity near = entityAt(2, 1);
+    Entity far = entityAt(40, 40);
+    Entity otherPlayer = entityAt(60, 60);
+    otherPlayer.add(new PlayerComponent(false));
+    SnapshotMessage full = snapshotOf(10, near, far, otherPlayer);
+
+    SnapshotMessage filtered =
+        new SnapshotInterestFilter(full, 5f, 0f).snapshotAround(new Point(1, 1), Set.of());
+
+    assertEquals(List.of(near.id(), otherPlayer.id()), ids(filtered));
+    assertEquals(10, filtered.serverTick());
+  }
+
+  /** Verifies filtering can be disabled with a non-positive radius. */
+  @Test
+  public void disabledFilterReturnsFullSnapshot() {
+    SnapshotMessage full = snapshotOf(10, entityAt(2, 1), entityAt(40, 40));
+
+    SnapshotInterestFilter filter = new SnapshotInterestFilter(full, 0f, 0f);
+
+    assertSame(full, filter.snapshotAround(new Point(1, 1), Set.of()));
+  }
+
+  /** Verifies known entities stay relevant within the hysteresis band. */
+  @Test
+  public void knownEntitiesStayWithinHysteresis() {
+    Entity border = entityAt(8, 1);
+    SnapshotMessage full = snapshotOf(10, border);
+    SnapshotInterestFilter filter = new SnapshotInterestFilter(full, 5f, 4f);
+
+    assertTrue(filter.snapshotAround(new Point(1, 1), Set.of()).entities().isEmpty());
+    assertEquals(
+        List.of(border.id()), ids(filter.snapshotAround(new Point(1, 1), Set.of(border.id()))));
+  }
+
+  /** Verifies entities leaving and entering the interest set are removed and spawned by deltas. */
+  @Test
+  public void deltaRemovesLeavingAndAddsEnteringEntities() {
+    Entity leaving = entityAt(2, 1);
+    Entity entering = entityAt(20, 1);
+    SnapshotMessage baseline =
+        new SnapshotInterestFilter(snapshotOf(10, leaving, entering), 5f, 0f)
+            .snapshotAround(new Point(1, 1), Set.of());
+
+    SnapshotMessage current =
+        new SnapshotInterestFilter(snapshotOf(11, leaving, entering), 5f, 0f)
+            .snapshotAround(new Point(19, 1), Set.of(leaving.id()));
+    DeltaSnapshotMessage delta =
+        SnapshotDeltaCompressor.compress(baseline, current, Set.of(leaving.id())).orElseThrow();
+
+    assertEquals(List.of(leaving.id()), delta.removedEntityIds());
+    assertEquals(entering.id(), delta.entityDeltas().getFirst().entityId());
+    assertEquals(
+        List.of(entering.id()),
+        ids(SnapshotDeltaCompressor.materializeSnapshot(baseline, delta)));
+  }
+}
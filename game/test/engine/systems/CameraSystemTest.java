@@ -87,6 +87,24 @@ public class CameraSystemTest {
     assertEquals(expectedFocusPoint.y(), CameraSystem.camera().position.y, 0.001);
   }
 
+  /** With a fixed timestep, the camera follows the interpolated position of the entity. */
+  @Test
+  public void followFrameUsesInterpolatedPosition() {
+    Game.currentLevel(level);
+    Entity entity = new Entity();
+    PositionComponent positionComponent = new PositionComponent(new Point(2, 2));
+    entity.add(positionComponent);
+    entity.add(new CameraComponent());
+    Game.add(entity);
+    positionComponent.storePreviousPosition();
+    positionComponent.position(new Point(3, 2));
+
+    cameraSystem.followFrame(0f, 0.5f);
+
+    assertEquals(2.5f, CameraSystem.camera().position.x, 0.001);
+    assertEquals(2f, CameraSystem.camera().position.y, 0.001);
+  }
+
   /**
    * Positive test for {@link CameraSystem#isPointInFrustum(Point)}.
    *
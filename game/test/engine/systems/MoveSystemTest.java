@@ -24,6 +24,7 @@ import feature.components.CollideComponent;
 import feature.systems.CollisionSystem;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -405,4 +406,25 @@ public class MoveSystemTest {
 
     verify(onWallHit).accept(entity);
   }
+
+  /**
+   * Tests that an entity without velocity keeps its position and does not report a position
+   * change, so it is not checked again by the tile index.
+   */
+  @Test
+  void standingStillKeepsPositionWithoutChange() {
+    DungeonLevel level = mock(DungeonLevel.class);
+    Tile accessibleTile = mock(Tile.class);
+    when(accessibleTile.isAccessible()).thenReturn(true);
+    when(level.tileAt(any(Point.class))).thenReturn(Optional.of(accessibleTile));
+    Game.currentLevel(level);
+    AtomicInteger changes = new AtomicInteger();
+    pc.changeListener(changes::incrementAndGet);
+
+    system.execute();
+
+    assertEquals(START_POSITION, pc.position());
+    assertEquals(START_POSITION, cc.collider().position());
+    assertEquals(0, changes.get());
+  }
 }
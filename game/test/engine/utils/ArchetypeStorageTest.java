@@ -0,0 +1,132 @@
+package engine.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Component;
+import engine.Entity;
+import engine.Game;
+import engine.game.ECSManagement;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link ArchetypeStorage} class. */
+public class ArchetypeStorageTest {
+
+  private ArchetypeStorage storage;
+
+  /** Create a fresh storage for each test. */
+  @BeforeEach
+  public void setup() {
+    storage = new ArchetypeStorage();
+  }
+
+  /** Reset the global ECS state. */
+  @AfterEach
+  public void cleanup() {
+    ECSManagement.useArchetypeStorage(false);
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  @Test
+  void queryMatchesSupersetSignatures() {
+    Entity a = new Entity();
+    a.add(new ComponentA());
+    Entity ab = new Entity();
+    ab.add(new ComponentA());
+    ab.add(new ComponentB());
+    Entity b = new Entity();
+    b.add(new ComponentB());
+    storage.add(a);
+    storage.add(ab);
+    storage.add(b);
+
+    assertEquals(
+        Set.of(a, ab),
+        storage.query(Set.of(ComponentA.class)).stream().collect(Collectors.toSet()));
+    assertEquals(1, storage.query(Set.of(ComponentA.class, ComponentB.class)).size());
+    assertEquals(3, storage.query(Set.of()).size());
+  }
+
+  @Test
+  void queriesAreCached() {
+    assertSame(storage.query(Set.of(ComponentA.class)), storage.query(Set.of(ComponentA.class)));
+  }
+
+  @Test
+  void queryCreatedBeforeArchetypeSeesNewArchetype() {
+    ArchetypeQuery query = storage.query(Set.of(ComponentB.class));
+    assertEquals(0, query.size());
+    Entity e = new Entity();
+    e.add(new ComponentB());
+    storage.add(e);
+    assertEquals(1, query.size());
+  }
+
+  @Test
+  void updateMovesEntityBetweenArchetypes() {
+    ArchetypeQuery query = storage.query(Set.of(ComponentB.class));
+    Entity e = new Entity();
+    e.add(new ComponentA());
+    storage.add(e);
+    assertEquals(0, query.size());
+
+    e.add(new ComponentB());
+    storage.update(e);
+    assertEquals(1, query.size());
+
+    e.remove(ComponentB.class);
+    storage.update(e);
+    assertEquals(0, query.size());
+    assertEquals(1, storage.size());
+  }
+
+  @Test
+  void removeDuringIterationIsSafe() {
+    for (int i = 0; i < 10; i++) {
+      Entity e = new Entity();
+      e.add(new ComponentA());
+      storage.add(e);
+    }
+    ArchetypeQuery query = storage.query(Set.of(ComponentA.class));
+    int[] visited = {0};
+    query.forEach(
+        e -> {
+          storage.remove(e);
+          visited[0]++;
+        });
+    assertEquals(10, visited[0]);
+    assertEquals(0, query.size());
+    assertFalse(storage.remove(new Entity()));
+  }
+
+  @Test
+  void ecsManagementUsesArchetypeStorage() {
+    Entity a = new Entity();
+    a.add(new ComponentA());
+    Game.add(a);
+    ECSManagement.useArchetypeStorage(true);
+    assertTrue(ECSManagement.isArchetypeStorageEnabled());
+
+    Entity b = new Entity();
+    Game.add(b);
+    assertEquals(1, Game.levelEntities(Set.of(ComponentA.class)).count());
+
+    b.add(new ComponentA());
+    assertEquals(2, Game.levelEntities(Set.of(ComponentA.class)).count());
+
+    Game.remove(a);
+    assertEquals(1, Game.levelEntities(Set.of(ComponentA.class)).count());
+    assertEquals(1, Game.levelEntities().count());
+  }
+
+  private static final class ComponentA implements Component {}
+
+  private static final class ComponentB implements Component {}
+}
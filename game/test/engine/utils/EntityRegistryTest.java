@@ -0,0 +1,101 @@
+package engine.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Entity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link EntityRegistry} class. */
+public class EntityRegistryTest {
+
+  private EntityRegistry registry;
+
+  /** Create a fresh registry for each test. */
+  @BeforeEach
+  public void setup() {
+    registry = new EntityRegistry();
+  }
+
+  /** Server, local and sparse ids are stored and found again. */
+  @Test
+  public void addAndGet() {
+    Entity server = new Entity();
+    Entity local = Entity.createLocalEntity();
+    Entity sparse = new Entity(EntityRegistry.DENSE_LIMIT + 5);
+
+    assertTrue(registry.add(server));
+    assertTrue(registry.add(local));
+    assertTrue(registry.add(sparse));
+
+    assertSame(server, registry.get(server.id()));
+    assertSame(local, registry.get(local.id()));
+    assertSame(sparse, registry.get(sparse.id()));
+    assertEquals(3, registry.size());
+    EntityIdProvider.unregister(sparse.id());
+  }
+
+  /** Ids far beyond the initial capacity grow the arrays. */
+  @Test
+  public void growsForLargeIds() {
+    Entity entity = new Entity(EntityIdProvider.nextId() + 1000);
+
+    assertTrue(registry.add(entity));
+    assertSame(entity, registry.get(entity.id()));
+    assertNull(registry.get(entity.id() + 1));
+    assertNull(registry.get(-entity.id()));
+  }
+
+  /** A used slot is not overwritten, and only the stored instance can be removed. */
+  @Test
+  public void slotIsNotOverwritten() {
+    Entity entity = new Entity();
+    registry.add(entity);
+    EntityIdProvider.unregister(entity.id());
+    Entity sameId = new Entity(entity.id());
+
+    assertFalse(registry.add(sameId));
+    assertFalse(registry.remove(sameId));
+    assertTrue(registry.remove(entity));
+    assertFalse(registry.contains(entity.id()));
+    assertEquals(0, registry.size());
+  }
+
+  /** A reference with an old generation does not resolve to an entity reusing the id. */
+  @Test
+  public void generationDetectsReuse() {
+    Entity entity = new Entity();
+    registry.add(entity);
+    int generation = registry.generation(entity.id());
+    assertSame(entity, registry.get(entity.id(), generation));
+
+    registry.remove(entity);
+    EntityIdProvider.unregister(entity.id());
+    Entity reused = new Entity(entity.id());
+    registry.add(reused);
+
+    assertEquals(generation + 1, registry.generation(entity.id()));
+    assertNull(registry.get(entity.id(), generation));
+    assertSame(reused, registry.get(entity.id(), generation + 1));
+  }
+
+  /** All stored entities are visited. */
+  @Test
+  public void forEachVisitsAllEntities() {
+    Entity server = new Entity();
+    Entity local = Entity.createLocalEntity();
+    registry.add(server);
+    registry.add(local);
+    List<Entity> visited = new ArrayList<>();
+
+    registry.forEach(visited::add);
+
+    assertEquals(List.of(local, server), visited);
+  }
+}
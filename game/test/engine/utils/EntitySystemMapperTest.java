@@ -0,0 +1,114 @@
+package engine.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Component;
+import engine.Entity;
+import engine.System;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link EntitySystemMapper} class. */
+public class EntitySystemMapperTest {
+
+  @Test
+  void onlyAcceptsEntitiesMatchingTheFilterRules() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of(ComponentA.class));
+    Entity a = entityWithA();
+
+    assertTrue(mapper.add(a));
+    assertFalse(mapper.add(a));
+    assertFalse(mapper.add(new Entity()));
+    assertEquals(1, mapper.size());
+  }
+
+  @Test
+  void snapshotIsReusedUntilEntitiesChange() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of(ComponentA.class));
+    Entity a = entityWithA();
+    mapper.add(a);
+
+    Entity[] first = mapper.snapshot();
+    assertSame(first, mapper.snapshot());
+
+    Entity b = entityWithA();
+    mapper.add(b);
+    Entity[] second = mapper.snapshot();
+    assertNotSame(first, second);
+    assertArrayEquals(new Entity[] {a}, first);
+    assertArrayEquals(new Entity[] {a, b}, second);
+
+    mapper.remove(a);
+    assertArrayEquals(new Entity[] {b}, mapper.snapshot());
+  }
+
+  @Test
+  void entitiesKeepInsertionOrder() {
+    EntitySystemMapper mapper = new EntitySystemMapper();
+    List<Entity> added = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Entity entity = new Entity();
+      added.add(entity);
+      mapper.add(entity);
+    }
+
+    assertEquals(added, mapper.stream().toList());
+    assertEquals(added, List.of(mapper.snapshot()));
+  }
+
+  @Test
+  void entitiesCanBeRemovedWhileStreaming() {
+    EntitySystemMapper mapper = new EntitySystemMapper();
+    for (int i = 0; i < 10; i++) mapper.add(new Entity());
+
+    assertEquals(10, mapper.stream().filter(mapper::remove).count());
+    assertEquals(0, mapper.size());
+    assertEquals(0, mapper.snapshot().length);
+  }
+
+  @Test
+  void addingASystemTriggersOnAddForEachEntity() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of(ComponentA.class));
+    Entity a = entityWithA();
+    Entity b = entityWithA();
+    mapper.add(a);
+    mapper.add(b);
+    List<Entity> added = new ArrayList<>();
+    TestSystem system = new TestSystem();
+    system.onAdd(added::add);
+
+    assertTrue(mapper.add(system));
+    assertEquals(List.of(a, b), added);
+    assertTrue(mapper.has(system));
+  }
+
+  private static Entity entityWithA() {
+    Entity entity = new Entity();
+    entity.add(new ComponentA());
+    return entity;
+  }
+
+  private static final class ComponentA implements Component {}
+
+  private static final class TestSystem extends System {
+
+    TestSystem() {
+      super(ComponentA.class);
+    }
+
+    void onAdd(Consumer<Entity> action) {
+      onEntityAdd = action;
+    }
+
+    @Override
+    public void execute() {}
+  }
+}
@@ -0,0 +1,110 @@
+package engine.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import engine.Entity;
+import engine.Game;
+import engine.components.PositionComponent;
+import engine.game.ECSManagement;
+import engine.level.utils.Coordinate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link TileEntityIndex} class. */
+public class TileEntityIndexTest {
+
+  private final Map<Entity, Coordinate> positions = new HashMap<>();
+  private TileEntityIndex index;
+
+  /** Create a fresh index for each test. */
+  @BeforeEach
+  public void setup() {
+    positions.clear();
+    index = new TileEntityIndex(positions::get);
+  }
+
+  /** Reset the global ECS state. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+  }
+
+  private Entity place(int x, int y) {
+    Entity entity = new Entity();
+    positions.put(entity, new Coordinate(x, y));
+    index.update(entity);
+    return entity;
+  }
+
+  @Test
+  void entitiesAreFoundOnTheirTile() {
+    Entity a = place(1, 1);
+    Entity b = place(1, 1);
+    place(2, 1);
+    assertEquals(Set.of(a, b), index.at(new Coordinate(1, 1)).collect(Collectors.toSet()));
+    assertEquals(0, index.at(new Coordinate(5, 5)).count());
+  }
+
+  @Test
+  void updateMovesEntityOnlyAcrossTiles() {
+    Entity a = place(1, 1);
+    assertFalse(index.update(a));
+    positions.put(a, new Coordinate(3, 4));
+    assertTrue(index.update(a));
+    assertEquals(0, index.at(new Coordinate(1, 1)).count());
+    assertEquals(List.of(a), index.at(new Coordinate(3, 4)).toList());
+  }
+
+  @Test
+  void entityWithoutPositionIsRemoved() {
+    Entity a = place(1, 1);
+    positions.remove(a);
+    assertTrue(index.update(a));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  void areaAndRadiusQueries() {
+    Entity a = place(0, 0);
+    Entity b = place(2, 2);
+    Entity c = place(2, 0);
+    place(10, 10);
+    assertEquals(
+        Set.of(a, b, c),
+        index.inArea(new Coordinate(2, 2), new Coordinate(0, 0)).collect(Collectors.toSet()));
+    assertEquals(
+        Set.of(a, c), index.inRadius(new Point(1.5f, 0.5f), 1f).collect(Collectors.toSet()));
+  }
+
+  @Test
+  void removeWhileStreamingIsSafe() {
+    place(1, 1);
+    place(1, 1);
+    index.at(new Coordinate(1, 1)).forEach(index::remove);
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  void ecsManagementTracksMovedEntities() {
+    Entity e = new Entity();
+    PositionComponent pc = new PositionComponent(1.2f, 1.2f);
+    e.add(pc);
+    Game.add(e);
+    assertEquals(List.of(e), ECSManagement.entitiesAt(new Coordinate(1, 1)).toList());
+
+    pc.position(new Point(4.5f, 2.5f));
+    assertEquals(0, ECSManagement.entitiesAt(new Coordinate(1, 1)).count());
+    assertEquals(List.of(e), ECSManagement.entitiesAt(new Coordinate(4, 2)).toList());
+
+    Game.remove(e);
+    assertEquals(0, ECSManagement.entitiesAt(new Coordinate(4, 2)).count());
+  }
+}
@@ -0,0 +1,110 @@
+package engine.utils.components.draw.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import engine.utils.components.path.SimpleIPath;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests for the {@link AnimationCache} class. */
+public class AnimationCacheTest {
+
+  private static final String SHEET = "test_assets/textures/test_hero";
+
+  /** Start with an empty cache. */
+  @BeforeEach
+  public void setup() {
+    AnimationCache.clear();
+  }
+
+  /** Don't leak cached data into other tests. */
+  @AfterEach
+  public void cleanup() {
+    AnimationCache.clear();
+  }
+
+  /** Folders are resolved to the image with the folder name. */
+  @Test
+  public void imagePath() {
+    assertEquals(SHEET + "/test_hero.png", AnimationCache.imagePath(SHEET));
+    assertEquals(SHEET + "/test_hero.png", AnimationCache.imagePath(SHEET + "/"));
+    assertEquals("a/b.png", AnimationCache.imagePath("a/b.png"));
+  }
+
+  /** The spritesheet is only loaded once, but each caller gets its own configs. */
+  @Test
+  public void spritesheetConfigsAreCopied() {
+    AnimationCache.Spritesheet sheet = AnimationCache.spritesheet(SHEET);
+    assertSame(sheet, AnimationCache.spritesheet(SHEET));
+
+    Map<String, AnimationConfig> first = sheet.copyConfigs();
+    Map<String, AnimationConfig> second = sheet.copyConfigs();
+    assertEquals(first.keySet(), second.keySet());
+    assertNotSame(first.get("idle_left"), second.get("idle_left"));
+
+    first.get("idle_left").mirrored(true);
+    assertFalse(sheet.copyConfigs().get("idle_left").mirrored());
+  }
+
+  /** Animations loaded from the same spritesheet don't share their config. */
+  @Test
+  public void loadedAnimationsHaveOwnConfig() {
+    Map<String, Animation> first = Animation.loadAnimationSpritesheet(new SimpleIPath(SHEET));
+    Map<String, Animation> second = Animation.loadAnimationSpritesheet(new SimpleIPath(SHEET));
+
+    first.get("idle_left").mirrored(true);
+
+    assertFalse(second.get("idle_left").mirrored());
+  }
+
+  /** Missing images are rejected and not cached. */
+  @Test
+  public void missingImage() {
+    assertThrows(
+        IllegalArgumentException.class, () -> AnimationCache.spritesheet("does/not/exist.png"));
+  }
+
+  /** Frames are created once per source and again if the textures changed. */
+  @Test
+  public void framesAreSharedUntilTexturesChange() {
+    Texture texture = Mockito.mock(Texture.class);
+    Texture replaced = Mockito.mock(Texture.class);
+    AtomicInteger loads = new AtomicInteger();
+    Sprite[] frames = {new Sprite()};
+
+    Sprite[] first =
+        AnimationCache.frames(
+            "key",
+            new Texture[] {texture},
+            () -> {
+              loads.incrementAndGet();
+              return frames;
+            });
+    Sprite[] second =
+        AnimationCache.frames("key", new Texture[] {texture}, () -> new Sprite[] {new Sprite()});
+    Sprite[] third =
+        AnimationCache.frames(
+            "key",
+            new Texture[] {replaced},
+            () -> {
+              loads.incrementAndGet();
+              return new Sprite[] {new Sprite()};
+            });
+
+    assertSame(frames, first);
+    assertSame(frames, second);
+    assertNotSame(frames, third);
+    assertEquals(2, loads.get());
+    assertEquals(1, AnimationCache.cachedFrames());
+  }
+}
@@ -0,0 +1,99 @@
+package engine.utils.components.draw.atlas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for the {@link AtlasManifest} class and the {@link TextureAtlasTool}. */
+public class AtlasManifestTest {
+
+  private static final AtlasManifest.Region FLOOR =
+      new AtlasManifest.Region("dungeon/floor.png", 0, 1, 1, 16, 16);
+  private static final AtlasManifest.Region WALL =
+      new AtlasManifest.Region("dungeon/wall.png", 1, 19, 1, 16, 16);
+
+  /** A written manifest can be parsed again. */
+  @Test
+  public void writeAndParse() {
+    AtlasManifest manifest =
+        new AtlasManifest(List.of("atlas/page_0.png", "atlas/page_1.png"), List.of(FLOOR, WALL));
+
+    AtlasManifest parsed = AtlasManifest.parse(manifest.write());
+
+    assertEquals(manifest.pages(), parsed.pages());
+    assertEquals(2, parsed.size());
+    assertEquals(FLOOR, parsed.region(FLOOR.path()).orElseThrow());
+    assertEquals(WALL, parsed.region(WALL.path()).orElseThrow());
+    assertTrue(parsed.region("dungeon/unknown.png").isEmpty());
+  }
+
+  /** Paths may contain spaces. */
+  @Test
+  public void pathWithSpaces() {
+    AtlasManifest parsed =
+        AtlasManifest.parse("page atlas/page_0.png\nregion 0 1 2 3 4 items/a b.png\n");
+
+    assertEquals(
+        new AtlasManifest.Region("items/a b.png", 0, 1, 2, 3, 4),
+        parsed.region("items/a b.png").orElseThrow());
+  }
+
+  /** Invalid manifests are rejected. */
+  @Test
+  public void invalidManifest() {
+    assertThrows(IllegalArgumentException.class, () -> AtlasManifest.parse("unknown entry"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AtlasManifest.parse("page atlas/page_0.png\nregion 0 1 x 3 4 a.png"));
+    assertThrows(
+        IllegalArgumentException.class, () -> AtlasManifest.parse("region 0 1 2 3 4 a.png"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AtlasManifest(List.of("atlas/page_0.png"), List.of(FLOOR, FLOOR)));
+  }
+
+  /**
+   * The tool packs the images and copies their pixels to the regions of the manifest.
+   *
+   * @param assets temporary asset root
+   * @param output temporary output root
+   * @throws IOException if the images can't be written or read
+   */
+  @Test
+  public void toolPacksImages(@TempDir Path assets, @TempDir Path output) throws IOException {
+    Files.createDirectories(assets.resolve("dungeon/floor"));
+    writeImage(assets.resolve("dungeon/floor/a.png"), 16, 16, 0xFFFF0000);
+    writeImage(assets.resolve("dungeon/floor/b.png"), 8, 4, 0xFF00FF00);
+    Files.writeString(assets.resolve("dungeon/floor/readme.txt"), "not an image");
+
+    AtlasManifest manifest = TextureAtlasTool.pack(assets, output, List.of("dungeon", "items"));
+
+    assertEquals(2, manifest.size());
+    AtlasManifest written =
+        AtlasManifest.parse(Files.readString(output.resolve(AtlasManifest.DEFAULT_PATH)));
+    assertEquals(manifest.pages(), written.pages());
+    BufferedImage page = ImageIO.read(output.resolve(manifest.page(0)).toFile());
+    AtlasManifest.Region b = manifest.region("dungeon/floor/b.png").orElseThrow();
+    assertEquals(0xFF00FF00, page.getRGB(b.x(), b.y()));
+    assertEquals(0xFF00FF00, page.getRGB(b.x() + b.width() - 1, b.y() + b.height() - 1));
+    // The padding repeats the edge pixels
+    assertEquals(0xFF00FF00, page.getRGB(b.x() - 1, b.y() - 1));
+  }
+
+  private static void writeImage(Path file, int width, int height, int argb) throws IOException {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) image.setRGB(x, y, argb);
+    }
+    ImageIO.write(image, "png", file.toFile());
+  }
+}
@@ -0,0 +1,91 @@
+package engine.utils.components.draw.atlas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link AtlasPacker} class. */
+public class AtlasPackerTest {
+
+  private static final int PAGE_SIZE = 64;
+  private static final int PADDING = 1;
+
+  /** All images are placed inside the page and no two padded images overlap. */
+  @Test
+  public void placementsDoNotOverlap() {
+    List<AtlasPacker.Image> images = new ArrayList<>();
+    for (int i = 0; i < 20; i++) images.add(new AtlasPacker.Image("tile" + i, 16, 16));
+    images.add(new AtlasPacker.Image("wide", 40, 8));
+    images.add(new AtlasPacker.Image("tall", 8, 30));
+
+    AtlasPacker.Result result = new AtlasPacker(PAGE_SIZE, PADDING).pack(images);
+
+    assertEquals(images.size(), result.placements().size());
+    assertTrue(result.skipped().isEmpty());
+    List<AtlasPacker.Placement> placements = result.placements();
+    for (AtlasPacker.Placement p : placements) {
+      assertTrue(p.x() - PADDING >= 0 && p.y() - PADDING >= 0);
+      assertTrue(p.x() + p.width() + PADDING <= PAGE_SIZE);
+      assertTrue(p.y() + p.height() + PADDING <= PAGE_SIZE);
+      assertTrue(p.page() < result.pageCount());
+    }
+    for (int i = 0; i < placements.size(); i++) {
+      for (int j = i + 1; j < placements.size(); j++) {
+        assertFalse(overlap(placements.get(i), placements.get(j)));
+      }
+    }
+  }
+
+  /** Images that don't fit on one page are placed on the next page. */
+  @Test
+  public void overflowUsesNextPage() {
+    List<AtlasPacker.Image> images = new ArrayList<>();
+    // 3x3 padded 18x18 tiles fit on a 64x64 page
+    for (int i = 0; i < 10; i++) images.add(new AtlasPacker.Image("tile" + i, 16, 16));
+
+    AtlasPacker.Result result = new AtlasPacker(PAGE_SIZE, PADDING).pack(images);
+
+    assertEquals(2, result.pageCount());
+    assertEquals(
+        1, result.placements().stream().filter(placement -> placement.page() == 1).count());
+  }
+
+  /** Images larger than a page are skipped. */
+  @Test
+  public void oversizedImagesAreSkipped() {
+    AtlasPacker.Image large = new AtlasPacker.Image("large", PAGE_SIZE, 8);
+    AtlasPacker.Result result =
+        new AtlasPacker(PAGE_SIZE, PADDING)
+            .pack(List.of(large, new AtlasPacker.Image("small", 8, 8)));
+
+    assertEquals(List.of(large), result.skipped());
+    assertEquals(1, result.placements().size());
+    assertEquals(1, result.pageCount());
+  }
+
+  /** Packing nothing needs no page. */
+  @Test
+  public void emptyInputNeedsNoPage() {
+    assertEquals(0, new AtlasPacker(PAGE_SIZE, PADDING).pack(List.of()).pageCount());
+  }
+
+  /** Invalid arguments are rejected. */
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new AtlasPacker(0, PADDING));
+    assertThrows(IllegalArgumentException.class, () -> new AtlasPacker(PAGE_SIZE, -1));
+  }
+
+  private static boolean overlap(AtlasPacker.Placement a, AtlasPacker.Placement b) {
+    if (a.page() != b.page()) return false;
+    return a.x() - PADDING < b.x() + b.width() + PADDING
+        && b.x() - PADDING < a.x() + a.width() + PADDING
+        && a.y() - PADDING < b.y() + b.height() + PADDING
+        && b.y() - PADDING < a.y() + a.height() + PADDING;
+  }
+}
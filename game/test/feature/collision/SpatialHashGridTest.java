@@ -0,0 +1,91 @@
+package feature.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the {@link SpatialHashGrid} class. */
+public class SpatialHashGridTest {
+
+  private static List<String> pairs(SpatialHashGrid<String> grid) {
+    List<String> pairs = new ArrayList<>();
+    grid.forEachPair((a, b) -> pairs.add(a.compareTo(b) < 0 ? a + b : b + a));
+    return pairs;
+  }
+
+  @Test
+  void testInvalidCellSize() {
+    assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(0));
+  }
+
+  @Test
+  void testPairInSameCell() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0.1f, 0.1f, 0.4f, 0.4f);
+    grid.update("b", 0.5f, 0.5f, 0.9f, 0.9f);
+    assertEquals(List.of("ab"), pairs(grid));
+  }
+
+  @Test
+  void testNoPairInDistantCells() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0.1f, 0.1f, 0.4f, 0.4f);
+    grid.update("b", 5.1f, 5.1f, 5.4f, 5.4f);
+    assertTrue(pairs(grid).isEmpty());
+    assertFalse(grid.overlaps("a", "b"));
+  }
+
+  @Test
+  void testPairSharingMultipleCellsIsReportedOnce() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0.5f, 0.5f, 2.5f, 2.5f);
+    grid.update("b", 1.5f, 1.5f, 3.5f, 3.5f);
+    assertEquals(List.of("ab"), pairs(grid));
+    assertTrue(grid.overlaps("a", "b"));
+  }
+
+  @Test
+  void testTouchingBoundsShareCell() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0f, 0f, 1f, 1f);
+    grid.update("b", 1f, 0f, 2f, 1f);
+    assertEquals(List.of("ab"), pairs(grid));
+  }
+
+  @Test
+  void testNegativeCoordinates() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", -0.5f, -0.5f, -0.1f, -0.1f);
+    grid.update("b", 0.1f, 0.1f, 0.5f, 0.5f);
+    assertTrue(pairs(grid).isEmpty());
+  }
+
+  @Test
+  void testUpdateMovesElement() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0.1f, 0.1f, 0.4f, 0.4f);
+    grid.update("b", 5.1f, 5.1f, 5.4f, 5.4f);
+    assertFalse(grid.update("a", 0.2f, 0.2f, 0.5f, 0.5f));
+    assertTrue(grid.update("a", 5.2f, 5.2f, 5.5f, 5.5f));
+    assertEquals(List.of("ab"), pairs(grid));
+    assertEquals(1, grid.occupiedCells());
+  }
+
+  @Test
+  void testRemove() {
+    SpatialHashGrid<String> grid = new SpatialHashGrid<>();
+    grid.update("a", 0.1f, 0.1f, 1.4f, 1.4f);
+    grid.update("b", 0.5f, 0.5f, 0.9f, 0.9f);
+    assertTrue(grid.remove("a"));
+    assertFalse(grid.remove("a"));
+    assertFalse(grid.contains("a"));
+    assertTrue(pairs(grid).isEmpty());
+    assertEquals(1, grid.size());
+    assertEquals(1, grid.occupiedCells());
+  }
+}